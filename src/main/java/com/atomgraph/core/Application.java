@@ -16,37 +16,72 @@
  */
 package com.atomgraph.core;
 
+import com.atomgraph.core.client.CircuitBreaker;
+import com.atomgraph.core.client.LoadBalancer;
+import com.atomgraph.core.client.RequestCompressionFilter;
+import com.atomgraph.core.client.SPARQLClient;
+import com.atomgraph.core.client.Resilience;
 import com.atomgraph.core.exception.ConfigurationException;
 import com.atomgraph.core.io.DatasetProvider;
+import com.atomgraph.core.io.LangResolver;
 import com.atomgraph.core.io.ResultSetProvider;
 import com.atomgraph.core.io.ModelProvider;
 import com.atomgraph.core.io.QueryProvider;
 import com.atomgraph.core.provider.QueryParamProvider;
 import com.atomgraph.core.io.UpdateRequestProvider;
 import com.atomgraph.core.mapper.NoReaderForLangExceptionMapper;
+import com.atomgraph.core.mapper.QueryCancelledExceptionMapper;
 import jakarta.ws.rs.core.Context;
 import org.apache.jena.riot.RDFParserRegistry;
 import com.atomgraph.core.mapper.BadGatewayExceptionMapper;
 import com.atomgraph.core.mapper.RiotExceptionMapper;
 import com.atomgraph.core.model.Service;
+import com.atomgraph.core.model.impl.async.VirtualThreadExecutorProvider;
 import com.atomgraph.core.riot.RDFLanguages;
 import com.atomgraph.core.riot.lang.RDFPostReaderFactory;
 import com.atomgraph.core.server.Dispatcher;
+import com.atomgraph.core.server.ResponseCompressionInterceptor;
+import com.atomgraph.core.util.CacheControlPolicy;
+import com.atomgraph.core.util.GraphDigest;
+import com.atomgraph.core.util.ParallelGraphDigest;
+import com.atomgraph.core.util.ResponseCache;
 import com.atomgraph.core.vocabulary.A;
 import com.atomgraph.core.vocabulary.SD;
 import jakarta.annotation.PostConstruct;
 import jakarta.servlet.ServletConfig;
 import jakarta.ws.rs.client.Client;
 import jakarta.ws.rs.client.ClientBuilder;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.regex.Pattern;
 import org.apache.jena.query.Dataset;
 import org.apache.jena.query.DatasetFactory;
 import org.apache.jena.rdf.model.ResourceFactory;
 import org.apache.jena.riot.Lang;
 import org.apache.jena.riot.RDFDataMgr;
 import org.apache.jena.riot.resultset.ResultSetLang;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.io.HttpClientConnectionManager;
+import org.apache.hc.core5.util.TimeValue;
 import org.glassfish.hk2.utilities.binding.AbstractBinder;
+import org.glassfish.jersey.apache5.connector.ApacheClientProperties;
+import org.glassfish.jersey.apache5.connector.ApacheConnectorProvider;
+import org.glassfish.jersey.apache5.connector.ApacheHttpClientBuilderConfigurator;
 import org.glassfish.jersey.client.ClientConfig;
+import org.glassfish.jersey.client.ClientLifecycleListener;
+import org.glassfish.jersey.client.ClientProperties;
+import org.glassfish.jersey.client.filter.EncodingFilter;
+import org.glassfish.jersey.message.DeflateEncoder;
+import org.glassfish.jersey.message.GZipEncoder;
 import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.server.spi.Container;
+import org.glassfish.jersey.server.spi.ContainerLifecycleListener;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -64,11 +99,21 @@ public class Application extends ResourceConfig implements com.atomgraph.core.mo
 
     private static final Logger log = LoggerFactory.getLogger(Application.class);
 
-    private final Dataset dataset;
+    /** Default max total number of backend connections */
+    public static final int DEFAULT_MAX_CONNECTIONS = 100;
+    /** Default max number of backend connections per host */
+    public static final int DEFAULT_MAX_CONNECTIONS_PER_ROUTE = 20;
+    /** Default max idle time of backend connections in milliseconds */
+    public static final long DEFAULT_CONNECTION_IDLE_TIMEOUT = 30000;
+    /** Default base delay of backend request retries */
+    public static final Duration DEFAULT_RETRY_DELAY = Duration.ofMillis(100);
+    /** Default time the backend circuit breaker stays open */
+    public static final Duration DEFAULT_CIRCUIT_BREAKER_TIMEOUT = Duration.ofSeconds(30);
+
+    private final ApplicationConfig config;
     private final Service service;
-    private final MediaTypes mediaTypes;
-    private final Client client;
-    private final Integer maxGetRequestSize;
+    private final ExecutorService parseExecutor;
+    private LangResolver langResolver;
 
     /**
      * Initializes root resource classes and provider singletons
@@ -77,16 +122,7 @@ public class Application extends ResourceConfig implements com.atomgraph.core.mo
      */
     public Application(@Context ServletConfig servletConfig)
     {
-        this(
-            servletConfig.getInitParameter(A.dataset.getURI()) != null ? getDataset(servletConfig.getInitParameter(A.dataset.getURI()), null) : null,
-            servletConfig.getInitParameter(SD.endpoint.getURI()) != null ? servletConfig.getInitParameter(SD.endpoint.getURI()) : null,
-            servletConfig.getInitParameter(A.graphStore.getURI()) != null ? servletConfig.getInitParameter(A.graphStore.getURI()) : null,
-            servletConfig.getInitParameter(A.quadStore.getURI()) != null ? servletConfig.getInitParameter(A.quadStore.getURI()) : null,
-            servletConfig.getInitParameter(A.authUser.getURI()) != null ? servletConfig.getInitParameter(A.authUser.getURI()) : null,
-            servletConfig.getInitParameter(A.authPwd.getURI()) != null ? servletConfig.getInitParameter(A.authPwd.getURI()) : null,
-            new MediaTypes(), getClient(new ClientConfig()),
-            servletConfig.getInitParameter(A.maxGetRequestSize.getURI()) != null ? Integer.valueOf(servletConfig.getInitParameter(A.maxGetRequestSize.getURI())) : null
-        );
+        this(getApplicationConfig(servletConfig));
     }
 
     public Application(final Dataset dataset,
@@ -94,10 +130,45 @@ public class Application extends ResourceConfig implements com.atomgraph.core.mo
             final String authUser, final String authPwd,
             final MediaTypes mediaTypes, final Client client, final Integer maxGetRequestSize)
     {
-        this.dataset = dataset;
-        this.mediaTypes = mediaTypes;
-        this.client = client;
-        this.maxGetRequestSize = maxGetRequestSize;
+        this(ApplicationConfig.builder().
+            dataset(dataset).
+            backend(endpointURI, graphStoreURI, quadStoreURI).
+            auth(authUser, authPwd).
+            mediaTypes(mediaTypes).
+            client(client).
+            maxGetRequestSize(maxGetRequestSize).
+            build());
+    }
+    
+    /**
+     * Constructs application from configuration.
+     * 
+     * @param config application configuration
+     * @see ApplicationConfig#builder()
+     */
+    public Application(final ApplicationConfig config)
+    {
+        if (config == null) throw new IllegalArgumentException("ApplicationConfig cannot be null");
+        
+        this.config = config;
+        Integer parseParallelism = config.getParseParallelism();
+        // bounded pool of platform threads, since parsing is CPU-bound. Threads are only started once payloads are parsed
+        this.parseExecutor = parseParallelism != null && parseParallelism > 1 ?
+            Executors.newFixedThreadPool(parseParallelism, Thread.ofPlatform().name("parse-", 0).daemon().factory()) : null;
+        // the resilience policy owns the executor of hedged requests, therefore it is closed together with the client
+        if (config.getClient() != null) config.getClient().register(new ClientLifecycleListener()
+        {
+            @Override
+            public void onInit()
+            {
+            }
+
+            @Override
+            public void onClose()
+            {
+                config.getResilience().close();
+            }
+        });
 
         // add RDF/POST serializer
         RDFLanguages.register(RDFLanguages.RDFPOST);
@@ -113,24 +184,29 @@ public class Application extends ResourceConfig implements com.atomgraph.core.mo
         // Not output-only text.
         RDFLanguages.register(ResultSetLang.RS_None);
         
-        if (dataset != null)
-            service = new com.atomgraph.core.model.impl.dataset.ServiceImpl(dataset, mediaTypes);
+        if (config.getDataset() != null)
+            service = new com.atomgraph.core.model.impl.dataset.ServiceImpl(config.getDataset(), config.getMediaTypes(), config.getGraphDigest(),
+                config.getQueryInitialTimeout(), config.getQueryTimeout(),
+                parseParallelism != null ? parseParallelism : 1, parseExecutor);
         else
         {
-            if (endpointURI == null)
+            if (config.getEndpointURI() == null)
             {
                 if (log.isErrorEnabled()) log.error("SPARQL endpoint not configured ('{}' not set in web.xml)", SD.endpoint.getURI());
                 throw new ConfigurationException(SD.endpoint);
             }
-            if (graphStoreURI == null)
+            if (config.getGraphStoreURI() == null)
             {
                 if (log.isErrorEnabled()) log.error("Graph Store not configured ('{}' not set in web.xml)", A.graphStore.getURI());
                 throw new ConfigurationException(A.graphStore);
             }
 
-            service = new com.atomgraph.core.model.impl.remote.ServiceImpl(client, mediaTypes,
-                    ResourceFactory.createResource(endpointURI), ResourceFactory.createResource(graphStoreURI), ResourceFactory.createResource(quadStoreURI),
-                    authUser, authPwd, maxGetRequestSize);
+            com.atomgraph.core.model.impl.remote.ServiceImpl remoteService = new com.atomgraph.core.model.impl.remote.ServiceImpl(config.getClient(), config.getMediaTypes(),
+                    ResourceFactory.createResource(config.getEndpointURI()), ResourceFactory.createResource(config.getGraphStoreURI()), ResourceFactory.createResource(config.getQuadStoreURI()),
+                    config.getAuthUser(), config.getAuthPwd(), config.getMaxGetRequestSize(), config.getQueryInitialTimeout(), config.getQueryTimeout(), config.getResilience(),
+                    config.getReadEndpointURIs() != null ? config.getReadEndpointURIs().stream().map(ResourceFactory::createResource).toList() : null, config.getLoadBalancing());
+            if (config.isBinaryTransport()) remoteService.probeBinary();
+            service = remoteService;
         }
     }
     
@@ -138,16 +214,45 @@ public class Application extends ResourceConfig implements com.atomgraph.core.mo
     public void init()
     {
         register(Dispatcher.class); // handles all
+        if (isAsync()) register(new VirtualThreadExecutorProvider()); // executes @ManagedAsync resource methods
+
+        LangResolver.refreshDefault(); // includes the RDF/POST and result set languages, as well as the ones registered by subclasses
+        langResolver = new LangResolver(getMediaTypes()); // built once, after the languages are registered
+        int parallelism = getParseParallelism() != null ? getParseParallelism() : 1;
+        register(new ModelProvider(getLangResolver(), parallelism, getParseExecutor()));
+        register(new DatasetProvider(getLangResolver(), parallelism, getParseExecutor()));
+        if (getParseExecutor() != null) register(new ContainerLifecycleListener()
+        {
+            @Override
+            public void onStartup(Container container)
+            {
+            }
 
-        register(new ModelProvider());
-        register(new DatasetProvider());
-        register(new ResultSetProvider());
+            @Override
+            public void onReload(Container container)
+            {
+            }
+
+            @Override
+            public void onShutdown(Container container)
+            {
+                getParseExecutor().shutdown();
+            }
+        });
+        register(new ResultSetProvider(getLangResolver()));
         register(QueryParamProvider.class);
         register(new QueryProvider());
         register(new UpdateRequestProvider());
         register(new BadGatewayExceptionMapper());
         register(new NoReaderForLangExceptionMapper());
         register(new RiotExceptionMapper());
+        register(new QueryCancelledExceptionMapper());
+        if (getCompressionThreshold() != null)
+        {
+            register(new ResponseCompressionInterceptor(getCompressionThreshold()));
+            register(GZipEncoder.class); // decodes compressed request entities
+            register(DeflateEncoder.class);
+        }
 
         register(new AbstractBinder()
         {
@@ -165,11 +270,29 @@ public class Application extends ResourceConfig implements com.atomgraph.core.mo
                 bind(service).to(Service.class);
             }
         });
+        register(new AbstractBinder()
+        {
+            @Override
+            protected void configure()
+            {
+                bind(Application.this).to(Application.class);
+            }
+        });
+    }
+
+    /**
+     * Returns the configuration this application was constructed from.
+     * 
+     * @return application configuration
+     */
+    public ApplicationConfig getConfig()
+    {
+        return config;
     }
 
     public Dataset getDataset()
     {
-        return dataset;
+        return getConfig().getDataset();
     }
     
     @Override
@@ -180,19 +303,128 @@ public class Application extends ResourceConfig implements com.atomgraph.core.mo
     
     public Client getClient()
     {
-        return client;
+        return getConfig().getClient();
     }
     
     public MediaTypes getMediaTypes()
     {
-        return mediaTypes;
+        return getConfig().getMediaTypes();
     }
     
     public Integer getMaxGetRequestSize()
     {
-        return maxGetRequestSize;
+        return getConfig().getMaxGetRequestSize();
     }    
 
+    public boolean isStreaming()
+    {
+        return getConfig().isStreaming();
+    }
+    
+    public GraphDigest getGraphDigest()
+    {
+        return getConfig().getGraphDigest();
+    }
+    
+    /**
+     * Returns SPARQL response cache.
+     * 
+     * @return response cache or null if responses are not cached
+     */
+    public ResponseCache getResponseCache()
+    {
+        return getConfig().getResponseCache();
+    }
+    
+    public CacheControlPolicy getCacheControlPolicy()
+    {
+        return getConfig().getCacheControlPolicy();
+    }
+    
+    public Long getResultLimit()
+    {
+        return getConfig().getResultLimit();
+    }
+    
+    public boolean isAsync()
+    {
+        return getConfig().isAsync();
+    }
+    
+    /**
+     * Returns resilience policy of remote backend requests.
+     * Its circuit breaker state can be used for monitoring.
+     * 
+     * @return resilience policy
+     */
+    public Resilience getResilience()
+    {
+        return getConfig().getResilience();
+    }
+    
+    /**
+     * Returns min size of response entities that are compressed.
+     * 
+     * @return size in bytes, or null if responses are not compressed
+     */
+    public Integer getCompressionThreshold()
+    {
+        return getConfig().getCompressionThreshold();
+    }
+    
+    /**
+     * Returns true if backend responses in the negotiated media type are relayed to the client without parsing.
+     * 
+     * @return true if pass-through is enabled
+     */
+    public boolean isPassThrough()
+    {
+        return getConfig().isPassThrough();
+    }
+    
+    /**
+     * Returns true if Graph Store request payloads are parsed straight into the target graph.
+     * 
+     * @return true if streaming ingest is enabled
+     */
+    public boolean isStreamingIngest()
+    {
+        return getConfig().isStreamingIngest();
+    }
+    
+    /**
+     * Returns the max number of N-Triples/N-Quads request payload chunks that are parsed at once.
+     * 
+     * @return parallelism or null if payloads are parsed on a single thread
+     */
+    public Integer getParseParallelism()
+    {
+        return getConfig().getParseParallelism();
+    }
+    
+    /**
+     * Returns the executor that parses N-Triples/N-Quads payload chunks. It is shut down together with the container.
+     * 
+     * @return executor or null if payloads are parsed on a single thread
+     */
+    public ExecutorService getParseExecutor()
+    {
+        return parseExecutor;
+    }
+
+    /**
+     * Returns the language resolver used by the providers.
+     * Falls back to the default resolver until the application is initialized.
+     * 
+     * @return language resolver
+     */
+    public LangResolver getLangResolver()
+    {
+        if (langResolver == null) return LangResolver.getDefault();
+
+        return langResolver;
+    }
+
     
     public static Dataset getDataset(String location, Lang lang)
     {
@@ -201,15 +433,184 @@ public class Application extends ResourceConfig implements com.atomgraph.core.mo
         return dataset;
     }
     
+    /**
+     * Reads application configuration from servlet configuration.
+     * 
+     * @param servletConfig servlet config
+     * @return application configuration
+     */
+    public static ApplicationConfig getApplicationConfig(ServletConfig servletConfig)
+    {
+        return ApplicationConfig.builder().
+            dataset(servletConfig.getInitParameter(A.dataset.getURI()) != null ? getDataset(servletConfig.getInitParameter(A.dataset.getURI()), null) : null).
+            backend(servletConfig.getInitParameter(SD.endpoint.getURI()),
+                servletConfig.getInitParameter(A.graphStore.getURI()),
+                servletConfig.getInitParameter(A.quadStore.getURI())).
+            auth(servletConfig.getInitParameter(A.authUser.getURI()), servletConfig.getInitParameter(A.authPwd.getURI())).
+            mediaTypes(new MediaTypes()).
+            client(getClient(getClientConfig(servletConfig))).
+            maxGetRequestSize(servletConfig.getInitParameter(A.maxGetRequestSize.getURI()) != null ? Integer.valueOf(servletConfig.getInitParameter(A.maxGetRequestSize.getURI())) : null).
+            streaming(servletConfig.getInitParameter(A.streaming.getURI()) != null ? Boolean.parseBoolean(servletConfig.getInitParameter(A.streaming.getURI())) : false).
+            graphDigest(servletConfig.getInitParameter(A.parallelDigestThreshold.getURI()) != null ? new ParallelGraphDigest(GraphDigest.DEFAULT, ForkJoinPool.commonPool(), Integer.parseInt(servletConfig.getInitParameter(A.parallelDigestThreshold.getURI()))) : GraphDigest.DEFAULT).
+            responseCache(servletConfig.getInitParameter(A.responseCacheSize.getURI()) != null ? new ResponseCache(Long.parseLong(servletConfig.getInitParameter(A.responseCacheSize.getURI())),
+                servletConfig.getInitParameter(A.responseCacheTTL.getURI()) != null ? Duration.ofSeconds(Long.parseLong(servletConfig.getInitParameter(A.responseCacheTTL.getURI()))) : ResponseCache.DEFAULT_TTL) : null).
+            cacheControlPolicy(getCacheControlPolicy(servletConfig)).
+            resultLimit(servletConfig.getInitParameter(A.resultLimit.getURI()) != null ? Long.valueOf(servletConfig.getInitParameter(A.resultLimit.getURI())) : null).
+            queryTimeout(servletConfig.getInitParameter(A.queryInitialTimeout.getURI()) != null ? Long.valueOf(servletConfig.getInitParameter(A.queryInitialTimeout.getURI())) : null,
+                servletConfig.getInitParameter(A.queryTimeout.getURI()) != null ? Long.valueOf(servletConfig.getInitParameter(A.queryTimeout.getURI())) : null).
+            async(servletConfig.getInitParameter(A.async.getURI()) != null ? Boolean.parseBoolean(servletConfig.getInitParameter(A.async.getURI())) : false).
+            resilience(getResilience(servletConfig)).
+            readReplicas(servletConfig.getInitParameter(A.readEndpoint.getURI()) != null ? Arrays.asList(servletConfig.getInitParameter(A.readEndpoint.getURI()).trim().split("\\s+")) : null,
+                servletConfig.getInitParameter(A.loadBalancing.getURI()) != null ? LoadBalancer.Strategy.valueOf(servletConfig.getInitParameter(A.loadBalancing.getURI()).trim().toUpperCase(Locale.ROOT).replace('-', '_')) : null).
+            compressionThreshold(servletConfig.getInitParameter(A.compressionThreshold.getURI()) != null ? Integer.valueOf(servletConfig.getInitParameter(A.compressionThreshold.getURI())) : null).
+            passThrough(servletConfig.getInitParameter(A.passThrough.getURI()) != null ? Boolean.parseBoolean(servletConfig.getInitParameter(A.passThrough.getURI())) : false).
+            binaryTransport(servletConfig.getInitParameter(A.binaryTransport.getURI()) != null ? Boolean.parseBoolean(servletConfig.getInitParameter(A.binaryTransport.getURI())) : false).
+            streamingIngest(servletConfig.getInitParameter(A.streamingIngest.getURI()) != null ? Boolean.parseBoolean(servletConfig.getInitParameter(A.streamingIngest.getURI())) : false).
+            parseParallelism(servletConfig.getInitParameter(A.parseParallelism.getURI()) != null ? Integer.valueOf(servletConfig.getInitParameter(A.parseParallelism.getURI())) : null).
+            build();
+    }
+    
+    /**
+     * Reads <code>Cache-Control</code> header values from servlet configuration.
+     * 
+     * @param servletConfig servlet config
+     * @return cache control policy
+     */
+    public static CacheControlPolicy getCacheControlPolicy(ServletConfig servletConfig)
+    {
+        return new CacheControlPolicy(CacheControlPolicy.parse(servletConfig.getInitParameter(A.cacheControl.getURI())),
+            CacheControlPolicy.parse(servletConfig.getInitParameter(A.endpointCacheControl.getURI())),
+            CacheControlPolicy.parse(servletConfig.getInitParameter(A.graphStoreCacheControl.getURI())),
+            CacheControlPolicy.parse(servletConfig.getInitParameter(A.directGraphStoreCacheControl.getURI())),
+            servletConfig.getInitParameter(A.immutableGraphs.getURI()) != null ? Pattern.compile(servletConfig.getInitParameter(A.immutableGraphs.getURI())) : null);
+    }
+    
+    /**
+     * Reads resilience policy of remote backend requests from servlet configuration.
+     * 
+     * @param servletConfig servlet config
+     * @return resilience policy
+     */
+    public static Resilience getResilience(ServletConfig servletConfig)
+    {
+        return new Resilience(servletConfig.getInitParameter(A.maxRetries.getURI()) != null ? Integer.parseInt(servletConfig.getInitParameter(A.maxRetries.getURI())) : 0,
+            servletConfig.getInitParameter(A.retryDelay.getURI()) != null ? Duration.ofMillis(Long.parseLong(servletConfig.getInitParameter(A.retryDelay.getURI()))) : DEFAULT_RETRY_DELAY,
+            servletConfig.getInitParameter(A.hedgePercentile.getURI()) != null ? Double.valueOf(servletConfig.getInitParameter(A.hedgePercentile.getURI())) : null,
+            servletConfig.getInitParameter(A.circuitBreakerThreshold.getURI()) != null ? new CircuitBreaker(Integer.parseInt(servletConfig.getInitParameter(A.circuitBreakerThreshold.getURI())),
+                servletConfig.getInitParameter(A.circuitBreakerTimeout.getURI()) != null ? Duration.ofMillis(Long.parseLong(servletConfig.getInitParameter(A.circuitBreakerTimeout.getURI()))) : DEFAULT_CIRCUIT_BREAKER_TIMEOUT) : null);
+    }
+    
+    /**
+     * Reads backend HTTP connector, request compression and query POST configuration from servlet configuration.
+     * 
+     * @param servletConfig servlet config
+     * @return client config
+     */
+    public static ClientConfig getClientConfig(ServletConfig servletConfig)
+    {
+        ClientConfig clientConfig = getClientConfig(getConnectionManager(
+                servletConfig.getInitParameter(A.maxConnections.getURI()) != null ? Integer.parseInt(servletConfig.getInitParameter(A.maxConnections.getURI())) : DEFAULT_MAX_CONNECTIONS,
+                servletConfig.getInitParameter(A.maxConnectionsPerRoute.getURI()) != null ? Integer.parseInt(servletConfig.getInitParameter(A.maxConnectionsPerRoute.getURI())) : DEFAULT_MAX_CONNECTIONS_PER_ROUTE),
+            servletConfig.getInitParameter(A.connectTimeout.getURI()) != null ? Integer.valueOf(servletConfig.getInitParameter(A.connectTimeout.getURI())) : null,
+            servletConfig.getInitParameter(A.readTimeout.getURI()) != null ? Integer.valueOf(servletConfig.getInitParameter(A.readTimeout.getURI())) : null,
+            servletConfig.getInitParameter(A.connectionIdleTimeout.getURI()) != null ? Long.parseLong(servletConfig.getInitParameter(A.connectionIdleTimeout.getURI())) : DEFAULT_CONNECTION_IDLE_TIMEOUT);
+        if (servletConfig.getInitParameter(A.requestEncoding.getURI()) != null)
+        {
+            clientConfig.property(RequestCompressionFilter.ENCODING, servletConfig.getInitParameter(A.requestEncoding.getURI()).trim());
+            if (servletConfig.getInitParameter(A.compressionThreshold.getURI()) != null)
+                clientConfig.property(RequestCompressionFilter.THRESHOLD, Integer.valueOf(servletConfig.getInitParameter(A.compressionThreshold.getURI())));
+        }
+        if (servletConfig.getInitParameter(A.directPost.getURI()) != null)
+            clientConfig.property(SPARQLClient.DIRECT_POST, Boolean.parseBoolean(servletConfig.getInitParameter(A.directPost.getURI())));
+        
+        return clientConfig;
+    }
+    
+    /**
+     * Creates pool of persistent backend HTTP connections.
+     * 
+     * @param maxConnections max total number of connections
+     * @param maxConnectionsPerRoute max number of connections per host
+     * @return connection manager
+     */
+    public static PoolingHttpClientConnectionManager getConnectionManager(int maxConnections, int maxConnectionsPerRoute)
+    {
+        return PoolingHttpClientConnectionManagerBuilder.create().
+            setMaxConnTotal(maxConnections).
+            setMaxConnPerRoute(maxConnectionsPerRoute).
+            build();
+    }
+    
+    /**
+     * Creates client config that uses the Apache HTTP connector with the given connection pool.
+     * Connections are kept alive and reused across requests; connections idle for longer than the idle timeout are evicted.
+     * 
+     * @param connectionManager connection manager
+     * @param connectTimeout connect timeout in milliseconds or null
+     * @param readTimeout socket read timeout in milliseconds or null
+     * @param connectionIdleTimeout max idle time of pooled connections in milliseconds
+     * @return client config
+     */
+    public static ClientConfig getClientConfig(HttpClientConnectionManager connectionManager, Integer connectTimeout, Integer readTimeout, long connectionIdleTimeout)
+    {
+        if (connectionManager == null) throw new IllegalArgumentException("HttpClientConnectionManager cannot be null");
+        
+        ClientConfig clientConfig = new ClientConfig().
+            connectorProvider(new ApacheConnectorProvider()).
+            property(ApacheClientProperties.CONNECTION_MANAGER, connectionManager).
+            register((ApacheHttpClientBuilderConfigurator) builder -> builder.evictIdleConnections(TimeValue.ofMilliseconds(connectionIdleTimeout)));
+        if (connectTimeout != null) clientConfig.property(ClientProperties.CONNECT_TIMEOUT, connectTimeout);
+        if (readTimeout != null) clientConfig.property(ClientProperties.READ_TIMEOUT, readTimeout);
+        
+        return clientConfig;
+    }
+    
     public static Client getClient(ClientConfig clientConfig)
     {
+        // the connector blocks during asynchronous (rx) requests, therefore they are run on virtual threads
+        return getClient(clientConfig, Executors.newVirtualThreadPerTaskExecutor());
+    }
+    
+    /**
+     * Creates client that executes asynchronous requests on the given executor.
+     * The client takes ownership of the executor and shuts it down when it is closed.
+     * 
+     * @param clientConfig client config
+     * @param executorService executor of asynchronous requests
+     * @return client
+     */
+    public static Client getClient(ClientConfig clientConfig, ExecutorService executorService)
+    {
+        if (executorService == null) throw new IllegalArgumentException("ExecutorService cannot be null");
+        
         clientConfig.register(new ModelProvider());
         clientConfig.register(new DatasetProvider());
         clientConfig.register(new ResultSetProvider());
         clientConfig.register(new QueryProvider());
         clientConfig.register(new UpdateRequestProvider()); // TO-DO: UpdateRequestProvider
+        // sends Accept-Encoding and decodes compressed backend responses
+        clientConfig.register(GZipEncoder.class);
+        clientConfig.register(DeflateEncoder.class);
+        clientConfig.register(EncodingFilter.class);
+        clientConfig.register(new RequestCompressionFilter()); // no-op unless request encoding is configured
+        // the executor is owned by the client, therefore it is shut down together with it
+        clientConfig.register(new ClientLifecycleListener()
+        {
+            @Override
+            public void onInit()
+            {
+            }
 
-        Client client = ClientBuilder.newClient(clientConfig);
+            @Override
+            public void onClose()
+            {
+                executorService.shutdown();
+            }
+        });
+        Client client = ClientBuilder.newBuilder().
+            withConfig(clientConfig).
+            executorService(executorService).
+            build();
         //if (log.isDebugEnabled()) client.register(new LoggingFeature(log));
         
         return client;
@@ -0,0 +1,520 @@
+/*
+ * Copyright 2026 Martynas Jusevičius <martynas@atomgraph.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.atomgraph.core;
+
+import com.atomgraph.core.client.LoadBalancer;
+import com.atomgraph.core.client.Resilience;
+import com.atomgraph.core.util.CacheControlPolicy;
+import com.atomgraph.core.util.GraphDigest;
+import com.atomgraph.core.util.ResponseCache;
+import jakarta.ws.rs.client.Client;
+import java.util.List;
+import org.apache.jena.query.Dataset;
+
+/**
+ * Configuration of the {@link Application}.
+ * Built using {@link #builder()}; options that are not set keep their defaults, which disable the respective feature.
+ * {@link Application#Application(jakarta.servlet.ServletConfig)} fills it in from the <code>web.xml</code> init parameters.
+ *
+ * @author Martynas Jusevičius {@literal <martynas@atomgraph.com>}
+ */
+public class ApplicationConfig
+{
+
+    private final Dataset dataset;
+    private final String endpointURI, graphStoreURI, quadStoreURI;
+    private final String authUser, authPwd;
+    private final MediaTypes mediaTypes;
+    private final Client client;
+    private final Integer maxGetRequestSize;
+    private final boolean streaming;
+    private final GraphDigest graphDigest;
+    private final ResponseCache responseCache;
+    private final CacheControlPolicy cacheControlPolicy;
+    private final Long resultLimit;
+    private final Long queryInitialTimeout, queryTimeout;
+    private final boolean async;
+    private final Resilience resilience;
+    private final List<String> readEndpointURIs;
+    private final LoadBalancer.Strategy loadBalancing;
+    private final Integer compressionThreshold;
+    private final boolean passThrough;
+    private final boolean binaryTransport;
+    private final boolean streamingIngest;
+    private final Integer parseParallelism;
+
+    protected ApplicationConfig(Builder builder)
+    {
+        this.dataset = builder.dataset;
+        this.endpointURI = builder.endpointURI;
+        this.graphStoreURI = builder.graphStoreURI;
+        this.quadStoreURI = builder.quadStoreURI;
+        this.authUser = builder.authUser;
+        this.authPwd = builder.authPwd;
+        this.mediaTypes = builder.mediaTypes;
+        this.client = builder.client;
+        this.maxGetRequestSize = builder.maxGetRequestSize;
+        this.streaming = builder.streaming;
+        this.graphDigest = builder.graphDigest;
+        this.responseCache = builder.responseCache;
+        this.cacheControlPolicy = builder.cacheControlPolicy;
+        this.resultLimit = builder.resultLimit;
+        this.queryInitialTimeout = builder.queryInitialTimeout;
+        this.queryTimeout = builder.queryTimeout;
+        this.async = builder.async;
+        this.resilience = builder.resilience;
+        this.readEndpointURIs = builder.readEndpointURIs != null ? List.copyOf(builder.readEndpointURIs) : null;
+        this.loadBalancing = builder.loadBalancing;
+        this.compressionThreshold = builder.compressionThreshold;
+        this.passThrough = builder.passThrough;
+        this.binaryTransport = builder.binaryTransport;
+        this.streamingIngest = builder.streamingIngest;
+        this.parseParallelism = builder.parseParallelism;
+    }
+
+    /**
+     * Returns a builder with the default configuration.
+     *
+     * @return configuration builder
+     */
+    public static Builder builder()
+    {
+        return new Builder();
+    }
+
+    /**
+     * Returns local dataset.
+     *
+     * @return dataset or null if remote backend is used
+     */
+    public Dataset getDataset()
+    {
+        return dataset;
+    }
+
+    public String getEndpointURI()
+    {
+        return endpointURI;
+    }
+
+    public String getGraphStoreURI()
+    {
+        return graphStoreURI;
+    }
+
+    public String getQuadStoreURI()
+    {
+        return quadStoreURI;
+    }
+
+    public String getAuthUser()
+    {
+        return authUser;
+    }
+
+    public String getAuthPwd()
+    {
+        return authPwd;
+    }
+
+    public MediaTypes getMediaTypes()
+    {
+        return mediaTypes;
+    }
+
+    public Client getClient()
+    {
+        return client;
+    }
+
+    public Integer getMaxGetRequestSize()
+    {
+        return maxGetRequestSize;
+    }
+
+    public boolean isStreaming()
+    {
+        return streaming;
+    }
+
+    public GraphDigest getGraphDigest()
+    {
+        return graphDigest;
+    }
+
+    public ResponseCache getResponseCache()
+    {
+        return responseCache;
+    }
+
+    public CacheControlPolicy getCacheControlPolicy()
+    {
+        return cacheControlPolicy;
+    }
+
+    public Long getResultLimit()
+    {
+        return resultLimit;
+    }
+
+    public Long getQueryInitialTimeout()
+    {
+        return queryInitialTimeout;
+    }
+
+    public Long getQueryTimeout()
+    {
+        return queryTimeout;
+    }
+
+    public boolean isAsync()
+    {
+        return async;
+    }
+
+    public Resilience getResilience()
+    {
+        return resilience;
+    }
+
+    public List<String> getReadEndpointURIs()
+    {
+        return readEndpointURIs;
+    }
+
+    public LoadBalancer.Strategy getLoadBalancing()
+    {
+        return loadBalancing;
+    }
+
+    public Integer getCompressionThreshold()
+    {
+        return compressionThreshold;
+    }
+
+    public boolean isPassThrough()
+    {
+        return passThrough;
+    }
+
+    public boolean isBinaryTransport()
+    {
+        return binaryTransport;
+    }
+
+    public boolean isStreamingIngest()
+    {
+        return streamingIngest;
+    }
+
+    public Integer getParseParallelism()
+    {
+        return parseParallelism;
+    }
+
+    /**
+     * Builder of the application configuration.
+     */
+    public static class Builder
+    {
+
+        private Dataset dataset;
+        private String endpointURI, graphStoreURI, quadStoreURI;
+        private String authUser, authPwd;
+        private MediaTypes mediaTypes = new MediaTypes();
+        private Client client;
+        private Integer maxGetRequestSize;
+        private boolean streaming = false;
+        private GraphDigest graphDigest = GraphDigest.DEFAULT;
+        private ResponseCache responseCache;
+        private CacheControlPolicy cacheControlPolicy = CacheControlPolicy.NONE;
+        private Long resultLimit;
+        private Long queryInitialTimeout, queryTimeout;
+        private boolean async = false;
+        private Resilience resilience = Resilience.NONE;
+        private List<String> readEndpointURIs;
+        private LoadBalancer.Strategy loadBalancing;
+        private Integer compressionThreshold;
+        private boolean passThrough = false;
+        private boolean binaryTransport = false;
+        private boolean streamingIngest = false;
+        private Integer parseParallelism;
+
+        protected Builder()
+        {
+        }
+
+        /**
+         * Sets local dataset.
+         *
+         * @param dataset local dataset or null if remote backend is used
+         * @return this builder
+         */
+        public Builder dataset(Dataset dataset)
+        {
+            this.dataset = dataset;
+            return this;
+        }
+
+        /**
+         * Sets remote backend URIs.
+         *
+         * @param endpointURI remote (primary) SPARQL endpoint URI
+         * @param graphStoreURI remote Graph Store URI
+         * @param quadStoreURI remote quad store URI or null
+         * @return this builder
+         */
+        public Builder backend(String endpointURI, String graphStoreURI, String quadStoreURI)
+        {
+            this.endpointURI = endpointURI;
+            this.graphStoreURI = graphStoreURI;
+            this.quadStoreURI = quadStoreURI;
+            return this;
+        }
+
+        /**
+         * Sets HTTP Basic credentials of the remote backend.
+         *
+         * @param authUser user or null
+         * @param authPwd password or null
+         * @return this builder
+         */
+        public Builder auth(String authUser, String authPwd)
+        {
+            this.authUser = authUser;
+            this.authPwd = authPwd;
+            return this;
+        }
+
+        public Builder mediaTypes(MediaTypes mediaTypes)
+        {
+            if (mediaTypes == null) throw new IllegalArgumentException("MediaTypes cannot be null");
+            this.mediaTypes = mediaTypes;
+            return this;
+        }
+
+        /**
+         * Sets HTTP client of the remote backend.
+         *
+         * @param client client
+         * @return this builder
+         */
+        public Builder client(Client client)
+        {
+            this.client = client;
+            return this;
+        }
+
+        /**
+         * Sets max <code>GET</code> request size, above which queries are sent using <code>POST</code>.
+         *
+         * @param maxGetRequestSize size in bytes or null
+         * @return this builder
+         */
+        public Builder maxGetRequestSize(Integer maxGetRequestSize)
+        {
+            this.maxGetRequestSize = maxGetRequestSize;
+            return this;
+        }
+
+        /**
+         * Sets whether query results are streamed to the response without buffering.
+         *
+         * @param streaming true if streamed
+         * @return this builder
+         */
+        public Builder streaming(boolean streaming)
+        {
+            this.streaming = streaming;
+            return this;
+        }
+
+        /**
+         * Sets graph digest strategy used for <code>ETag</code>s.
+         *
+         * @param graphDigest graph digest
+         * @return this builder
+         */
+        public Builder graphDigest(GraphDigest graphDigest)
+        {
+            if (graphDigest == null) throw new IllegalArgumentException("GraphDigest cannot be null");
+            this.graphDigest = graphDigest;
+            return this;
+        }
+
+        /**
+         * Sets SPARQL response cache.
+         *
+         * @param responseCache cache or null if responses are not cached
+         * @return this builder
+         */
+        public Builder responseCache(ResponseCache responseCache)
+        {
+            this.responseCache = responseCache;
+            return this;
+        }
+
+        /**
+         * Sets <code>Cache-Control</code> header values.
+         *
+         * @param cacheControlPolicy cache control policy
+         * @return this builder
+         */
+        public Builder cacheControlPolicy(CacheControlPolicy cacheControlPolicy)
+        {
+            if (cacheControlPolicy == null) throw new IllegalArgumentException("CacheControlPolicy cannot be null");
+            this.cacheControlPolicy = cacheControlPolicy;
+            return this;
+        }
+
+        /**
+         * Sets max <code>LIMIT</code> of <code>SELECT</code> queries.
+         *
+         * @param resultLimit limit or null if unlimited
+         * @return this builder
+         */
+        public Builder resultLimit(Long resultLimit)
+        {
+            this.resultLimit = resultLimit;
+            return this;
+        }
+
+        /**
+         * Sets query timeouts.
+         *
+         * @param queryInitialTimeout max time in milliseconds until the first query result, or null
+         * @param queryTimeout max time in milliseconds of query execution, or null
+         * @return this builder
+         */
+        public Builder queryTimeout(Long queryInitialTimeout, Long queryTimeout)
+        {
+            this.queryInitialTimeout = queryInitialTimeout;
+            this.queryTimeout = queryTimeout;
+            return this;
+        }
+
+        /**
+         * Sets whether requests are processed asynchronously on virtual threads.
+         *
+         * @param async true if asynchronous
+         * @return this builder
+         */
+        public Builder async(boolean async)
+        {
+            this.async = async;
+            return this;
+        }
+
+        /**
+         * Sets retry, hedging and circuit breaking policy of remote backend requests.
+         *
+         * @param resilience resilience policy
+         * @return this builder
+         */
+        public Builder resilience(Resilience resilience)
+        {
+            if (resilience == null) throw new IllegalArgumentException("Resilience cannot be null");
+            this.resilience = resilience;
+            return this;
+        }
+
+        /**
+         * Sets read replicas of the remote SPARQL endpoint.
+         *
+         * @param readEndpointURIs SPARQL endpoint URIs of read replicas, or null
+         * @param loadBalancing read replica selection strategy, or null for the default one
+         * @return this builder
+         */
+        public Builder readReplicas(List<String> readEndpointURIs, LoadBalancer.Strategy loadBalancing)
+        {
+            this.readEndpointURIs = readEndpointURIs;
+            this.loadBalancing = loadBalancing;
+            return this;
+        }
+
+        /**
+         * Sets min size of response entities that are compressed.
+         *
+         * @param compressionThreshold size in bytes, or null if responses are not compressed
+         * @return this builder
+         */
+        public Builder compressionThreshold(Integer compressionThreshold)
+        {
+            this.compressionThreshold = compressionThreshold;
+            return this;
+        }
+
+        /**
+         * Sets whether backend responses in the negotiated media type are relayed to the client without parsing.
+         *
+         * @param passThrough true if relayed
+         * @return this builder
+         */
+        public Builder passThrough(boolean passThrough)
+        {
+            this.passThrough = passThrough;
+            return this;
+        }
+
+        /**
+         * Sets whether the remote backend is probed for binary RDF Thrift support.
+         *
+         * @param binaryTransport true if probed
+         * @return this builder
+         */
+        public Builder binaryTransport(boolean binaryTransport)
+        {
+            this.binaryTransport = binaryTransport;
+            return this;
+        }
+
+        /**
+         * Sets whether Graph Store request payloads are parsed straight into the target graph.
+         *
+         * @param streamingIngest true if streamed
+         * @return this builder
+         */
+        public Builder streamingIngest(boolean streamingIngest)
+        {
+            this.streamingIngest = streamingIngest;
+            return this;
+        }
+
+        /**
+         * Sets max number of N-Triples/N-Quads request payload chunks that are parsed at once.
+         *
+         * @param parseParallelism parallelism or null if payloads are parsed on a single thread
+         * @return this builder
+         */
+        public Builder parseParallelism(Integer parseParallelism)
+        {
+            this.parseParallelism = parseParallelism;
+            return this;
+        }
+
+        /**
+         * Builds the immutable configuration.
+         *
+         * @return application configuration
+         */
+        public ApplicationConfig build()
+        {
+            return new ApplicationConfig(this);
+        }
+
+    }
+
+}
@@ -55,6 +55,11 @@ public class MediaType extends jakarta.ws.rs.core.MediaType
     /** "application/n-quads" */
     public final static MediaType TEXT_NQUADS_TYPE = new MediaType(Lang.NQUADS.getContentType().getType(), Lang.NQUADS.getContentType().getSubType());
 
+    /** "application/rdf+thrift" */
+    public final static String APPLICATION_RDF_THRIFT = Lang.RDFTHRIFT.getContentType().getContentTypeStr();
+    /** "application/rdf+thrift" */
+    public final static MediaType APPLICATION_RDF_THRIFT_TYPE = new MediaType(Lang.RDFTHRIFT.getContentType().getType(), Lang.RDFTHRIFT.getContentType().getSubType());
+
     /** "application/ld+json" */
     public final static String APPLICATION_LD_JSON = Lang.JSONLD.getContentType().getContentTypeStr();
     /** "application/ld+json" */
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2026 Martynas Jusevičius <martynas@atomgraph.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.atomgraph.core.client;
+
+import java.time.Duration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Circuit breaker of a remote backend.
+ * After a number of consecutive failures the circuit opens and requests fail fast without reaching the backend.
+ * Once the open timeout elapses, a single trial request is let through (half-open state): if it succeeds the circuit closes, otherwise it opens again.
+ *
+ * @author Martynas Jusevičius {@literal <martynas@atomgraph.com>}
+ * @see <a href="https://martinfowler.com/bliki/CircuitBreaker.html">CircuitBreaker</a>
+ */
+public class CircuitBreaker
+{
+
+    private static final Logger log = LoggerFactory.getLogger(CircuitBreaker.class);
+
+    /** Circuit breaker state */
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final int failureThreshold;
+    private final long openTimeout;
+    private State state = State.CLOSED;
+    private int failures = 0;
+    private long openedAt;
+    private boolean trialInProgress = false;
+
+    /**
+     * Constructs circuit breaker.
+     *
+     * @param failureThreshold number of consecutive failures that opens the circuit
+     * @param openTimeout time after which an open circuit lets a trial request through
+     */
+    public CircuitBreaker(int failureThreshold, Duration openTimeout)
+    {
+        if (failureThreshold < 1) throw new IllegalArgumentException("Failure threshold must be positive");
+        if (openTimeout == null) throw new IllegalArgumentException("Duration cannot be null");
+
+        this.failureThreshold = failureThreshold;
+        this.openTimeout = openTimeout.toNanos();
+    }
+
+    /**
+     * Returns true if a request can be sent to the backend.
+     * Has to be followed by {@link #recordSuccess()} or {@link #recordFailure()}.
+     *
+     * @return true if request is allowed
+     */
+    public synchronized boolean allowRequest()
+    {
+        if (state == State.OPEN && System.nanoTime() - openedAt >= openTimeout) transition(State.HALF_OPEN);
+
+        if (state == State.HALF_OPEN)
+        {
+            if (trialInProgress) return false;
+            trialInProgress = true;
+        }
+
+        return state != State.OPEN;
+    }
+
+    public synchronized void recordSuccess()
+    {
+        failures = 0;
+        trialInProgress = false;
+        if (state != State.CLOSED) transition(State.CLOSED);
+    }
+
+    public synchronized void recordFailure()
+    {
+        failures++;
+        trialInProgress = false;
+        if (state == State.HALF_OPEN || (state == State.CLOSED && failures >= failureThreshold))
+        {
+            openedAt = System.nanoTime();
+            transition(State.OPEN);
+        }
+    }
+
+    /**
+     * Returns the remaining time until an open circuit lets a trial request through.
+     *
+     * @return remaining time, zero if the circuit is not open
+     */
+    public synchronized Duration getRemainingOpenTime()
+    {
+        if (state != State.OPEN) return Duration.ZERO;
+
+        return Duration.ofNanos(Math.max(0, openTimeout - (System.nanoTime() - openedAt)));
+    }
+
+    protected void transition(State newState)
+    {
+        if (log.isWarnEnabled()) log.warn("Circuit breaker state changed from {} to {} after {} consecutive failure(s)", state, newState, failures);
+        state = newState;
+    }
+
+    public synchronized State getState()
+    {
+        return state;
+    }
+
+    public synchronized int getFailures()
+    {
+        return failures;
+    }
+
+    public int getFailureThreshold()
+    {
+        return failureThreshold;
+    }
+
+}
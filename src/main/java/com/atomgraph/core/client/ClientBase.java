@@ -16,13 +16,17 @@
 package com.atomgraph.core.client;
 
 import com.atomgraph.core.MediaTypes;
+import jakarta.ws.rs.ProcessingException;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import java.util.concurrent.CompletionStage;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * A common base class for all HTTP-based protocol clients.
  * Note that <code>Response</code> objects returned by methods of this class <em>are not</em> closed.
+ * Methods with the <code>Async</code> suffix do not block: they return a <code>CompletionStage</code> that completes when the response arrives.
  * 
  * @author Martynas Jusevičius {@literal <martynas@atomgraph.com>}
  */
@@ -32,6 +36,7 @@ public abstract class ClientBase
     private static final Logger log = LoggerFactory.getLogger(ClientBase.class);
 
     private final MediaTypes mediaTypes;
+    private volatile boolean binary = false;
     
     protected ClientBase(MediaTypes mediaTypes)
     {
@@ -41,11 +46,67 @@ public abstract class ClientBase
     
     public abstract MediaType getDefaultMediaType();
     
+    public abstract Response head(MediaType[] acceptedTypes);
+    
+    /**
+     * Probes whether the backend supports the RDF Thrift binary format, using a <code>HEAD</code> request that only accepts RDF Thrift.
+     * If it does, RDF is written to the backend as RDF Thrift instead of the default text format.
+     * The backend is assumed not to support it if the probe fails.
+     * 
+     * @return true if RDF Thrift is supported
+     */
+    public boolean probeBinary()
+    {
+        try (Response cr = head(new MediaType[]{ com.atomgraph.core.MediaType.APPLICATION_RDF_THRIFT_TYPE }))
+        {
+            binary = cr.getStatusInfo().getFamily().equals(Response.Status.Family.SUCCESSFUL) &&
+                cr.getMediaType() != null && cr.getMediaType().isCompatible(com.atomgraph.core.MediaType.APPLICATION_RDF_THRIFT_TYPE);
+        }
+        catch (ProcessingException | UnsupportedOperationException ex)
+        {
+            if (log.isWarnEnabled()) log.warn("Could not probe backend support of RDF Thrift: {}", ex.getMessage());
+            binary = false;
+        }
+        
+        if (log.isDebugEnabled()) log.debug("Backend supports RDF Thrift: {}", binary);
+        return binary;
+    }
+    
+    /**
+     * Returns true if RDF is written to the backend in the RDF Thrift binary format.
+     * 
+     * @return true if binary
+     * @see #probeBinary()
+     */
+    public boolean isBinary()
+    {
+        return binary;
+    }
+    
     public MediaType[] getReadableMediaTypes(Class clazz)
     {
         return getMediaTypes().getReadable(clazz).toArray(jakarta.ws.rs.core.MediaType[]::new);
     }
     
+    /**
+     * Reads the entity of an asynchronous response once it arrives, and closes the response.
+     * 
+     * @param <T> entity type
+     * @param response response stage
+     * @param clazz entity class
+     * @return entity stage
+     */
+    public static <T> CompletionStage<T> readEntity(CompletionStage<Response> response, Class<T> clazz)
+    {
+        return response.thenApply(cr ->
+        {
+            try (cr)
+            {
+                return cr.readEntity(clazz);
+            }
+        });
+    }
+    
     public MediaTypes getMediaTypes()
     {
         return mediaTypes;
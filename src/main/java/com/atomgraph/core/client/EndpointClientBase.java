@@ -19,6 +19,7 @@ package com.atomgraph.core.client;
 import com.atomgraph.core.MediaTypes;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionStage;
 import jakarta.ws.rs.client.ClientRequestFilter;
 import jakarta.ws.rs.client.Entity;
 import jakarta.ws.rs.client.Invocation;
@@ -109,6 +110,16 @@ public abstract class EndpointClientBase extends ClientBase
         return applyHeaders(applyParams(params).request(acceptedTypes), headers).get();
     }
 
+    public CompletionStage<Response> getAsync(jakarta.ws.rs.core.MediaType[] acceptedTypes)
+    {
+        return getAsync(acceptedTypes, new MultivaluedHashMap(), new MultivaluedHashMap());
+    }
+
+    public CompletionStage<Response> getAsync(jakarta.ws.rs.core.MediaType[] acceptedTypes, MultivaluedMap<String, String> params, MultivaluedMap<String, Object> headers)
+    {
+        return applyHeaders(applyParams(params).request(acceptedTypes), headers).rx().get();
+    }
+
     public Response post(Object body, MediaType contentType, jakarta.ws.rs.core.MediaType[] acceptedTypes)
     {
         return post(body, contentType, acceptedTypes, new MultivaluedHashMap(), new MultivaluedHashMap());
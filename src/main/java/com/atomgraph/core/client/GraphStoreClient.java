@@ -30,9 +30,19 @@ import jakarta.ws.rs.core.MultivaluedHashMap;
 import jakarta.ws.rs.core.MultivaluedMap;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.Response.Status;
-import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.apache.jena.query.Dataset;
+import org.apache.jena.query.DatasetFactory;
 import org.apache.jena.rdf.model.Model;
 import org.glassfish.jersey.uri.UriComponent;
 import org.slf4j.Logger;
@@ -52,10 +62,13 @@ public class GraphStoreClient extends ClientBase implements DatasetAccessor
     
     public static final String DEFAULT_PARAM_NAME = "default";
     public static final String GRAPH_PARAM_NAME = "graph";
+    /** Default max number of concurrent requests of bulk graph retrieval */
+    public static final int DEFAULT_PARALLELISM = 16;
 
     private final Client client;
     private final URI endpoint;
-    private final List<Object> components = new ArrayList<>();
+    private final List<Object> components = new CopyOnWriteArrayList<>();
+    private volatile WebTarget endpointTarget;
     
     protected GraphStoreClient(Client client, MediaTypes mediaTypes, URI endpoint)
     {
@@ -93,6 +106,7 @@ public class GraphStoreClient extends ClientBase implements DatasetAccessor
         if (component == null) throw new IllegalArgumentException("Component cannot be null");
 
         components.add(component);
+        endpointTarget = null;
 
         return this;
     }
@@ -111,6 +125,7 @@ public class GraphStoreClient extends ClientBase implements DatasetAccessor
         if (componentClass == null) throw new IllegalArgumentException("Component class cannot be null");
 
         components.add(componentClass);
+        endpointTarget = null;
 
         return this;
     }
@@ -155,15 +170,13 @@ public class GraphStoreClient extends ClientBase implements DatasetAccessor
     
     protected WebTarget getWebTarget(URI uri)
     {
-        WebTarget target;
-
         // indirect graph identification
         if (getEndpoint() != null)
         {
             if (uri == null) // default graph - only possible with endpoint
-                target = getClient().target(getEndpoint()).queryParam(DEFAULT_PARAM_NAME, Boolean.TRUE.toString());
+                return getEndpointTarget().queryParam(DEFAULT_PARAM_NAME, Boolean.TRUE.toString());
             else // named graph
-                target = getClient().target(getEndpoint()).queryParam(UriComponent.encode(GRAPH_PARAM_NAME, UriComponent.Type.UNRESERVED),
+                return getEndpointTarget().queryParam(UriComponent.encode(GRAPH_PARAM_NAME, UriComponent.Type.UNRESERVED),
                     UriComponent.encode(uri.toString(), UriComponent.Type.UNRESERVED));
         }
         // direct graph idntification
@@ -172,16 +185,55 @@ public class GraphStoreClient extends ClientBase implements DatasetAccessor
             if (uri == null)
                 throw new UnsupportedOperationException("Default graph is not supported without endpoint -- all RDF graphs in Linked Data are named");
 
-            target = getClient().target(uri);
+            return applyComponents(getClient().target(uri));
         }
-
-        // Apply all registered components to this WebTarget
+    }
+    
+    /**
+     * Returns the Graph Store endpoint target with all registered components applied.
+     * It is built once and shared by all requests, so that Jersey does not have to rebuild the request processing runtime for each of them.
+     * 
+     * @return endpoint target
+     */
+    protected WebTarget getEndpointTarget()
+    {
+        WebTarget target = endpointTarget;
+        
+        if (target == null)
+        {
+            target = applyComponents(getClient().target(getEndpoint()));
+            endpointTarget = target;
+        }
+        
+        return target;
+    }
+    
+    /**
+     * Applies all registered components to a WebTarget.
+     * 
+     * @param target web target
+     * @return configured web target
+     */
+    protected WebTarget applyComponents(WebTarget target)
+    {
         for (Object component : components)
             target = target.register(component);
 
         return target;
     }
     
+    /**
+     * Sends <code>HEAD</code> request for the default graph.
+     * 
+     * @param acceptedTypes accepted media types
+     * @return response
+     */
+    @Override
+    public Response head(jakarta.ws.rs.core.MediaType[] acceptedTypes)
+    {
+        return head(null, acceptedTypes);
+    }
+    
     public Response head(URI uri)
     {
         return head(uri, getReadableMediaTypes(Model.class));
@@ -223,6 +275,112 @@ public class GraphStoreClient extends ClientBase implements DatasetAccessor
         return applyHeaders(getWebTarget(uri).request(acceptedTypes), headers).get();
     }
     
+    public CompletionStage<Response> getAsync(URI uri, jakarta.ws.rs.core.MediaType[] acceptedTypes, MultivaluedMap<String, Object> headers)
+    {
+        return applyHeaders(getWebTarget(uri).request(acceptedTypes), headers).rx().get();
+    }
+    
+    public CompletionStage<Model> getModelAsync()
+    {
+        return readEntity(getAsync(null, getReadableMediaTypes(Model.class), new MultivaluedHashMap()), Model.class);
+    }
+    
+    /**
+     * Retrieves named graph asynchronously.
+     * The returned stage completes exceptionally with <code>NotFoundException</code> if the graph does not exist.
+     * 
+     * @param uri graph URI
+     * @return graph stage
+     */
+    public CompletionStage<Model> getModelAsync(String uri)
+    {
+        return getAsync(URI.create(uri), getReadableMediaTypes(Model.class), new MultivaluedHashMap()).thenApply(cr ->
+        {
+            try (cr)
+            {
+                if (cr.getStatus() == Status.NOT_FOUND.getStatusCode()) throw new NotFoundException();
+
+                cr.getHeaders().putSingle(ModelProvider.REQUEST_URI_HEADER, uri); // provide a base URI hint to ModelProvider
+                return cr.readEntity(Model.class);
+            }
+        });
+    }
+    
+    @Override
+    public Dataset getModels(Collection<String> uris)
+    {
+        return getModels(uris, DEFAULT_PARALLELISM);
+    }
+    
+    /**
+     * Retrieves multiple named graphs using concurrent requests.
+     * Graphs that do not exist are omitted from the result.
+     * 
+     * @param uris graph URIs
+     * @param parallelism max number of concurrent requests
+     * @return dataset with the named graphs
+     */
+    public Dataset getModels(Collection<String> uris, int parallelism)
+    {
+        try
+        {
+            return getModelsAsync(uris, parallelism).toCompletableFuture().join();
+        }
+        catch (CompletionException ex)
+        {
+            if (ex.getCause() instanceof RuntimeException runtimeEx) throw runtimeEx;
+            throw ex;
+        }
+    }
+    
+    /**
+     * Retrieves multiple named graphs asynchronously.
+     * Requests are issued by <code>parallelism</code> lanes, each of which fetches the next graph once the previous one has arrived,
+     * so that the number of concurrent requests (and pooled connections) stays bounded.
+     * Graphs that do not exist are omitted from the result.
+     * 
+     * @param uris graph URIs
+     * @param parallelism max number of concurrent requests
+     * @return dataset stage
+     */
+    public CompletionStage<Dataset> getModelsAsync(Collection<String> uris, int parallelism)
+    {
+        if (uris == null) throw new IllegalArgumentException("Collection<String> cannot be null");
+        if (parallelism < 1) throw new IllegalArgumentException("Parallelism must be positive");
+        
+        Queue<String> queue = new ConcurrentLinkedQueue<>(new LinkedHashSet<>(uris));
+        Map<String, Model> models = new ConcurrentHashMap<>();
+        CompletableFuture<?>[] lanes = new CompletableFuture<?>[Math.min(parallelism, queue.size())];
+        for (int i = 0; i < lanes.length; i++)
+            lanes[i] = getModelsAsync(queue, models).toCompletableFuture();
+
+        return CompletableFuture.allOf(lanes).thenApply(v ->
+        {
+            Dataset dataset = DatasetFactory.create();
+            models.forEach(dataset::addNamedModel);
+            return dataset;
+        });
+    }
+    
+    protected CompletionStage<Void> getModelsAsync(Queue<String> uris, Map<String, Model> models)
+    {
+        String uri = uris.poll();
+        if (uri == null) return CompletableFuture.completedFuture(null);
+        
+        return getModelAsync(uri).handle((model, ex) ->
+        {
+            if (ex == null) models.put(uri, model);
+            else
+            {
+                Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+                if (!(cause instanceof NotFoundException)) throw new CompletionException(cause);
+                if (log.isDebugEnabled()) log.debug("Graph with URI <{}> not found", uri);
+            }
+            
+            return null;
+        }).thenCompose(v -> getModelsAsync(uris, models));
+    }
+    
     @Override
     public Model getModel(String uri)
     {
@@ -335,9 +493,17 @@ public class GraphStoreClient extends ClientBase implements DatasetAccessor
         return builder;
     }
     
+    /**
+     * Returns the media type of RDF written to the Graph Store.
+     * 
+     * @return RDF Thrift if the Graph Store supports it, N-Triples otherwise
+     * @see #probeBinary()
+     */
     @Override
     public MediaType getDefaultMediaType()
     {
+        if (isBinary()) return MediaType.APPLICATION_RDF_THRIFT_TYPE;
+        
         return MediaType.APPLICATION_NTRIPLES_TYPE;
     }
     
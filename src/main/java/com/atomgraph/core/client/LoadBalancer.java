@@ -0,0 +1,223 @@
+/*
+ * Copyright 2026 Martynas Jusevičius <martynas@atomgraph.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.atomgraph.core.client;
+
+import jakarta.ws.rs.ProcessingException;
+import jakarta.ws.rs.ServerErrorException;
+import jakarta.ws.rs.core.Response;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Load balancer of SPARQL queries across read replicas.
+ * Replicas that fail a number of consecutive requests (I/O errors or <code>502</code>/<code>503</code>/<code>504</code> statuses) are ejected for a period of time (passive health checking).
+ * If all replicas are ejected, all of them are used again.
+ *
+ * @author Martynas Jusevičius {@literal <martynas@atomgraph.com>}
+ */
+public class LoadBalancer
+{
+
+    private static final Logger log = LoggerFactory.getLogger(LoadBalancer.class);
+
+    /** Replica selection strategy */
+    public enum Strategy
+    {
+        /** Replicas are used in turn */
+        ROUND_ROBIN,
+        /** Replica with the least requests in progress is used; ties are broken in turn */
+        LEAST_OUTSTANDING
+    }
+
+    /** Default number of consecutive failures after which a replica is ejected */
+    public static final int DEFAULT_FAILURE_THRESHOLD = 3;
+
+    /** Default time an ejected replica is not used */
+    public static final Duration DEFAULT_EJECTION_TIME = Duration.ofSeconds(30);
+
+    private final List<Replica> replicas;
+    private final Strategy strategy;
+    private final int failureThreshold;
+    private final long ejectionTime;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public LoadBalancer(List<SPARQLClient> clients, Strategy strategy)
+    {
+        this(clients, strategy, DEFAULT_FAILURE_THRESHOLD, DEFAULT_EJECTION_TIME);
+    }
+
+    /**
+     * Constructs load balancer.
+     *
+     * @param clients clients of the read replicas
+     * @param strategy replica selection strategy
+     * @param failureThreshold number of consecutive failures after which a replica is ejected
+     * @param ejectionTime time an ejected replica is not used
+     */
+    public LoadBalancer(List<SPARQLClient> clients, Strategy strategy, int failureThreshold, Duration ejectionTime)
+    {
+        if (clients == null || clients.isEmpty()) throw new IllegalArgumentException("List<SPARQLClient> cannot be null or empty");
+        if (strategy == null) throw new IllegalArgumentException("Strategy cannot be null");
+        if (failureThreshold < 1) throw new IllegalArgumentException("Failure threshold must be positive");
+        if (ejectionTime == null) throw new IllegalArgumentException("Duration cannot be null");
+
+        List<Replica> list = new ArrayList<>();
+        for (SPARQLClient client : clients) list.add(new Replica(client));
+        this.replicas = Collections.unmodifiableList(list);
+        this.strategy = strategy;
+        this.failureThreshold = failureThreshold;
+        this.ejectionTime = ejectionTime.toNanos();
+    }
+
+    /**
+     * Sends request to one of the replicas and records its outcome.
+     * The request counts as outstanding until the entity of the returned response is consumed or the response is closed,
+     * so that replicas streaming large results are not selected as idle.
+     *
+     * @param request request function
+     * @return response
+     */
+    public Response execute(Function<SPARQLClient, Response> request)
+    {
+        if (request == null) throw new IllegalArgumentException("Function cannot be null");
+
+        Replica replica = select();
+        replica.outstanding.incrementAndGet();
+        Response response;
+        try
+        {
+            response = request.apply(replica.getClient());
+        }
+        catch (RuntimeException ex)
+        {
+            replica.outstanding.decrementAndGet();
+            if (ex instanceof ProcessingException || (ex instanceof ServerErrorException serverEx && Resilience.isRetryable(serverEx.getResponse().getStatus()))) replica.recordFailure();
+            else if (ex instanceof ServerErrorException) replica.recordSuccess();
+            throw ex;
+        }
+
+        if (Resilience.isRetryable(response.getStatus())) replica.recordFailure();
+        else replica.recordSuccess();
+        return new ReleasingResponse(response, replica.outstanding::decrementAndGet);
+    }
+
+    /**
+     * Selects replica for the next request.
+     *
+     * @return replica
+     */
+    public Replica select()
+    {
+        long now = System.nanoTime();
+        List<Replica> healthy = new ArrayList<>(replicas.size());
+        for (Replica replica : replicas)
+            if (replica.isHealthy(now)) healthy.add(replica);
+        if (healthy.isEmpty())
+        {
+            if (log.isWarnEnabled()) log.warn("All {} read replicas are ejected, using all of them", replicas.size());
+            healthy = replicas;
+        }
+
+        int start = Math.floorMod(next.getAndIncrement(), healthy.size());
+        if (strategy == Strategy.ROUND_ROBIN) return healthy.get(start);
+
+        Replica selected = healthy.get(start);
+        for (int i = 1; i < healthy.size(); i++)
+        {
+            Replica replica = healthy.get((start + i) % healthy.size());
+            if (replica.getOutstanding() < selected.getOutstanding()) selected = replica;
+        }
+        return selected;
+    }
+
+    public List<Replica> getReplicas()
+    {
+        return replicas;
+    }
+
+    public Strategy getStrategy()
+    {
+        return strategy;
+    }
+
+    /**
+     * Read replica with its request and health statistics.
+     */
+    public class Replica
+    {
+
+        private final SPARQLClient client;
+        private final AtomicInteger outstanding = new AtomicInteger();
+        private int failures = 0;
+        private long ejectedUntil;
+        private boolean ejected = false;
+
+        protected Replica(SPARQLClient client)
+        {
+            if (client == null) throw new IllegalArgumentException("SPARQLClient cannot be null");
+            this.client = client;
+        }
+
+        protected synchronized boolean isHealthy(long now)
+        {
+            return !ejected || now - ejectedUntil >= 0;
+        }
+
+        protected synchronized void recordSuccess()
+        {
+            failures = 0;
+            if (ejected)
+            {
+                if (log.isInfoEnabled()) log.info("Read replica <{}> is healthy again", getClient().getEndpoint().getUri());
+                ejected = false;
+            }
+        }
+
+        protected synchronized void recordFailure()
+        {
+            failures++;
+            if (failures >= failureThreshold)
+            {
+                if (log.isWarnEnabled()) log.warn("Ejecting read replica <{}> after {} consecutive failure(s)", getClient().getEndpoint().getUri(), failures);
+                ejected = true;
+                ejectedUntil = System.nanoTime() + ejectionTime;
+            }
+        }
+
+        public SPARQLClient getClient()
+        {
+            return client;
+        }
+
+        public int getOutstanding()
+        {
+            return outstanding.get();
+        }
+
+        public synchronized boolean isEjected()
+        {
+            return ejected && System.nanoTime() - ejectedUntil < 0;
+        }
+
+    }
+
+}
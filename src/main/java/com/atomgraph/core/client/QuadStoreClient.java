@@ -28,6 +28,7 @@ import jakarta.ws.rs.client.Entity;
 import jakarta.ws.rs.client.WebTarget;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.MultivaluedHashMap;
+import java.util.concurrent.CompletionStage;
 
 /**
  * Quad Store client.
@@ -77,9 +78,17 @@ public class QuadStoreClient extends EndpointClientBase implements DatasetQuadAc
         return this;
     }
     
+    /**
+     * Returns the media type of RDF written to the quad store.
+     * 
+     * @return RDF Thrift if the quad store supports it, N-Quads otherwise
+     * @see #probeBinary()
+     */
     @Override
     public MediaType getDefaultMediaType()
     {
+        if (isBinary()) return com.atomgraph.core.MediaType.APPLICATION_RDF_THRIFT_TYPE;
+        
         return com.atomgraph.core.MediaType.TEXT_NQUADS_TYPE;
     }
     
@@ -92,6 +101,11 @@ public class QuadStoreClient extends EndpointClientBase implements DatasetQuadAc
         }
     }
     
+    public CompletionStage<Dataset> getAsync()
+    {
+        return readEntity(getAsync(getReadableMediaTypes(Dataset.class)), Dataset.class);
+    }
+    
     @Override
     public void add(Dataset dataset)
     {
@@ -0,0 +1,295 @@
+/*
+ * Copyright 2026 Martynas Jusevičius <martynas@atomgraph.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.atomgraph.core.client;
+
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.GenericType;
+import jakarta.ws.rs.core.Link;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.core.NewCookie;
+import jakarta.ws.rs.core.Response;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.Annotation;
+import java.net.URI;
+import java.util.Date;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Client response that runs a callback once it is done with: when it is closed, or when its entity is read, buffered or its entity stream is closed.
+ * All other methods are delegated to the wrapped response.
+ * Used to track the requests that are in progress until their response bodies are consumed, not only until the headers arrive.
+ *
+ * @author Martynas Jusevičius {@literal <martynas@atomgraph.com>}
+ */
+public class ReleasingResponse extends Response
+{
+
+    private final Response response;
+    private final Runnable release;
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    /**
+     * Constructs response.
+     * If the response has no entity, the callback is run straight away.
+     *
+     * @param response wrapped response
+     * @param release callback that is run once
+     */
+    public ReleasingResponse(Response response, Runnable release)
+    {
+        if (response == null) throw new IllegalArgumentException("Response cannot be null");
+        if (release == null) throw new IllegalArgumentException("Runnable cannot be null");
+        this.response = response;
+        this.release = release;
+
+        if (!response.hasEntity()) release();
+    }
+
+    /**
+     * Runs the callback, unless it has already been run.
+     */
+    protected void release()
+    {
+        if (released.compareAndSet(false, true)) release.run();
+    }
+
+    /**
+     * Reads the entity. If it is read as a stream, the callback is run when the stream is closed, otherwise once it is read.
+     *
+     * @param <T> entity type
+     * @param rawType entity class
+     * @param reader entity reader
+     * @return entity
+     */
+    protected <T> T read(Class<?> rawType, Supplier<T> reader)
+    {
+        try
+        {
+            T entity = reader.get();
+            if (InputStream.class.equals(rawType) && entity != null) return (T)new FilterInputStream((InputStream)entity)
+            {
+                @Override
+                public void close() throws IOException
+                {
+                    try
+                    {
+                        super.close();
+                    }
+                    finally
+                    {
+                        release();
+                    }
+                }
+            };
+
+            release();
+            return entity;
+        }
+        catch (RuntimeException ex)
+        {
+            release();
+            throw ex;
+        }
+    }
+
+    @Override
+    public <T> T readEntity(Class<T> entityType)
+    {
+        return read(entityType, () -> getResponse().readEntity(entityType));
+    }
+
+    @Override
+    public <T> T readEntity(GenericType<T> entityType)
+    {
+        return read(entityType.getRawType(), () -> getResponse().readEntity(entityType));
+    }
+
+    @Override
+    public <T> T readEntity(Class<T> entityType, Annotation[] annotations)
+    {
+        return read(entityType, () -> getResponse().readEntity(entityType, annotations));
+    }
+
+    @Override
+    public <T> T readEntity(GenericType<T> entityType, Annotation[] annotations)
+    {
+        return read(entityType.getRawType(), () -> getResponse().readEntity(entityType, annotations));
+    }
+
+    @Override
+    public boolean bufferEntity()
+    {
+        try
+        {
+            return getResponse().bufferEntity();
+        }
+        finally
+        {
+            release(); // the connection is released once the entity is buffered
+        }
+    }
+
+    @Override
+    public void close()
+    {
+        try
+        {
+            getResponse().close();
+        }
+        finally
+        {
+            release();
+        }
+    }
+
+    @Override
+    public int getStatus()
+    {
+        return getResponse().getStatus();
+    }
+
+    @Override
+    public StatusType getStatusInfo()
+    {
+        return getResponse().getStatusInfo();
+    }
+
+    @Override
+    public Object getEntity()
+    {
+        return getResponse().getEntity();
+    }
+
+    @Override
+    public boolean hasEntity()
+    {
+        return getResponse().hasEntity();
+    }
+
+    @Override
+    public MediaType getMediaType()
+    {
+        return getResponse().getMediaType();
+    }
+
+    @Override
+    public Locale getLanguage()
+    {
+        return getResponse().getLanguage();
+    }
+
+    @Override
+    public int getLength()
+    {
+        return getResponse().getLength();
+    }
+
+    @Override
+    public Set<String> getAllowedMethods()
+    {
+        return getResponse().getAllowedMethods();
+    }
+
+    @Override
+    public Map<String, NewCookie> getCookies()
+    {
+        return getResponse().getCookies();
+    }
+
+    @Override
+    public EntityTag getEntityTag()
+    {
+        return getResponse().getEntityTag();
+    }
+
+    @Override
+    public Date getDate()
+    {
+        return getResponse().getDate();
+    }
+
+    @Override
+    public Date getLastModified()
+    {
+        return getResponse().getLastModified();
+    }
+
+    @Override
+    public URI getLocation()
+    {
+        return getResponse().getLocation();
+    }
+
+    @Override
+    public Set<Link> getLinks()
+    {
+        return getResponse().getLinks();
+    }
+
+    @Override
+    public boolean hasLink(String relation)
+    {
+        return getResponse().hasLink(relation);
+    }
+
+    @Override
+    public Link getLink(String relation)
+    {
+        return getResponse().getLink(relation);
+    }
+
+    @Override
+    public Link.Builder getLinkBuilder(String relation)
+    {
+        return getResponse().getLinkBuilder(relation);
+    }
+
+    @Override
+    public MultivaluedMap<String, Object> getMetadata()
+    {
+        return getResponse().getMetadata();
+    }
+
+    @Override
+    public MultivaluedMap<String, String> getStringHeaders()
+    {
+        return getResponse().getStringHeaders();
+    }
+
+    @Override
+    public String getHeaderString(String name)
+    {
+        return getResponse().getHeaderString(name);
+    }
+
+    public Response getResponse()
+    {
+        return response;
+    }
+
+    public boolean isReleased()
+    {
+        return released.get();
+    }
+
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2026 Martynas Jusevičius <martynas@atomgraph.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.atomgraph.core.client;
+
+import com.atomgraph.core.io.CompressingOutputStream;
+import jakarta.annotation.Priority;
+import jakarta.ws.rs.Priorities;
+import jakarta.ws.rs.client.ClientRequestContext;
+import jakarta.ws.rs.client.ClientRequestFilter;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.ext.WriterInterceptor;
+import jakarta.ws.rs.ext.WriterInterceptorContext;
+import java.io.IOException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compresses request entities (e.g. Graph Store <code>PUT</code>/<code>POST</code> bodies) sent to the backend that are larger than a threshold.
+ * Content coding and threshold are read from the {@link #ENCODING} and {@link #THRESHOLD} properties, which can be set on the client, or per backend on its
+ * {@link jakarta.ws.rs.client.WebTarget}.
+ * Requests are sent uncompressed if the encoding property is not set, since the backend has to support decoding of request entities.
+ *
+ * @author Martynas Jusevičius {@literal <martynas@atomgraph.com>}
+ * @see CompressingOutputStream
+ */
+@Priority(Priorities.ENTITY_CODER)
+public class RequestCompressionFilter implements ClientRequestFilter, WriterInterceptor
+{
+
+    private static final Logger log = LoggerFactory.getLogger(RequestCompressionFilter.class);
+
+    /** Property of request content coding: <code>gzip</code> or <code>deflate</code> */
+    public static final String ENCODING = RequestCompressionFilter.class.getName() + ".encoding";
+    /** Property of min request entity size in bytes that is compressed */
+    public static final String THRESHOLD = RequestCompressionFilter.class.getName() + ".threshold";
+    /** Default min request entity size in bytes that is compressed */
+    public static final int DEFAULT_THRESHOLD = 1024;
+
+    @Override
+    public void filter(ClientRequestContext requestContext) throws IOException
+    {
+        if (!requestContext.hasEntity() || requestContext.getHeaders().containsKey(HttpHeaders.CONTENT_ENCODING)) return;
+
+        Object encoding = requestContext.getProperty(ENCODING) != null ? requestContext.getProperty(ENCODING) : requestContext.getConfiguration().getProperty(ENCODING);
+        if (encoding == null) return;
+        if (!CompressingOutputStream.isSupported(encoding.toString())) throw new IllegalArgumentException("Unsupported request content coding: " + encoding);
+
+        Object threshold = requestContext.getProperty(THRESHOLD) != null ? requestContext.getProperty(THRESHOLD) : requestContext.getConfiguration().getProperty(THRESHOLD);
+        // resolved values are passed to the interceptor, which only has access to request properties
+        requestContext.setProperty(ENCODING, encoding.toString());
+        requestContext.setProperty(THRESHOLD, threshold != null ? Integer.valueOf(threshold.toString()) : DEFAULT_THRESHOLD);
+    }
+
+    @Override
+    public void aroundWriteTo(WriterInterceptorContext context) throws IOException
+    {
+        String encoding = (String)context.getProperty(ENCODING);
+        if (encoding == null || context.getHeaders().containsKey(HttpHeaders.CONTENT_ENCODING))
+        {
+            context.proceed();
+            return;
+        }
+
+        int threshold = (Integer)context.getProperty(THRESHOLD);
+        MultivaluedMap<String, Object> headers = context.getHeaders();
+        CompressingOutputStream cos = new CompressingOutputStream(context.getOutputStream(), threshold, encoding, () ->
+        {
+            if (log.isDebugEnabled()) log.debug("Request entity is larger than {} bytes, compressing it using '{}'", threshold, encoding);
+            headers.putSingle(HttpHeaders.CONTENT_ENCODING, encoding);
+            headers.remove(HttpHeaders.CONTENT_LENGTH);
+        });
+        context.setOutputStream(cos);
+        context.proceed();
+        cos.finish();
+    }
+
+}
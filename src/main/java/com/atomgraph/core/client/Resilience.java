@@ -0,0 +1,350 @@
+/*
+ * Copyright 2026 Martynas Jusevičius <martynas@atomgraph.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.atomgraph.core.client;
+
+import jakarta.ws.rs.ProcessingException;
+import jakarta.ws.rs.ServerErrorException;
+import jakarta.ws.rs.ServiceUnavailableException;
+import jakarta.ws.rs.core.Response;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Resilience policy of remote backend calls: retries, hedged requests and circuit breaking.
+ * <ul>
+ *   <li>Idempotent calls that fail with an I/O error or a <code>502</code>/<code>503</code>/<code>504</code> status are retried with exponential backoff and full jitter.</li>
+ *   <li>Idempotent calls that take longer than the given percentile of recent latencies are hedged: a second, identical call is sent and the first response wins.</li>
+ *   <li>Calls fail fast with <code>503 Service Unavailable</code> while the circuit breaker is open.</li>
+ * </ul>
+ * Hedged calls run on an executor owned by the policy, which is shut down by {@link #close()}.
+ *
+ * @author Martynas Jusevičius {@literal <martynas@atomgraph.com>}
+ * @see <a href="https://aws.amazon.com/blogs/architecture/exponential-backoff-and-jitter/">Exponential Backoff And Jitter</a>
+ * @see <a href="https://research.google/pubs/the-tail-at-scale/">The Tail at Scale</a>
+ */
+public class Resilience implements AutoCloseable
+{
+
+    private static final Logger log = LoggerFactory.getLogger(Resilience.class);
+
+    /** Policy without retries, hedging or circuit breaking */
+    public static final Resilience NONE = new Resilience(0, Duration.ZERO, null, null);
+
+    /** Max backoff delay between retries */
+    public static final Duration MAX_RETRY_DELAY = Duration.ofSeconds(10);
+
+    /** Number of most recent latencies the hedging delay is calculated from */
+    public static final int LATENCY_SAMPLES = 128;
+
+    /** Min number of latency samples before requests are hedged */
+    public static final int MIN_LATENCY_SAMPLES = 16;
+
+    private final int maxRetries;
+    private final Duration retryDelay;
+    private final Double hedgePercentile;
+    private final CircuitBreaker circuitBreaker;
+    private final long[] latencies = new long[LATENCY_SAMPLES];
+    private int latencyIndex = 0;
+    private int latencyCount = 0; // capped at LATENCY_SAMPLES
+    private final ExecutorService executor;
+
+    /**
+     * Constructs resilience policy.
+     *
+     * @param maxRetries max number of retries of idempotent calls
+     * @param retryDelay base delay of exponential backoff
+     * @param hedgePercentile latency percentile (0-100) after which idempotent calls are hedged, or null to disable hedging
+     * @param circuitBreaker circuit breaker or null
+     */
+    public Resilience(int maxRetries, Duration retryDelay, Double hedgePercentile, CircuitBreaker circuitBreaker)
+    {
+        if (maxRetries < 0) throw new IllegalArgumentException("Max retries cannot be negative");
+        if (retryDelay == null) throw new IllegalArgumentException("Duration cannot be null");
+        if (hedgePercentile != null && (hedgePercentile <= 0 || hedgePercentile >= 100)) throw new IllegalArgumentException("Hedge percentile must be between 0 and 100");
+
+        this.maxRetries = maxRetries;
+        this.retryDelay = retryDelay;
+        this.hedgePercentile = hedgePercentile;
+        this.circuitBreaker = circuitBreaker;
+        this.executor = hedgePercentile != null ? Executors.newVirtualThreadPerTaskExecutor() : null;
+    }
+
+    /**
+     * Executes backend call.
+     * Non-idempotent calls (e.g. SPARQL updates) are never retried or hedged.
+     *
+     * @param <T> result type
+     * @param call backend call
+     * @param idempotent true if the call can be safely repeated
+     * @return call result
+     * @throws ServiceUnavailableException if the circuit breaker is open
+     */
+    public <T> T execute(Supplier<T> call, boolean idempotent)
+    {
+        if (call == null) throw new IllegalArgumentException("Supplier cannot be null");
+
+        int attempt = 0;
+        while (true)
+        {
+            if (getCircuitBreaker() != null && !getCircuitBreaker().allowRequest())
+                throw new ServiceUnavailableException(Math.max(1, getCircuitBreaker().getRemainingOpenTime().toSeconds()));
+
+            boolean retry = idempotent && attempt < getMaxRetries();
+            try
+            {
+                Long hedgeDelay = idempotent ? getHedgeDelay() : null;
+                long start = System.nanoTime();
+                T result = hedgeDelay != null ? hedge(call, hedgeDelay) : call.get();
+
+                if (result instanceof Response response && isRetryable(response.getStatus()))
+                {
+                    recordFailure();
+                    if (!retry) return result;
+
+                    if (log.isDebugEnabled()) log.debug("Backend responded with status {}, retrying", response.getStatus());
+                    response.close();
+                }
+                else
+                {
+                    recordSuccess(System.nanoTime() - start);
+                    return result;
+                }
+            }
+            catch (ProcessingException | ServerErrorException ex)
+            {
+                if (ex instanceof ServerErrorException serverEx && !isRetryable(serverEx.getResponse().getStatus()))
+                {
+                    recordSuccess(-1); // backend is up
+                    throw ex;
+                }
+
+                recordFailure();
+                if (!retry) throw ex;
+
+                if (log.isDebugEnabled()) log.debug("Backend call failed, retrying", ex);
+            }
+            catch (RuntimeException ex)
+            {
+                recordSuccess(-1); // e.g. client errors: backend is up
+                throw ex;
+            }
+
+            backoff(attempt++);
+        }
+    }
+
+    /**
+     * Executes backend call that has no result.
+     *
+     * @param call backend call
+     * @param idempotent true if the call can be safely repeated
+     * @see #execute(Supplier, boolean)
+     */
+    public void run(Runnable call, boolean idempotent)
+    {
+        if (call == null) throw new IllegalArgumentException("Runnable cannot be null");
+
+        execute(() ->
+        {
+            call.run();
+            return null;
+        }, idempotent);
+    }
+
+    /**
+     * Executes the call and, if it has not completed after the delay, a second identical call.
+     * Returns the result that completes first; the other one is closed once it completes.
+     *
+     * @param <T> result type
+     * @param call backend call
+     * @param delay hedging delay in nanoseconds
+     * @return call result
+     */
+    protected <T> T hedge(Supplier<T> call, long delay)
+    {
+        CompletableFuture<T> primary = CompletableFuture.supplyAsync(call, executor);
+        try
+        {
+            return primary.get(delay, TimeUnit.NANOSECONDS);
+        }
+        catch (TimeoutException ex)
+        {
+            if (log.isDebugEnabled()) log.debug("Backend call slower than {} ms, sending hedged request", TimeUnit.NANOSECONDS.toMillis(delay));
+            CompletableFuture<T> hedged = CompletableFuture.supplyAsync(call, executor);
+            CompletableFuture<T> winner = new CompletableFuture<>();
+            primary.whenComplete((result, error) -> complete(winner, result, error, hedged));
+            hedged.whenComplete((result, error) -> complete(winner, result, error, primary));
+            return join(winner);
+        }
+        catch (ExecutionException ex)
+        {
+            throw unwrap(ex.getCause());
+        }
+        catch (InterruptedException ex)
+        {
+            Thread.currentThread().interrupt();
+            primary.thenAccept(Resilience::close);
+            throw new ProcessingException(ex);
+        }
+    }
+
+    private static <T> void complete(CompletableFuture<T> winner, T result, Throwable error, CompletableFuture<T> other)
+    {
+        if (error == null)
+        {
+            if (!winner.complete(result)) close(result); // lost the race
+        }
+        else if (other.isCompletedExceptionally()) winner.completeExceptionally(error); // both failed
+    }
+
+    private static <T> T join(CompletableFuture<T> future)
+    {
+        try
+        {
+            return future.join();
+        }
+        catch (CompletionException ex)
+        {
+            throw unwrap(ex.getCause());
+        }
+    }
+
+    private static RuntimeException unwrap(Throwable cause)
+    {
+        if (cause instanceof RuntimeException runtimeEx) return runtimeEx;
+        return new ProcessingException(cause);
+    }
+
+    private static void close(Object result)
+    {
+        if (result instanceof Response response) response.close();
+    }
+
+    /**
+     * Sleeps before the next attempt.
+     * The delay is a random value between zero and the exponentially growing backoff ("full jitter").
+     *
+     * @param attempt number of the failed attempt, starting with 0
+     */
+    protected void backoff(int attempt)
+    {
+        long cap = Math.min(MAX_RETRY_DELAY.toMillis(), getRetryDelay().toMillis() << Math.min(attempt, 20));
+        if (cap <= 0) return;
+
+        try
+        {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(cap + 1));
+        }
+        catch (InterruptedException ex)
+        {
+            Thread.currentThread().interrupt();
+            throw new ProcessingException(ex);
+        }
+    }
+
+    /**
+     * Returns true if the response status indicates a transient backend failure.
+     *
+     * @param status HTTP status code
+     * @return true if retryable
+     */
+    public static boolean isRetryable(int status)
+    {
+        return status == Response.Status.BAD_GATEWAY.getStatusCode() ||
+            status == Response.Status.SERVICE_UNAVAILABLE.getStatusCode() ||
+            status == Response.Status.GATEWAY_TIMEOUT.getStatusCode();
+    }
+
+    protected void recordSuccess(long latency)
+    {
+        if (getCircuitBreaker() != null) getCircuitBreaker().recordSuccess();
+
+        if (latency >= 0 && hedgePercentile != null)
+            synchronized (latencies)
+            {
+                latencies[latencyIndex] = latency;
+                latencyIndex = (latencyIndex + 1) % LATENCY_SAMPLES;
+                if (latencyCount < LATENCY_SAMPLES) latencyCount++;
+            }
+    }
+
+    protected void recordFailure()
+    {
+        if (getCircuitBreaker() != null) getCircuitBreaker().recordFailure();
+    }
+
+    /**
+     * Returns the hedging delay: the configured percentile of recent call latencies.
+     *
+     * @return delay in nanoseconds, or null if hedging is disabled, the policy is closed or there are not enough samples yet
+     */
+    public Long getHedgeDelay()
+    {
+        if (hedgePercentile == null || executor.isShutdown()) return null;
+
+        long[] samples;
+        synchronized (latencies)
+        {
+            if (latencyCount < MIN_LATENCY_SAMPLES) return null;
+            samples = Arrays.copyOf(latencies, latencyCount);
+        }
+
+        Arrays.sort(samples);
+        return samples[(int)Math.ceil(hedgePercentile / 100 * samples.length) - 1];
+    }
+
+    /**
+     * Shuts down the executor of hedged calls. Calls made afterwards are not hedged.
+     * Hedged calls that are in progress are allowed to complete.
+     */
+    @Override
+    public void close()
+    {
+        if (executor != null) executor.shutdown();
+    }
+
+    public int getMaxRetries()
+    {
+        return maxRetries;
+    }
+
+    public Duration getRetryDelay()
+    {
+        return retryDelay;
+    }
+
+    public Double getHedgePercentile()
+    {
+        return hedgePercentile;
+    }
+
+    public CircuitBreaker getCircuitBreaker()
+    {
+        return circuitBreaker;
+    }
+
+}
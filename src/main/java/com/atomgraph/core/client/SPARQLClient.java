@@ -18,20 +18,31 @@ package com.atomgraph.core.client;
 import com.atomgraph.core.MediaTypes;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import jakarta.ws.rs.ServerErrorException;
 import jakarta.ws.rs.client.ClientRequestFilter;
 import jakarta.ws.rs.client.Entity;
+import jakarta.ws.rs.client.Invocation;
 import jakarta.ws.rs.client.WebTarget;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.MultivaluedHashMap;
 import jakarta.ws.rs.core.MultivaluedMap;
 import jakarta.ws.rs.core.Response;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import org.apache.jena.graph.NodeFactory;
 import org.apache.jena.query.Dataset;
 import org.apache.jena.query.Query;
+import org.apache.jena.query.QueryFactory;
 import org.apache.jena.query.ResultSet;
 import org.apache.jena.query.ResultSetRewindable;
+import org.apache.jena.query.Syntax;
 import org.apache.jena.rdf.model.Model;
-import org.apache.jena.riot.resultset.ResultSetLang;
+import org.apache.jena.riot.out.NodeFmtLib;
+import org.apache.jena.riot.Lang;
+import org.apache.jena.riot.resultset.ResultSetReaderRegistry;
 import org.apache.jena.sparql.resultset.ResultsReader;
 import org.apache.jena.update.UpdateRequest;
 import org.slf4j.Logger;
@@ -50,13 +61,19 @@ public class SPARQLClient extends EndpointClientBase
     
     public static final String QUERY_PARAM_NAME = "query";
     public static final String UPDATE_PARAM_NAME = "update";
+    /** Endpoint property which, if <code>true</code>, makes queries POSTed directly as <code>application/sparql-query</code> instead of URL-encoded forms */
+    public static final String DIRECT_POST = SPARQLClient.class.getName() + ".directPost";
 
     private final int maxGetRequestSize;
+    private final int endpointURILength;
+    private volatile int getRequestLimit;
 
     protected SPARQLClient(MediaTypes mediaTypes, WebTarget endpoint, int maxGetRequestSize)
     {
         super(mediaTypes, endpoint);
         this.maxGetRequestSize = maxGetRequestSize;
+        this.endpointURILength = endpoint.getUri().toString().length();
+        this.getRequestLimit = maxGetRequestSize;
     }
 
     protected SPARQLClient(MediaTypes mediaTypes, WebTarget endpoint)
@@ -102,9 +119,59 @@ public class SPARQLClient extends EndpointClientBase
         return this;
     }
     
+    /**
+     * Calculates the length of the <code>GET</code> request URL with the given parameters, without building it.
+     * Parameter names and values are percent-encoded the same way as in {@link #applyParams(jakarta.ws.rs.client.WebTarget, jakarta.ws.rs.core.MultivaluedMap)}.
+     * 
+     * @param params request parameters
+     * @return URL length
+     */
     public int getQueryURLLength(MultivaluedMap<String, String> params)
-    {        
-        return applyParams(params).getUri().toString().length();
+    {
+        int length = endpointURILength;
+        
+        if (params != null)
+            for (Map.Entry<String, List<String>> entry : params.entrySet())
+            {
+                int nameLength = getEncodedLength(entry.getKey());
+                for (String value : entry.getValue())
+                    length += 1 + nameLength + 1 + getEncodedLength(value); // '?' or '&', name, '=', value
+            }
+        
+        return length;
+    }
+    
+    /**
+     * Calculates the length of a string percent-encoded as URI component, in which only unreserved characters are not encoded.
+     * 
+     * @param value string value
+     * @return encoded length
+     * @see <a href="https://www.rfc-editor.org/rfc/rfc3986#section-2.3">Unreserved Characters</a>
+     */
+    public static int getEncodedLength(String value)
+    {
+        int length = 0;
+        
+        for (int i = 0; i < value.length(); i++)
+        {
+            char c = value.charAt(i);
+            if (c < 0x80) length += isUnreserved(c) ? 1 : 3;
+            else if (c < 0x800) length += 2 * 3;
+            else if (Character.isHighSurrogate(c) && i + 1 < value.length() && Character.isLowSurrogate(value.charAt(i + 1)))
+            {
+                length += 4 * 3;
+                i++;
+            }
+            else length += 3 * 3;
+        }
+        
+        return length;
+    }
+    
+    private static boolean isUnreserved(char c)
+    {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') ||
+            c == '-' || c == '.' || c == '_' || c == '~';
     }
 
     public Response query(Query query, Class clazz)
@@ -119,6 +186,57 @@ public class SPARQLClient extends EndpointClientBase
     
     public Response query(Query query, Class clazz, MultivaluedMap<String, String> params, MultivaluedMap<String, Object> headers)
     {
+        return query(query, getReadableMediaTypes(clazz), params, headers);
+    }
+    
+    /**
+     * Executes SPARQL query and requests the response in one of the given media types.
+     * 
+     * @param query SPARQL query
+     * @param acceptedTypes accepted media types
+     * @param params request parameters
+     * @param headers request headers
+     * @return response
+     */
+    public Response query(Query query, jakarta.ws.rs.core.MediaType[] acceptedTypes, MultivaluedMap<String, String> params, MultivaluedMap<String, Object> headers)
+    {
+        if (acceptedTypes == null) throw new IllegalArgumentException("MediaType[] cannot be null");
+        if (params == null) throw new IllegalArgumentException("MultivaluedMap<String, String> params cannot be null");
+        if (headers == null) throw new IllegalArgumentException("MultivaluedMap<String, Object> headers cannot be null");
+        
+        MultivaluedMap<String, String> mergedParams = new MultivaluedHashMap();
+        mergedParams.putAll(params);
+        mergedParams.putSingle(QUERY_PARAM_NAME, query.toString());
+        
+        int length = getQueryURLLength(mergedParams);
+        if (length > getGetRequestLimit())
+            return getQueryPostBuilder(acceptedTypes, params, headers).post(getQueryPostEntity(query, mergedParams));
+        
+        Response cr = applyHeaders(applyParams(mergedParams).request(acceptedTypes), headers).get();
+        if (cr.getStatus() != Response.Status.REQUEST_URI_TOO_LONG.getStatusCode()) return cr;
+        
+        cr.close();
+        rejected(length);
+        return getQueryPostBuilder(acceptedTypes, params, headers).post(getQueryPostEntity(query, mergedParams));
+    }
+    
+    public CompletionStage<Response> queryAsync(Query query, Class clazz)
+    {
+        return queryAsync(query, getReadableMediaTypes(clazz), new MultivaluedHashMap(), new MultivaluedHashMap());
+    }
+    
+    /**
+     * Executes SPARQL query asynchronously and requests the response in one of the given media types.
+     * 
+     * @param query SPARQL query
+     * @param acceptedTypes accepted media types
+     * @param params request parameters
+     * @param headers request headers
+     * @return response stage
+     */
+    public CompletionStage<Response> queryAsync(Query query, jakarta.ws.rs.core.MediaType[] acceptedTypes, MultivaluedMap<String, String> params, MultivaluedMap<String, Object> headers)
+    {
+        if (acceptedTypes == null) throw new IllegalArgumentException("MediaType[] cannot be null");
         if (params == null) throw new IllegalArgumentException("MultivaluedMap<String, String> params cannot be null");
         if (headers == null) throw new IllegalArgumentException("MultivaluedMap<String, Object> headers cannot be null");
         
@@ -126,10 +244,64 @@ public class SPARQLClient extends EndpointClientBase
         mergedParams.putAll(params);
         mergedParams.putSingle(QUERY_PARAM_NAME, query.toString());
         
-        if (getQueryURLLength(params) > getMaxGetRequestSize())
-            return applyHeaders(getEndpoint().request(getReadableMediaTypes(clazz)), headers).post(Entity.form(mergedParams));
-        else
-            return applyHeaders(applyParams(mergedParams).request(getReadableMediaTypes(clazz)), headers).get();
+        int length = getQueryURLLength(mergedParams);
+        if (length > getGetRequestLimit())
+            return getQueryPostBuilder(acceptedTypes, params, headers).rx().post(getQueryPostEntity(query, mergedParams));
+        
+        return applyHeaders(applyParams(mergedParams).request(acceptedTypes), headers).rx().get().thenCompose(cr ->
+        {
+            if (cr.getStatus() != Response.Status.REQUEST_URI_TOO_LONG.getStatusCode()) return CompletableFuture.completedFuture(cr);
+
+            cr.close();
+            rejected(length);
+            return getQueryPostBuilder(acceptedTypes, params, headers).rx().post(getQueryPostEntity(query, mergedParams));
+        });
+    }
+    
+    /**
+     * Returns request builder of a <code>POST</code> query.
+     * Parameters are sent in the URL if the query is POSTed directly, otherwise they are part of the form.
+     * 
+     * @param acceptedTypes accepted media types
+     * @param params request parameters, without the query
+     * @param headers request headers
+     * @return request builder
+     */
+    protected Invocation.Builder getQueryPostBuilder(jakarta.ws.rs.core.MediaType[] acceptedTypes, MultivaluedMap<String, String> params, MultivaluedMap<String, Object> headers)
+    {
+        if (isDirectPost()) return applyHeaders(applyParams(params).request(acceptedTypes), headers);
+        
+        return applyHeaders(getEndpoint().request(acceptedTypes), headers);
+    }
+    
+    /**
+     * Returns entity of a <code>POST</code> query.
+     * 
+     * @param query SPARQL query
+     * @param mergedParams request parameters, including the query
+     * @return <code>application/sparql-query</code> entity if the query is POSTed directly, otherwise form entity
+     */
+    protected Entity<?> getQueryPostEntity(Query query, MultivaluedMap<String, String> mergedParams)
+    {
+        if (isDirectPost()) return Entity.entity(query.toString(), com.atomgraph.core.MediaType.APPLICATION_SPARQL_QUERY_TYPE);
+        
+        return Entity.form(mergedParams);
+    }
+    
+    /**
+     * Records that the endpoint (or a proxy in front of it) rejected a <code>GET</code> request URL of the given length.
+     * Queries with URLs that long or longer are POSTed from now on, without a rejected attempt.
+     * <code>GET</code> is otherwise preferred, since its responses can be cached upstream.
+     * 
+     * @param length rejected URL length
+     */
+    protected void rejected(int length)
+    {
+        if (length - 1 < getRequestLimit)
+        {
+            if (log.isWarnEnabled()) log.warn("SPARQL endpoint <{}> rejected GET request URL of length {}, POSTing longer queries", getEndpoint().getUri(), length);
+            getRequestLimit = length - 1;
+        }
     }
     
     public Model loadModel(Query query)
@@ -148,6 +320,35 @@ public class SPARQLClient extends EndpointClientBase
         }
     }
     
+    /**
+     * Retrieves multiple named graphs using a single <code>CONSTRUCT</code> query with a quad template.
+     * Quad templates are an ARQ extension of SPARQL 1.1, therefore only backends that support them can be used (e.g. Apache Jena Fuseki).
+     * Graphs that do not exist are omitted from the result.
+     * 
+     * @param graphUris graph URIs
+     * @return dataset with the named graphs
+     */
+    public Dataset loadGraphs(Collection<String> graphUris)
+    {
+        return loadDataset(getGraphsQuery(graphUris));
+    }
+
+    /**
+     * Builds query that constructs the given named graphs.
+     * 
+     * @param graphUris graph URIs
+     * @return <code>CONSTRUCT</code> query
+     */
+    public static Query getGraphsQuery(Collection<String> graphUris)
+    {
+        if (graphUris == null) throw new IllegalArgumentException("Collection<String> cannot be null");
+        
+        StringBuilder values = new StringBuilder();
+        for (String graphUri : graphUris) values.append(NodeFmtLib.strNT(NodeFactory.createURI(graphUri))).append(' ');
+        
+        return QueryFactory.create("CONSTRUCT { GRAPH ?g { ?s ?p ?o } } WHERE { VALUES ?g { " + values + "} GRAPH ?g { ?s ?p ?o } }", Syntax.syntaxARQ);
+    }
+    
     public ResultSetRewindable select(Query query)
     {
         try (Response cr = query(query, ResultSet.class))
@@ -158,7 +359,7 @@ public class SPARQLClient extends EndpointClientBase
 
     public boolean ask(Query query)
     {
-        try (Response cr = query(query, ResultSet.class))
+        try (Response cr = query(query, getAskMediaTypes(), new MultivaluedHashMap(), new MultivaluedHashMap()))
         {
             try
             {
@@ -172,18 +373,87 @@ public class SPARQLClient extends EndpointClientBase
         }
     }
 
+    public CompletionStage<Model> loadModelAsync(Query query)
+    {
+        return readEntity(queryAsync(query, Model.class), Model.class);
+    }
+
+    public CompletionStage<Dataset> loadDatasetAsync(Query query)
+    {
+        return readEntity(queryAsync(query, Dataset.class), Dataset.class);
+    }
+    
+    public CompletionStage<ResultSetRewindable> selectAsync(Query query)
+    {
+        return readEntity(queryAsync(query, ResultSet.class), ResultSetRewindable.class);
+    }
+    
+    public CompletionStage<Boolean> askAsync(Query query)
+    {
+        return queryAsync(query, getAskMediaTypes(), new MultivaluedHashMap(), new MultivaluedHashMap()).thenApply(cr ->
+        {
+            try (cr)
+            {
+                return parseBoolean(cr);
+            }
+            catch (IOException ex)
+            {
+                if (log.isErrorEnabled()) log.error("Could not parse ASK result: {}", ex);
+                throw new ServerErrorException(cr, ex);
+            }
+        });
+    }
+    
+    /**
+     * Returns the media types in which <code>ASK</code> results are requested.
+     * Only readable SPARQL results formats that can carry boolean results are included: SPARQL-Results-Thrift and SPARQL-Results-Protobuf
+     * are preferred for <code>SELECT</code> results, but have no boolean encoding.
+     * 
+     * @return media types
+     */
+    public MediaType[] getAskMediaTypes()
+    {
+        return getMediaTypes().getReadable(ResultSet.class).stream().
+            filter(mediaType -> mediaType.isCompatible(com.atomgraph.core.MediaType.APPLICATION_SPARQL_RESULTS_JSON_TYPE) ||
+                mediaType.isCompatible(com.atomgraph.core.MediaType.APPLICATION_SPARQL_RESULTS_XML_TYPE)).
+            toArray(MediaType[]::new);
+    }
+    
+    /**
+     * Parses boolean result of an <code>ASK</code> query from a response in any registered SPARQL results format.
+     * 
+     * @param cr response
+     * @return boolean result
+     * @throws IOException I/O error
+     */
     public static boolean parseBoolean(Response cr) throws IOException
     {
         try (InputStream is = cr.readEntity(InputStream.class))
         {
-            if (cr.getMediaType().isCompatible(com.atomgraph.core.MediaType.APPLICATION_SPARQL_RESULTS_JSON_TYPE))
-                return ResultsReader.create().lang(ResultSetLang.RS_JSON).build().readAny(is).getBooleanResult();
+            Lang lang = cr.getMediaType() != null ? getResultSetLang(cr.getMediaType()) : null;
+            if (lang == null) throw new IllegalStateException("Unsupported ResultSet format");
             
-            if (cr.getMediaType().isCompatible(com.atomgraph.core.MediaType.APPLICATION_SPARQL_RESULTS_XML_TYPE))
-                return ResultsReader.create().lang(ResultSetLang.RS_XML).build().readAny(is).getBooleanResult();
-
-            throw new IllegalStateException("Unsupported ResultSet format");
+            return ResultsReader.create().lang(lang).build().readAny(is).getBooleanResult();
+        }
+    }
+    
+    /**
+     * Returns the SPARQL results format with a registered reader for the given media type.
+     * 
+     * @param mediaType media type
+     * @return result set language or null if there is none
+     */
+    public static Lang getResultSetLang(MediaType mediaType)
+    {
+        String contentType = mediaType.getType() + "/" + mediaType.getSubtype();
+        for (Lang lang : ResultSetReaderRegistry.registered())
+        {
+            if (lang.getContentType().getContentTypeStr().equalsIgnoreCase(contentType)) return lang;
+            for (String altContentType : lang.getAltContentTypes())
+                if (altContentType.equalsIgnoreCase(contentType)) return lang;
         }
+        
+        return null;
     }
 
     /**
@@ -208,6 +478,29 @@ public class SPARQLClient extends EndpointClientBase
     {
         return maxGetRequestSize;
     }
+    
+    /**
+     * Returns max URL length of <code>GET</code> queries.
+     * It is the configured max <code>GET</code> request size, lowered if the endpoint rejected shorter URLs.
+     * 
+     * @return max URL length
+     */
+    public int getGetRequestLimit()
+    {
+        return getRequestLimit;
+    }
+    
+    /**
+     * Returns true if queries are POSTed directly as <code>application/sparql-query</code>.
+     * Configured using the {@link #DIRECT_POST} property of the endpoint.
+     * 
+     * @return true if POSTed directly
+     */
+    public boolean isDirectPost()
+    {
+        Object directPost = getEndpoint().getConfiguration().getProperty(DIRECT_POST);
+        return directPost != null && Boolean.parseBoolean(directPost.toString());
+    }
 
     @Override
     public MediaType getDefaultMediaType()
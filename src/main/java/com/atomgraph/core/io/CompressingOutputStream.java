@@ -0,0 +1,158 @@
+/*
+ * Copyright 2026 Martynas Jusevičius <martynas@atomgraph.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.atomgraph.core.io;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Output stream that compresses the entity only if it is larger than a threshold.
+ * Bytes are buffered until the threshold is exceeded, at which point the content encoding is committed and the compressed entity is streamed.
+ * Smaller entities are written as they are, since compression would not pay off.
+ * Headers can therefore be changed until the threshold is exceeded.
+ *
+ * @author Martynas Jusevičius {@literal <martynas@atomgraph.com>}
+ */
+public class CompressingOutputStream extends OutputStream
+{
+
+    /** <code>gzip</code> content coding */
+    public static final String GZIP = "gzip";
+    /** <code>deflate</code> content coding */
+    public static final String DEFLATE = "deflate";
+
+    private final OutputStream out;
+    private final int threshold;
+    private final String encoding;
+    private final Runnable onEncode;
+    private ByteArrayOutputStream buffer;
+    private OutputStream target;
+    private boolean finished = false;
+
+    /**
+     * Constructs compressing stream.
+     *
+     * @param out underlying stream
+     * @param threshold min entity size in bytes that is compressed
+     * @param encoding content coding: <code>gzip</code> or <code>deflate</code>
+     * @param onEncode callback that sets the <code>Content-Encoding</code> header, called once the entity is known to be compressed
+     */
+    public CompressingOutputStream(OutputStream out, int threshold, String encoding, Runnable onEncode)
+    {
+        if (out == null) throw new IllegalArgumentException("OutputStream cannot be null");
+        if (threshold < 0) throw new IllegalArgumentException("Threshold cannot be negative");
+        if (!isSupported(encoding)) throw new IllegalArgumentException("Unsupported content coding: " + encoding);
+        if (onEncode == null) throw new IllegalArgumentException("Runnable cannot be null");
+
+        this.out = out;
+        this.threshold = threshold;
+        this.encoding = encoding;
+        this.onEncode = onEncode;
+        this.buffer = new ByteArrayOutputStream(Math.min(threshold, 8192));
+    }
+
+    /**
+     * Returns true if content coding is supported.
+     *
+     * @param encoding content coding
+     * @return true if supported
+     */
+    public static boolean isSupported(String encoding)
+    {
+        return GZIP.equals(encoding) || DEFLATE.equals(encoding);
+    }
+
+    @Override
+    public void write(int b) throws IOException
+    {
+        write(new byte[]{ (byte)b }, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException
+    {
+        if (finished) throw new IOException("Stream is finished");
+
+        if (target == null)
+        {
+            if (buffer.size() + len <= threshold)
+            {
+                buffer.write(b, off, len);
+                return;
+            }
+
+            onEncode.run();
+            target = GZIP.equals(encoding) ? new GZIPOutputStream(out, 8192) : new DeflaterOutputStream(out);
+            buffer.writeTo(target);
+            buffer = null;
+        }
+
+        target.write(b, off, len);
+    }
+
+    /**
+     * Flushes the entity only if the content coding has been committed.
+     * Buffered bytes are kept until the threshold is exceeded or the stream is finished.
+     *
+     * @throws IOException I/O error
+     */
+    @Override
+    public void flush() throws IOException
+    {
+        if (target != null) target.flush();
+    }
+
+    /**
+     * Writes the remaining (compressed or buffered) bytes without closing the underlying stream.
+     *
+     * @throws IOException I/O error
+     */
+    public void finish() throws IOException
+    {
+        if (finished) return;
+        finished = true;
+
+        if (target == null)
+        {
+            buffer.writeTo(out);
+            buffer = null;
+        }
+        else if (target instanceof DeflaterOutputStream deflater) deflater.finish();
+
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException
+    {
+        finish();
+        out.close();
+    }
+
+    /**
+     * Returns true if the entity is compressed.
+     *
+     * @return true if content coding has been committed
+     */
+    public boolean isEncoded()
+    {
+        return target != null;
+    }
+
+}
@@ -23,13 +23,15 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import jakarta.ws.rs.WebApplicationException;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.MultivaluedMap;
 import jakarta.ws.rs.ext.MessageBodyReader;
 import jakarta.ws.rs.ext.MessageBodyWriter;
 import jakarta.ws.rs.ext.Provider;
-import org.apache.jena.rdf.model.Model;
+import com.atomgraph.core.riot.lang.ParallelLineParser;
 import org.apache.jena.riot.Lang;
 import org.apache.jena.riot.RDFDataMgr;
 import org.apache.jena.riot.RDFFormat;
@@ -37,6 +39,8 @@ import org.apache.jena.riot.RDFLanguages;
 import org.apache.jena.riot.RDFParserRegistry;
 import org.apache.jena.riot.RDFWriter;
 import org.apache.jena.riot.RDFWriterRegistry;
+import org.apache.jena.riot.system.ErrorHandlerFactory;
+import org.apache.jena.riot.system.StreamRDFLib;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -58,15 +62,66 @@ public class DatasetProvider implements MessageBodyReader<Dataset>, MessageBodyW
 
     public static final String REQUEST_URI_HEADER = "X-Request-URI";
 
+    private final LangResolver langResolver;
+    private final int parallelism;
+    private final Executor executor;
+
+    /**
+     * Constructs provider that resolves media types using the default resolver.
+     * The default resolver is looked up on each use, so that it includes the languages registered after the provider was constructed.
+     */
+    public DatasetProvider()
+    {
+        this(null);
+    }
+    
+    /**
+     * Constructs provider that resolves media types using the given resolver.
+     * 
+     * @param langResolver media type to language resolver, or null to use the default one
+     */
+    public DatasetProvider(LangResolver langResolver)
+    {
+        this(langResolver, 1, null);
+    }
+    
+    /**
+     * Constructs provider that resolves media types using the given resolver and parses line-based RDF syntaxes on the common fork-join pool.
+     * 
+     * @param langResolver media type to language resolver, or null to use the default one
+     * @param parallelism max number of N-Triples/N-Quads chunks parsed at once. 1 disables parallel parsing.
+     * @see com.atomgraph.core.riot.lang.ParallelLineParser
+     */
+    public DatasetProvider(LangResolver langResolver, int parallelism)
+    {
+        this(langResolver, parallelism, ForkJoinPool.commonPool());
+    }
+    
+    /**
+     * Constructs provider that resolves media types using the given resolver and parses line-based RDF syntaxes on multiple threads.
+     * 
+     * @param langResolver media type to language resolver, or null to use the default one
+     * @param parallelism max number of N-Triples/N-Quads chunks parsed at once. 1 disables parallel parsing.
+     * @param executor executor that parses the chunks, or null if parallel parsing is disabled
+     * @see com.atomgraph.core.riot.lang.ParallelLineParser
+     */
+    public DatasetProvider(LangResolver langResolver, int parallelism, Executor executor)
+    {
+        if (parallelism < 1) throw new IllegalArgumentException("Parallelism must be positive");
+        if (parallelism > 1 && executor == null) throw new IllegalArgumentException("Executor cannot be null if parallelism is greater than 1");
+        this.langResolver = langResolver;
+        this.parallelism = parallelism;
+        this.executor = executor;
+    }
+    
     // READER
     
     @Override
     public boolean isReadable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType)
     {
-        MediaType formatType = new MediaType(mediaType.getType(), mediaType.getSubtype()); // discard charset param
-        Lang lang = RDFLanguages.contentTypeToLang(formatType.toString());
+        Lang lang = getLangResolver().resolve(mediaType); // charset param is ignored
         if (lang == null) return false;
-        return type == Model.class && RDFParserRegistry.isRegistered(lang); // can write both quads and triples (default graph)
+        return type == Dataset.class && RDFParserRegistry.isRegistered(lang); // can read both quads and triples (default graph)
     }
 
     @Override
@@ -76,14 +131,15 @@ public class DatasetProvider implements MessageBodyReader<Dataset>, MessageBodyW
 
         Dataset dataset = DatasetFactory.create();
 
-        MediaType formatType = new MediaType(mediaType.getType(), mediaType.getSubtype()); // discard charset param
-        Lang lang = RDFLanguages.contentTypeToLang(formatType.toString()); // cannot be null - isReadable() checks that
+        Lang lang = getLangResolver().resolve(mediaType); // cannot be null - isReadable() checks that
 
         String baseURI = null;
         // attempt to retrieve base URI from a special-purpose header (workaround for JAX-RS 1.x limitation)
         if (httpHeaders.containsKey(REQUEST_URI_HEADER)) baseURI = httpHeaders.getFirst(REQUEST_URI_HEADER);
         
-        RDFDataMgr.read(dataset, entityStream, baseURI, lang);
+        if (getParallelism() > 1 && ParallelLineParser.isSupported(lang))
+            new ParallelLineParser(lang, baseURI, ErrorHandlerFactory.getDefaultErrorHandler(), getParallelism(), getExecutor()).parse(entityStream, StreamRDFLib.dataset(dataset.asDatasetGraph()));
+        else RDFDataMgr.read(dataset, entityStream, baseURI, lang);
         
         return dataset;
     }
@@ -93,10 +149,9 @@ public class DatasetProvider implements MessageBodyReader<Dataset>, MessageBodyW
     @Override
     public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType)
     {
-        MediaType formatType = new MediaType(mediaType.getType(), mediaType.getSubtype()); // discard charset param
-        Lang lang = RDFLanguages.contentTypeToLang(formatType.toString());
+        Lang lang = getLangResolver().resolve(mediaType); // charset param is ignored
         if (lang == null) return false;
-        return Model.class.isAssignableFrom(type) && RDFWriterRegistry.contains(lang); // can write both quads and triples (default graph)
+        return Dataset.class.isAssignableFrom(type) && RDFWriterRegistry.contains(lang); // can write both quads and triples (default graph)
     }
 
     @Override
@@ -110,8 +165,7 @@ public class DatasetProvider implements MessageBodyReader<Dataset>, MessageBodyW
     {
         if (log.isTraceEnabled()) log.trace("Writing Dataset with HTTP headers: {} MediaType: {}", httpHeaders, mediaType);
 
-        MediaType formatType = new MediaType(mediaType.getType(), mediaType.getSubtype()); // discard charset param
-        Lang lang = RDFLanguages.contentTypeToLang(formatType.toString()); // cannot be null - isWritable() checks that
+        Lang lang = getLangResolver().resolve(mediaType); // cannot be null - isWritable() checks that
         
         // if we need to provide triples, then we write only the default graph of the dataset
         if (RDFLanguages.isTriples(lang))
@@ -124,5 +178,32 @@ public class DatasetProvider implements MessageBodyReader<Dataset>, MessageBodyW
         }
         else RDFDataMgr.write(entityStream, dataset, lang);
     }
+
+    /**
+     * Returns the resolver of media types to languages.
+     * 
+     * @return resolver
+     */
+    public LangResolver getLangResolver()
+    {
+        if (langResolver == null) return LangResolver.getDefault();
+        
+        return langResolver;
+    }
+    
+    /**
+     * Returns the max number of chunks of line-based RDF syntaxes that are parsed at once.
+     * 
+     * @return parallelism
+     */
+    public int getParallelism()
+    {
+        return parallelism;
+    }
+    
+    public Executor getExecutor()
+    {
+        return executor;
+    }
     
 }
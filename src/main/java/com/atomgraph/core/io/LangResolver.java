@@ -0,0 +1,165 @@
+/*
+ * Copyright 2026 Martynas Jusevičius <martynas@atomgraph.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.atomgraph.core.io;
+
+import com.atomgraph.core.MediaTypes;
+import jakarta.ws.rs.core.MediaType;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import org.apache.jena.atlas.web.ContentType;
+import org.apache.jena.riot.Lang;
+import org.apache.jena.riot.RDFLanguages;
+import org.apache.jena.riot.resultset.ResultSetReaderRegistry;
+import org.apache.jena.riot.resultset.ResultSetWriterRegistry;
+
+/**
+ * Immutable lookup table that resolves media types to RDF and SPARQL results languages.
+ * It is built once, so that message body providers do not have to build content type strings and query the Jena registry
+ * every time Jersey asks them if they can read or write a media type.
+ * Media type parameters such as <code>charset</code> are ignored.
+ *
+ * @author Martynas Jusevičius {@literal <martynas@atomgraph.com>}
+ * @see org.apache.jena.riot.RDFLanguages#contentTypeToLang(String)
+ */
+public class LangResolver
+{
+
+    private static volatile LangResolver defaultResolver;
+
+    private final Map<String, Map<String, Lang>> langs;
+
+    /**
+     * Constructs resolver from the languages registered in Jena.
+     */
+    public LangResolver()
+    {
+        this(null);
+    }
+
+    /**
+     * Constructs resolver from the languages registered in Jena and the given supported media types.
+     *
+     * @param mediaTypes supported media types, or null
+     */
+    public LangResolver(MediaTypes mediaTypes)
+    {
+        Map<String, Map<String, Lang>> table = new HashMap<>();
+
+        if (mediaTypes != null)
+        {
+            for (List<MediaType> list : mediaTypes.getReadable().values())
+                for (MediaType mediaType : list) add(table, mediaType.getType(), mediaType.getSubtype(), null);
+            for (List<MediaType> list : mediaTypes.getWritable().values())
+                for (MediaType mediaType : list) add(table, mediaType.getType(), mediaType.getSubtype(), null);
+        }
+
+        for (Lang lang : RDFLanguages.getRegisteredLanguages()) add(table, lang);
+        for (Lang lang : ResultSetReaderRegistry.registered()) add(table, lang);
+        for (Lang lang : ResultSetWriterRegistry.registered()) add(table, lang);
+        add(table, com.atomgraph.core.riot.RDFLanguages.RDFPOST); // might not be registered yet
+
+        Map<String, Map<String, Lang>> immutable = new HashMap<>();
+        table.forEach((type, subtypes) -> immutable.put(type, Map.copyOf(subtypes)));
+        this.langs = Map.copyOf(immutable);
+    }
+
+    /**
+     * Returns the resolver of languages registered in Jena.
+     * It is built on first use rather than on class load, and rebuilt by {@link #refreshDefault()}.
+     *
+     * @return shared resolver
+     */
+    public static LangResolver getDefault()
+    {
+        LangResolver resolver = defaultResolver;
+        if (resolver == null)
+        {
+            resolver = new LangResolver(); // racing threads build equal tables
+            defaultResolver = resolver;
+        }
+
+        return resolver;
+    }
+
+    /**
+     * Rebuilds the default resolver from the languages currently registered in Jena.
+     * Should be called after registering languages, since the resolver is immutable.
+     */
+    public static void refreshDefault()
+    {
+        defaultResolver = new LangResolver();
+    }
+
+    private static void add(Map<String, Map<String, Lang>> table, Lang lang)
+    {
+        add(table, lang.getContentType(), lang);
+        for (String altContentType : lang.getAltContentTypes())
+            add(table, ContentType.create(altContentType), lang);
+    }
+
+    private static void add(Map<String, Map<String, Lang>> table, ContentType contentType, Lang lang)
+    {
+        if (contentType != null) add(table, contentType.getType(), contentType.getSubType(), lang);
+    }
+
+    private static void add(Map<String, Map<String, Lang>> table, String type, String subtype, Lang lang)
+    {
+        if (type == null || subtype == null) return;
+
+        type = type.toLowerCase(Locale.ROOT);
+        subtype = subtype.toLowerCase(Locale.ROOT);
+        // the language registered in Jena takes precedence, so that the result is the same as contentTypeToLang()
+        Lang registered = RDFLanguages.contentTypeToLang(type + "/" + subtype);
+        if (registered != null) lang = registered;
+        if (lang != null) table.computeIfAbsent(type, k -> new HashMap<>()).putIfAbsent(subtype, lang);
+    }
+
+    /**
+     * Resolves media type to a language.
+     *
+     * @param mediaType media type
+     * @return language or null if the media type is unknown
+     */
+    public Lang resolve(MediaType mediaType)
+    {
+        if (mediaType == null) return null;
+
+        return resolve(mediaType.getType(), mediaType.getSubtype());
+    }
+
+    /**
+     * Resolves media type to a language.
+     *
+     * @param type media type
+     * @param subtype media subtype
+     * @return language or null if the media type is unknown
+     */
+    public Lang resolve(String type, String subtype)
+    {
+        if (type == null || subtype == null) return null;
+
+        Map<String, Lang> subtypes = langs.get(type);
+        if (subtypes == null) subtypes = langs.get(type.toLowerCase(Locale.ROOT));
+        if (subtypes == null) return null;
+
+        Lang lang = subtypes.get(subtype);
+        if (lang == null) lang = subtypes.get(subtype.toLowerCase(Locale.ROOT));
+        return lang;
+    }
+
+}
@@ -24,12 +24,15 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.MultivaluedMap;
 import jakarta.ws.rs.core.UriInfo;
 import jakarta.ws.rs.ext.MessageBodyReader;
 import jakarta.ws.rs.ext.MessageBodyWriter;
 import jakarta.ws.rs.ext.Provider;
+import com.atomgraph.core.riot.lang.ParallelLineParser;
 import org.apache.jena.riot.Lang;
 import org.apache.jena.riot.RDFFormat;
 import org.apache.jena.riot.RDFLanguages;
@@ -62,13 +65,64 @@ public class ModelProvider implements MessageBodyReader<Model>, MessageBodyWrite
     
     @Context UriInfo uriInfo;
     
+    private final LangResolver langResolver;
+    private final int parallelism;
+    private final Executor executor;
+
+    /**
+     * Constructs provider that resolves media types using the default resolver.
+     * The default resolver is looked up on each use, so that it includes the languages registered after the provider was constructed.
+     */
+    public ModelProvider()
+    {
+        this(null);
+    }
+    
+    /**
+     * Constructs provider that resolves media types using the given resolver.
+     * 
+     * @param langResolver media type to language resolver, or null to use the default one
+     */
+    public ModelProvider(LangResolver langResolver)
+    {
+        this(langResolver, 1, null);
+    }
+    
+    /**
+     * Constructs provider that resolves media types using the given resolver and parses line-based RDF syntaxes on the common fork-join pool.
+     * 
+     * @param langResolver media type to language resolver, or null to use the default one
+     * @param parallelism max number of N-Triples chunks parsed at once. 1 disables parallel parsing.
+     * @see com.atomgraph.core.riot.lang.ParallelLineParser
+     */
+    public ModelProvider(LangResolver langResolver, int parallelism)
+    {
+        this(langResolver, parallelism, ForkJoinPool.commonPool());
+    }
+    
+    /**
+     * Constructs provider that resolves media types using the given resolver and parses line-based RDF syntaxes on multiple threads.
+     * 
+     * @param langResolver media type to language resolver, or null to use the default one
+     * @param parallelism max number of N-Triples chunks parsed at once. 1 disables parallel parsing.
+     * @param executor executor that parses the chunks, or null if parallel parsing is disabled
+     * @see com.atomgraph.core.riot.lang.ParallelLineParser
+     */
+    public ModelProvider(LangResolver langResolver, int parallelism, Executor executor)
+    {
+        if (parallelism < 1) throw new IllegalArgumentException("Parallelism must be positive");
+        if (parallelism > 1 && executor == null) throw new IllegalArgumentException("Executor cannot be null if parallelism is greater than 1");
+        this.langResolver = langResolver;
+        this.parallelism = parallelism;
+        this.executor = executor;
+    }
+    
     // READER
     
     @Override
     public boolean isReadable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType)
     {
-        MediaType formatType = new MediaType(mediaType.getType(), mediaType.getSubtype()); // discard charset param
-        Lang lang = RDFLanguages.contentTypeToLang(formatType.toString());
+        Lang lang = getLangResolver().resolve(mediaType); // charset param is ignored
         if (lang == null) return false;
         return type == Model.class && RDFParserRegistry.isRegistered(lang) && RDFLanguages.isTriples(lang);
     }
@@ -80,8 +134,7 @@ public class ModelProvider implements MessageBodyReader<Model>, MessageBodyWrite
         
         Model model = ModelFactory.createDefaultModel();
 
-        MediaType formatType = new MediaType(mediaType.getType(), mediaType.getSubtype()); // discard charset param
-        Lang lang = RDFLanguages.contentTypeToLang(formatType.toString()); // cannot be null - isReadable() checks that
+        Lang lang = getLangResolver().resolve(mediaType); // cannot be null - isReadable() checks that
         if (log.isDebugEnabled()) log.debug("RDF language used to read Model: {}", lang);
         
         String baseURI = null;
@@ -104,6 +157,12 @@ public class ModelProvider implements MessageBodyReader<Model>, MessageBodyWrite
         if (is == null) throw new IllegalArgumentException("InputStream must be not null");
         if (lang == null) throw new IllegalArgumentException("Lang must be not null");
 
+        if (getParallelism() > 1 && ParallelLineParser.isSupported(lang))
+        {
+            new ParallelLineParser(lang, baseURI, errorHandler, getParallelism(), getExecutor()).parse(is, StreamRDFLib.graph(model.getGraph()));
+            return model;
+        }
+
         RDFParser parser = RDFParser.create().
             lang(lang).
             errorHandler(errorHandler).
@@ -122,8 +181,7 @@ public class ModelProvider implements MessageBodyReader<Model>, MessageBodyWrite
     @Override
     public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType)
     {
-        MediaType formatType = new MediaType(mediaType.getType(), mediaType.getSubtype()); // discard charset param
-        Lang lang = RDFLanguages.contentTypeToLang(formatType.toString());
+        Lang lang = getLangResolver().resolve(mediaType); // charset param is ignored
         if (lang == null) return false;
         return Model.class.isAssignableFrom(type) && RDFWriterRegistry.contains(lang) && RDFLanguages.isTriples(lang);
     }
@@ -139,8 +197,7 @@ public class ModelProvider implements MessageBodyReader<Model>, MessageBodyWrite
     {
         if (log.isTraceEnabled()) log.trace("Writing Model with HTTP headers: {} MediaType: {}", httpHeaders, mediaType);
 
-        MediaType formatType = new MediaType(mediaType.getType(), mediaType.getSubtype()); // discard charset param
-        Lang lang = RDFLanguages.contentTypeToLang(formatType.toString()); // cannot be null - isWritable() checks that
+        Lang lang = getLangResolver().resolve(mediaType); // cannot be null - isWritable() checks that
         if (log.isDebugEnabled()) log.debug("RDF language used to read Model: {}", lang);
         
         String baseURI = null;
@@ -173,4 +230,31 @@ public class ModelProvider implements MessageBodyReader<Model>, MessageBodyWrite
         return uriInfo;
     }
     
+    /**
+     * Returns the resolver of media types to languages.
+     * 
+     * @return resolver
+     */
+    public LangResolver getLangResolver()
+    {
+        if (langResolver == null) return LangResolver.getDefault();
+        
+        return langResolver;
+    }
+    
+    /**
+     * Returns the max number of chunks of line-based RDF syntaxes that are parsed at once.
+     * 
+     * @return parallelism
+     */
+    public int getParallelism()
+    {
+        return parallelism;
+    }
+    
+    public Executor getExecutor()
+    {
+        return executor;
+    }
+    
 }
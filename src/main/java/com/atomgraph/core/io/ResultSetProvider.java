@@ -30,7 +30,6 @@ import jakarta.ws.rs.ext.MessageBodyReader;
 import jakarta.ws.rs.ext.MessageBodyWriter;
 import jakarta.ws.rs.ext.Provider;
 import org.apache.jena.riot.Lang;
-import org.apache.jena.riot.RDFLanguages;
 import org.apache.jena.riot.ResultSetMgr;
 import org.apache.jena.riot.resultset.ResultSetReaderRegistry;
 import org.apache.jena.riot.resultset.ResultSetWriterRegistry;
@@ -52,11 +51,31 @@ public class ResultSetProvider implements MessageBodyReader<ResultSetRewindable>
 {
     private static final Logger log = LoggerFactory.getLogger(ResultSetProvider.class);
     
+    private final LangResolver langResolver;
+
+    /**
+     * Constructs provider that resolves media types using the default resolver.
+     * The default resolver is looked up on each use, so that it includes the languages registered after the provider was constructed.
+     */
+    public ResultSetProvider()
+    {
+        this(null);
+    }
+    
+    /**
+     * Constructs provider that resolves media types using the given resolver.
+     * 
+     * @param langResolver media type to language resolver, or null to use the default one
+     */
+    public ResultSetProvider(LangResolver langResolver)
+    {
+        this.langResolver = langResolver;
+    }
+    
     @Override
     public boolean isReadable(Class<?> type, Type type1, Annotation[] antns, jakarta.ws.rs.core.MediaType mediaType)
     {
-        MediaType formatType = new MediaType(mediaType.getType(), mediaType.getSubtype()); // discard charset param
-        Lang lang = RDFLanguages.contentTypeToLang(formatType.toString());
+        Lang lang = getLangResolver().resolve(mediaType); // charset param is ignored
         if (lang == null) return false;
         return type == ResultSetRewindable.class && ResultSetReaderRegistry.isRegistered(lang);
     }
@@ -66,8 +85,7 @@ public class ResultSetProvider implements MessageBodyReader<ResultSetRewindable>
     {
         if (log.isTraceEnabled()) log.trace("Reading ResultSet with HTTP headers: {} MediaType: {}", httpHeaders, mediaType);
         
-        MediaType formatType = new MediaType(mediaType.getType(), mediaType.getSubtype()); // discard charset param
-        Lang lang = RDFLanguages.contentTypeToLang(formatType.toString()); // cannot be null - isReadable() checks that
+        Lang lang = getLangResolver().resolve(mediaType); // cannot be null - isReadable() checks that
         if (log.isDebugEnabled()) log.debug("RDF language used to read ResultSet: {}", lang);
 
         // result set needs to be rewindable because results might be processed multiple times, e.g. to calculate hash and write response
@@ -77,8 +95,7 @@ public class ResultSetProvider implements MessageBodyReader<ResultSetRewindable>
     @Override
     public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType)
     {
-        MediaType formatType = new MediaType(mediaType.getType(), mediaType.getSubtype()); // discard charset param
-        Lang lang = RDFLanguages.contentTypeToLang(formatType.toString());
+        Lang lang = getLangResolver().resolve(mediaType); // charset param is ignored
         if (lang == null) return false;
         return ResultSet.class.isAssignableFrom(type) && ResultSetWriterRegistry.isRegistered(lang);
     }
@@ -94,11 +111,22 @@ public class ResultSetProvider implements MessageBodyReader<ResultSetRewindable>
     {
         if (log.isTraceEnabled()) log.trace("Writing ResultSet with HTTP headers: {} MediaType: {}", httpHeaders, mediaType);
 
-        MediaType formatType = new MediaType(mediaType.getType(), mediaType.getSubtype()); // discard charset param
-        Lang lang = RDFLanguages.contentTypeToLang(formatType.toString()); // cannot be null - isWritable() checks that
+        Lang lang = getLangResolver().resolve(mediaType); // cannot be null - isWritable() checks that
         if (log.isDebugEnabled()) log.debug("RDF language used to write ResultSet: {}", lang);
         
         ResultSetMgr.write(entityStream, results, lang);
     }
+
+    /**
+     * Returns the resolver of media types to languages.
+     * 
+     * @return resolver
+     */
+    public LangResolver getLangResolver()
+    {
+        if (langResolver == null) return LangResolver.getDefault();
+        
+        return langResolver;
+    }
     
 }
@@ -0,0 +1,36 @@
+/*
+ * Copyright 2026 Martynas Jusevičius <martynas@atomgraph.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.atomgraph.core.mapper;
+
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.ext.ExceptionMapper;
+import org.apache.jena.query.QueryCancelledException;
+
+/**
+ * Maps query executions that timed out or were aborted to <code>503 Service Unavailable</code>.
+ * 
+ * @author Martynas Jusevičius {@literal <martynas@atomgraph.com>}
+ */
+public class QueryCancelledExceptionMapper implements ExceptionMapper<QueryCancelledException>
+{
+
+    @Override
+    public Response toResponse(QueryCancelledException ex)
+    {
+        return Response.status(Response.Status.SERVICE_UNAVAILABLE).build();
+    }
+    
+}
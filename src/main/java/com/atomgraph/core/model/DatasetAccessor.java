@@ -15,7 +15,16 @@
  */
 package com.atomgraph.core.model;
 
+import com.atomgraph.core.io.ModelProvider;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import java.io.InputStream;
+import java.util.Collection;
+import org.apache.jena.query.Dataset;
+import org.apache.jena.query.DatasetFactory;
 import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.riot.Lang;
 
 /**
  *
@@ -32,6 +41,22 @@ public interface DatasetAccessor
      * @return  model */
     public Model getModel(String graphUri);
 
+    /**
+     * Get multiple named models of a Dataset.
+     * Graphs that do not exist are omitted from the result.
+     * @param graphUris graph names
+     * @return dataset with the named models
+     */
+    public default Dataset getModels(Collection<String> graphUris)
+    {
+        Dataset dataset = DatasetFactory.create();
+        
+        for (String graphUri : graphUris)
+            if (containsModel(graphUri)) dataset.addNamedModel(graphUri, getModel(graphUri));
+        
+        return dataset;
+    }
+
     /**
      * Does the Dataset contain a named graph?
      * @param graphURI graph name
@@ -76,4 +101,69 @@ public interface DatasetAccessor
      */
     public void add(String graphUri, Model data);
     
+    /**
+     * Add statements parsed from a stream to a model of a Dataset.
+     * The default implementation parses the whole stream into a model before adding it.
+     * @param graphUri graph name or null for the default graph
+     * @param in RDF payload stream
+     * @param lang RDF syntax of the payload
+     * @param baseURI base URI used to resolve relative URIs, or null
+     * @return number of statements in the payload, or -1 if unknown
+     */
+    public default long add(String graphUri, InputStream in, Lang lang, String baseURI)
+    {
+        Model model = new ModelProvider().read(ModelFactory.createDefaultModel(), in, lang, baseURI);
+        if (graphUri == null) add(model);
+        else add(graphUri, model);
+        return model.size();
+    }
+    
+    /**
+     * Put (create/replace) a model of a Dataset with statements parsed from a stream.
+     * The default implementation parses the whole stream into a model before putting it.
+     * @param graphUri graph name or null for the default graph
+     * @param in RDF payload stream
+     * @param lang RDF syntax of the payload
+     * @param baseURI base URI used to resolve relative URIs, or null
+     * @return number of statements in the payload, or -1 if unknown
+     */
+    public default long putModel(String graphUri, InputStream in, Lang lang, String baseURI)
+    {
+        Model model = new ModelProvider().read(ModelFactory.createDefaultModel(), in, lang, baseURI);
+        if (graphUri == null) putModel(model);
+        else putModel(graphUri, model);
+        return model.size();
+    }
+    
+    /**
+     * Returns precomputed digest of the default model, if the accessor maintains one.
+     * @return hex digest or null
+     */
+    public default String getDigest()
+    {
+        return null;
+    }
+    
+    /**
+     * Returns precomputed digest of a named model, if the accessor maintains one.
+     * @param graphUri graph name
+     * @return hex digest or null
+     */
+    public default String getDigest(String graphUri)
+    {
+        return null;
+    }
+    
+    /**
+     * Returns the unparsed representation of a model, if the accessor can relay it from a remote origin.
+     * The caller is responsible for closing the returned response.
+     * @param graphUri graph name or null for the default graph
+     * @param mediaType requested media type
+     * @return origin response or null if relaying is not supported
+     */
+    public default Response relayModel(String graphUri, MediaType mediaType)
+    {
+        return null;
+    }
+    
 }
\ No newline at end of file
@@ -36,4 +36,14 @@ public interface DatasetQuadAccessor
     
     void delete();
     
+    /**
+     * Returns precomputed digest of the dataset, if the accessor maintains one.
+     * 
+     * @return hex digest or null
+     */
+    default String getDigest()
+    {
+        return null;
+    }
+    
 }
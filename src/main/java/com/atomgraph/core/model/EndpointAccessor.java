@@ -15,12 +15,21 @@
  */
 package com.atomgraph.core.model;
 
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import java.io.OutputStream;
 import java.net.URI;
 import java.util.List;
+import java.util.function.Consumer;
 import org.apache.jena.query.Dataset;
 import org.apache.jena.query.Query;
+import org.apache.jena.query.ResultSet;
 import org.apache.jena.query.ResultSetRewindable;
 import org.apache.jena.rdf.model.Model;
+import org.apache.jena.riot.Lang;
+import org.apache.jena.riot.system.StreamRDF;
+import org.apache.jena.riot.system.StreamRDFOps;
+import org.apache.jena.riot.system.StreamRDFWriter;
 import org.apache.jena.update.UpdateRequest;
 
 /**
@@ -35,10 +44,83 @@ public interface EndpointAccessor
     
     Model loadModel(Query query, List<URI> defaultGraphUris, List<URI> namedGraphUris);
     
+    /**
+     * Executes <code>CONSTRUCT</code> or <code>DESCRIBE</code> query and sends the result triples to the stream.
+     * The caller is responsible for calling <code>start()</code> and <code>finish()</code> on the stream.
+     * The default implementation falls back to the buffered {@link #loadModel(Query, List, List)}.
+     * 
+     * @param query SPARQL query
+     * @param defaultGraphUris default graph URIs
+     * @param namedGraphUris named graph URIs
+     * @param stream RDF stream
+     */
+    default void loadModel(Query query, List<URI> defaultGraphUris, List<URI> namedGraphUris, StreamRDF stream)
+    {
+        StreamRDFOps.sendGraphToStream(loadModel(query, defaultGraphUris, namedGraphUris).getGraph(), stream);
+    }
+    
+    /**
+     * Executes <code>CONSTRUCT</code> or <code>DESCRIBE</code> query and writes the result to the output stream in the given RDF language.
+     * The language must have a streaming writer registered in <code>StreamRDFWriter</code>.
+     * 
+     * @param query SPARQL query
+     * @param defaultGraphUris default graph URIs
+     * @param namedGraphUris named graph URIs
+     * @param lang streamable RDF language
+     * @param os output stream
+     */
+    default void loadModel(Query query, List<URI> defaultGraphUris, List<URI> namedGraphUris, Lang lang, OutputStream os)
+    {
+        StreamRDF stream = StreamRDFWriter.getWriterStream(os, lang);
+        stream.start();
+        loadModel(query, defaultGraphUris, namedGraphUris, stream);
+        stream.finish();
+    }
+    
     ResultSetRewindable select(Query query, List<URI> defaultGraphUris, List<URI> namedGraphUris);
     
+    /**
+     * Executes <code>SELECT</code> query and passes the results to the consumer without materializing them.
+     * The result set is only valid while the consumer is being called.
+     * The default implementation falls back to the buffered {@link #select(Query, List, List)}.
+     * 
+     * @param query SPARQL query
+     * @param defaultGraphUris default graph URIs
+     * @param namedGraphUris named graph URIs
+     * @param consumer result set consumer
+     */
+    default void select(Query query, List<URI> defaultGraphUris, List<URI> namedGraphUris, Consumer<ResultSet> consumer)
+    {
+        consumer.accept(select(query, defaultGraphUris, namedGraphUris));
+    }
+    
     boolean ask(Query query, List<URI> defaultGraphUris, List<URI> namedGraphUris);
     
+    /**
+     * Executes query and returns the unparsed results, if the accessor can relay them from a remote origin.
+     * The caller is responsible for closing the returned response.
+     * The default implementation does not support relaying.
+     * 
+     * @param query SPARQL query
+     * @param mediaType requested media type
+     * @param defaultGraphUris default graph URIs
+     * @param namedGraphUris named graph URIs
+     * @return origin response or null if relaying is not supported
+     */
+    default Response relay(Query query, MediaType mediaType, List<URI> defaultGraphUris, List<URI> namedGraphUris)
+    {
+        return null;
+    }
+    
     void update(UpdateRequest updateRequest, List<URI> usingGraphUris, List<URI> usingNamedGraphUris);
     
+    /**
+     * Aborts queries that are being executed by this accessor.
+     * Can be called from a different thread, e.g. when the HTTP client has disconnected.
+     * The default implementation does nothing.
+     */
+    default void abort()
+    {
+    }
+    
 }
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2026 Martynas Jusevičius <martynas@atomgraph.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.atomgraph.core.model.impl;
+
+import com.atomgraph.core.model.EndpointAccessor;
+import jakarta.ws.rs.container.AsyncResponse;
+import jakarta.ws.rs.container.ConnectionCallback;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Aborts query executions of an endpoint accessor when the client of a suspended request disconnects.
+ * Has to be registered on the <code>AsyncResponse</code>.
+ * 
+ * @author Martynas Jusevičius {@literal <martynas@atomgraph.com>}
+ * @see EndpointAccessor#abort()
+ */
+public class AbortingConnectionCallback implements ConnectionCallback
+{
+
+    private static final Logger log = LoggerFactory.getLogger(AbortingConnectionCallback.class);
+
+    private final EndpointAccessor accessor;
+
+    public AbortingConnectionCallback(EndpointAccessor accessor)
+    {
+        if (accessor == null) throw new IllegalArgumentException("EndpointAccessor cannot be null");
+        this.accessor = accessor;
+    }
+
+    @Override
+    public void onDisconnect(AsyncResponse asyncResponse)
+    {
+        if (log.isDebugEnabled()) log.debug("Client disconnected, aborting query execution");
+        getEndpointAccessor().abort();
+    }
+
+    public EndpointAccessor getEndpointAccessor()
+    {
+        return accessor;
+    }
+
+}
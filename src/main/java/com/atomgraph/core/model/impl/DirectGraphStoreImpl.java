@@ -24,6 +24,7 @@ import jakarta.ws.rs.DELETE;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.POST;
 import jakarta.ws.rs.PUT;
+import jakarta.ws.rs.core.CacheControl;
 import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.Request;
 import jakarta.ws.rs.core.Response;
@@ -44,15 +45,30 @@ public class DirectGraphStoreImpl extends GraphStoreBase implements DirectGraphS
     private final UriInfo uriInfo;
     
     /**
-     * Constructs Graph Store from request metadata.
+     * Constructs Graph Store from request metadata and application configuration.
      * 
      * @param request request
      * @param service SPARQL service
      * @param mediaTypes supported media types
      * @param uriInfo URI information
+     * @param system JAX-RS application
      */
     @Inject
-    public DirectGraphStoreImpl(@Context Request request, Service service, MediaTypes mediaTypes, @Context UriInfo uriInfo)
+    public DirectGraphStoreImpl(@Context Request request, Service service, MediaTypes mediaTypes, @Context UriInfo uriInfo, com.atomgraph.core.Application system)
+    {
+        super(request, service, mediaTypes, system);
+        this.uriInfo = uriInfo;
+    }
+
+    /**
+     * Constructs Graph Store from request metadata.
+     * 
+     * @param request request
+     * @param service SPARQL service
+     * @param mediaTypes supported media types
+     * @param uriInfo URI information
+     */
+    public DirectGraphStoreImpl(Request request, Service service, MediaTypes mediaTypes, UriInfo uriInfo)
     {
         this(request, service.getDatasetAccessor(), mediaTypes, uriInfo);
     }
@@ -121,6 +137,17 @@ public class DirectGraphStoreImpl extends GraphStoreBase implements DirectGraphS
         return super.delete(false, getURI());
     }
 
+    /**
+     * Returns the <code>Cache-Control</code> response header value of directly identified graphs.
+     * 
+     * @return cache control or null if the header is not sent
+     */
+    @Override
+    public CacheControl getCacheControl()
+    {
+        return getCacheControlPolicy().getDirectGraphStoreCacheControl();
+    }
+    
     /**
      * Returns the graph URI.
      *
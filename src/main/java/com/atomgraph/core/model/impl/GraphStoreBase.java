@@ -17,6 +17,7 @@
 package com.atomgraph.core.model.impl;
 
 import org.apache.jena.rdf.model.*;
+import java.io.InputStream;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.List;
@@ -25,13 +26,18 @@ import jakarta.ws.rs.core.*;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.Response.ResponseBuilder;
 import com.atomgraph.core.MediaTypes;
+import com.atomgraph.core.exception.BadGatewayException;
+import com.atomgraph.core.io.LangResolver;
 import com.atomgraph.core.model.DatasetAccessor;
 import com.atomgraph.core.model.Service;
-import com.atomgraph.core.util.ModelUtils;
+import com.atomgraph.core.util.CacheControlPolicy;
+import com.atomgraph.core.util.GraphDigest;
+import com.atomgraph.core.util.ResponseCache;
 import java.util.Date;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.BadRequestException;
 import jakarta.ws.rs.NotFoundException;
+import org.apache.jena.riot.Lang;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -49,16 +55,36 @@ public abstract class GraphStoreBase
     private final Request request;
     private final DatasetAccessor accessor;
     private final MediaTypes mediaTypes;
+    private final GraphDigest graphDigest;
+    private final ResponseCache responseCache;
+    private final CacheControlPolicy cacheControlPolicy;
+    private final boolean passThrough;
+    private final boolean streamingIngest;
+    private final LangResolver langResolver;
     
     /**
-     * Constructs Graph Store from request metadata.
+     * Constructs Graph Store from request metadata and application configuration.
      * 
      * @param request request
      * @param service SPARQL service
      * @param mediaTypes supported media types
+     * @param system JAX-RS application
      */
     @Inject
-    public GraphStoreBase(@Context Request request, Service service, MediaTypes mediaTypes)
+    public GraphStoreBase(@Context Request request, Service service, MediaTypes mediaTypes, com.atomgraph.core.Application system)
+    {
+        this(request, service.getDatasetAccessor(), mediaTypes, system.getGraphDigest(), system.getResponseCache(), system.getCacheControlPolicy(), system.isPassThrough(),
+            system.isStreamingIngest(), system.getLangResolver());
+    }
+    
+    /**
+     * Constructs Graph Store from request metadata.
+     * 
+     * @param request request
+     * @param service SPARQL service
+     * @param mediaTypes supported media types
+     */
+    public GraphStoreBase(Request request, Service service, MediaTypes mediaTypes)
     {
         this(request, service.getDatasetAccessor(), mediaTypes);
     }
@@ -71,14 +97,120 @@ public abstract class GraphStoreBase
      * @param mediaTypes supported media types
      */
     public GraphStoreBase(Request request, DatasetAccessor accessor, MediaTypes mediaTypes)
+    {
+        this(request, accessor, mediaTypes, GraphDigest.DEFAULT, null, CacheControlPolicy.NONE);
+    }
+    
+    /**
+     * Constructs Graph Store from request metadata, dataset accessor, and graph digest strategy.
+     *
+     * @param request request
+     * @param accessor dataset accessor
+     * @param mediaTypes supported media types
+     * @param graphDigest graph digest strategy used for <code>ETag</code>s
+     */
+    public GraphStoreBase(Request request, DatasetAccessor accessor, MediaTypes mediaTypes, GraphDigest graphDigest)
+    {
+        this(request, accessor, mediaTypes, graphDigest, null);
+    }
+    
+    /**
+     * Constructs Graph Store from request metadata, dataset accessor, graph digest strategy, and response cache.
+     *
+     * @param request request
+     * @param accessor dataset accessor
+     * @param mediaTypes supported media types
+     * @param graphDigest graph digest strategy used for <code>ETag</code>s
+     * @param responseCache SPARQL response cache that is invalidated on writes, or null
+     */
+    public GraphStoreBase(Request request, DatasetAccessor accessor, MediaTypes mediaTypes, GraphDigest graphDigest, ResponseCache responseCache)
+    {
+        this(request, accessor, mediaTypes, graphDigest, responseCache, CacheControlPolicy.NONE);
+    }
+    
+    /**
+     * Constructs Graph Store from request metadata, dataset accessor, and HTTP caching configuration.
+     *
+     * @param request request
+     * @param accessor dataset accessor
+     * @param mediaTypes supported media types
+     * @param graphDigest graph digest strategy used for <code>ETag</code>s
+     * @param responseCache SPARQL response cache that is invalidated on writes, or null
+     * @param cacheControlPolicy <code>Cache-Control</code> header values
+     */
+    public GraphStoreBase(Request request, DatasetAccessor accessor, MediaTypes mediaTypes, GraphDigest graphDigest, ResponseCache responseCache,
+            CacheControlPolicy cacheControlPolicy)
+    {
+        this(request, accessor, mediaTypes, graphDigest, responseCache, cacheControlPolicy, false);
+    }
+    
+    /**
+     * Constructs Graph Store from request metadata, dataset accessor, HTTP caching and pass-through configuration.
+     *
+     * @param request request
+     * @param accessor dataset accessor
+     * @param mediaTypes supported media types
+     * @param graphDigest graph digest strategy used for <code>ETag</code>s
+     * @param responseCache SPARQL response cache that is invalidated on writes, or null
+     * @param cacheControlPolicy <code>Cache-Control</code> header values
+     * @param passThrough if true, origin graph representations in the negotiated media type are relayed without parsing
+     */
+    public GraphStoreBase(Request request, DatasetAccessor accessor, MediaTypes mediaTypes, GraphDigest graphDigest, ResponseCache responseCache,
+            CacheControlPolicy cacheControlPolicy, boolean passThrough)
+    {
+        this(request, accessor, mediaTypes, graphDigest, responseCache, cacheControlPolicy, passThrough, false);
+    }
+    
+    /**
+     * Constructs Graph Store from request metadata, dataset accessor, HTTP caching, pass-through and ingest configuration.
+     *
+     * @param request request
+     * @param accessor dataset accessor
+     * @param mediaTypes supported media types
+     * @param graphDigest graph digest strategy used for <code>ETag</code>s
+     * @param responseCache SPARQL response cache that is invalidated on writes, or null
+     * @param cacheControlPolicy <code>Cache-Control</code> header values
+     * @param passThrough if true, origin graph representations in the negotiated media type are relayed without parsing
+     * @param streamingIngest if true, request payloads are parsed straight into the target graph
+     */
+    public GraphStoreBase(Request request, DatasetAccessor accessor, MediaTypes mediaTypes, GraphDigest graphDigest, ResponseCache responseCache,
+            CacheControlPolicy cacheControlPolicy, boolean passThrough, boolean streamingIngest)
+    {
+        this(request, accessor, mediaTypes, graphDigest, responseCache, cacheControlPolicy, passThrough, streamingIngest, LangResolver.getDefault());
+    }
+    
+    /**
+     * Constructs Graph Store from request metadata, dataset accessor, HTTP caching, pass-through and ingest configuration, and media type resolver.
+     *
+     * @param request request
+     * @param accessor dataset accessor
+     * @param mediaTypes supported media types
+     * @param graphDigest graph digest strategy used for <code>ETag</code>s
+     * @param responseCache SPARQL response cache that is invalidated on writes, or null
+     * @param cacheControlPolicy <code>Cache-Control</code> header values
+     * @param passThrough if true, origin graph representations in the negotiated media type are relayed without parsing
+     * @param streamingIngest if true, request payloads are parsed straight into the target graph
+     * @param langResolver resolver of request payload media types to RDF languages
+     */
+    public GraphStoreBase(Request request, DatasetAccessor accessor, MediaTypes mediaTypes, GraphDigest graphDigest, ResponseCache responseCache,
+            CacheControlPolicy cacheControlPolicy, boolean passThrough, boolean streamingIngest, LangResolver langResolver)
     {
         if (request == null) throw new IllegalArgumentException("Request cannot be null");
         if (accessor == null) throw new IllegalArgumentException("DatasetAccessor cannot be null");
         if (mediaTypes == null) throw new IllegalArgumentException("MediaTypes cannot be null");
+        if (graphDigest == null) throw new IllegalArgumentException("GraphDigest cannot be null");
+        if (cacheControlPolicy == null) throw new IllegalArgumentException("CacheControlPolicy cannot be null");
+        if (langResolver == null) throw new IllegalArgumentException("LangResolver cannot be null");
         
         this.request = request;
         this.accessor = accessor;
         this.mediaTypes = mediaTypes;
+        this.graphDigest = graphDigest;
+        this.responseCache = responseCache;
+        this.cacheControlPolicy = cacheControlPolicy;
+        this.passThrough = passThrough;
+        this.streamingIngest = streamingIngest;
+        this.langResolver = langResolver;
     }
     
     /**
@@ -92,6 +224,12 @@ public abstract class GraphStoreBase
     {
         if (!(defaultGraph ^ graphUri != null)) throw new BadRequestException("Either default or named graph has to be specified");
 
+        if (isPassThrough())
+        {
+            Response response = relay(graphUri);
+            if (response != null) return response;
+        }
+        
         if (defaultGraph)
         {
             Model model = getDatasetAccessor().getModel();
@@ -112,6 +250,52 @@ public abstract class GraphStoreBase
         }
     }
 
+    /**
+     * Relays the origin representation of a graph without parsing it.
+     * Only possible if the dataset accessor supports relaying and the origin responds with the negotiated media type;
+     * otherwise the response has to be generated from the parsed model, e.g. when syntax conversion is needed.
+     * The <code>ETag</code> and <code>Last-Modified</code> values are those of the origin.
+     * 
+     * @param graphUri named graph URI or null for the default graph
+     * @return response or null if the graph cannot be relayed
+     * @throws BadGatewayException if the origin responds with an unsuccessful status
+     */
+    public Response relay(URI graphUri)
+    {
+        List<Variant> variants = com.atomgraph.core.model.impl.Response.getVariants(getWritableMediaTypes(Model.class), getLanguages(), getEncodings());
+        Variant variant = getRequest().selectVariant(variants) != null ? getRequest().selectVariant(variants) :
+            getRequest().selectVariant(com.atomgraph.core.model.impl.Response.removeLanguages(variants));
+        if (variant == null) return null; // 406 Not Acceptable is thrown by the parsing path
+        
+        MediaType mediaType = new MediaType(variant.getMediaType().getType(), variant.getMediaType().getSubtype());
+        Response origin = getDatasetAccessor().relayModel(graphUri != null ? graphUri.toString() : null, mediaType);
+        if (origin == null) return null;
+        
+        if (graphUri != null && origin.getStatus() == Response.Status.NOT_FOUND.getStatusCode())
+        {
+            origin.close();
+            if (log.isDebugEnabled()) log.debug("GET Graph Store named graph with URI: {} not found", graphUri);
+            throw new NotFoundException("Named graph not found");
+        }
+        
+        if (!origin.getStatusInfo().getFamily().equals(Response.Status.Family.SUCCESSFUL))
+        {
+            origin.close();
+            throw new BadGatewayException("Graph Store backend responded with status " + origin.getStatus()); // same as the parsing path, without requesting the graph again
+        }
+        if (origin.getMediaType() == null || !origin.getMediaType().isCompatible(mediaType))
+        {
+            if (log.isDebugEnabled()) log.debug("Origin responded with media type: {}, parsing graph instead of relaying", origin.getMediaType());
+            origin.close();
+            return null;
+        }
+        
+        if (log.isDebugEnabled()) log.debug("GET Graph Store relaying origin graph with URI: {} and media type: {}", graphUri, origin.getMediaType());
+        return com.atomgraph.core.model.impl.Response.relay(getRequest(), origin, variant).
+            cacheControl(getCacheControl(null, graphUri)).
+            build();
+    }
+
     /**
      * Implements <code>POST</code> method of SPARQL Graph Store Protocol.
      * 
@@ -131,6 +315,7 @@ public abstract class GraphStoreBase
         {
             if (log.isDebugEnabled()) log.debug("POST Model to default graph");
             getDatasetAccessor().add(model);
+            invalidateResponseCache();
             return Response.ok().build();
         }
         else
@@ -140,12 +325,85 @@ public abstract class GraphStoreBase
             // is this implemented correctly? The specification is not very clear.
             if (log.isDebugEnabled()) log.debug("POST Model to named graph with URI: {} Did it already exist? {}", graphUri, existingGraph);
             getDatasetAccessor().add(graphUri.toString(), model);
+            invalidateResponseCache();
             
             if (existingGraph) return Response.ok().build();
             else return Response.created(graphUri).build();
         }
     }
 
+    /**
+     * Implements <code>POST</code> method of SPARQL Graph Store Protocol for a request body stream.
+     * The stream is parsed straight into the target graph, without materializing it as a model.
+     * 
+     * @param in RDF request body stream
+     * @param lang RDF syntax of the request body
+     * @param baseURI base URI used to resolve relative URIs, or null
+     * @param defaultGraph true if default graph is requested
+     * @param graphUri named graph URI
+     * @return response
+     */
+    public Response post(InputStream in, Lang lang, String baseURI, Boolean defaultGraph, URI graphUri)
+    {
+        if (!(defaultGraph ^ graphUri != null)) throw new BadRequestException("Either default or named graph has to be specified");
+        
+        if (defaultGraph)
+        {
+            if (log.isDebugEnabled()) log.debug("POST {} stream to default graph", lang);
+            long count = getDatasetAccessor().add(null, in, lang, baseURI);
+            invalidateResponseCache();
+            if (count == 0) return Response.noContent().build(); // as per the Graph Store Protocol
+            return Response.ok().build();
+        }
+        else
+        {
+            boolean existingGraph = getDatasetAccessor().containsModel(graphUri.toString());
+
+            if (log.isDebugEnabled()) log.debug("POST {} stream to named graph with URI: {} Did it already exist? {}", lang, graphUri, existingGraph);
+            long count = getDatasetAccessor().add(graphUri.toString(), in, lang, baseURI);
+            invalidateResponseCache();
+            
+            if (count == 0) return Response.noContent().build(); // as per the Graph Store Protocol
+            if (existingGraph) return Response.ok().build();
+            else return Response.created(graphUri).build();
+        }
+    }
+
+    /**
+     * Implements <code>PUT</code> method of SPARQL Graph Store Protocol for a request body stream.
+     * The stream is parsed straight into the target graph, without materializing it as a model.
+     * 
+     * @param in RDF request body stream
+     * @param lang RDF syntax of the request body
+     * @param baseURI base URI used to resolve relative URIs, or null
+     * @param defaultGraph true if default graph is requested
+     * @param graphUri named graph URI
+     * @return response
+     */
+    public Response put(InputStream in, Lang lang, String baseURI, Boolean defaultGraph, URI graphUri)
+    {
+        if (!(defaultGraph ^ graphUri != null)) throw new BadRequestException("Either default or named graph has to be specified");
+        
+        if (defaultGraph)
+        {
+            if (log.isDebugEnabled()) log.debug("PUT {} stream to default graph", lang);
+            getDatasetAccessor().putModel(null, in, lang, baseURI);
+            invalidateResponseCache();
+            return Response.ok().build();
+        }
+        else
+        {
+            boolean existingGraph = getDatasetAccessor().containsModel(graphUri.toString());
+
+            if (log.isDebugEnabled()) log.debug("PUT {} stream to named graph with URI: {} Did it already exist? {}", lang, graphUri, existingGraph);
+            getDatasetAccessor().putModel(graphUri.toString(), in, lang, baseURI);
+            invalidateResponseCache();
+
+            if (existingGraph) return Response.ok().build();
+            else return Response.created(graphUri).build();
+        }
+    }
+    
     /**
      * Implements <code>PUT</code> method of SPARQL Graph Store Protocol.
      * 
@@ -163,6 +421,7 @@ public abstract class GraphStoreBase
         {
             if (log.isDebugEnabled()) log.debug("PUT Model to default graph");
             getDatasetAccessor().putModel(model);
+            invalidateResponseCache();
             return Response.ok().build();
         }
         else
@@ -171,6 +430,7 @@ public abstract class GraphStoreBase
 
             if (log.isDebugEnabled()) log.debug("PUT Model to named graph with URI: {} Did it already exist? {}", graphUri, existingGraph);
             getDatasetAccessor().putModel(graphUri.toString(), model);
+            invalidateResponseCache();
 
             if (existingGraph) return Response.ok().build();
             else return Response.created(graphUri).build();
@@ -191,6 +451,7 @@ public abstract class GraphStoreBase
         if (defaultGraph)
         {
             getDatasetAccessor().deleteDefault();
+            invalidateResponseCache();
             if (log.isDebugEnabled()) log.debug("DELETE default graph from Graph Store");
             return Response.noContent().build();
         }
@@ -205,11 +466,20 @@ public abstract class GraphStoreBase
             {
                 if (log.isDebugEnabled()) log.debug("DELETE named graph with URI: {}", graphUri);
                 getDatasetAccessor().deleteModel(graphUri.toString());
+                invalidateResponseCache();
                 return Response.noContent().build(); // TO-DO: NoContentException?
             }
         }
     }
     
+    /**
+     * Discards cached SPARQL responses after the dataset was modified.
+     */
+    protected void invalidateResponseCache()
+    {
+        if (getResponseCache() != null) getResponseCache().invalidateAll();
+    }
+    
     /**
      * Returns response for the given RDF model.
      * 
@@ -231,14 +501,17 @@ public abstract class GraphStoreBase
      */
     public ResponseBuilder evaluatePreconditions(Model model, URI graphUri)
     {
-        return new com.atomgraph.core.model.impl.Response(getRequest(),
+        ResponseBuilder rb = new com.atomgraph.core.model.impl.Response(getRequest(),
                 model,
                 getLastModified(model, graphUri),
-                getEntityTag(model),
+                getEntityTag(model, graphUri),
                 getWritableMediaTypes(Model.class),
                 getLanguages(),
                 getEncodings()).
             evaluatePreconditions();
+        
+        if (rb != null) rb.cacheControl(getCacheControl(model, graphUri)); // 304 Not Modified has to carry the same Cache-Control as 200 OK
+        return rb;
     }
     
     /**
@@ -253,11 +526,36 @@ public abstract class GraphStoreBase
         return new com.atomgraph.core.model.impl.Response(getRequest(),
                 model,
                 getLastModified(model, graphUri),
-                getEntityTag(model),
+                getEntityTag(model, graphUri),
                 getWritableMediaTypes(Model.class),
                 getLanguages(),
                 getEncodings()).
-            getResponseBuilder();
+            getResponseBuilder().
+            cacheControl(getCacheControl(model, graphUri));
+    }
+    
+    /**
+     * Returns the <code>Cache-Control</code> response header value of the current RDF graph.
+     * Graphs that match the immutable graph pattern are marked <code>immutable</code>.
+     * Can be overridden to derive the value from the graph content, e.g. its version.
+     * 
+     * @param model RDF model, or null if the graph is relayed without parsing
+     * @param graphUri named graph URI or null for the default graph
+     * @return cache control or null if the header is not sent
+     */
+    public CacheControl getCacheControl(Model model, URI graphUri)
+    {
+        return getCacheControlPolicy().getCacheControl(getCacheControl(), graphUri);
+    }
+    
+    /**
+     * Returns the <code>Cache-Control</code> response header value of this Graph Store.
+     * 
+     * @return cache control or null if the header is not sent
+     */
+    public CacheControl getCacheControl()
+    {
+        return getCacheControlPolicy().getGraphStoreCacheControl();
     }
     
     /**
@@ -272,6 +570,22 @@ public abstract class GraphStoreBase
         return null;
     }
     
+    /**
+     * Generate the <code>ETag</code> response header value of the current RDF graph.
+     * Uses the digest maintained by the dataset accessor if there is one, and hashes the model otherwise.
+     * 
+     * @param model RDF model
+     * @param graphUri named graph URI or null for the default graph
+     * @return hash value
+     */
+    public EntityTag getEntityTag(Model model, URI graphUri)
+    {
+        String digest = graphUri == null ? getDatasetAccessor().getDigest() : getDatasetAccessor().getDigest(graphUri.toString());
+        if (digest != null) return new EntityTag(digest);
+        
+        return getEntityTag(model);
+    }
+    
     /**
      * Generate the <code>ETag</code> response header value of the current RDF graph.
      * 
@@ -280,7 +594,7 @@ public abstract class GraphStoreBase
      */
     public EntityTag getEntityTag(Model model)
     {
-        return new EntityTag(Long.toHexString(ModelUtils.hashModel(model)));
+        return new EntityTag(getGraphDigest().hash(model).toString());
     }
     
     /**
@@ -315,6 +629,36 @@ public abstract class GraphStoreBase
         return getMediaTypes().getWritable(clazz);
     }
 
+    /**
+     * Returns true if origin graph representations in the negotiated media type are relayed without parsing.
+     * 
+     * @return true if pass-through is enabled
+     */
+    public boolean isPassThrough()
+    {
+        return passThrough;
+    }
+    
+    /**
+     * Returns true if request payloads are parsed straight into the target graph.
+     * 
+     * @return true if streaming ingest is enabled
+     */
+    public boolean isStreamingIngest()
+    {
+        return streamingIngest;
+    }
+    
+    /**
+     * Returns the resolver of request payload media types to RDF languages.
+     * 
+     * @return resolver
+     */
+    public LangResolver getLangResolver()
+    {
+        return langResolver;
+    }
+    
     /**
      * Returns the request.
      *
@@ -335,6 +679,36 @@ public abstract class GraphStoreBase
         return accessor;
     }
 
+    /**
+     * Returns the graph digest strategy.
+     *
+     * @return graph digest
+     */
+    public GraphDigest getGraphDigest()
+    {
+        return graphDigest;
+    }
+
+    /**
+     * Returns the <code>Cache-Control</code> header values.
+     *
+     * @return cache control policy
+     */
+    public CacheControlPolicy getCacheControlPolicy()
+    {
+        return cacheControlPolicy;
+    }
+
+    /**
+     * Returns the SPARQL response cache.
+     *
+     * @return response cache or null if responses are not cached
+     */
+    public ResponseCache getResponseCache()
+    {
+        return responseCache;
+    }
+
     /**
      * Returns the supported media types.
      *
@@ -21,15 +21,25 @@ import com.atomgraph.core.model.DatasetAccessor;
 import com.atomgraph.core.model.GraphStore;
 import com.atomgraph.core.model.Service;
 import jakarta.inject.Inject;
+import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.DELETE;
 import jakarta.ws.rs.DefaultValue;
 import jakarta.ws.rs.GET;
+import jakarta.ws.rs.NotSupportedException;
 import jakarta.ws.rs.POST;
 import jakarta.ws.rs.PUT;
 import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.WebApplicationException;
 import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.Request;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.UriInfo;
+import jakarta.ws.rs.ext.MessageBodyReader;
+import jakarta.ws.rs.ext.Providers;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.Annotation;
 import java.net.URI;
 import org.apache.jena.rdf.model.Model;
 import org.slf4j.Logger;
@@ -48,14 +58,27 @@ public class GraphStoreImpl extends GraphStoreBase implements GraphStore
     private static final Logger log = LoggerFactory.getLogger(GraphStoreImpl.class);
 
     /**
-     * Constructs Graph Store from request metadata.
+     * Constructs Graph Store from request metadata and application configuration.
      * 
      * @param request request
      * @param service SPARQL service
      * @param mediaTypes supported media types
+     * @param system JAX-RS application
      */
     @Inject
-    public GraphStoreImpl(@Context Request request, Service service, MediaTypes mediaTypes)
+    public GraphStoreImpl(@Context Request request, Service service, MediaTypes mediaTypes, com.atomgraph.core.Application system)
+    {
+        super(request, service, mediaTypes, system);
+    }
+
+    /**
+     * Constructs Graph Store from request metadata.
+     * 
+     * @param request request
+     * @param service SPARQL service
+     * @param mediaTypes supported media types
+     */
+    public GraphStoreImpl(Request request, Service service, MediaTypes mediaTypes)
     {
         super(request, service.getDatasetAccessor(), mediaTypes);
     }
@@ -101,6 +124,76 @@ public class GraphStoreImpl extends GraphStoreBase implements GraphStore
         return super.post(model, defaultGraph, graphUri);
     }
 
+    /**
+     * Implements <code>POST</code> method of SPARQL Graph Store Protocol for RDF syntaxes suited for bulk uploads.
+     * The request body is not parsed into a model if streaming ingest is enabled.
+     * Otherwise it is read using the registered {@link Model} provider, the same way as the request body of {@link #post(Model, Boolean, URI)}.
+     * 
+     * @param in RDF request body stream
+     * @param headers request headers
+     * @param uriInfo request URI information
+     * @param providers JAX-RS providers
+     * @param defaultGraph true if default graph is requested
+     * @param graphUri named graph URI
+     * @return response
+     */
+    @POST
+    @Consumes({ "application/n-triples", "text/turtle", "application/rdf+thrift" })
+    public Response post(InputStream in, @Context HttpHeaders headers, @Context UriInfo uriInfo, @Context Providers providers,
+            @QueryParam("default") @DefaultValue("false") Boolean defaultGraph, @QueryParam("graph") URI graphUri)
+    {
+        if (!isStreamingIngest()) return post(readModel(in, headers, providers), defaultGraph, graphUri);
+        
+        return super.post(in, getLangResolver().resolve(headers.getMediaType()), uriInfo.getAbsolutePath().toString(), defaultGraph, graphUri);
+    }
+
+    /**
+     * Implements <code>PUT</code> method of SPARQL Graph Store Protocol for RDF syntaxes suited for bulk uploads.
+     * The request body is not parsed into a model if streaming ingest is enabled.
+     * Otherwise it is read using the registered {@link Model} provider, the same way as the request body of {@link #put(Model, Boolean, URI)}.
+     * 
+     * @param in RDF request body stream
+     * @param headers request headers
+     * @param uriInfo request URI information
+     * @param providers JAX-RS providers
+     * @param defaultGraph true if default graph is requested
+     * @param graphUri named graph URI
+     * @return response
+     */
+    @PUT
+    @Consumes({ "application/n-triples", "text/turtle", "application/rdf+thrift" })
+    public Response put(InputStream in, @Context HttpHeaders headers, @Context UriInfo uriInfo, @Context Providers providers,
+            @QueryParam("default") @DefaultValue("false") Boolean defaultGraph, @QueryParam("graph") URI graphUri)
+    {
+        if (!isStreamingIngest()) return put(readModel(in, headers, providers), defaultGraph, graphUri);
+        
+        return super.put(in, getLangResolver().resolve(headers.getMediaType()), uriInfo.getAbsolutePath().toString(), defaultGraph, graphUri);
+    }
+    
+    /**
+     * Reads request body stream into a model using the registered {@link Model} provider.
+     * 
+     * @param in RDF request body stream
+     * @param headers request headers
+     * @param providers JAX-RS providers
+     * @return RDF model
+     */
+    protected Model readModel(InputStream in, HttpHeaders headers, Providers providers)
+    {
+        MessageBodyReader<Model> reader = providers.getMessageBodyReader(Model.class, Model.class, new Annotation[]{}, headers.getMediaType());
+        if (reader == null) throw new NotSupportedException("No Model reader for media type: " + headers.getMediaType());
+
+        try
+        {
+            return reader.readFrom(Model.class, Model.class, new Annotation[]{}, headers.getMediaType(), headers.getRequestHeaders(), in);
+        }
+        catch (IOException ex)
+        {
+            if (log.isErrorEnabled()) log.error("Could not read Model from request body: {}", ex);
+            throw new WebApplicationException(ex);
+        }
+    }
+    
     /**
      * Implements <code>PUT</code> method of SPARQL Graph Store Protocol.
      * 
@@ -31,7 +31,11 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import com.atomgraph.core.model.DatasetQuadAccessor;
 import com.atomgraph.core.model.Service;
+import com.atomgraph.core.util.CacheControlPolicy;
+import com.atomgraph.core.util.GraphDigest;
+import com.atomgraph.core.util.ResponseCache;
 import jakarta.inject.Inject;
+import jakarta.ws.rs.core.CacheControl;
 import jakarta.ws.rs.core.EntityTag;
 import jakarta.ws.rs.core.MediaType;
 
@@ -46,29 +50,93 @@ public class QuadStoreImpl implements QuadStore
     private final Request request;
     private final DatasetQuadAccessor accessor;
     private final MediaTypes mediaTypes;
+    private final GraphDigest graphDigest;
+    private final ResponseCache responseCache;
+    private final CacheControlPolicy cacheControlPolicy;
     
     /**
-     * Constructs Graph Store from request metadata.
+     * Constructs Graph Store from request metadata and application configuration.
      * 
      * @param request request
      * @param service SPARQL service
      * @param mediaTypes supported media types
+     * @param system JAX-RS application
      */
     @Inject
-    public QuadStoreImpl(@Context Request request, Service service, MediaTypes mediaTypes)
+    public QuadStoreImpl(@Context Request request, Service service, MediaTypes mediaTypes, com.atomgraph.core.Application system)
+    {
+        this(request, service.getDatasetQuadAccessor(), mediaTypes, system.getGraphDigest(), system.getResponseCache(), system.getCacheControlPolicy());
+    }
+    
+    /**
+     * Constructs Graph Store from request metadata.
+     * 
+     * @param request request
+     * @param service SPARQL service
+     * @param mediaTypes supported media types
+     */
+    public QuadStoreImpl(Request request, Service service, MediaTypes mediaTypes)
     {
         this(request, service.getDatasetQuadAccessor(), mediaTypes);
     }
     
     public QuadStoreImpl(Request request, DatasetQuadAccessor accessor, MediaTypes mediaTypes)
+    {
+        this(request, accessor, mediaTypes, GraphDigest.DEFAULT, null, CacheControlPolicy.NONE);
+    }
+    
+    /**
+     * Constructs Graph Store from request metadata, quad accessor, and graph digest strategy.
+     * 
+     * @param request request
+     * @param accessor quad accessor
+     * @param mediaTypes supported media types
+     * @param graphDigest graph digest strategy used for <code>ETag</code>s
+     */
+    public QuadStoreImpl(Request request, DatasetQuadAccessor accessor, MediaTypes mediaTypes, GraphDigest graphDigest)
+    {
+        this(request, accessor, mediaTypes, graphDigest, null);
+    }
+    
+    /**
+     * Constructs Graph Store from request metadata, quad accessor, graph digest strategy, and response cache.
+     * 
+     * @param request request
+     * @param accessor quad accessor
+     * @param mediaTypes supported media types
+     * @param graphDigest graph digest strategy used for <code>ETag</code>s
+     * @param responseCache SPARQL response cache that is invalidated on writes, or null
+     */
+    public QuadStoreImpl(Request request, DatasetQuadAccessor accessor, MediaTypes mediaTypes, GraphDigest graphDigest, ResponseCache responseCache)
+    {
+        this(request, accessor, mediaTypes, graphDigest, responseCache, CacheControlPolicy.NONE);
+    }
+    
+    /**
+     * Constructs Graph Store from request metadata, quad accessor, and HTTP caching configuration.
+     * 
+     * @param request request
+     * @param accessor quad accessor
+     * @param mediaTypes supported media types
+     * @param graphDigest graph digest strategy used for <code>ETag</code>s
+     * @param responseCache SPARQL response cache that is invalidated on writes, or null
+     * @param cacheControlPolicy <code>Cache-Control</code> header values
+     */
+    public QuadStoreImpl(Request request, DatasetQuadAccessor accessor, MediaTypes mediaTypes, GraphDigest graphDigest, ResponseCache responseCache,
+            CacheControlPolicy cacheControlPolicy)
     {
         if (request == null) throw new IllegalArgumentException("Request cannot be null");
         if (accessor == null) throw new IllegalArgumentException("DatasetQuadAccessor cannot be null");
         if (mediaTypes == null) throw new IllegalArgumentException("MediaTypes cannot be null");
+        if (graphDigest == null) throw new IllegalArgumentException("GraphDigest cannot be null");
+        if (cacheControlPolicy == null) throw new IllegalArgumentException("CacheControlPolicy cannot be null");
         
         this.request = request;
         this.accessor = accessor;
         this.mediaTypes = mediaTypes;
+        this.graphDigest = graphDigest;
+        this.responseCache = responseCache;
+        this.cacheControlPolicy = cacheControlPolicy;
     }
     
     /**
@@ -97,18 +165,33 @@ public class QuadStoreImpl implements QuadStore
                 getWritableMediaTypes(Dataset.class),
                 getLanguages(),
                 getEncodings()).
-            getResponseBuilder();
+            getResponseBuilder().
+            cacheControl(getCacheControl());
+    }
+    
+    /**
+     * Returns the <code>Cache-Control</code> response header value of the dataset.
+     * 
+     * @return cache control or null if the header is not sent
+     */
+    public CacheControl getCacheControl()
+    {
+        return getCacheControlPolicy().getGraphStoreCacheControl();
     }
     
     /**
      * Generate the <code>ETag</code> response header value of the current RDF dataset.
+     * Uses the digest maintained by the quad accessor if there is one, and hashes the dataset otherwise.
      * 
      * @param dataset RDF dataset
      * @return hash value
      */
     public EntityTag getEntityTag(Dataset dataset)
     {
-        return new EntityTag(Long.toHexString(com.atomgraph.core.model.impl.Response.hashDataset(dataset)));
+        String digest = getQuadDatasetAccessor().getDigest();
+        if (digest != null) return new EntityTag(digest);
+        
+        return new EntityTag(getGraphDigest().hash(dataset).toString());
     }
     
     /**
@@ -155,6 +238,7 @@ public class QuadStoreImpl implements QuadStore
     public jakarta.ws.rs.core.Response post(Dataset dataset)
     {
         getQuadDatasetAccessor().add(dataset);
+        invalidateResponseCache();
         return jakarta.ws.rs.core.Response.ok().build();
     }
 
@@ -169,6 +253,7 @@ public class QuadStoreImpl implements QuadStore
     public jakarta.ws.rs.core.Response put(Dataset dataset)
     {
         getQuadDatasetAccessor().replace(dataset);
+        invalidateResponseCache();
         return jakarta.ws.rs.core.Response.ok().build();
     }
 
@@ -182,9 +267,18 @@ public class QuadStoreImpl implements QuadStore
     public jakarta.ws.rs.core.Response delete()
     {
         getQuadDatasetAccessor().delete();
+        invalidateResponseCache();
         return jakarta.ws.rs.core.Response.noContent().build();
     }
 
+    /**
+     * Discards cached SPARQL responses after the dataset was modified.
+     */
+    protected void invalidateResponseCache()
+    {
+        if (getResponseCache() != null) getResponseCache().invalidateAll();
+    }
+    
     public List<MediaType> getWritableMediaTypes(Class clazz)
     {
         return getMediaTypes().getWritable(clazz);
@@ -200,6 +294,21 @@ public class QuadStoreImpl implements QuadStore
         return accessor;
     }
     
+    public GraphDigest getGraphDigest()
+    {
+        return graphDigest;
+    }
+    
+    public ResponseCache getResponseCache()
+    {
+        return responseCache;
+    }
+    
+    public CacheControlPolicy getCacheControlPolicy()
+    {
+        return cacheControlPolicy;
+    }
+    
     public MediaTypes getMediaTypes()
     {
         return mediaTypes;
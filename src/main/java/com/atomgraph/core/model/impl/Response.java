@@ -20,11 +20,13 @@ package com.atomgraph.core.model.impl;
 import java.util.List;
 import java.util.Locale;
 import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Request;
 import jakarta.ws.rs.core.Response.ResponseBuilder;
 import jakarta.ws.rs.core.Variant;
 import com.atomgraph.core.util.ModelUtils;
+import java.io.InputStream;
 import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.Date;
@@ -295,6 +297,46 @@ public class Response
         }
     }
 
+    /**
+     * Returns response builder that relays the unparsed entity of an origin response.
+     * Request preconditions are evaluated against the origin <code>ETag</code> and <code>Last-Modified</code> values, which are forwarded
+     * together with the origin <code>Content-Type</code> and <code>Content-Length</code>.
+     * The origin response is closed if its entity is not relayed.
+     * 
+     * @param request request
+     * @param origin origin response
+     * @param variant selected response variant
+     * @return response builder
+     */
+    public static ResponseBuilder relay(Request request, jakarta.ws.rs.core.Response origin, Variant variant)
+    {
+        if (origin == null) throw new IllegalArgumentException("Origin Response cannot be null");
+
+        final Date lastModified = origin.getLastModified();
+        final EntityTag entityTag = origin.getEntityTag();
+        final ResponseBuilder rb = new Response(request, origin, lastModified, entityTag, variant, mediaType -> false).
+            evaluatePreconditions(lastModified, entityTag);
+        
+        if (rb != null)
+        {
+            if (log.isTraceEnabled()) log.trace("Origin resource not modified, closing origin Response");
+            origin.close();
+            return rb.variant(variant).
+                lastModified(lastModified);
+        }
+        
+        if (log.isTraceEnabled()) log.trace("Relaying origin Response with media type: {} and EntityTag: {}", origin.getMediaType(), entityTag);
+        ResponseBuilder relayed = jakarta.ws.rs.core.Response.ok(origin.readEntity(InputStream.class), variant).
+            type(origin.getMediaType()).
+            lastModified(lastModified).
+            tag(entityTag);
+        // a content-coded origin entity is decoded by the client, so its length does not apply
+        if (origin.getLength() >= 0 && origin.getHeaderString(HttpHeaders.CONTENT_ENCODING) == null)
+            relayed.header(HttpHeaders.CONTENT_LENGTH, origin.getLength());
+        
+        return relayed;
+    }
+    
     /**
      * Calculates variant-specific (strong) <code>ETag</code> value by adding variant hash to the content hash.
      * As a result, the same RDF graph in different syntaxes produces different <code>ETag</code>s.
@@ -319,7 +361,9 @@ public class Response
      * 
      * @param dataset RDF dataset
      * @return hash code
+     * @deprecated use {@link com.atomgraph.core.util.GraphDigest#hash(Dataset)} instead
      */
+    @Deprecated
     public static long hashDataset(Dataset dataset)
     {
         if (dataset == null) throw new IllegalArgumentException("Model cannot be null");
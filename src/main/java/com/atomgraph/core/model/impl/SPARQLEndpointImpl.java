@@ -20,12 +20,18 @@ import org.apache.jena.query.Query;
 import org.apache.jena.query.ResultSetRewindable;
 import org.apache.jena.rdf.model.*;
 import org.apache.jena.update.UpdateRequest;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
 import java.net.URI;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
 import jakarta.ws.rs.core.*;
 import com.atomgraph.core.MediaTypes;
+import com.atomgraph.core.exception.BadGatewayException;
+import com.atomgraph.core.io.ModelProvider;
 import com.atomgraph.core.model.EndpointAccessor;
 import com.atomgraph.core.model.SPARQLEndpoint;
 import static com.atomgraph.core.model.SPARQLEndpoint.DEFAULT_GRAPH_URI;
@@ -35,13 +41,16 @@ import static com.atomgraph.core.model.SPARQLEndpoint.UPDATE;
 import static com.atomgraph.core.model.SPARQLEndpoint.USING_GRAPH_URI;
 import static com.atomgraph.core.model.SPARQLEndpoint.USING_NAMED_GRAPH_URI;
 import com.atomgraph.core.model.Service;
-import com.atomgraph.core.util.ModelUtils;
+import com.atomgraph.core.util.CacheControlPolicy;
+import com.atomgraph.core.util.GraphDigest;
+import com.atomgraph.core.util.ResponseCache;
 import com.atomgraph.core.util.ResultSetUtils;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.BadRequestException;
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.FormParam;
 import jakarta.ws.rs.GET;
+import jakarta.ws.rs.NotAcceptableException;
 import jakarta.ws.rs.POST;
 import jakarta.ws.rs.QueryParam;
 import jakarta.ws.rs.core.Response;
@@ -50,6 +59,10 @@ import org.apache.jena.query.QueryFactory;
 import org.apache.jena.query.QueryParseException;
 import org.apache.jena.query.ResultSet;
 import org.apache.jena.query.ResultSetFactory;
+import org.apache.jena.riot.Lang;
+import org.apache.jena.riot.RDFLanguages;
+import org.apache.jena.riot.ResultSetMgr;
+import org.apache.jena.riot.system.StreamRDFWriter;
 import org.apache.jena.sparql.vocabulary.ResultSetGraphVocab;
 import org.apache.jena.update.UpdateFactory;
 import org.apache.jena.vocabulary.RDF;
@@ -70,29 +83,172 @@ public class SPARQLEndpointImpl implements SPARQLEndpoint
     private final Request request;
     private final EndpointAccessor accessor;
     private final MediaTypes mediaTypes;
+    private final boolean streaming;
+    private final GraphDigest graphDigest;
+    private final ResponseCache responseCache;
+    private final CacheControlPolicy cacheControlPolicy;
+    private final Long resultLimit;
+    private final UriInfo uriInfo;
+    private final boolean passThrough;
     
     /**
-     * Constructs SPARQL endpoint from request metadata.
+     * Constructs SPARQL endpoint from request metadata and application configuration.
      * 
      * @param request current request
      * @param service SPARQL service
      * @param mediaTypes supported media types
+     * @param uriInfo URI information
+     * @param system JAX-RS application
      */
     @Inject
-    public SPARQLEndpointImpl(@Context Request request, Service service, MediaTypes mediaTypes)
+    public SPARQLEndpointImpl(@Context Request request, Service service, MediaTypes mediaTypes, @Context UriInfo uriInfo, com.atomgraph.core.Application system)
+    {
+        this(request, service.getEndpointAccessor(), mediaTypes, system.isStreaming(), system.getGraphDigest(), system.getResponseCache(), system.getCacheControlPolicy(),
+            system.getResultLimit(), uriInfo, system.isPassThrough());
+    }
+    
+    /**
+     * Constructs SPARQL endpoint from request metadata and application configuration, with relative pagination links.
+     * 
+     * @param request current request
+     * @param service SPARQL service
+     * @param mediaTypes supported media types
+     * @param system JAX-RS application
+     */
+    public SPARQLEndpointImpl(Request request, Service service, MediaTypes mediaTypes, com.atomgraph.core.Application system)
+    {
+        this(request, service, mediaTypes, null, system);
+    }
+    
+    /**
+     * Constructs SPARQL endpoint from request metadata.
+     * 
+     * @param request current request
+     * @param service SPARQL service
+     * @param mediaTypes supported media types
+     */
+    public SPARQLEndpointImpl(Request request, Service service, MediaTypes mediaTypes)
     {
         this(request, service.getEndpointAccessor(), mediaTypes);
     }
     
     public SPARQLEndpointImpl(Request request, EndpointAccessor accessor, MediaTypes mediaTypes)
+    {
+        this(request, accessor, mediaTypes, false, GraphDigest.DEFAULT, null, CacheControlPolicy.NONE, null, null);
+    }
+    
+    /**
+     * Constructs SPARQL endpoint.
+     * 
+     * @param request current request
+     * @param accessor endpoint accessor
+     * @param mediaTypes supported media types
+     * @param streaming if true, query results are streamed to the response
+     */
+    public SPARQLEndpointImpl(Request request, EndpointAccessor accessor, MediaTypes mediaTypes, boolean streaming)
+    {
+        this(request, accessor, mediaTypes, streaming, GraphDigest.DEFAULT);
+    }
+    
+    /**
+     * Constructs SPARQL endpoint.
+     * 
+     * @param request current request
+     * @param accessor endpoint accessor
+     * @param mediaTypes supported media types
+     * @param streaming if true, query results are streamed to the response
+     * @param graphDigest graph digest strategy used for <code>ETag</code>s
+     */
+    public SPARQLEndpointImpl(Request request, EndpointAccessor accessor, MediaTypes mediaTypes, boolean streaming, GraphDigest graphDigest)
+    {
+        this(request, accessor, mediaTypes, streaming, graphDigest, null);
+    }
+    
+    /**
+     * Constructs SPARQL endpoint.
+     * 
+     * @param request current request
+     * @param accessor endpoint accessor
+     * @param mediaTypes supported media types
+     * @param streaming if true, query results are streamed to the response
+     * @param graphDigest graph digest strategy used for <code>ETag</code>s
+     * @param responseCache response cache or null if responses are not cached
+     */
+    public SPARQLEndpointImpl(Request request, EndpointAccessor accessor, MediaTypes mediaTypes, boolean streaming, GraphDigest graphDigest, ResponseCache responseCache)
+    {
+        this(request, accessor, mediaTypes, streaming, graphDigest, responseCache, CacheControlPolicy.NONE);
+    }
+    
+    /**
+     * Constructs SPARQL endpoint.
+     * 
+     * @param request current request
+     * @param accessor endpoint accessor
+     * @param mediaTypes supported media types
+     * @param streaming if true, query results are streamed to the response
+     * @param graphDigest graph digest strategy used for <code>ETag</code>s
+     * @param responseCache response cache or null if responses are not cached
+     * @param cacheControlPolicy <code>Cache-Control</code> header values
+     */
+    public SPARQLEndpointImpl(Request request, EndpointAccessor accessor, MediaTypes mediaTypes, boolean streaming, GraphDigest graphDigest, ResponseCache responseCache,
+            CacheControlPolicy cacheControlPolicy)
+    {
+        this(request, accessor, mediaTypes, streaming, graphDigest, responseCache, cacheControlPolicy, null, null);
+    }
+    
+    /**
+     * Constructs SPARQL endpoint.
+     * 
+     * @param request current request
+     * @param accessor endpoint accessor
+     * @param mediaTypes supported media types
+     * @param streaming if true, query results are streamed to the response
+     * @param graphDigest graph digest strategy used for <code>ETag</code>s
+     * @param responseCache response cache or null if responses are not cached
+     * @param cacheControlPolicy <code>Cache-Control</code> header values
+     * @param resultLimit max <code>LIMIT</code> of <code>SELECT</code> queries or null if unlimited
+     * @param uriInfo URI information used to build pagination links, or null if they are relative
+     */
+    public SPARQLEndpointImpl(Request request, EndpointAccessor accessor, MediaTypes mediaTypes, boolean streaming, GraphDigest graphDigest, ResponseCache responseCache,
+            CacheControlPolicy cacheControlPolicy, Long resultLimit, UriInfo uriInfo)
+    {
+        this(request, accessor, mediaTypes, streaming, graphDigest, responseCache, cacheControlPolicy, resultLimit, uriInfo, false);
+    }
+    
+    /**
+     * Constructs SPARQL endpoint with pass-through configuration.
+     * 
+     * @param request current request
+     * @param accessor endpoint accessor
+     * @param mediaTypes supported media types
+     * @param streaming if true, query results are streamed to the response
+     * @param graphDigest graph digest strategy used for <code>ETag</code>s
+     * @param responseCache response cache or null if responses are not cached
+     * @param cacheControlPolicy <code>Cache-Control</code> header values
+     * @param resultLimit max <code>LIMIT</code> of <code>SELECT</code> queries or null if unlimited
+     * @param uriInfo URI information used to build pagination links, or null if they are relative
+     * @param passThrough if true, origin query results in the negotiated media type are relayed without parsing
+     */
+    public SPARQLEndpointImpl(Request request, EndpointAccessor accessor, MediaTypes mediaTypes, boolean streaming, GraphDigest graphDigest, ResponseCache responseCache,
+            CacheControlPolicy cacheControlPolicy, Long resultLimit, UriInfo uriInfo, boolean passThrough)
     {
         if (request == null) throw new IllegalArgumentException("Request cannot be null");
         if (accessor == null) throw new IllegalArgumentException("EndpointAccessor cannot be null");
         if (mediaTypes == null) throw new IllegalArgumentException("MediaTypes cannot be null");
+        if (graphDigest == null) throw new IllegalArgumentException("GraphDigest cannot be null");
+        if (cacheControlPolicy == null) throw new IllegalArgumentException("CacheControlPolicy cannot be null");
+        if (resultLimit != null && resultLimit <= 0) throw new IllegalArgumentException("Result limit must be positive");
 
         this.request = request;
         this.accessor = accessor;
         this.mediaTypes = mediaTypes;
+        this.streaming = streaming;
+        this.graphDigest = graphDigest;
+        this.responseCache = responseCache;
+        this.cacheControlPolicy = cacheControlPolicy;
+        this.resultLimit = resultLimit;
+        this.uriInfo = uriInfo;
+        this.passThrough = passThrough;
         if (log.isDebugEnabled()) log.debug("Constructing SPARQLEndpointBase");
     }
     
@@ -101,7 +257,12 @@ public class SPARQLEndpointImpl implements SPARQLEndpoint
     public Response get(@QueryParam(QUERY) Query query,
             @QueryParam(DEFAULT_GRAPH_URI) List<URI> defaultGraphUris, @QueryParam(NAMED_GRAPH_URI) List<URI> namedGraphUris)
     {
-        return getResponseBuilder(query, defaultGraphUris, namedGraphUris).build();
+        Query limitedQuery = getLimitedQuery(query);
+        ResponseBuilder rb = getResponseBuilder(limitedQuery, defaultGraphUris, namedGraphUris);
+        if (limitedQuery != query) rb.link(getNextPageURI(query, limitedQuery, defaultGraphUris, namedGraphUris), "next");
+        
+        return rb.cacheControl(getCacheControl()).
+            build();
     }
     
     @Override
@@ -138,6 +299,7 @@ public class SPARQLEndpointImpl implements SPARQLEndpoint
     public Response post(UpdateRequest update, @QueryParam(USING_GRAPH_URI) List<URI> usingGraphUris, @QueryParam(USING_NAMED_GRAPH_URI) List<URI> usingNamedGraphUris)
     {
         getEndpointAccessor().update(update, usingGraphUris, usingNamedGraphUris);
+        if (getResponseCache() != null) getResponseCache().invalidateAll();
 
         return Response.ok().build();
     }
@@ -145,7 +307,8 @@ public class SPARQLEndpointImpl implements SPARQLEndpoint
     /**
      * Returns response builder for a SPARQL query.
      * Contains the main SPARQL endpoint JAX-RS implementation logic.
-     * Uses <code>a:resultLimit</code> parameter value from web.xml as <code>LIMIT</code> value on <code>SELECT</code> queries, if present.
+     * Responses are served from the response cache, if it is configured and results are not streamed.
+     * Otherwise, in pass-through mode, origin results are relayed without parsing if possible.
      * 
      * @param query SPARQL query
      * @param defaultGraphUris default graph URIs
@@ -156,24 +319,33 @@ public class SPARQLEndpointImpl implements SPARQLEndpoint
     {
         if (query == null) throw new BadRequestException("Query string not provided");
 
+        if (getResponseCache() != null && !isStreaming() &&
+                (query.isSelectType() || query.isAskType() || query.isConstructType() || query.isDescribeType()))
+            return getCachedResponseBuilder(query, defaultGraphUris, namedGraphUris);
+        
+        if (isPassThrough() && (query.isSelectType() || query.isConstructType() || query.isDescribeType()))
+        {
+            ResponseBuilder rb = getRelayResponseBuilder(query, defaultGraphUris, namedGraphUris);
+            if (rb != null) return rb;
+        }
+        
         if (query.isSelectType())
         {
+            if (isStreaming()) return getStreamingResponseBuilder(query, defaultGraphUris, namedGraphUris);
+            
             if (log.isDebugEnabled()) log.debug("Loading ResultSet using SELECT/ASK query: {}", query);
             return getResponseBuilder(getEndpointAccessor().select(query, defaultGraphUris, namedGraphUris));
         }
         if (query.isAskType())
         {
-            Model model = ModelFactory.createDefaultModel();
-            model.createResource().
-                addProperty(RDF.type, ResultSetGraphVocab.ResultSet).
-                addLiteral(ResultSetGraphVocab.p_boolean, getEndpointAccessor().ask(query, defaultGraphUris, namedGraphUris));
-                
             if (log.isDebugEnabled()) log.debug("Loading ResultSet using SELECT/ASK query: {}", query);
-            return getResponseBuilder(ResultSetFactory.copyResults(ResultSetFactory.makeResults(model)));
+            return getResponseBuilder(ask(query, defaultGraphUris, namedGraphUris));
         }
 
         if (query.isConstructType() || query.isDescribeType())
         {
+            if (isStreaming()) return getStreamingResponseBuilder(query, defaultGraphUris, namedGraphUris);
+            
             if (log.isDebugEnabled()) log.debug("Loading Model using CONSTRUCT/DESCRIBE query: {}", query);
             return getResponseBuilder(getEndpointAccessor().loadModel(query, defaultGraphUris, namedGraphUris));
         }
@@ -182,6 +354,216 @@ public class SPARQLEndpointImpl implements SPARQLEndpoint
         throw new BadRequestException("Unknown query type");
     }
 
+    /**
+     * Caps the <code>LIMIT</code> of a <code>SELECT</code> query at the result limit (<code>a:resultLimit</code> in web.xml), if it is configured.
+     * The query is cloned and its <code>LIMIT</code> replaced, which becomes the outermost slice of the query algebra.
+     * Queries with a lower <code>LIMIT</code> are returned as they are.
+     * 
+     * @param query SPARQL query
+     * @return the same query or a limited copy
+     */
+    public Query getLimitedQuery(Query query)
+    {
+        if (query == null || !query.isSelectType() || getResultLimit() == null) return query;
+        if (query.hasLimit() && query.getLimit() <= getResultLimit()) return query;
+        
+        Query limitedQuery = query.cloneQuery();
+        limitedQuery.setLimit(getResultLimit());
+        if (log.isDebugEnabled()) log.debug("Capped LIMIT of SELECT query at {}", getResultLimit());
+        return limitedQuery;
+    }
+    
+    /**
+     * Returns URI of the next page of a limited query.
+     * The next page continues at the <code>OFFSET</code> where the current page ends, and carries the rest of the original <code>LIMIT</code>, or no <code>LIMIT</code> if there was none.
+     * It is capped again when requested, so every page except the last one links to its successor.
+     * Since the number of results is not always known upfront, the last page of a query without <code>LIMIT</code> can be empty.
+     * 
+     * @param query original SPARQL query
+     * @param limitedQuery limited SPARQL query
+     * @param defaultGraphUris default graph URIs
+     * @param namedGraphUris named graph URIs
+     * @return next page URI
+     */
+    public URI getNextPageURI(Query query, Query limitedQuery, List<URI> defaultGraphUris, List<URI> namedGraphUris)
+    {
+        long offset = (limitedQuery.hasOffset() ? limitedQuery.getOffset() : 0) + limitedQuery.getLimit();
+
+        Query nextQuery = query.cloneQuery();
+        nextQuery.setOffset(offset);
+        if (query.hasLimit()) nextQuery.setLimit(query.getLimit() - limitedQuery.getLimit());
+
+        StringBuilder sb = new StringBuilder();
+        if (getUriInfo() != null) sb.append(getUriInfo().getAbsolutePath());
+        sb.append('?').append(QUERY).append('=').append(URLEncoder.encode(nextQuery.toString(), StandardCharsets.UTF_8));
+        if (defaultGraphUris != null)
+            for (URI defaultGraphUri : defaultGraphUris)
+                sb.append('&').append(DEFAULT_GRAPH_URI).append('=').append(URLEncoder.encode(defaultGraphUri.toString(), StandardCharsets.UTF_8));
+        if (namedGraphUris != null)
+            for (URI namedGraphUri : namedGraphUris)
+                sb.append('&').append(NAMED_GRAPH_URI).append('=').append(URLEncoder.encode(namedGraphUri.toString(), StandardCharsets.UTF_8));
+        
+        return URI.create(sb.toString());
+    }
+    
+    /**
+     * Returns streaming response builder for a <code>SELECT</code>, <code>CONSTRUCT</code>, or <code>DESCRIBE</code> query.
+     * Results are written straight from the query execution to the response stream, without buffering them in memory.
+     * Since the results are not known upfront, no <code>ETag</code> is calculated and request preconditions are not evaluated.
+     * RDF syntaxes without a streaming writer fall back to the buffered response.
+     * 
+     * @param query SPARQL query
+     * @param defaultGraphUris default graph URIs
+     * @param namedGraphUris named graph URIs
+     * @return response builder
+     */
+    public ResponseBuilder getStreamingResponseBuilder(Query query, List<URI> defaultGraphUris, List<URI> namedGraphUris)
+    {
+        Class clazz = query.isSelectType() ? ResultSet.class : Model.class;
+        Variant variant = getRequest().selectVariant(com.atomgraph.core.model.impl.Response.getVariants(getWritableMediaTypes(clazz), getLanguages(), getEncodings()));
+        if (variant == null) throw new NotAcceptableException();
+        
+        MediaType formatType = new MediaType(variant.getMediaType().getType(), variant.getMediaType().getSubtype()); // discard charset param
+        Lang lang = RDFLanguages.contentTypeToLang(formatType.toString());
+        
+        final StreamingOutput output;
+        if (query.isSelectType())
+        {
+            if (log.isDebugEnabled()) log.debug("Streaming ResultSet using SELECT query: {} and RDF language: {}", query, lang);
+            output = (OutputStream os) -> getEndpointAccessor().select(query, defaultGraphUris, namedGraphUris, resultSet -> ResultSetMgr.write(os, resultSet, lang));
+        }
+        else
+        {
+            if (!StreamRDFWriter.registered(lang))
+            {
+                if (log.isDebugEnabled()) log.debug("RDF language {} cannot be streamed, loading Model using CONSTRUCT/DESCRIBE query: {}", lang, query);
+                return getResponseBuilder(getEndpointAccessor().loadModel(query, defaultGraphUris, namedGraphUris));
+            }
+            
+            if (log.isDebugEnabled()) log.debug("Streaming triples using CONSTRUCT/DESCRIBE query: {} and RDF language: {}", query, lang);
+            output = (OutputStream os) -> getEndpointAccessor().loadModel(query, defaultGraphUris, namedGraphUris, lang, os);
+        }
+        
+        return Response.ok(output, variant);
+    }
+    
+    /**
+     * Returns response builder that relays the origin results of a <code>SELECT</code>, <code>CONSTRUCT</code>, or <code>DESCRIBE</code> query without parsing them.
+     * Only possible if the endpoint accessor supports relaying and the origin responds with the negotiated media type.
+     * The <code>ETag</code> and <code>Last-Modified</code> values are those of the origin.
+     * 
+     * @param query SPARQL query
+     * @param defaultGraphUris default graph URIs
+     * @param namedGraphUris named graph URIs
+     * @return response builder or null if the results have to be parsed
+     * @throws BadGatewayException if the origin responds with an unsuccessful status
+     */
+    public ResponseBuilder getRelayResponseBuilder(Query query, List<URI> defaultGraphUris, List<URI> namedGraphUris)
+    {
+        Class clazz = query.isSelectType() ? ResultSet.class : Model.class;
+        Variant variant = getRequest().selectVariant(com.atomgraph.core.model.impl.Response.getVariants(getWritableMediaTypes(clazz), getLanguages(), getEncodings()));
+        if (variant == null) throw new NotAcceptableException();
+        
+        MediaType formatType = new MediaType(variant.getMediaType().getType(), variant.getMediaType().getSubtype()); // discard charset param
+        Response origin = getEndpointAccessor().relay(query, formatType, defaultGraphUris, namedGraphUris);
+        if (origin == null) return null;
+        
+        if (!origin.getStatusInfo().getFamily().equals(Response.Status.Family.SUCCESSFUL))
+        {
+            origin.close();
+            throw new BadGatewayException("Remote SPARQL endpoint returned status: " + origin.getStatus()); // same as the parsing path, without running the query again
+        }
+        if (origin.getMediaType() == null || !origin.getMediaType().isCompatible(formatType))
+        {
+            if (log.isDebugEnabled()) log.debug("Origin responded with media type: {}, parsing results instead of relaying", origin.getMediaType());
+            origin.close(); // also cancels the query deadline of the relay
+            return null;
+        }
+        
+        if (log.isDebugEnabled()) log.debug("Relaying origin results of query: {} with media type: {}", query, origin.getMediaType());
+        return com.atomgraph.core.model.impl.Response.relay(getRequest(), origin, variant);
+    }
+    
+    /**
+     * Returns response builder for a SPARQL query, using the response cache.
+     * The response body is serialized once per query, dataset description and variant, and reused until the cache entry is evicted, expires or is invalidated by an update.
+     * 
+     * @param query SPARQL query
+     * @param defaultGraphUris default graph URIs
+     * @param namedGraphUris named graph URIs
+     * @return response builder
+     */
+    public ResponseBuilder getCachedResponseBuilder(Query query, List<URI> defaultGraphUris, List<URI> namedGraphUris)
+    {
+        Class clazz = query.isSelectType() || query.isAskType() ? ResultSet.class : Model.class;
+        Variant variant = getRequest().selectVariant(com.atomgraph.core.model.impl.Response.getVariants(getWritableMediaTypes(clazz), getLanguages(), getEncodings()));
+        if (variant == null) throw new NotAcceptableException();
+
+        ResponseCache.Entry entry = getResponseCache().get(new ResponseCache.Key(query, defaultGraphUris, namedGraphUris, variant),
+                key -> getResponseCacheEntry(query, defaultGraphUris, namedGraphUris, variant));
+        
+        return new com.atomgraph.core.model.impl.Response(getRequest(),
+                entry.getBody(),
+                null,
+                entry.getEntityTag(),
+                variant,
+                mediaType -> false).
+            getResponseBuilder();
+    }
+    
+    /**
+     * Executes a SPARQL query and serializes its results for the response cache.
+     * 
+     * @param query SPARQL query
+     * @param defaultGraphUris default graph URIs
+     * @param namedGraphUris named graph URIs
+     * @param variant response variant
+     * @return response cache entry
+     */
+    protected ResponseCache.Entry getResponseCacheEntry(Query query, List<URI> defaultGraphUris, List<URI> namedGraphUris, Variant variant)
+    {
+        MediaType formatType = new MediaType(variant.getMediaType().getType(), variant.getMediaType().getSubtype()); // discard charset param
+        Lang lang = RDFLanguages.contentTypeToLang(formatType.toString());
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        final EntityTag entityTag;
+        
+        if (query.isSelectType() || query.isAskType())
+        {
+            if (log.isDebugEnabled()) log.debug("Caching ResultSet using SELECT/ASK query: {} and RDF language: {}", query, lang);
+            ResultSetRewindable resultSet = query.isSelectType() ? getEndpointAccessor().select(query, defaultGraphUris, namedGraphUris) : ask(query, defaultGraphUris, namedGraphUris);
+            entityTag = new EntityTag(Long.toHexString(ResultSetUtils.hashResultSet(resultSet)));
+            resultSet.reset();
+            ResultSetMgr.write(baos, resultSet, lang);
+        }
+        else
+        {
+            if (log.isDebugEnabled()) log.debug("Caching Model using CONSTRUCT/DESCRIBE query: {} and RDF language: {}", query, lang);
+            Model model = getEndpointAccessor().loadModel(query, defaultGraphUris, namedGraphUris);
+            entityTag = new EntityTag(getGraphDigest().hash(model).toString());
+            new ModelProvider().write(model, baos, lang, null);
+        }
+        
+        return new ResponseCache.Entry(baos.toByteArray(), entityTag);
+    }
+    
+    /**
+     * Executes <code>ASK</code> query and wraps the boolean result into a result set.
+     * 
+     * @param query SPARQL query
+     * @param defaultGraphUris default graph URIs
+     * @param namedGraphUris named graph URIs
+     * @return result set
+     */
+    protected ResultSetRewindable ask(Query query, List<URI> defaultGraphUris, List<URI> namedGraphUris)
+    {
+        Model model = ModelFactory.createDefaultModel();
+        model.createResource().
+            addProperty(RDF.type, ResultSetGraphVocab.ResultSet).
+            addLiteral(ResultSetGraphVocab.p_boolean, getEndpointAccessor().ask(query, defaultGraphUris, namedGraphUris));
+
+        return ResultSetFactory.copyResults(ResultSetFactory.makeResults(model));
+    }
+    
     /**
      * Returns response builder for the given RDF model.
      * 
@@ -193,7 +575,7 @@ public class SPARQLEndpointImpl implements SPARQLEndpoint
         return new com.atomgraph.core.model.impl.Response(getRequest(),
                 model,
                 null,
-                new EntityTag(Long.toHexString(ModelUtils.hashModel(model))),
+                new EntityTag(getGraphDigest().hash(model).toString()),
                 getWritableMediaTypes(Model.class),
                 getLanguages(),
                 getEncodings()).
@@ -253,6 +635,71 @@ public class SPARQLEndpointImpl implements SPARQLEndpoint
         return new ArrayList<>();
     }
     
+    /**
+     * Returns true if query results are streamed to the response.
+     * 
+     * @return true if streaming
+     */
+    public boolean isStreaming()
+    {
+        return streaming;
+    }
+    
+    /**
+     * Returns true if origin query results in the negotiated media type are relayed without parsing.
+     * 
+     * @return true if pass-through is enabled
+     */
+    public boolean isPassThrough()
+    {
+        return passThrough;
+    }
+    
+    public GraphDigest getGraphDigest()
+    {
+        return graphDigest;
+    }
+    
+    /**
+     * Returns <code>Cache-Control</code> header value of query responses.
+     * 
+     * @return cache control or null if the header is not sent
+     */
+    public CacheControl getCacheControl()
+    {
+        return getCacheControlPolicy().getEndpointCacheControl();
+    }
+    
+    public CacheControlPolicy getCacheControlPolicy()
+    {
+        return cacheControlPolicy;
+    }
+    
+    /**
+     * Returns SPARQL response cache.
+     * 
+     * @return response cache or null if responses are not cached
+     */
+    public ResponseCache getResponseCache()
+    {
+        return responseCache;
+    }
+    
+    /**
+     * Returns max <code>LIMIT</code> of <code>SELECT</code> queries.
+     * 
+     * @return result limit or null if unlimited
+     */
+    public Long getResultLimit()
+    {
+        return resultLimit;
+    }
+    
+    public UriInfo getUriInfo()
+    {
+        return uriInfo;
+    }
+    
     public Request getRequest()
     {
         return request;
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026 Martynas Jusevičius <martynas@atomgraph.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.atomgraph.core.model.impl.async;
+
+import com.atomgraph.core.MediaTypes;
+import com.atomgraph.core.model.Service;
+import com.atomgraph.core.model.impl.DirectGraphStoreImpl;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.DELETE;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.PUT;
+import jakarta.ws.rs.container.AsyncResponse;
+import jakarta.ws.rs.container.Suspended;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.Request;
+import jakarta.ws.rs.core.UriInfo;
+import org.apache.jena.rdf.model.Model;
+import org.glassfish.jersey.server.ManagedAsync;
+
+/**
+ * Asynchronous directly-identified SPARQL Graph Store.
+ * Suspends the request and accesses the dataset on the managed async executor, which does not block the container thread.
+ * Delegates the request processing to {@link DirectGraphStoreImpl}.
+ * 
+ * @author Martynas Jusevičius {@literal <martynas@atomgraph.com>}
+ * @see VirtualThreadExecutorProvider
+ */
+public class AsyncDirectGraphStoreImpl
+{
+
+    private final DirectGraphStoreImpl graphStore;
+
+    /**
+     * Constructs Graph Store from request metadata and application configuration.
+     * 
+     * @param request request
+     * @param service SPARQL service
+     * @param mediaTypes supported media types
+     * @param uriInfo URI information
+     * @param system JAX-RS application
+     */
+    @Inject
+    public AsyncDirectGraphStoreImpl(@Context Request request, Service service, MediaTypes mediaTypes, @Context UriInfo uriInfo, com.atomgraph.core.Application system)
+    {
+        this(new DirectGraphStoreImpl(request, service, mediaTypes, uriInfo, system));
+    }
+
+    /**
+     * Constructs Graph Store from a synchronous delegate.
+     * 
+     * @param graphStore synchronous Graph Store
+     */
+    public AsyncDirectGraphStoreImpl(DirectGraphStoreImpl graphStore)
+    {
+        if (graphStore == null) throw new IllegalArgumentException("DirectGraphStoreImpl cannot be null");
+        this.graphStore = graphStore;
+    }
+
+    @GET
+    @ManagedAsync
+    public void get(@Suspended AsyncResponse asyncResponse)
+    {
+        asyncResponse.resume(getGraphStore().get());
+    }
+
+    @POST
+    @ManagedAsync
+    public void post(@Suspended AsyncResponse asyncResponse, Model model)
+    {
+        asyncResponse.resume(getGraphStore().post(model));
+    }
+
+    @PUT
+    @ManagedAsync
+    public void put(@Suspended AsyncResponse asyncResponse, Model model)
+    {
+        asyncResponse.resume(getGraphStore().put(model));
+    }
+
+    @DELETE
+    @ManagedAsync
+    public void delete(@Suspended AsyncResponse asyncResponse)
+    {
+        asyncResponse.resume(getGraphStore().delete());
+    }
+
+    public DirectGraphStoreImpl getGraphStore()
+    {
+        return graphStore;
+    }
+
+}
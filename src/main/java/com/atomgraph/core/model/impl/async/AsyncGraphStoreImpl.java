@@ -0,0 +1,130 @@
+/*
+ * Copyright 2026 Martynas Jusevičius <martynas@atomgraph.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.atomgraph.core.model.impl.async;
+
+import com.atomgraph.core.MediaTypes;
+import com.atomgraph.core.model.Service;
+import com.atomgraph.core.model.impl.GraphStoreImpl;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.DELETE;
+import jakarta.ws.rs.DefaultValue;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.PUT;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.container.AsyncResponse;
+import jakarta.ws.rs.container.Suspended;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.Request;
+import jakarta.ws.rs.core.UriInfo;
+import jakarta.ws.rs.ext.Providers;
+import java.io.InputStream;
+import java.net.URI;
+import org.apache.jena.rdf.model.Model;
+import org.glassfish.jersey.server.ManagedAsync;
+
+/**
+ * Asynchronous indirectly-identified SPARQL Graph Store.
+ * Suspends the request and accesses the dataset on the managed async executor, which does not block the container thread.
+ * Delegates the request processing to {@link GraphStoreImpl}.
+ * 
+ * @author Martynas Jusevičius {@literal <martynas@atomgraph.com>}
+ * @see VirtualThreadExecutorProvider
+ */
+public class AsyncGraphStoreImpl
+{
+
+    private final GraphStoreImpl graphStore;
+
+    /**
+     * Constructs Graph Store from request metadata and application configuration.
+     * 
+     * @param request request
+     * @param service SPARQL service
+     * @param mediaTypes supported media types
+     * @param system JAX-RS application
+     */
+    @Inject
+    public AsyncGraphStoreImpl(@Context Request request, Service service, MediaTypes mediaTypes, com.atomgraph.core.Application system)
+    {
+        this(new GraphStoreImpl(request, service, mediaTypes, system));
+    }
+
+    /**
+     * Constructs Graph Store from a synchronous delegate.
+     * 
+     * @param graphStore synchronous Graph Store
+     */
+    public AsyncGraphStoreImpl(GraphStoreImpl graphStore)
+    {
+        if (graphStore == null) throw new IllegalArgumentException("GraphStoreImpl cannot be null");
+        this.graphStore = graphStore;
+    }
+
+    @GET
+    @ManagedAsync
+    public void get(@Suspended AsyncResponse asyncResponse, @QueryParam("default") @DefaultValue("false") Boolean defaultGraph, @QueryParam("graph") URI graphUri)
+    {
+        asyncResponse.resume(getGraphStore().get(defaultGraph, graphUri));
+    }
+
+    @POST
+    @ManagedAsync
+    public void post(@Suspended AsyncResponse asyncResponse, Model model, @QueryParam("default") @DefaultValue("false") Boolean defaultGraph, @QueryParam("graph") URI graphUri)
+    {
+        asyncResponse.resume(getGraphStore().post(model, defaultGraph, graphUri));
+    }
+
+    @PUT
+    @ManagedAsync
+    public void put(@Suspended AsyncResponse asyncResponse, Model model, @QueryParam("default") @DefaultValue("false") Boolean defaultGraph, @QueryParam("graph") URI graphUri)
+    {
+        asyncResponse.resume(getGraphStore().put(model, defaultGraph, graphUri));
+    }
+
+    @POST
+    @ManagedAsync
+    @Consumes({ "application/n-triples", "text/turtle", "application/rdf+thrift" })
+    public void post(@Suspended AsyncResponse asyncResponse, InputStream in, @Context HttpHeaders headers, @Context UriInfo uriInfo, @Context Providers providers,
+            @QueryParam("default") @DefaultValue("false") Boolean defaultGraph, @QueryParam("graph") URI graphUri)
+    {
+        asyncResponse.resume(getGraphStore().post(in, headers, uriInfo, providers, defaultGraph, graphUri));
+    }
+
+    @PUT
+    @ManagedAsync
+    @Consumes({ "application/n-triples", "text/turtle", "application/rdf+thrift" })
+    public void put(@Suspended AsyncResponse asyncResponse, InputStream in, @Context HttpHeaders headers, @Context UriInfo uriInfo, @Context Providers providers,
+            @QueryParam("default") @DefaultValue("false") Boolean defaultGraph, @QueryParam("graph") URI graphUri)
+    {
+        asyncResponse.resume(getGraphStore().put(in, headers, uriInfo, providers, defaultGraph, graphUri));
+    }
+
+    @DELETE
+    @ManagedAsync
+    public void delete(@Suspended AsyncResponse asyncResponse, @QueryParam("default") @DefaultValue("false") Boolean defaultGraph, @QueryParam("graph") URI graphUri)
+    {
+        asyncResponse.resume(getGraphStore().delete(defaultGraph, graphUri));
+    }
+
+    public GraphStoreImpl getGraphStore()
+    {
+        return graphStore;
+    }
+
+}
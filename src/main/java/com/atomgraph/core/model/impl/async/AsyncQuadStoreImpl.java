@@ -0,0 +1,104 @@
+/*
+ * Copyright 2026 Martynas Jusevičius <martynas@atomgraph.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.atomgraph.core.model.impl.async;
+
+import com.atomgraph.core.MediaTypes;
+import com.atomgraph.core.model.Service;
+import com.atomgraph.core.model.impl.QuadStoreImpl;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.DELETE;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.PUT;
+import jakarta.ws.rs.container.AsyncResponse;
+import jakarta.ws.rs.container.Suspended;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.Request;
+import org.apache.jena.query.Dataset;
+import org.glassfish.jersey.server.ManagedAsync;
+
+/**
+ * Asynchronous quad store.
+ * Suspends the request and accesses the dataset on the managed async executor, which does not block the container thread.
+ * Delegates the request processing to {@link QuadStoreImpl}.
+ * 
+ * @author Martynas Jusevičius {@literal <martynas@atomgraph.com>}
+ * @see VirtualThreadExecutorProvider
+ */
+public class AsyncQuadStoreImpl
+{
+
+    private final QuadStoreImpl quadStore;
+
+    /**
+     * Constructs quad store from request metadata and application configuration.
+     * 
+     * @param request request
+     * @param service SPARQL service
+     * @param mediaTypes supported media types
+     * @param system JAX-RS application
+     */
+    @Inject
+    public AsyncQuadStoreImpl(@Context Request request, Service service, MediaTypes mediaTypes, com.atomgraph.core.Application system)
+    {
+        this(new QuadStoreImpl(request, service, mediaTypes, system));
+    }
+
+    /**
+     * Constructs quad store from a synchronous delegate.
+     * 
+     * @param quadStore synchronous quad store
+     */
+    public AsyncQuadStoreImpl(QuadStoreImpl quadStore)
+    {
+        if (quadStore == null) throw new IllegalArgumentException("QuadStoreImpl cannot be null");
+        this.quadStore = quadStore;
+    }
+
+    @GET
+    @ManagedAsync
+    public void get(@Suspended AsyncResponse asyncResponse)
+    {
+        asyncResponse.resume(getQuadStore().get());
+    }
+
+    @POST
+    @ManagedAsync
+    public void post(@Suspended AsyncResponse asyncResponse, Dataset dataset)
+    {
+        asyncResponse.resume(getQuadStore().post(dataset));
+    }
+
+    @PUT
+    @ManagedAsync
+    public void put(@Suspended AsyncResponse asyncResponse, Dataset dataset)
+    {
+        asyncResponse.resume(getQuadStore().put(dataset));
+    }
+
+    @DELETE
+    @ManagedAsync
+    public void delete(@Suspended AsyncResponse asyncResponse)
+    {
+        asyncResponse.resume(getQuadStore().delete());
+    }
+
+    public QuadStoreImpl getQuadStore()
+    {
+        return quadStore;
+    }
+
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2026 Martynas Jusevičius <martynas@atomgraph.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.atomgraph.core.model.impl.async;
+
+import com.atomgraph.core.MediaTypes;
+import static com.atomgraph.core.model.SPARQLEndpoint.DEFAULT_GRAPH_URI;
+import static com.atomgraph.core.model.SPARQLEndpoint.NAMED_GRAPH_URI;
+import static com.atomgraph.core.model.SPARQLEndpoint.QUERY;
+import static com.atomgraph.core.model.SPARQLEndpoint.UPDATE;
+import static com.atomgraph.core.model.SPARQLEndpoint.USING_GRAPH_URI;
+import static com.atomgraph.core.model.SPARQLEndpoint.USING_NAMED_GRAPH_URI;
+import com.atomgraph.core.model.Service;
+import com.atomgraph.core.model.impl.AbortingConnectionCallback;
+import com.atomgraph.core.model.impl.SPARQLEndpointImpl;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.FormParam;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.container.AsyncResponse;
+import jakarta.ws.rs.container.Suspended;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.Request;
+import jakarta.ws.rs.core.UriInfo;
+import java.net.URI;
+import java.util.List;
+import org.apache.jena.query.Query;
+import org.apache.jena.update.UpdateRequest;
+import org.glassfish.jersey.server.ManagedAsync;
+
+/**
+ * Asynchronous SPARQL endpoint.
+ * Suspends the request and executes the query on the managed async executor, which does not block the container thread.
+ * Query execution is aborted if the client disconnects.
+ * Delegates the request processing to {@link SPARQLEndpointImpl}.
+ * 
+ * @author Martynas Jusevičius {@literal <martynas@atomgraph.com>}
+ * @see VirtualThreadExecutorProvider
+ */
+public class AsyncSPARQLEndpointImpl
+{
+
+    private final SPARQLEndpointImpl endpoint;
+
+    /**
+     * Constructs SPARQL endpoint from request metadata and application configuration.
+     * 
+     * @param request current request
+     * @param service SPARQL service
+     * @param mediaTypes supported media types
+     * @param uriInfo URI information
+     * @param system JAX-RS application
+     */
+    @Inject
+    public AsyncSPARQLEndpointImpl(@Context Request request, Service service, MediaTypes mediaTypes, @Context UriInfo uriInfo, com.atomgraph.core.Application system)
+    {
+        this(new SPARQLEndpointImpl(request, service, mediaTypes, uriInfo, system));
+    }
+
+    /**
+     * Constructs SPARQL endpoint from a synchronous delegate.
+     * 
+     * @param endpoint synchronous SPARQL endpoint
+     */
+    public AsyncSPARQLEndpointImpl(SPARQLEndpointImpl endpoint)
+    {
+        if (endpoint == null) throw new IllegalArgumentException("SPARQLEndpointImpl cannot be null");
+        this.endpoint = endpoint;
+    }
+
+    @GET
+    @ManagedAsync
+    public void get(@Suspended AsyncResponse asyncResponse, @QueryParam(QUERY) Query query,
+            @QueryParam(DEFAULT_GRAPH_URI) List<URI> defaultGraphUris, @QueryParam(NAMED_GRAPH_URI) List<URI> namedGraphUris)
+    {
+        asyncResponse.register(new AbortingConnectionCallback(getSPARQLEndpoint().getEndpointAccessor()));
+        asyncResponse.resume(getSPARQLEndpoint().get(query, defaultGraphUris, namedGraphUris));
+    }
+
+    @POST
+    @ManagedAsync
+    @Consumes(com.atomgraph.core.MediaType.APPLICATION_FORM_URLENCODED)
+    public void post(@Suspended AsyncResponse asyncResponse, @FormParam(QUERY) String queryString, @FormParam(UPDATE) String updateString,
+            @FormParam(DEFAULT_GRAPH_URI) List<URI> defaultGraphUris, @FormParam(NAMED_GRAPH_URI) List<URI> namedGraphUris,
+            @FormParam(USING_GRAPH_URI) List<URI> usingGraphUris, @FormParam(USING_NAMED_GRAPH_URI) List<URI> usingNamedGraphUris)
+    {
+        asyncResponse.register(new AbortingConnectionCallback(getSPARQLEndpoint().getEndpointAccessor()));
+        asyncResponse.resume(getSPARQLEndpoint().post(queryString, updateString, defaultGraphUris, namedGraphUris, usingGraphUris, usingNamedGraphUris));
+    }
+
+    @POST
+    @ManagedAsync
+    @Consumes(com.atomgraph.core.MediaType.APPLICATION_SPARQL_QUERY)
+    public void post(@Suspended AsyncResponse asyncResponse, Query query,
+            @QueryParam(DEFAULT_GRAPH_URI) List<URI> defaultGraphUris, @QueryParam(NAMED_GRAPH_URI) List<URI> namedGraphUris)
+    {
+        asyncResponse.register(new AbortingConnectionCallback(getSPARQLEndpoint().getEndpointAccessor()));
+        asyncResponse.resume(getSPARQLEndpoint().post(query, defaultGraphUris, namedGraphUris));
+    }
+
+    @POST
+    @ManagedAsync
+    @Consumes(com.atomgraph.core.MediaType.APPLICATION_SPARQL_UPDATE)
+    public void post(@Suspended AsyncResponse asyncResponse, UpdateRequest update,
+            @QueryParam(USING_GRAPH_URI) List<URI> usingGraphUris, @QueryParam(USING_NAMED_GRAPH_URI) List<URI> usingNamedGraphUris)
+    {
+        asyncResponse.resume(getSPARQLEndpoint().post(update, usingGraphUris, usingNamedGraphUris));
+    }
+
+    public SPARQLEndpointImpl getSPARQLEndpoint()
+    {
+        return endpoint;
+    }
+
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2026 Martynas Jusevičius <martynas@atomgraph.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.atomgraph.core.model.impl.async;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.glassfish.jersey.server.ManagedAsyncExecutor;
+import org.glassfish.jersey.spi.ExecutorServiceProvider;
+
+/**
+ * Provides the executor of <code>@ManagedAsync</code> resource methods, which starts a new virtual thread for each request.
+ * Threads blocked on backend I/O do not occupy container threads, therefore a small container thread pool can serve many concurrent slow queries.
+ * 
+ * @author Martynas Jusevičius {@literal <martynas@atomgraph.com>}
+ * @see org.glassfish.jersey.server.ManagedAsync
+ */
+@ManagedAsyncExecutor
+public class VirtualThreadExecutorProvider implements ExecutorServiceProvider
+{
+
+    private final ExecutorService executorService = Executors.newVirtualThreadPerTaskExecutor();
+
+    @Override
+    public ExecutorService getExecutorService()
+    {
+        return executorService;
+    }
+
+    @Override
+    public void dispose(ExecutorService executorService)
+    {
+        executorService.shutdown();
+    }
+
+}
@@ -18,9 +18,23 @@
 package com.atomgraph.core.model.impl.dataset;
 
 import com.atomgraph.core.model.DatasetAccessor;
+import com.atomgraph.core.riot.lang.ParallelLineParser;
+import com.atomgraph.core.util.Hash128;
+import java.io.InputStream;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.GraphUtil;
+import org.apache.jena.graph.NodeFactory;
+import org.apache.jena.graph.Triple;
 import org.apache.jena.query.Dataset;
+import org.apache.jena.query.ReadWrite;
 import org.apache.jena.rdf.model.Model;
 import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.riot.Lang;
+import org.apache.jena.riot.RDFParser;
+import org.apache.jena.riot.system.ErrorHandlerFactory;
+import org.apache.jena.riot.system.StreamRDFBase;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -34,13 +48,50 @@ import org.slf4j.LoggerFactory;
 public class DatasetAccessorImpl implements DatasetAccessor
 {
     private static final Logger log = LoggerFactory.getLogger(DatasetAccessorImpl.class);
+    
+    /** Number of parsed triples that are added to the target graph at once */
+    public static final int INGEST_BATCH_SIZE = 10000;
 
     private final Dataset dataset;
+    private final DatasetDigest digest;
+    private final int parseParallelism;
+    private final Executor parseExecutor;
         
     public DatasetAccessorImpl(Dataset dataset)
+    {
+        this(dataset, new DatasetDigest(dataset));
+    }
+    
+    /**
+     * Constructs accessor that maintains graph digests on mutation.
+     * 
+     * @param dataset RDF dataset
+     * @param digest digest of the same dataset
+     */
+    public DatasetAccessorImpl(Dataset dataset, DatasetDigest digest)
+    {
+        this(dataset, digest, 1, null);
+    }
+    
+    /**
+     * Constructs accessor that maintains graph digests on mutation and parses ingested N-Triples on multiple threads.
+     * 
+     * @param dataset RDF dataset
+     * @param digest digest of the same dataset
+     * @param parseParallelism max number of N-Triples chunks parsed at once. 1 disables parallel parsing.
+     * @param parseExecutor executor that parses the chunks, or null if parallel parsing is disabled
+     * @see ParallelLineParser
+     */
+    public DatasetAccessorImpl(Dataset dataset, DatasetDigest digest, int parseParallelism, Executor parseExecutor)
     {
         if (dataset == null) throw new IllegalArgumentException("Dataset cannot be null");
+        if (digest == null) throw new IllegalArgumentException("DatasetDigest cannot be null");
+        if (parseParallelism < 1) throw new IllegalArgumentException("Parallelism must be positive");
+        if (parseParallelism > 1 && parseExecutor == null) throw new IllegalArgumentException("Executor cannot be null if parallelism is greater than 1");
         this.dataset = dataset;
+        this.digest = digest;
+        this.parseParallelism = parseParallelism;
+        this.parseExecutor = parseExecutor;
     }
 
     @Override
@@ -64,37 +115,254 @@ public class DatasetAccessorImpl implements DatasetAccessor
     @Override
     public void putModel(Model model)
     {
-        getDataset().setDefaultModel(model);
+        getDatasetDigest().write(() ->
+        {
+            getDatasetDigest().put(null, model);
+            getDataset().setDefaultModel(model);
+        });
     }
 
     @Override
     public void putModel(String uri, Model model)
     {
-        getDataset().replaceNamedModel(uri, model);
+        getDatasetDigest().write(() ->
+        {
+            getDatasetDigest().put(uri, model);
+            getDataset().replaceNamedModel(uri, model);
+        });
     }
 
     @Override
     public void deleteDefault()
     {
-        getDataset().setDefaultModel(ModelFactory.createDefaultModel());
+        getDatasetDigest().write(() ->
+        {
+            getDatasetDigest().remove(null);
+            getDataset().setDefaultModel(ModelFactory.createDefaultModel());
+        });
     }
 
     @Override
     public void deleteModel(String uri)
     {
-        getDataset().removeNamedModel(uri);
+        getDatasetDigest().write(() ->
+        {
+            getDatasetDigest().remove(uri);
+            getDataset().removeNamedModel(uri);
+        });
     }
 
     @Override
     public void add(Model model)
     {
-        getDataset().getDefaultModel().add(model);
+        getDatasetDigest().write(() ->
+        {
+            getDatasetDigest().add(null, model);
+            getDataset().getDefaultModel().add(model);
+        });
     }
 
     @Override
     public void add(String uri, Model model)
     {
-        getDataset().addNamedModel(uri, model);
+        getDatasetDigest().write(() ->
+        {
+            getDatasetDigest().add(uri, model);
+            getDataset().addNamedModel(uri, model);
+        });
+    }
+
+    /**
+     * Parses the stream straight into the target graph, without buffering the payload in a separate model.
+     * 
+     * @param uri graph name or null for the default graph
+     * @param in RDF payload stream
+     * @param lang RDF syntax of the payload
+     * @param baseURI base URI used to resolve relative URIs, or null
+     * @return number of parsed statements
+     */
+    @Override
+    public long add(String uri, InputStream in, Lang lang, String baseURI)
+    {
+        return ingest(uri, in, lang, baseURI, false);
+    }
+
+    /**
+     * Clears the target graph and parses the stream straight into it, without buffering the payload in a separate model.
+     * 
+     * @param uri graph name or null for the default graph
+     * @param in RDF payload stream
+     * @param lang RDF syntax of the payload
+     * @param baseURI base URI used to resolve relative URIs, or null
+     * @return number of parsed statements
+     */
+    @Override
+    public long putModel(String uri, InputStream in, Lang lang, String baseURI)
+    {
+        return ingest(uri, in, lang, baseURI, true);
+    }
+    
+    /**
+     * Parses RDF stream into a graph of the dataset in batches.
+     * The whole payload is ingested in a single write transaction if the dataset supports them, so that a parse error leaves the graph unchanged.
+     * The digest lock is not held while the stream is read, so that digests of all graphs can be read during a long or stalled upload.
+     * In a transaction, the digest of the new triples is accumulated and applied on commit, otherwise it is applied after each batch.
+     * 
+     * @param uri graph name or null for the default graph
+     * @param in RDF payload stream
+     * @param lang RDF syntax of the payload
+     * @param baseURI base URI used to resolve relative URIs, or null
+     * @param replace if true, the graph is cleared first
+     * @return number of parsed statements
+     */
+    protected long ingest(String uri, InputStream in, Lang lang, String baseURI, boolean replace)
+    {
+        if (in == null) throw new IllegalArgumentException("InputStream cannot be null");
+        if (lang == null) throw new IllegalArgumentException("Lang cannot be null");
+        
+        long start = System.nanoTime();
+        final long count;
+        if (getDataset().supportsTransactions() && !getDataset().isInTransaction())
+        {
+            getDataset().begin(ReadWrite.WRITE);
+            try
+            {
+                GraphIngest stream = parse(uri, in, lang, baseURI, replace, true);
+                getDatasetDigest().commit(() ->
+                {
+                    if (replace) getDatasetDigest().put(uri, stream.getDelta()); // the graph was empty, so the delta is the whole digest
+                    else getDatasetDigest().add(uri, stream.getDelta());
+                });
+                count = stream.getCount();
+            }
+            finally
+            {
+                getDataset().end(); // aborts if not committed
+            }
+        }
+        else
+        {
+            try
+            {
+                count = parse(uri, in, lang, baseURI, replace, false).getCount();
+            }
+            catch (RuntimeException ex)
+            {
+                getDatasetDigest().remove(uri); // batches that were already counted are not rolled back, but the graph is partially ingested
+                throw ex;
+            }
+        }
+        
+        long millis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        if (log.isDebugEnabled()) log.debug("Ingested {} triples into graph <{}> in {} ms ({} triples/s)", count, uri, millis, count * 1000 / millis);
+        return count;
+    }
+    
+    private GraphIngest parse(String uri, InputStream in, Lang lang, String baseURI, boolean replace, boolean deferred)
+    {
+        Graph graph = uri == null ? getDataset().asDatasetGraph().getDefaultGraph() : getDataset().asDatasetGraph().getGraph(NodeFactory.createURI(uri));
+        if (replace)
+        {
+            if (deferred) graph.clear(); // digest is replaced on commit
+            else synchronized (getDatasetDigest())
+            {
+                getDatasetDigest().remove(uri);
+                graph.clear();
+            }
+        }
+        
+        GraphIngest stream = new GraphIngest(uri, graph, deferred);
+        if (getParseParallelism() > 1 && ParallelLineParser.isSupported(lang))
+        {
+            new ParallelLineParser(lang, baseURI, ErrorHandlerFactory.errorHandlerStrict, getParseParallelism(), getParseExecutor()).parse(in, stream);
+            return stream;
+        }
+        
+        RDFParser.create().
+            lang(lang).
+            errorHandler(ErrorHandlerFactory.errorHandlerStrict). // same as ModelProvider
+            checking(true).
+            base(baseURI).
+            source(in).
+            parse(stream);
+        
+        return stream;
+    }
+    
+    /**
+     * RDF stream that adds parsed triples to a graph in batches and maintains its digest.
+     * If the digest update is deferred, the digest of the new triples is accumulated instead of being applied to the dataset digest.
+     */
+    protected class GraphIngest extends StreamRDFBase
+    {
+        
+        private final String uri;
+        private final Graph graph;
+        private final boolean deferred;
+        private final Graph batch = ModelFactory.createDefaultModel().getGraph();
+        private Hash128 delta = Hash128.ZERO;
+        private long count = 0;
+
+        public GraphIngest(String uri, Graph graph, boolean deferred)
+        {
+            this.uri = uri;
+            this.graph = graph;
+            this.deferred = deferred;
+        }
+        
+        @Override
+        public void triple(Triple triple)
+        {
+            batch.add(triple);
+            count++;
+            if (batch.size() >= INGEST_BATCH_SIZE) flush();
+        }
+
+        @Override
+        public void finish()
+        {
+            flush();
+        }
+        
+        protected void flush()
+        {
+            if (batch.isEmpty()) return;
+            
+            if (deferred)
+            {
+                delta = delta.add(getDatasetDigest().delta(graph, batch)); // before the graph is modified
+                GraphUtil.addInto(graph, batch);
+            }
+            else synchronized (getDatasetDigest())
+            {
+                getDatasetDigest().add(uri, ModelFactory.createModelForGraph(batch)); // before the graph is modified
+                GraphUtil.addInto(graph, batch);
+            }
+            batch.clear();
+        }
+        
+        public long getCount()
+        {
+            return count;
+        }
+        
+        public Hash128 getDelta()
+        {
+            return delta;
+        }
+        
+    }
+
+    @Override
+    public String getDigest()
+    {
+        return getDatasetDigest().get().toString();
+    }
+
+    @Override
+    public String getDigest(String uri)
+    {
+        return getDatasetDigest().get(uri).toString();
     }
 
     public Dataset getDataset()
@@ -102,4 +370,19 @@ public class DatasetAccessorImpl implements DatasetAccessor
         return dataset;
     }
 
-}
\ No newline at end of file
+    public DatasetDigest getDatasetDigest()
+    {
+        return digest;
+    }
+
+    public int getParseParallelism()
+    {
+        return parseParallelism;
+    }
+
+    public Executor getParseExecutor()
+    {
+        return parseExecutor;
+    }
+
+}
@@ -0,0 +1,302 @@
+/*
+ * Copyright 2026 Martynas Jusevičius <martynas@atomgraph.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.atomgraph.core.model.impl.dataset;
+
+import com.atomgraph.core.util.GraphDigest;
+import com.atomgraph.core.util.Hash128;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.NodeFactory;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.query.Dataset;
+import org.apache.jena.query.ReadWrite;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.sparql.core.Quad;
+import org.apache.jena.util.iterator.ExtendedIterator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Running, order-independent digests of the graphs in an RDF dataset.
+ * Graph digests are calculated lazily on first access and then maintained incrementally on every mutation,
+ * which makes <code>ETag</code> calculation constant-time.
+ * The digest of a graph is the sum of its triple hashes, as calculated by {@link GraphDigest#hash(Model)}.
+ * All dataset mutations have to be reported to this class, otherwise {@link #invalidate()} needs to be called.
+ *
+ * @author Martynas Jusevičius {@literal <martynas@atomgraph.com>}
+ */
+public class DatasetDigest
+{
+
+    private static final Logger log = LoggerFactory.getLogger(DatasetDigest.class);
+
+    private static final String DEFAULT_GRAPH_KEY = Quad.defaultGraphIRI.getURI();
+
+    private final Dataset dataset;
+    private final GraphDigest graphDigest;
+    private final Map<String, Hash128> digests = new ConcurrentHashMap<>();
+
+    public DatasetDigest(Dataset dataset)
+    {
+        this(dataset, GraphDigest.DEFAULT);
+    }
+
+    public DatasetDigest(Dataset dataset, GraphDigest graphDigest)
+    {
+        if (dataset == null) throw new IllegalArgumentException("Dataset cannot be null");
+        if (graphDigest == null) throw new IllegalArgumentException("GraphDigest cannot be null");
+        this.dataset = dataset;
+        this.graphDigest = graphDigest;
+    }
+
+    /**
+     * Returns the digest of the default graph.
+     *
+     * @return digest value
+     */
+    public Hash128 get()
+    {
+        return get(null);
+    }
+
+    /**
+     * Returns the digest of a graph.
+     *
+     * @param graphUri named graph URI or null for the default graph
+     * @return digest value
+     */
+    public synchronized Hash128 get(String graphUri)
+    {
+        return digests.computeIfAbsent(getKey(graphUri), key -> hash(getModel(graphUri)));
+    }
+
+    /**
+     * Returns the digest of the whole dataset.
+     * It is combined from the graph digests the same way as in {@link GraphDigest#hash(Dataset)}.
+     *
+     * @return digest value
+     */
+    public synchronized Hash128 getTotal()
+    {
+        Hash128 digest = get();
+
+        Iterator<String> it = dataset.listNames();
+        while (it.hasNext())
+        {
+            String graphUri = it.next();
+            digest = digest.add(getGraphDigest().hash(NodeFactory.createURI(graphUri), get(graphUri)));
+        }
+
+        return digest;
+    }
+
+    /**
+     * Updates the digest of a graph with triples that are about to be added to it.
+     * Has to be called <em>before</em> the dataset is modified, so that already existing triples can be skipped.
+     *
+     * @param graphUri named graph URI or null for the default graph
+     * @param model triples to be added
+     */
+    public synchronized void add(String graphUri, Model model)
+    {
+        if (model == null) throw new IllegalArgumentException("Model cannot be null");
+
+        if (!digests.containsKey(getKey(graphUri))) return; // not calculated yet, nothing to maintain
+
+        add(graphUri, delta(getModel(graphUri).getGraph(), model.getGraph()));
+    }
+
+    /**
+     * Updates the digest of a graph with the digest of triples that have been added to it.
+     *
+     * @param graphUri named graph URI or null for the default graph
+     * @param delta digest of the triples that were not in the graph yet
+     * @see #delta(Graph, Graph)
+     */
+    public synchronized void add(String graphUri, Hash128 delta)
+    {
+        if (delta == null) throw new IllegalArgumentException("Hash128 cannot be null");
+
+        String key = getKey(graphUri);
+        digests.computeIfPresent(key, (k, digest) -> digest.add(delta));
+        if (log.isTraceEnabled()) log.trace("Updated digest of graph <{}>", key);
+    }
+
+    /**
+     * Calculates the digest of triples that are not yet contained in a graph.
+     * Does not access the cached digests, therefore can be called without holding the lock of this object.
+     *
+     * @param graph target graph
+     * @param triples triples to be added
+     * @return digest value
+     */
+    public Hash128 delta(Graph graph, Graph triples)
+    {
+        if (graph == null) throw new IllegalArgumentException("Graph cannot be null");
+        if (triples == null) throw new IllegalArgumentException("Graph cannot be null");
+
+        Hash128 delta = Hash128.ZERO;
+        ExtendedIterator<Triple> it = triples.find(Node.ANY, Node.ANY, Node.ANY);
+        try
+        {
+            while (it.hasNext())
+            {
+                Triple triple = it.next();
+                if (!graph.contains(triple)) delta = delta.add(getGraphDigest().hash(triple));
+            }
+        }
+        finally
+        {
+            it.close();
+        }
+
+        return delta;
+    }
+
+    /**
+     * Replaces the digest of a graph with the digest of its new content.
+     *
+     * @param graphUri named graph URI or null for the default graph
+     * @param model new graph content
+     */
+    public synchronized void put(String graphUri, Model model)
+    {
+        if (model == null) throw new IllegalArgumentException("Model cannot be null");
+
+        put(graphUri, hash(model));
+    }
+
+    /**
+     * Replaces the digest of a graph with an already calculated one.
+     *
+     * @param graphUri named graph URI or null for the default graph
+     * @param digest digest of the new graph content
+     */
+    public synchronized void put(String graphUri, Hash128 digest)
+    {
+        if (digest == null) throw new IllegalArgumentException("Hash128 cannot be null");
+
+        digests.put(getKey(graphUri), digest);
+    }
+
+    /**
+     * Removes the digest of a graph that is deleted or cleared.
+     *
+     * @param graphUri named graph URI or null for the default graph
+     */
+    public synchronized void remove(String graphUri)
+    {
+        digests.remove(getKey(graphUri));
+    }
+
+    /**
+     * Applies a dataset mutation that also updates the digests.
+     * If the dataset supports transactions, the mutation is run in a write transaction that is committed while the lock of this object is held,
+     * so that readers never see digests that do not match the committed data.
+     * The writer lock of the dataset is always acquired before the lock of this object, otherwise mutations could deadlock with long-running
+     * write transactions that only update the digests on {@link #commit(Runnable)}.
+     *
+     * @param mutation dataset mutation
+     */
+    public void write(Runnable mutation)
+    {
+        if (mutation == null) throw new IllegalArgumentException("Runnable cannot be null");
+
+        if (!dataset.supportsTransactions() || dataset.isInTransaction())
+        {
+            synchronized (this)
+            {
+                mutation.run();
+            }
+            return;
+        }
+
+        dataset.begin(ReadWrite.WRITE);
+        try
+        {
+            commit(mutation);
+        }
+        finally
+        {
+            dataset.end(); // aborts if not committed
+        }
+    }
+
+    /**
+     * Updates the digests and commits the current write transaction of the dataset, if any, atomically with regards to the digest readers.
+     * If either fails, all digests are discarded.
+     *
+     * @param update digest update
+     */
+    public synchronized void commit(Runnable update)
+    {
+        if (update == null) throw new IllegalArgumentException("Runnable cannot be null");
+
+        try
+        {
+            update.run();
+            if (dataset.isInTransaction()) dataset.commit();
+        }
+        catch (RuntimeException ex)
+        {
+            invalidate();
+            throw ex;
+        }
+    }
+
+    /**
+     * Discards all digests, e.g. after the dataset was modified directly.
+     * They will be recalculated on next access.
+     */
+    public synchronized void invalidate()
+    {
+        digests.clear();
+    }
+
+    /**
+     * Calculates the full digest of an RDF model.
+     *
+     * @param model RDF model
+     * @return digest value
+     */
+    protected Hash128 hash(Model model)
+    {
+        return getGraphDigest().hash(model);
+    }
+
+    public GraphDigest getGraphDigest()
+    {
+        return graphDigest;
+    }
+
+    protected Model getModel(String graphUri)
+    {
+        if (graphUri == null) return dataset.getDefaultModel();
+
+        return dataset.getNamedModel(graphUri);
+    }
+
+    protected String getKey(String graphUri)
+    {
+        if (graphUri == null) return DEFAULT_GRAPH_KEY;
+
+        return graphUri;
+    }
+
+}
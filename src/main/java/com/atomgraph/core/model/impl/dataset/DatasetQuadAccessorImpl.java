@@ -31,11 +31,25 @@ public class DatasetQuadAccessorImpl implements DatasetQuadAccessor
     private static final Logger log = LoggerFactory.getLogger(DatasetQuadAccessorImpl.class);
 
     private final Dataset dataset;
+    private final DatasetDigest digest;
     
     public DatasetQuadAccessorImpl(@Context Dataset dataset)
+    {
+        this(dataset, new DatasetDigest(dataset));
+    }
+    
+    /**
+     * Constructs accessor that maintains graph digests on mutation.
+     * 
+     * @param dataset RDF dataset
+     * @param digest digest of the same dataset
+     */
+    public DatasetQuadAccessorImpl(Dataset dataset, DatasetDigest digest)
     {
         if (dataset == null) throw new IllegalArgumentException("Dataset cannot be null");
+        if (digest == null) throw new IllegalArgumentException("DatasetDigest cannot be null");
         this.dataset = dataset;
+        this.digest = digest;
     }
 
     @Override
@@ -47,46 +61,70 @@ public class DatasetQuadAccessorImpl implements DatasetQuadAccessor
     @Override
     public void add(Dataset dataset)
     {
-        getDataset().getDefaultModel().add(dataset.getDefaultModel());
-        
-        Iterator<String> it = dataset.listNames();
-        while (it.hasNext())
+        getDatasetDigest().write(() ->
         {
-            String graphURI = it.next();
-            getDataset().addNamedModel(graphURI, dataset.getNamedModel(graphURI));
-        }
+            getDatasetDigest().add(null, dataset.getDefaultModel());
+            getDataset().getDefaultModel().add(dataset.getDefaultModel());
+
+            Iterator<String> it = dataset.listNames();
+            while (it.hasNext())
+            {
+                String graphURI = it.next();
+                getDatasetDigest().add(graphURI, dataset.getNamedModel(graphURI));
+                getDataset().addNamedModel(graphURI, dataset.getNamedModel(graphURI));
+            }
+        });
     }
 
     @Override
     public void replace(Dataset dataset)
     {
-        delete();
-        
-        add(dataset);
+        getDatasetDigest().write(() ->
+        {
+            delete();
+
+            add(dataset);
+        });
     }
 
     @Override
     public void delete()
     {
-        getDataset().getDefaultModel().removeAll();
-        
-        Iterator<String> it = getDataset().listNames();
-        while (it.hasNext())
-            getDataset().removeNamedModel(it.next());
+        getDatasetDigest().write(() ->
+        {
+            getDataset().getDefaultModel().removeAll();
+
+            Iterator<String> it = getDataset().listNames();
+            while (it.hasNext())
+                getDataset().removeNamedModel(it.next());
+            
+            getDatasetDigest().invalidate();
+        });
     }
 
     @Override
     public void patch(Dataset dataset)
     {
-        getDataset().getDefaultModel().removeAll();
-        getDataset().getDefaultModel().add(dataset.getDefaultModel());
-        
-        Iterator<String> it = dataset.listNames();
-        while (it.hasNext())
+        getDatasetDigest().write(() ->
         {
-            String graphURI = it.next();
-            getDataset().replaceNamedModel(graphURI, dataset.getNamedModel(graphURI));
-        }
+            getDatasetDigest().put(null, dataset.getDefaultModel());
+            getDataset().getDefaultModel().removeAll();
+            getDataset().getDefaultModel().add(dataset.getDefaultModel());
+
+            Iterator<String> it = dataset.listNames();
+            while (it.hasNext())
+            {
+                String graphURI = it.next();
+                getDatasetDigest().put(graphURI, dataset.getNamedModel(graphURI));
+                getDataset().replaceNamedModel(graphURI, dataset.getNamedModel(graphURI));
+            }
+        });
+    }
+
+    @Override
+    public String getDigest()
+    {
+        return getDatasetDigest().getTotal().toString();
     }
 
     public Dataset getDataset()
@@ -94,4 +132,9 @@ public class DatasetQuadAccessorImpl implements DatasetQuadAccessor
         return dataset;
     }
 
+    public DatasetDigest getDatasetDigest()
+    {
+        return digest;
+    }
+
 }
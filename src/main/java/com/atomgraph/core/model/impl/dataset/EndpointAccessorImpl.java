@@ -18,16 +18,25 @@ package com.atomgraph.core.model.impl.dataset;
 import com.atomgraph.core.model.EndpointAccessor;
 import java.net.URI;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.apache.jena.graph.Triple;
 import org.apache.jena.query.Dataset;
 import org.apache.jena.query.DatasetFactory;
 import org.apache.jena.query.Query;
 import org.apache.jena.query.QueryExecException;
 import org.apache.jena.query.QueryExecution;
+import org.apache.jena.query.QueryExecutionDatasetBuilder;
+import org.apache.jena.query.ResultSet;
 import org.apache.jena.query.ResultSetFactory;
 import org.apache.jena.query.ResultSetRewindable;
 import org.apache.jena.rdf.model.Model;
 import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.riot.system.StreamRDF;
 import org.apache.jena.sparql.core.DatasetDescription;
 import org.apache.jena.sparql.core.DynamicDatasets;
 import org.apache.jena.sparql.vocabulary.ResultSetGraphVocab;
@@ -46,11 +55,61 @@ public class EndpointAccessorImpl implements EndpointAccessor
     private static final Logger log = LoggerFactory.getLogger(EndpointAccessorImpl.class);
 
     private final Dataset dataset;
+    private final Long initialTimeout, overallTimeout;
+    private final Set<QueryExecution> executions = ConcurrentHashMap.newKeySet();
+    private volatile boolean aborted = false;
     
     public EndpointAccessorImpl(Dataset dataset)
+    {
+        this(dataset, null, null);
+    }
+    
+    /**
+     * Constructs accessor with query execution timeouts.
+     * 
+     * @param dataset RDF dataset
+     * @param initialTimeout max time in milliseconds until the first result, or null
+     * @param overallTimeout max time in milliseconds of the whole query execution, or null
+     */
+    public EndpointAccessorImpl(Dataset dataset, Long initialTimeout, Long overallTimeout)
     {
         if (dataset == null) throw new IllegalArgumentException("Dataset cannot be null");
         this.dataset = dataset;
+        this.initialTimeout = initialTimeout;
+        this.overallTimeout = overallTimeout;
+    }
+    
+    /**
+     * Creates query execution with the configured timeouts.
+     * The execution is tracked until it is closed, so that it can be aborted using {@link #abort()}.
+     * 
+     * @param query query object
+     * @param dataset the RDF dataset to be queried
+     * @return query execution
+     */
+    protected QueryExecution createQueryExecution(Query query, Dataset dataset)
+    {
+        QueryExecutionDatasetBuilder builder = QueryExecution.dataset(dataset).query(query);
+        if (getInitialTimeout() != null) builder.initialTimeout(getInitialTimeout(), TimeUnit.MILLISECONDS);
+        if (getOverallTimeout() != null) builder.overallTimeout(getOverallTimeout(), TimeUnit.MILLISECONDS);
+        QueryExecution qex = builder.build();
+        
+        executions.removeIf(QueryExecution::isClosed);
+        executions.add(qex);
+        if (aborted) qex.abort(); // abort() was called before the execution was created
+        return qex;
+    }
+    
+    /**
+     * Aborts the query executions of this accessor that are in progress, as well as the ones started later.
+     * Aborted executions throw <code>QueryCancelledException</code>.
+     */
+    @Override
+    public void abort()
+    {
+        if (log.isDebugEnabled()) log.debug("Aborting {} query execution(s)", executions.size());
+        aborted = true;
+        executions.forEach(QueryExecution::abort);
     }
     
     @Override
@@ -67,6 +126,51 @@ public class EndpointAccessorImpl implements EndpointAccessor
         return loadModel(specifyDataset(getDataset(), defaultGraphUris, namedGraphUris), query);
     }
 
+    @Override
+    public void loadModel(Query query, List<URI> defaultGraphUris, List<URI> namedGraphUris, StreamRDF stream)
+    {
+        if (log.isDebugEnabled()) log.debug("Streaming triples from Dataset using Query: {}", query);
+        loadModel(specifyDataset(getDataset(), defaultGraphUris, namedGraphUris), query, stream);
+    }
+    
+    /**
+     * Sends RDF triples from an RDF dataset to a stream using a SPARQL query.
+     * Only <code>DESCRIBE</code> and <code>CONSTRUCT</code> queries can be used with this method.
+     * Triples are sent as they are produced by the query execution, therefore duplicates are not removed.
+     * 
+     * @param dataset the RDF dataset to be queried
+     * @param query query object
+     * @param stream RDF stream
+     * @see <a href="http://www.w3.org/TR/2013/REC-sparql11-query-20130321/#describe">DESCRIBE</a>
+     * @see <a href="http://www.w3.org/TR/2013/REC-sparql11-query-20130321/#construct">CONSTRUCT</a>
+     */
+    public void loadModel(Dataset dataset, Query query, StreamRDF stream)
+    {
+        if (log.isDebugEnabled()) log.debug("Local Dataset Query: {}", query);
+        if (dataset == null) throw new IllegalArgumentException("Dataset must be not null");
+        if (query == null) throw new IllegalArgumentException("Query must be not null");
+        if (stream == null) throw new IllegalArgumentException("StreamRDF must be not null");
+        
+        try (QueryExecution qex = createQueryExecution(query, dataset))
+        {
+            final Iterator<Triple> triples;
+            if (query.isConstructType()) triples = qex.execConstructTriples();
+            else
+            {
+                if (query.isDescribeType()) triples = qex.execDescribeTriples();
+                else throw new QueryExecException("Query to load Model must be CONSTRUCT or DESCRIBE");
+            }
+            
+            query.getPrefixMapping().getNsPrefixMap().forEach(stream::prefix);
+            triples.forEachRemaining(stream::triple);
+        }
+        catch (QueryExecException ex)
+        {
+            if (log.isDebugEnabled()) log.debug("Local query execution exception: {}", ex);
+            throw ex;
+        }
+    }
+    
     /**
      * Loads RDF dataset from an RDF dataset using a SPARQL query.
      * Only <code>DESCRIBE</code> and <code>CONSTRUCT</code> queries can be used with this method.
@@ -83,7 +187,7 @@ public class EndpointAccessorImpl implements EndpointAccessor
         if (dataset == null) throw new IllegalArgumentException("Dataset must be not null");
         if (query == null) throw new IllegalArgumentException("Query must be not null");
         
-        try (QueryExecution qex = QueryExecution.create(query, dataset))
+        try (QueryExecution qex = createQueryExecution(query, dataset))
         {        
             if (query.isConstructType()) return DatasetFactory.create(qex.execConstruct()); // subject to change if/when SPARQL can return quads
             if (query.isDescribeType()) return DatasetFactory.create(qex.execDescribe());
@@ -113,7 +217,7 @@ public class EndpointAccessorImpl implements EndpointAccessor
         if (dataset == null) throw new IllegalArgumentException("Dataset must be not null");
         if (query == null) throw new IllegalArgumentException("Query must be not null");
         
-        try (QueryExecution qex = QueryExecution.create(query, dataset))
+        try (QueryExecution qex = createQueryExecution(query, dataset))
         {
             if (query.isConstructType()) return qex.execConstruct();
             if (query.isDescribeType()) return qex.execDescribe();
@@ -149,7 +253,7 @@ public class EndpointAccessorImpl implements EndpointAccessor
         if (dataset == null) throw new IllegalArgumentException("Dataset must be not null");
         if (query == null) throw new IllegalArgumentException("Query must be not null");
         
-        try (QueryExecution qex = QueryExecution.create(query, dataset))
+        try (QueryExecution qex = createQueryExecution(query, dataset))
         {
             if (query.isSelectType()) return ResultSetFactory.copyResults(qex.execSelect());
             if (query.isAskType())
@@ -171,6 +275,42 @@ public class EndpointAccessorImpl implements EndpointAccessor
         }
     }
     
+    @Override
+    public void select(Query query, List<URI> defaultGraphUris, List<URI> namedGraphUris, Consumer<ResultSet> consumer)
+    {
+        if (log.isDebugEnabled()) log.debug("Streaming ResultSet from Dataset using Query: {}", query);
+        select(specifyDataset(getDataset(), defaultGraphUris, namedGraphUris), query, consumer);
+    }
+    
+    /**
+     * Executes <code>SELECT</code> query on an RDF dataset and passes the live result set to the consumer.
+     * Rows are not copied; the query execution is closed once the consumer returns.
+     * 
+     * @param dataset the RDF dataset to be queried
+     * @param query query object
+     * @param consumer result set consumer
+     * @see <a href="http://www.w3.org/TR/2013/REC-sparql11-query-20130321/#select">SELECT</a>
+     */
+    public void select(Dataset dataset, Query query, Consumer<ResultSet> consumer)
+    {
+        if (log.isDebugEnabled()) log.debug("Local Dataset Query: {}", query);
+        if (dataset == null) throw new IllegalArgumentException("Dataset must be not null");
+        if (query == null) throw new IllegalArgumentException("Query must be not null");
+        if (consumer == null) throw new IllegalArgumentException("Consumer<ResultSet> must be not null");
+
+        try (QueryExecution qex = createQueryExecution(query, dataset))
+        {
+            if (!query.isSelectType()) throw new QueryExecException("Query to stream ResultSet must be SELECT");
+            
+            consumer.accept(qex.execSelect());
+        }
+        catch (QueryExecException ex)
+        {
+            if (log.isDebugEnabled()) log.debug("Local query execution exception: {}", ex);
+            throw ex;
+        }
+    }
+    
     @Override
     public boolean ask(Query query, List<URI> defaultGraphUris, List<URI> namedGraphUris)
     {
@@ -193,7 +333,7 @@ public class EndpointAccessorImpl implements EndpointAccessor
         if (dataset == null) throw new IllegalArgumentException("Dataset must be not null");
         if (query == null) throw new IllegalArgumentException("Query must be not null");
 
-        try (QueryExecution qex = QueryExecution.create(query, dataset))
+        try (QueryExecution qex = createQueryExecution(query, dataset))
         {
             if (query.isAskType()) return qex.execAsk();
 
@@ -247,4 +387,14 @@ public class EndpointAccessorImpl implements EndpointAccessor
         return dataset;
     }
     
+    public Long getInitialTimeout()
+    {
+        return initialTimeout;
+    }
+    
+    public Long getOverallTimeout()
+    {
+        return overallTimeout;
+    }
+    
 }
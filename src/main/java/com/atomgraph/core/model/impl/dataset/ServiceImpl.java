@@ -20,6 +20,8 @@ import com.atomgraph.core.model.DatasetAccessor;
 import com.atomgraph.core.model.DatasetQuadAccessor;
 import com.atomgraph.core.model.EndpointAccessor;
 import com.atomgraph.core.model.Service;
+import com.atomgraph.core.util.GraphDigest;
+import java.util.concurrent.Executor;
 import org.apache.jena.query.Dataset;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -35,31 +37,82 @@ public class ServiceImpl implements Service
 
     private final Dataset dataset;
     private final MediaTypes mediaTypes;
+    private final DatasetDigest digest;
+    private final Long queryInitialTimeout, queryTimeout;
+    private final int parseParallelism;
+    private final Executor parseExecutor;
     
     public ServiceImpl(Dataset dataset, MediaTypes mediaTypes)
+    {
+        this(dataset, mediaTypes, GraphDigest.DEFAULT);
+    }
+    
+    /**
+     * Constructs service.
+     * 
+     * @param dataset RDF dataset
+     * @param mediaTypes supported media types
+     * @param graphDigest graph digest strategy used for <code>ETag</code>s
+     */
+    public ServiceImpl(Dataset dataset, MediaTypes mediaTypes, GraphDigest graphDigest)
+    {
+        this(dataset, mediaTypes, graphDigest, null, null);
+    }
+    
+    /**
+     * Constructs service with query execution timeouts.
+     * 
+     * @param dataset RDF dataset
+     * @param mediaTypes supported media types
+     * @param graphDigest graph digest strategy used for <code>ETag</code>s
+     * @param queryInitialTimeout max time in milliseconds until the first query result, or null
+     * @param queryTimeout max time in milliseconds of query execution, or null
+     */
+    public ServiceImpl(Dataset dataset, MediaTypes mediaTypes, GraphDigest graphDigest, Long queryInitialTimeout, Long queryTimeout)
+    {
+        this(dataset, mediaTypes, graphDigest, queryInitialTimeout, queryTimeout, 1, null);
+    }
+    
+    /**
+     * Constructs service with query execution timeouts and parallel parsing of ingested N-Triples.
+     * 
+     * @param dataset RDF dataset
+     * @param mediaTypes supported media types
+     * @param graphDigest graph digest strategy used for <code>ETag</code>s
+     * @param queryInitialTimeout max time in milliseconds until the first query result, or null
+     * @param queryTimeout max time in milliseconds of query execution, or null
+     * @param parseParallelism max number of N-Triples chunks of streaming ingest parsed at once. 1 disables parallel parsing.
+     * @param parseExecutor executor that parses the chunks, or null if parallel parsing is disabled
+     */
+    public ServiceImpl(Dataset dataset, MediaTypes mediaTypes, GraphDigest graphDigest, Long queryInitialTimeout, Long queryTimeout, int parseParallelism, Executor parseExecutor)
     {
         if (dataset == null) throw new IllegalArgumentException("Dataset must be not null");
         
         this.dataset = dataset;
         this.mediaTypes = mediaTypes;
+        this.digest = new DatasetDigest(dataset, graphDigest);
+        this.queryInitialTimeout = queryInitialTimeout;
+        this.queryTimeout = queryTimeout;
+        this.parseParallelism = parseParallelism;
+        this.parseExecutor = parseExecutor;
     }
 
     @Override
     public EndpointAccessor getEndpointAccessor()
     {
-        return new EndpointAccessorImpl(getDataset());
+        return new EndpointAccessorImpl(getDataset(), getQueryInitialTimeout(), getQueryTimeout());
     }
 
     @Override
     public DatasetAccessor getDatasetAccessor()
     {
-        return new DatasetAccessorImpl(getDataset());
+        return new DatasetAccessorImpl(getDataset(), getDatasetDigest(), getParseParallelism(), getParseExecutor());
     }
 
     @Override
     public DatasetQuadAccessor getDatasetQuadAccessor()
     {
-        return new DatasetQuadAccessorImpl(getDataset());
+        return new DatasetQuadAccessorImpl(getDataset(), getDatasetDigest());
     }
     
     protected Dataset getDataset()
@@ -71,5 +124,35 @@ public class ServiceImpl implements Service
     {
         return mediaTypes;
     }
+    
+    public Long getQueryInitialTimeout()
+    {
+        return queryInitialTimeout;
+    }
+    
+    public Long getQueryTimeout()
+    {
+        return queryTimeout;
+    }
+    
+    /**
+     * Returns the running digest of the dataset, shared by all accessors of this service.
+     * 
+     * @return dataset digest
+     */
+    public DatasetDigest getDatasetDigest()
+    {
+        return digest;
+    }
+
+    public int getParseParallelism()
+    {
+        return parseParallelism;
+    }
+
+    public Executor getParseExecutor()
+    {
+        return parseExecutor;
+    }
 
 }
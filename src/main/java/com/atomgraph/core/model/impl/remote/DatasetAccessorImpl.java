@@ -17,12 +17,21 @@
 
 package com.atomgraph.core.model.impl.remote;
 
+import java.io.InputStream;
+import java.net.URI;
+import java.util.Collection;
+import org.apache.jena.query.Dataset;
 import org.apache.jena.rdf.model.Model;
+import org.apache.jena.riot.Lang;
 import com.atomgraph.core.client.GraphStoreClient;
+import com.atomgraph.core.client.Resilience;
 import com.atomgraph.core.exception.BadGatewayException;
 import com.atomgraph.core.model.DatasetAccessor;
 import jakarta.ws.rs.ClientErrorException;
 import jakarta.ws.rs.NotFoundException;
+import jakarta.ws.rs.client.Entity;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -38,6 +47,7 @@ public class DatasetAccessorImpl implements DatasetAccessor
     private static final Logger log = LoggerFactory.getLogger(DatasetAccessorImpl.class);
 
     private final GraphStoreClient graphStoreClient;
+    private final Resilience resilience;
     
     /**
      * Constructs Graph Store proxy from request metadata and origin URI.
@@ -45,9 +55,23 @@ public class DatasetAccessorImpl implements DatasetAccessor
      * @param graphStoreClient SPARQL 1.1 Graph Store Protocol client
      */
     public DatasetAccessorImpl(GraphStoreClient graphStoreClient)
+    {
+        this(graphStoreClient, Resilience.NONE);
+    }
+    
+    /**
+     * Constructs Graph Store proxy with a resilience policy.
+     * Reads, <code>PUT</code> and <code>DELETE</code> requests are idempotent and can be retried; <code>POST</code> requests cannot.
+     * 
+     * @param graphStoreClient SPARQL 1.1 Graph Store Protocol client
+     * @param resilience resilience policy
+     */
+    public DatasetAccessorImpl(GraphStoreClient graphStoreClient, Resilience resilience)
     {
         if (graphStoreClient == null) throw new IllegalArgumentException("GraphStoreClient cannot be null");
+        if (resilience == null) throw new IllegalArgumentException("Resilience cannot be null");
         this.graphStoreClient = graphStoreClient;
+        this.resilience = resilience;
     }
     
     @Override
@@ -55,7 +79,7 @@ public class DatasetAccessorImpl implements DatasetAccessor
     {
         try
         {
-            return getGraphStoreClient().getModel();
+            return getResilience().execute(() -> getGraphStoreClient().getModel(), true);
         }
         catch (ClientErrorException ex)
         {
@@ -69,7 +93,7 @@ public class DatasetAccessorImpl implements DatasetAccessor
     {
         try
         {
-            return getGraphStoreClient().getModel(uri);
+            return getResilience().execute(() -> getGraphStoreClient().getModel(uri), true);
         }
         catch (NotFoundException ex)
         {
@@ -83,12 +107,40 @@ public class DatasetAccessorImpl implements DatasetAccessor
         }
     }
 
+    @Override
+    public Dataset getModels(Collection<String> uris)
+    {
+        try
+        {
+            return getResilience().execute(() -> getGraphStoreClient().getModels(uris), true);
+        }
+        catch (ClientErrorException ex)
+        {
+            if (log.isDebugEnabled()) log.debug("Graph Store backend client error", ex);
+            throw new BadGatewayException(ex);
+        }
+    }
+
+    /**
+     * Requests the origin representation of a model in the given media type.
+     * The response is returned unread, whatever its status.
+     * 
+     * @param uri graph name or null for the default graph
+     * @param mediaType requested media type
+     * @return origin response
+     */
+    @Override
+    public Response relayModel(String uri, MediaType mediaType)
+    {
+        return getResilience().execute(() -> getGraphStoreClient().get(uri != null ? URI.create(uri) : null, new MediaType[]{ mediaType }), true);
+    }
+
     @Override
     public boolean containsModel(String uri)
     {
         try
         {
-            return getGraphStoreClient().containsModel(uri);
+            return getResilience().execute(() -> getGraphStoreClient().containsModel(uri), true);
         }
         catch (NotFoundException ex)
         {
@@ -107,7 +159,7 @@ public class DatasetAccessorImpl implements DatasetAccessor
     {
         try
         {
-            getGraphStoreClient().putModel(model);
+            getResilience().run(() -> getGraphStoreClient().putModel(model), true);
         }
         catch (ClientErrorException ex)
         {
@@ -121,7 +173,7 @@ public class DatasetAccessorImpl implements DatasetAccessor
     {
         try
         {
-            getGraphStoreClient().putModel(uri, model);
+            getResilience().run(() -> getGraphStoreClient().putModel(uri, model), true);
         }
         catch (ClientErrorException ex)
         {
@@ -135,7 +187,7 @@ public class DatasetAccessorImpl implements DatasetAccessor
     {
         try
         {
-            getGraphStoreClient().deleteDefault();
+            getResilience().run(() -> getGraphStoreClient().deleteDefault(), true);
         }
         catch (ClientErrorException ex)
         {
@@ -149,7 +201,7 @@ public class DatasetAccessorImpl implements DatasetAccessor
     {
         try
         {
-            getGraphStoreClient().deleteModel(uri);
+            getResilience().run(() -> getGraphStoreClient().deleteModel(uri), true);
         }
         catch (NotFoundException ex)
         {
@@ -168,7 +220,7 @@ public class DatasetAccessorImpl implements DatasetAccessor
     {
         try
         {
-            getGraphStoreClient().add(model);
+            getResilience().run(() -> getGraphStoreClient().add(model), false);
         }
         catch (ClientErrorException ex)
         {
@@ -182,7 +234,80 @@ public class DatasetAccessorImpl implements DatasetAccessor
     {
         try
         {
-            getGraphStoreClient().add(uri, model);
+            getResilience().run(() -> getGraphStoreClient().add(uri, model), false);
+        }
+        catch (ClientErrorException ex)
+        {
+            if (log.isDebugEnabled()) log.debug("Graph Store backend client error", ex);
+            throw new BadGatewayException(ex);
+        }
+    }
+
+    /**
+     * Relays the payload stream to the remote Graph Store as a chunked <code>POST</code> request, without parsing it.
+     * Relative URIs are therefore resolved by the remote Graph Store.
+     * The stream cannot be repeated, so the request is not retried.
+     * 
+     * @param uri graph name or null for the default graph
+     * @param in RDF payload stream
+     * @param lang RDF syntax of the payload
+     * @param baseURI ignored
+     * @return -1 as the number of statements is not known
+     */
+    @Override
+    public long add(String uri, InputStream in, Lang lang, String baseURI)
+    {
+        return relay(uri, in, lang, false);
+    }
+
+    /**
+     * Relays the payload stream to the remote Graph Store as a chunked <code>PUT</code> request, without parsing it.
+     * Relative URIs are therefore resolved by the remote Graph Store.
+     * The stream cannot be repeated, so the request is not retried.
+     * 
+     * @param uri graph name or null for the default graph
+     * @param in RDF payload stream
+     * @param lang RDF syntax of the payload
+     * @param baseURI ignored
+     * @return -1 as the number of statements is not known
+     */
+    @Override
+    public long putModel(String uri, InputStream in, Lang lang, String baseURI)
+    {
+        return relay(uri, in, lang, true);
+    }
+    
+    /**
+     * Sends the payload stream to the remote Graph Store.
+     * 
+     * @param uri graph name or null for the default graph
+     * @param in RDF payload stream
+     * @param lang RDF syntax of the payload
+     * @param replace if true, <code>PUT</code> is sent instead of <code>POST</code>
+     * @return -1 as the number of statements is not known
+     */
+    protected long relay(String uri, InputStream in, Lang lang, boolean replace)
+    {
+        URI graphUri = uri != null ? URI.create(uri) : null;
+        Entity<InputStream> entity = Entity.entity(in, lang.getContentType().getContentTypeStr());
+        
+        try
+        {
+            getResilience().run(() ->
+            {
+                try (Response cr = replace ? getGraphStoreClient().put(graphUri, entity, new MediaType[]{}) : getGraphStoreClient().post(graphUri, entity, new MediaType[]{}))
+                {
+                    if (cr.getStatus() == Response.Status.NOT_FOUND.getStatusCode()) throw new NotFoundException();
+                    if (!cr.getStatusInfo().getFamily().equals(Response.Status.Family.SUCCESSFUL))
+                        throw new BadGatewayException("Graph Store backend responded with status " + cr.getStatus());
+                }
+            }, false);
+            return -1;
+        }
+        catch (NotFoundException ex)
+        {
+            if (log.isDebugEnabled()) log.debug("Graph with URI <{}> not found", ex, uri);
+            throw ex;
         }
         catch (ClientErrorException ex)
         {
@@ -201,4 +326,9 @@ public class DatasetAccessorImpl implements DatasetAccessor
         return graphStoreClient;
     }
     
-}
\ No newline at end of file
+    public Resilience getResilience()
+    {
+        return resilience;
+    }
+    
+}
@@ -15,6 +15,9 @@
  */
 package com.atomgraph.core.model.impl.remote;
 
+import com.atomgraph.core.client.LoadBalancer;
+import com.atomgraph.core.client.ReleasingResponse;
+import com.atomgraph.core.client.Resilience;
 import com.atomgraph.core.client.SPARQLClient;
 import static com.atomgraph.core.client.SPARQLClient.parseBoolean;
 import com.atomgraph.core.exception.BadGatewayException;
@@ -23,19 +26,41 @@ import static com.atomgraph.core.model.SPARQLEndpoint.DEFAULT_GRAPH_URI;
 import static com.atomgraph.core.model.SPARQLEndpoint.NAMED_GRAPH_URI;
 import static com.atomgraph.core.model.SPARQLEndpoint.USING_GRAPH_URI;
 import static com.atomgraph.core.model.SPARQLEndpoint.USING_NAMED_GRAPH_URI;
+import java.io.FilterInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.SocketTimeoutException;
 import java.net.URI;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import jakarta.ws.rs.ClientErrorException;
+import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.MultivaluedHashMap;
 import jakarta.ws.rs.core.MultivaluedMap;
 import jakarta.ws.rs.core.Response;
 import org.apache.jena.query.Dataset;
 import org.apache.jena.query.Query;
+import org.apache.jena.query.QueryCancelledException;
 import org.apache.jena.query.ResultSet;
 import org.apache.jena.query.ResultSetRewindable;
 import org.apache.jena.rdf.model.Model;
+import org.apache.jena.riot.Lang;
+import org.apache.jena.riot.RDFLanguages;
+import org.apache.jena.riot.RDFParser;
+import org.apache.jena.riot.ResultSetMgr;
+import org.apache.jena.riot.resultset.ResultSetReaderRegistry;
+import org.apache.jena.riot.system.StreamRDF;
+import org.apache.jena.riot.system.StreamRDFWrapper;
+import org.apache.jena.riot.system.StreamRDFWriter;
 import org.apache.jena.update.UpdateRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  *
@@ -44,12 +69,191 @@ import org.apache.jena.update.UpdateRequest;
 public class EndpointAccessorImpl implements EndpointAccessor
 {
     
+    private static final Logger log = LoggerFactory.getLogger(EndpointAccessorImpl.class);
+
     private final SPARQLClient sparqlClient;
+    private final LoadBalancer readReplicas;
+    private final Resilience resilience;
+    private final Long timeout;
+    private volatile Response response;
+    private volatile boolean aborted = false, timedOut = false;
     
     public EndpointAccessorImpl(SPARQLClient sparqlClient)
+    {
+        this(sparqlClient, Resilience.NONE);
+    }
+    
+    public EndpointAccessorImpl(SPARQLClient sparqlClient, Resilience resilience)
+    {
+        this(sparqlClient, null, resilience);
+    }
+    
+    /**
+     * Constructs accessor with read/write splitting.
+     * Queries are load-balanced across the read replicas, updates are sent to the primary endpoint.
+     * 
+     * @param sparqlClient client of the primary endpoint
+     * @param readReplicas load balancer of the read replicas, or null if queries are sent to the primary endpoint
+     * @param resilience resilience policy
+     */
+    public EndpointAccessorImpl(SPARQLClient sparqlClient, LoadBalancer readReplicas, Resilience resilience)
+    {
+        this(sparqlClient, readReplicas, resilience, null);
+    }
+    
+    /**
+     * Constructs accessor with read/write splitting and an overall query timeout.
+     * 
+     * @param sparqlClient client of the primary endpoint
+     * @param readReplicas load balancer of the read replicas, or null if queries are sent to the primary endpoint
+     * @param resilience resilience policy
+     * @param timeout max time in milliseconds of query execution, or null
+     */
+    public EndpointAccessorImpl(SPARQLClient sparqlClient, LoadBalancer readReplicas, Resilience resilience, Long timeout)
     {
         if (sparqlClient == null) throw new IllegalArgumentException("SPARQLClient cannot be null");
+        if (resilience == null) throw new IllegalArgumentException("Resilience cannot be null");
+        if (timeout != null && timeout <= 0) throw new IllegalArgumentException("Query timeout must be positive");
         this.sparqlClient = sparqlClient;
+        this.readReplicas = readReplicas;
+        this.resilience = resilience;
+        this.timeout = timeout;
+    }
+    
+    /**
+     * Sends query to the remote endpoint, retrying and hedging it according to the resilience policy.
+     * Queries do not modify the dataset and can therefore be safely repeated.
+     * 
+     * @param query SPARQL query
+     * @param clazz result class
+     * @param params request parameters
+     * @return remote response
+     */
+    protected Response query(Query query, Class clazz, MultivaluedMap<String, String> params)
+    {
+        return getResilience().execute(() -> query(client -> client.query(query, clazz, params)), true);
+    }
+    
+    protected Response query(Query query, MediaType[] acceptedTypes, MultivaluedMap<String, String> params, MultivaluedMap<String, Object> headers)
+    {
+        return getResilience().execute(() -> query(client -> client.query(query, acceptedTypes, params, headers)), true);
+    }
+    
+    /**
+     * Sends query request to a read replica, if there are any, or to the primary endpoint otherwise.
+     * 
+     * @param request request function
+     * @return remote response
+     */
+    protected Response query(Function<SPARQLClient, Response> request)
+    {
+        if (getReadReplicas() != null) return getReadReplicas().execute(request);
+        
+        return request.apply(getSPARQLClient());
+    }
+    
+    /**
+     * Tracks the response of the remote query that is in progress, so that it can be aborted using {@link #abort()}.
+     * 
+     * @param response remote response
+     * @return the same response
+     */
+    protected Response track(Response response)
+    {
+        this.response = response;
+        if (aborted) response.close(); // abort() was called before the response was received
+        return response;
+    }
+    
+    /**
+     * Aborts the remote query that is in progress by closing its response and the underlying connection.
+     * Remote queries started afterwards are aborted as well.
+     */
+    @Override
+    public void abort()
+    {
+        if (log.isDebugEnabled()) log.debug("Aborting remote query execution");
+        aborted = true;
+        Response current = response;
+        if (current != null) current.close();
+    }
+    
+    /**
+     * Executes remote query within the query timeout.
+     * The client read timeout only bounds the wait for each chunk of the response, therefore the timeout is enforced as a wall-clock deadline:
+     * once it elapses, the accessor is aborted, whether the response is still pending or being read.
+     * Queries that time out, either way, fail with {@link QueryCancelledException}.
+     * 
+     * @param <T> result type
+     * @param execution query execution
+     * @return query result
+     */
+    protected <T> T execute(Supplier<T> execution)
+    {
+        Future<?> deadline = scheduleAbort();
+        try
+        {
+            return execution.get();
+        }
+        catch (RuntimeException ex)
+        {
+            if (timedOut || isTimeout(ex))
+            {
+                if (log.isDebugEnabled()) log.debug("Remote query execution timed out", ex);
+                throw new QueryCancelledException();
+            }
+            throw ex;
+        }
+        finally
+        {
+            if (deadline != null) deadline.cancel(false);
+        }
+    }
+    
+    /**
+     * Executes remote query that has no result within the query timeout.
+     * 
+     * @param execution query execution
+     * @see #execute(Supplier)
+     */
+    protected void run(Runnable execution)
+    {
+        execute(() ->
+        {
+            execution.run();
+            return null;
+        });
+    }
+    
+    /**
+     * Schedules {@link #abort()} when the query timeout elapses.
+     * The JDK's shared delay scheduler starts the abort on a virtual thread, so there is no executor to shut down.
+     * 
+     * @return scheduled abort, or null if there is no timeout
+     */
+    protected Future<?> scheduleAbort()
+    {
+        if (getTimeout() == null) return null;
+        
+        return CompletableFuture.runAsync(() ->
+        {
+            timedOut = true;
+            abort();
+        }, CompletableFuture.delayedExecutor(getTimeout(), TimeUnit.MILLISECONDS, Thread::startVirtualThread));
+    }
+    
+    /**
+     * Returns true if the exception was caused by a socket read timeout.
+     * 
+     * @param ex exception
+     * @return true if timed out
+     */
+    protected static boolean isTimeout(Throwable ex)
+    {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause())
+            if (cause instanceof SocketTimeoutException) return true;
+        
+        return false;
     }
     
     @Override
@@ -63,14 +267,17 @@ public class EndpointAccessorImpl implements EndpointAccessor
         defaultGraphUris.forEach(defaultGraphUri -> { params.add(DEFAULT_GRAPH_URI, defaultGraphUri.toString()); });
         namedGraphUris.forEach(namedGraphUri -> { params.add(NAMED_GRAPH_URI, namedGraphUri.toString()); });
 
-        try (Response cr = getSPARQLClient().query(query, Dataset.class, params))
+        return execute(() ->
         {
-            return cr.readEntity(Dataset.class);
-        }
-        catch (ClientErrorException ex)
-        {
-            throw new BadGatewayException(ex);
-        }
+            try (Response cr = track(query(query, Dataset.class, params)))
+            {
+                return cr.readEntity(Dataset.class);
+            }
+            catch (ClientErrorException ex)
+            {
+                throw new BadGatewayException(ex);
+            }
+        });
     }
     
     @Override
@@ -84,16 +291,140 @@ public class EndpointAccessorImpl implements EndpointAccessor
         defaultGraphUris.forEach(defaultGraphUri -> { params.add(DEFAULT_GRAPH_URI, defaultGraphUri.toString()); });
         namedGraphUris.forEach(namedGraphUri -> { params.add(NAMED_GRAPH_URI, namedGraphUri.toString()); });
 
-        try (Response cr = getSPARQLClient().query(query, Model.class, params))
+        return execute(() ->
         {
-            return cr.readEntity(Model.class);
-        }
-        catch (ClientErrorException ex)
+            try (Response cr = track(query(query, Model.class, params)))
+            {
+                return cr.readEntity(Model.class);
+            }
+            catch (ClientErrorException ex)
+            {
+                throw new BadGatewayException(ex);
+            }
+        });
+    }
+
+    /**
+     * Executes <code>CONSTRUCT</code> or <code>DESCRIBE</code> query on the remote endpoint and parses the response body into the stream.
+     * 
+     * @param query SPARQL query
+     * @param defaultGraphUris default graph URIs
+     * @param namedGraphUris named graph URIs
+     * @param stream RDF stream
+     */
+    @Override
+    public void loadModel(Query query, List<URI> defaultGraphUris, List<URI> namedGraphUris, StreamRDF stream)
+    {
+        if (defaultGraphUris == null) throw new IllegalArgumentException("List<URI> cannot be null");
+        if (namedGraphUris == null) throw new IllegalArgumentException("List<URI> cannot be null");
+        if (stream == null) throw new IllegalArgumentException("StreamRDF cannot be null");
+
+        MultivaluedMap<String, String> params = new MultivaluedHashMap();
+        
+        defaultGraphUris.forEach(defaultGraphUri -> { params.add(DEFAULT_GRAPH_URI, defaultGraphUri.toString()); });
+        namedGraphUris.forEach(namedGraphUri -> { params.add(NAMED_GRAPH_URI, namedGraphUri.toString()); });
+
+        run(() ->
         {
-            throw new BadGatewayException(ex);
-        }
+            try (Response cr = track(query(query, Model.class, params)))
+            {
+                Lang lang = getLang(cr);
+                
+                try (InputStream is = cr.readEntity(InputStream.class))
+                {
+                    // start() and finish() are the caller's responsibility
+                    RDFParser.source(is).lang(lang).parse(new StreamRDFWrapper(stream)
+                    {
+                        @Override
+                        public void start()
+                        {
+                        }
+
+                        @Override
+                        public void finish()
+                        {
+                        }
+                    });
+                }
+            }
+            catch (IOException | ClientErrorException ex)
+            {
+                throw new BadGatewayException(ex);
+            }
+        });
     }
+    
+    /**
+     * Executes <code>CONSTRUCT</code> or <code>DESCRIBE</code> query on the remote endpoint and writes the result to the output stream.
+     * If the endpoint responds in the requested RDF language, the response body is relayed as it is, without parsing.
+     * Otherwise it is parsed and re-serialized using a streaming writer.
+     * 
+     * @param query SPARQL query
+     * @param defaultGraphUris default graph URIs
+     * @param namedGraphUris named graph URIs
+     * @param lang streamable RDF language
+     * @param os output stream
+     */
+    @Override
+    public void loadModel(Query query, List<URI> defaultGraphUris, List<URI> namedGraphUris, Lang lang, OutputStream os)
+    {
+        if (defaultGraphUris == null) throw new IllegalArgumentException("List<URI> cannot be null");
+        if (namedGraphUris == null) throw new IllegalArgumentException("List<URI> cannot be null");
+        if (lang == null) throw new IllegalArgumentException("Lang cannot be null");
+        if (os == null) throw new IllegalArgumentException("OutputStream cannot be null");
+
+        MultivaluedMap<String, String> params = new MultivaluedHashMap();
+        
+        defaultGraphUris.forEach(defaultGraphUri -> { params.add(DEFAULT_GRAPH_URI, defaultGraphUri.toString()); });
+        namedGraphUris.forEach(namedGraphUri -> { params.add(NAMED_GRAPH_URI, namedGraphUri.toString()); });
 
+        MediaType[] acceptedTypes = new MediaType[]{ MediaType.valueOf(lang.getHeaderString()) };
+        run(() ->
+        {
+            try (Response cr = track(query(query, acceptedTypes, params, new MultivaluedHashMap())))
+            {
+                Lang responseLang = getLang(cr);
+
+                try (InputStream is = cr.readEntity(InputStream.class))
+                {
+                    if (lang.equals(responseLang))
+                    {
+                        if (log.isDebugEnabled()) log.debug("Relaying {} response body without parsing", lang);
+                        is.transferTo(os);
+                    }
+                    else
+                    {
+                        StreamRDF stream = StreamRDFWriter.getWriterStream(os, lang);
+                        RDFParser.source(is).lang(responseLang).parse(stream); // calls start() and finish()
+                    }
+                }
+            }
+            catch (IOException | ClientErrorException ex)
+            {
+                throw new BadGatewayException(ex);
+            }
+        });
+    }
+
+    /**
+     * Returns the RDF language of a successful RDF response.
+     * 
+     * @param cr response
+     * @return RDF language
+     * @throws BadGatewayException if the response is not successful or its media type is not an RDF syntax
+     */
+    protected Lang getLang(Response cr)
+    {
+        if (!cr.getStatusInfo().getFamily().equals(Response.Status.Family.SUCCESSFUL)) throw new BadGatewayException("Remote SPARQL endpoint returned status: " + cr.getStatus());
+        if (cr.getMediaType() == null) throw new BadGatewayException("RDF response has no media type");
+
+        MediaType formatType = new MediaType(cr.getMediaType().getType(), cr.getMediaType().getSubtype()); // discard charset param
+        Lang lang = RDFLanguages.contentTypeToLang(formatType.toString());
+        if (lang == null) throw new BadGatewayException("Cannot read RDF with media type: " + formatType);
+        
+        return lang;
+    }
+    
     @Override
     public ResultSetRewindable select(Query query, List<URI> defaultGraphUris, List<URI> namedGraphUris)
     {
@@ -105,14 +436,59 @@ public class EndpointAccessorImpl implements EndpointAccessor
         defaultGraphUris.forEach(defaultGraphUri -> { params.add(DEFAULT_GRAPH_URI, defaultGraphUri.toString()); });
         namedGraphUris.forEach(namedGraphUri -> { params.add(NAMED_GRAPH_URI, namedGraphUri.toString()); });
         
-        try (Response cr = getSPARQLClient().query(query, ResultSet.class, params))
+        return execute(() ->
         {
-            return cr.readEntity(ResultSetRewindable.class);
-        }
-        catch (ClientErrorException ex)
+            try (Response cr = track(query(query, ResultSet.class, params)))
+            {
+                return cr.readEntity(ResultSetRewindable.class);
+            }
+            catch (ClientErrorException ex)
+            {
+                throw new BadGatewayException(ex);
+            }
+        });
+    }
+
+    /**
+     * Executes <code>SELECT</code> query on the remote endpoint and passes the results to the consumer as they are parsed from the response stream.
+     * 
+     * @param query SPARQL query
+     * @param defaultGraphUris default graph URIs
+     * @param namedGraphUris named graph URIs
+     * @param consumer result set consumer
+     */
+    @Override
+    public void select(Query query, List<URI> defaultGraphUris, List<URI> namedGraphUris, Consumer<ResultSet> consumer)
+    {
+        if (defaultGraphUris == null) throw new IllegalArgumentException("List<URI> cannot be null");
+        if (namedGraphUris == null) throw new IllegalArgumentException("List<URI> cannot be null");
+        if (consumer == null) throw new IllegalArgumentException("Consumer<ResultSet> cannot be null");
+        
+        MultivaluedMap<String, String> params = new MultivaluedHashMap();
+        
+        defaultGraphUris.forEach(defaultGraphUri -> { params.add(DEFAULT_GRAPH_URI, defaultGraphUri.toString()); });
+        namedGraphUris.forEach(namedGraphUri -> { params.add(NAMED_GRAPH_URI, namedGraphUri.toString()); });
+        
+        run(() ->
         {
-            throw new BadGatewayException(ex);
-        }
+            try (Response cr = track(query(query, ResultSet.class, params)))
+            {
+                if (cr.getMediaType() == null) throw new BadGatewayException("ResultSet response has no media type");
+                
+                MediaType formatType = new MediaType(cr.getMediaType().getType(), cr.getMediaType().getSubtype()); // discard charset param
+                Lang lang = RDFLanguages.contentTypeToLang(formatType.toString());
+                if (lang == null || !ResultSetReaderRegistry.isRegistered(lang)) throw new BadGatewayException("Cannot read ResultSet with media type: " + formatType);
+                
+                try (InputStream is = cr.readEntity(InputStream.class))
+                {
+                    consumer.accept(ResultSetMgr.read(is, lang));
+                }
+            }
+            catch (IOException | ClientErrorException ex)
+            {
+                throw new BadGatewayException(ex);
+            }
+        });
     }
   
     @Override
@@ -126,16 +502,139 @@ public class EndpointAccessorImpl implements EndpointAccessor
         defaultGraphUris.forEach(defaultGraphUri -> { params.add(DEFAULT_GRAPH_URI, defaultGraphUri.toString()); });
         namedGraphUris.forEach(namedGraphUri -> { params.add(NAMED_GRAPH_URI, namedGraphUri.toString()); });
         
-        try (Response cr = getSPARQLClient().query(query, ResultSet.class, params))
+        return execute(() ->
+        {
+            try (Response cr = track(query(query, getSPARQLClient().getAskMediaTypes(), params, new MultivaluedHashMap())))
+            {
+                return parseBoolean(cr);
+            }
+            catch (IOException | ClientErrorException ex)
+            {
+                throw new BadGatewayException(ex);
+            }
+        });
+    }
+
+    /**
+     * Executes query on the remote endpoint and returns its response unread, whatever its status.
+     * The response is tracked, so that it can be aborted while it is being relayed.
+     * The query timeout bounds relaying of the response as well: its deadline is cancelled once the returned response is closed or its
+     * entity stream is read to the end and closed, e.g. when the caller falls back to parsing the results.
+     * If the deadline elapses before that, reading the entity fails with {@link QueryCancelledException}, the same as in {@link #execute(Supplier)},
+     * instead of ending the relayed entity early.
+     * 
+     * @param query SPARQL query
+     * @param mediaType requested media type
+     * @param defaultGraphUris default graph URIs
+     * @param namedGraphUris named graph URIs
+     * @return remote response
+     */
+    @Override
+    public Response relay(Query query, MediaType mediaType, List<URI> defaultGraphUris, List<URI> namedGraphUris)
+    {
+        if (mediaType == null) throw new IllegalArgumentException("MediaType cannot be null");
+        if (defaultGraphUris == null) throw new IllegalArgumentException("List<URI> cannot be null");
+        if (namedGraphUris == null) throw new IllegalArgumentException("List<URI> cannot be null");
+
+        MultivaluedMap<String, String> params = new MultivaluedHashMap();
+        
+        defaultGraphUris.forEach(defaultGraphUri -> { params.add(DEFAULT_GRAPH_URI, defaultGraphUri.toString()); });
+        namedGraphUris.forEach(namedGraphUri -> { params.add(NAMED_GRAPH_URI, namedGraphUri.toString()); });
+
+        Future<?> deadline = scheduleAbort();
+        try
         {
-            return parseBoolean(cr);
+            return new RelayedResponse(track(query(query, new MediaType[]{ mediaType }, params, new MultivaluedHashMap())), deadline);
         }
-        catch (IOException | ClientErrorException ex)
+        catch (RuntimeException ex)
         {
-            throw new BadGatewayException(ex);
+            if (deadline != null) deadline.cancel(false);
+            if (timedOut || isTimeout(ex))
+            {
+                if (log.isDebugEnabled()) log.debug("Remote query execution timed out", ex);
+                throw new QueryCancelledException();
+            }
+            throw ex;
         }
     }
+    
+    /**
+     * Relayed origin response that cancels the query deadline once it is done with, and reports a query that timed out while its entity
+     * was being read as {@link QueryCancelledException}.
+     */
+    protected class RelayedResponse extends ReleasingResponse
+    {
+        
+        public RelayedResponse(Response response, Future<?> deadline)
+        {
+            super(response, () ->
+            {
+                if (deadline != null) deadline.cancel(false);
+            });
+        }
 
+        @Override
+        protected <T> T read(Class<?> rawType, Supplier<T> reader)
+        {
+            final T entity;
+            try
+            {
+                entity = super.read(rawType, reader);
+            }
+            catch (IllegalStateException ex) // entity stream has already been closed by abort()
+            {
+                if (timedOut) throw new QueryCancelledException();
+                throw ex;
+            }
+            
+            if (InputStream.class.equals(rawType) && entity != null) return (T)new FilterInputStream((InputStream)entity)
+            {
+                @Override
+                public int read() throws IOException
+                {
+                    try
+                    {
+                        return checkTimeout(super.read());
+                    }
+                    catch (IOException | IllegalStateException ex)
+                    {
+                        if (timedOut) throw new QueryCancelledException();
+                        throw ex;
+                    }
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) throws IOException
+                {
+                    try
+                    {
+                        return checkTimeout(super.read(b, off, len));
+                    }
+                    catch (IOException | IllegalStateException ex)
+                    {
+                        if (timedOut) throw new QueryCancelledException();
+                        throw ex;
+                    }
+                }
+            };
+            
+            return entity;
+        }
+        
+        /**
+         * Checks that the end of the stream was not caused by the query deadline.
+         * 
+         * @param read result of a read
+         * @return the same result
+         */
+        private int checkTimeout(int read)
+        {
+            if (read == -1 && timedOut) throw new QueryCancelledException(); // connection was closed by abort()
+            return read;
+        }
+        
+    }
+    
     @Override
     public void update(UpdateRequest updateRequest, List<URI> usingGraphUris, List<URI> usingNamedGraphUris)
     {
@@ -149,7 +648,7 @@ public class EndpointAccessorImpl implements EndpointAccessor
 
         try
         {
-            getSPARQLClient().update(updateRequest, params);
+            getResilience().run(() -> getSPARQLClient().update(updateRequest, params), false);
         }
         catch (ClientErrorException ex)
         {
@@ -162,4 +661,19 @@ public class EndpointAccessorImpl implements EndpointAccessor
         return sparqlClient;
     }
     
+    public LoadBalancer getReadReplicas()
+    {
+        return readReplicas;
+    }
+    
+    public Resilience getResilience()
+    {
+        return resilience;
+    }
+    
+    public Long getTimeout()
+    {
+        return timeout;
+    }
+    
 }
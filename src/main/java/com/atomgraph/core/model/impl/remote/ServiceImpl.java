@@ -17,7 +17,9 @@ package com.atomgraph.core.model.impl.remote;
 
 import com.atomgraph.core.MediaTypes;
 import com.atomgraph.core.client.GraphStoreClient;
+import com.atomgraph.core.client.LoadBalancer;
 import com.atomgraph.core.client.QuadStoreClient;
+import com.atomgraph.core.client.Resilience;
 import com.atomgraph.core.client.SPARQLClient;
 import com.atomgraph.core.model.DatasetAccessor;
 import com.atomgraph.core.model.DatasetQuadAccessor;
@@ -28,6 +30,9 @@ import com.atomgraph.core.model.RemoteService;
 import jakarta.ws.rs.client.Client;
 import jakarta.ws.rs.client.WebTarget;
 import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import org.glassfish.jersey.client.ClientProperties;
 import org.glassfish.jersey.client.authentication.HttpAuthenticationFeature;
 
 /**
@@ -44,9 +49,83 @@ public class ServiceImpl implements RemoteService
     private final MediaTypes mediaTypes;
     private final String authUser, authPwd;
     private final Integer maxGetRequestSize;
+    private final Long queryInitialTimeout, queryTimeout;
+    private final Resilience resilience;
+    private final SPARQLClient sparqlClient;
+    private final GraphStoreClient graphStoreClient;
+    private final QuadStoreClient quadStoreClient;
+    private final LoadBalancer readReplicas;
 
     public ServiceImpl(Client client, MediaTypes mediaTypes, org.apache.jena.rdf.model.Resource endpoint, org.apache.jena.rdf.model.Resource graphStore, org.apache.jena.rdf.model.Resource quadStore,
             String authUser, String authPwd, Integer maxGetRequestSize)
+    {
+        this(client, mediaTypes, endpoint, graphStore, quadStore, authUser, authPwd, maxGetRequestSize, null, null);
+    }
+    
+    /**
+     * Constructs remote service with query timeouts.
+     * The initial timeout (or the overall one, if there is no initial timeout) is applied to the remote SPARQL endpoint requests as the HTTP read timeout.
+     * The overall timeout is also enforced as a wall-clock deadline by the endpoint accessors.
+     * 
+     * @param client HTTP client
+     * @param mediaTypes supported media types
+     * @param endpoint SPARQL endpoint resource
+     * @param graphStore Graph Store resource
+     * @param quadStore quad store resource or null
+     * @param authUser HTTP Basic auth user or null
+     * @param authPwd HTTP Basic auth password or null
+     * @param maxGetRequestSize max <code>GET</code> request size or null
+     * @param queryInitialTimeout max time in milliseconds until the first query result, or null
+     * @param queryTimeout max time in milliseconds of query execution, or null
+     */
+    public ServiceImpl(Client client, MediaTypes mediaTypes, org.apache.jena.rdf.model.Resource endpoint, org.apache.jena.rdf.model.Resource graphStore, org.apache.jena.rdf.model.Resource quadStore,
+            String authUser, String authPwd, Integer maxGetRequestSize, Long queryInitialTimeout, Long queryTimeout)
+    {
+        this(client, mediaTypes, endpoint, graphStore, quadStore, authUser, authPwd, maxGetRequestSize, queryInitialTimeout, queryTimeout, Resilience.NONE);
+    }
+    
+    /**
+     * Constructs remote service with query timeouts and a resilience policy.
+     * 
+     * @param client HTTP client
+     * @param mediaTypes supported media types
+     * @param endpoint SPARQL endpoint resource
+     * @param graphStore Graph Store resource
+     * @param quadStore quad store resource or null
+     * @param authUser HTTP Basic auth user or null
+     * @param authPwd HTTP Basic auth password or null
+     * @param maxGetRequestSize max <code>GET</code> request size or null
+     * @param queryInitialTimeout max time in milliseconds until the first query result, or null
+     * @param queryTimeout max time in milliseconds of query execution, or null
+     * @param resilience retry, hedging and circuit breaking policy of backend requests
+     */
+    public ServiceImpl(Client client, MediaTypes mediaTypes, org.apache.jena.rdf.model.Resource endpoint, org.apache.jena.rdf.model.Resource graphStore, org.apache.jena.rdf.model.Resource quadStore,
+            String authUser, String authPwd, Integer maxGetRequestSize, Long queryInitialTimeout, Long queryTimeout, Resilience resilience)
+    {
+        this(client, mediaTypes, endpoint, graphStore, quadStore, authUser, authPwd, maxGetRequestSize, queryInitialTimeout, queryTimeout, resilience, null, null);
+    }
+    
+    /**
+     * Constructs remote service with read replicas.
+     * Queries are load-balanced across the read replicas; updates and Graph Store requests are sent to the primary endpoints.
+     * 
+     * @param client HTTP client
+     * @param mediaTypes supported media types
+     * @param endpoint primary SPARQL endpoint resource
+     * @param graphStore Graph Store resource
+     * @param quadStore quad store resource or null
+     * @param authUser HTTP Basic auth user or null
+     * @param authPwd HTTP Basic auth password or null
+     * @param maxGetRequestSize max <code>GET</code> request size or null
+     * @param queryInitialTimeout max time in milliseconds until the first query result, or null
+     * @param queryTimeout max time in milliseconds of query execution, or null
+     * @param resilience retry, hedging and circuit breaking policy of backend requests
+     * @param readEndpoints SPARQL endpoint resources of the read replicas, or null if queries are sent to the primary endpoint
+     * @param loadBalancing replica selection strategy, or null for the default one
+     */
+    public ServiceImpl(Client client, MediaTypes mediaTypes, org.apache.jena.rdf.model.Resource endpoint, org.apache.jena.rdf.model.Resource graphStore, org.apache.jena.rdf.model.Resource quadStore,
+            String authUser, String authPwd, Integer maxGetRequestSize, Long queryInitialTimeout, Long queryTimeout, Resilience resilience,
+            List<org.apache.jena.rdf.model.Resource> readEndpoints, LoadBalancer.Strategy loadBalancing)
     {
         if (client == null) throw new IllegalArgumentException("Client must be not null");
         if (mediaTypes == null) throw new IllegalArgumentException("MediaTypes must be not null");
@@ -54,6 +133,7 @@ public class ServiceImpl implements RemoteService
         if (!endpoint.isURIResource()) throw new IllegalArgumentException("SPARQL endpoint Resource must be URI resource");
         if (graphStore == null) throw new IllegalArgumentException("Graph Store Resource must be not null");
         if (!graphStore.isURIResource()) throw new IllegalArgumentException("Graph Store Resource must be URI resource");
+        if (resilience == null) throw new IllegalArgumentException("Resilience must be not null");
             
         this.client = client;
         this.mediaTypes = mediaTypes;
@@ -63,6 +143,26 @@ public class ServiceImpl implements RemoteService
         this.authUser = authUser;
         this.authPwd = authPwd;
         this.maxGetRequestSize = maxGetRequestSize;
+        this.queryInitialTimeout = queryInitialTimeout;
+        this.queryTimeout = queryTimeout;
+        this.resilience = resilience;
+        
+        // clients are immutable once configured and therefore shared by all requests
+        this.sparqlClient = getSPARQLClient(client.target(endpoint.getURI()));
+        this.graphStoreClient = getGraphStoreClient(URI.create(graphStore.getURI()));
+        this.quadStoreClient = quadStore != null && quadStore.isURIResource() ? getQuadStoreClient(client.target(quadStore.getURI())) : null;
+        
+        if (readEndpoints != null && !readEndpoints.isEmpty())
+        {
+            List<SPARQLClient> readClients = new ArrayList<>();
+            for (org.apache.jena.rdf.model.Resource readEndpoint : readEndpoints)
+            {
+                if (!readEndpoint.isURIResource()) throw new IllegalArgumentException("SPARQL endpoint Resource must be URI resource");
+                readClients.add(getSPARQLClient(client.target(readEndpoint.getURI())));
+            }
+            this.readReplicas = new LoadBalancer(readClients, loadBalancing != null ? loadBalancing : LoadBalancer.Strategy.LEAST_OUTSTANDING);
+        }
+        else this.readReplicas = null;
     }
 
     public ServiceImpl(Client client, MediaTypes mediaTypes, org.apache.jena.rdf.model.Resource endpoint, org.apache.jena.rdf.model.Resource graphStore, org.apache.jena.rdf.model.Resource quadStore)
@@ -73,13 +173,17 @@ public class ServiceImpl implements RemoteService
     @Override
     public SPARQLClient getSPARQLClient()
     {
-        return getSPARQLClient(getClient().target(getSPARQLEndpoint().getURI()));
+        return sparqlClient;
     }
     
     public SPARQLClient getSPARQLClient(WebTarget resource)
     {
         SPARQLClient sparqlClient;
         
+        // the backend does not know about our timeouts, therefore stop waiting for a response that does not arrive in time
+        Long readTimeout = getQueryInitialTimeout() != null ? getQueryInitialTimeout() : getQueryTimeout();
+        if (readTimeout != null) resource.property(ClientProperties.READ_TIMEOUT, readTimeout.intValue());
+        
         if (getMaxGetRequestSize() != null)
             sparqlClient = SPARQLClient.create(getMediaTypes(), resource, getMaxGetRequestSize());
         else
@@ -100,13 +204,13 @@ public class ServiceImpl implements RemoteService
     @Override
     public EndpointAccessor getEndpointAccessor()
     {
-        return new EndpointAccessorImpl(getSPARQLClient());
+        return new EndpointAccessorImpl(getSPARQLClient(), getReadReplicas(), getResilience(), getQueryTimeout());
     }
 
     @Override
     public GraphStoreClient getGraphStoreClient()
     {
-        return getGraphStoreClient(URI.create(getGraphStore().getURI()));
+        return graphStoreClient;
     }
     
     public GraphStoreClient getGraphStoreClient(URI uri)
@@ -128,7 +232,18 @@ public class ServiceImpl implements RemoteService
     @Override
     public QuadStoreClient getQuadStoreClient()
     {
-        return getQuadStoreClient(getClient().target(getQuadStore().getURI()));
+        return quadStoreClient;
+    }
+    
+    /**
+     * Probes whether the Graph Store and the quad store support the RDF Thrift binary format.
+     * RDF is written as RDF Thrift to each backend that supports it.
+     * Should be called once on startup.
+     */
+    public void probeBinary()
+    {
+        getGraphStoreClient().probeBinary();
+        if (getQuadStoreClient() != null) getQuadStoreClient().probeBinary();
     }
     
     public QuadStoreClient getQuadStoreClient(WebTarget resource)
@@ -151,7 +266,7 @@ public class ServiceImpl implements RemoteService
     @Deprecated
     public DatasetAccessor getDatasetAccessor()
     {
-        return new DatasetAccessorImpl(getGraphStoreClient());
+        return new DatasetAccessorImpl(getGraphStoreClient(), getResilience());
     }
 
     @Override
@@ -205,5 +320,30 @@ public class ServiceImpl implements RemoteService
     {
         return maxGetRequestSize;
     }
-
+    
+    public Long getQueryInitialTimeout()
+    {
+        return queryInitialTimeout;
+    }
+    
+    public Long getQueryTimeout()
+    {
+        return queryTimeout;
+    }
+    
+    public Resilience getResilience()
+    {
+        return resilience;
+    }
+    
+    /**
+     * Returns load balancer of the read replicas.
+     * 
+     * @return load balancer or null if there are no read replicas
+     */
+    public LoadBalancer getReadReplicas()
+    {
+        return readReplicas;
+    }
+    
 }
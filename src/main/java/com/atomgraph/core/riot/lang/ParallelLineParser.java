@@ -0,0 +1,391 @@
+/*
+ * Copyright 2026 Martynas Jusevičius <martynas@atomgraph.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.atomgraph.core.riot.lang;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.riot.Lang;
+import org.apache.jena.riot.RDFParser;
+import org.apache.jena.riot.lang.LabelToNode;
+import org.apache.jena.riot.system.ErrorHandler;
+import org.apache.jena.riot.system.StreamRDF;
+import org.apache.jena.riot.system.StreamRDFBase;
+import org.apache.jena.sparql.core.Quad;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Parses line-based RDF syntaxes (N-Triples and N-Quads) on multiple threads.
+ * The stream is split into chunks at newline boundaries, the chunks are parsed in parallel, and the parsed triples
+ * and quads are sent to the destination stream chunk by chunk on the calling thread, so the destination does not have to be thread-safe.
+ * The order of statements is only preserved within a chunk.
+ * At most <code>parallelism</code> chunks are in memory at once.
+ * Blank node labels are mapped to the same blank nodes across chunks.
+ * Line numbers reported to the error handler are offset by the lines of the preceding chunks, so they are relative to the whole stream.
+ * Reading stops at the first chunk that fails to parse; chunks that have not started parsing yet are cancelled.
+ * Payloads that fit into a single chunk are parsed on the calling thread.
+ *
+ * @author Martynas Jusevičius {@literal <martynas@atomgraph.com>}
+ */
+public class ParallelLineParser
+{
+
+    private static final Logger log = LoggerFactory.getLogger(ParallelLineParser.class);
+
+    /** Default chunk size in bytes */
+    public static final int DEFAULT_CHUNK_SIZE = 4 * 1024 * 1024;
+
+    private final Lang lang;
+    private final String baseURI;
+    private final ErrorHandler errorHandler;
+    private final int parallelism;
+    private final int chunkSize;
+    private final Executor executor;
+
+    /**
+     * Constructs parser that parses chunks of the default size on the common fork-join pool.
+     *
+     * @param lang N-Triples or N-Quads
+     * @param baseURI base URI or null
+     * @param errorHandler parse error handler
+     * @param parallelism max number of chunks parsed at once
+     */
+    public ParallelLineParser(Lang lang, String baseURI, ErrorHandler errorHandler, int parallelism)
+    {
+        this(lang, baseURI, errorHandler, parallelism, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructs parser that parses chunks of the default size.
+     *
+     * @param lang N-Triples or N-Quads
+     * @param baseURI base URI or null
+     * @param errorHandler parse error handler
+     * @param parallelism max number of chunks parsed at once
+     * @param executor executor that parses the chunks
+     */
+    public ParallelLineParser(Lang lang, String baseURI, ErrorHandler errorHandler, int parallelism, Executor executor)
+    {
+        this(lang, baseURI, errorHandler, parallelism, DEFAULT_CHUNK_SIZE, executor);
+    }
+
+    /**
+     * Constructs parser.
+     *
+     * @param lang N-Triples or N-Quads
+     * @param baseURI base URI or null
+     * @param errorHandler parse error handler
+     * @param parallelism max number of chunks parsed at once
+     * @param chunkSize chunk size in bytes. Lines longer than that make the chunk grow.
+     * @param executor executor that parses the chunks
+     */
+    public ParallelLineParser(Lang lang, String baseURI, ErrorHandler errorHandler, int parallelism, int chunkSize, Executor executor)
+    {
+        if (!isSupported(lang)) throw new IllegalArgumentException("Lang must be N-Triples or N-Quads");
+        if (errorHandler == null) throw new IllegalArgumentException("ErrorHandler cannot be null");
+        if (parallelism < 1) throw new IllegalArgumentException("Parallelism must be positive");
+        if (chunkSize < 1) throw new IllegalArgumentException("Chunk size must be positive");
+        if (executor == null) throw new IllegalArgumentException("Executor cannot be null");
+
+        this.lang = lang;
+        this.baseURI = baseURI;
+        this.errorHandler = errorHandler;
+        this.parallelism = parallelism;
+        this.chunkSize = chunkSize;
+        this.executor = executor;
+    }
+
+    /**
+     * Returns true if the language can be split into chunks at newline boundaries.
+     *
+     * @param lang RDF language
+     * @return true if N-Triples or N-Quads
+     */
+    public static boolean isSupported(Lang lang)
+    {
+        return Lang.NTRIPLES.equals(lang) || Lang.NQUADS.equals(lang);
+    }
+
+    /**
+     * Parses the stream into the destination.
+     * Parse errors are rethrown on the calling thread, after which the destination might contain some of the statements.
+     *
+     * @param in RDF stream
+     * @param dest destination stream
+     * @return number of parsed triples and quads
+     */
+    public long parse(InputStream in, StreamRDF dest)
+    {
+        if (in == null) throw new IllegalArgumentException("InputStream cannot be null");
+        if (dest == null) throw new IllegalArgumentException("StreamRDF cannot be null");
+
+        UUID seed = UUID.randomUUID(); // blank node labels are hashed with the same seed in all chunks
+        Deque<CompletableFuture<Chunk>> pending = new ArrayDeque<>();
+        long count = 0, lines = 0;
+        int chunks = 0;
+
+        dest.start();
+        try
+        {
+            byte[] buf = new byte[getChunkSize()];
+            int len = 0;
+            while (true)
+            {
+                len += in.readNBytes(buf, len, buf.length - len);
+
+                if (len < buf.length) // end of stream
+                {
+                    if (chunks == 0) // single chunk - no need for other threads
+                    {
+                        Chunk chunk = parse(seed, buf, len, 0);
+                        return chunk.sendTo(dest);
+                    }
+
+                    if (len > 0)
+                    {
+                        pending.add(submit(seed, buf, len, lines));
+                        chunks++;
+                    }
+                    break;
+                }
+
+                int end = lastNewline(buf, len) + 1;
+                if (end == 0) // line longer than the chunk
+                {
+                    buf = Arrays.copyOf(buf, buf.length * 2);
+                    continue;
+                }
+
+                byte[] next = new byte[Math.max(getChunkSize(), (len - end) * 2)];
+                System.arraycopy(buf, end, next, 0, len - end);
+                pending.add(submit(seed, buf, end, lines));
+                chunks++;
+                lines += countNewlines(buf, end);
+                buf = next;
+                len = len - end;
+
+                if (pending.size() >= getParallelism()) count += join(pending.poll()).sendTo(dest);
+                else checkFailed(pending);
+            }
+
+            while (!pending.isEmpty()) count += join(pending.poll()).sendTo(dest);
+
+            if (log.isDebugEnabled()) log.debug("Parsed {} statements in {} chunks of {} with parallelism {}", count, chunks, getLang(), getParallelism());
+            return count;
+        }
+        catch (IOException ex)
+        {
+            throw new UncheckedIOException(ex);
+        }
+        finally
+        {
+            pending.forEach(future -> future.cancel(false)); // not empty only if parsing failed
+            dest.finish();
+        }
+    }
+
+    protected CompletableFuture<Chunk> submit(UUID seed, byte[] buf, int len, long lineOffset)
+    {
+        return CompletableFuture.supplyAsync(() -> parse(seed, buf, len, lineOffset), getExecutor());
+    }
+
+    /**
+     * Parses a chunk.
+     *
+     * @param seed blank node label seed
+     * @param buf chunk buffer
+     * @param len chunk length
+     * @param lineOffset number of lines in the stream before the chunk
+     * @return parsed chunk
+     */
+    protected Chunk parse(UUID seed, byte[] buf, int len, long lineOffset)
+    {
+        Chunk chunk = new Chunk();
+
+        RDFParser.create().
+            lang(getLang()).
+            errorHandler(lineOffset == 0 ? getErrorHandler() : new LineOffsetErrorHandler(getErrorHandler(), lineOffset)).
+            checking(true).
+            base(getBaseURI()).
+            labelToNode(LabelToNode.createScopeByDocumentHash(seed)).
+            source(new ByteArrayInputStream(buf, 0, len)).
+            parse(chunk);
+
+        return chunk;
+    }
+
+    protected static Chunk join(CompletableFuture<Chunk> future)
+    {
+        try
+        {
+            return future.join();
+        }
+        catch (CompletionException ex)
+        {
+            if (ex.getCause() instanceof RuntimeException runtimeException) throw runtimeException; // e.g. RiotException
+            throw ex;
+        }
+    }
+
+    /**
+     * Rethrows the failure of the first chunk that has already failed, so that the rest of the stream is not read in vain.
+     *
+     * @param pending chunks that are being parsed
+     */
+    protected static void checkFailed(Deque<CompletableFuture<Chunk>> pending)
+    {
+        for (CompletableFuture<Chunk> future : pending)
+            if (future.isCompletedExceptionally()) join(future);
+    }
+
+    private static long countNewlines(byte[] buf, int len)
+    {
+        long count = 0;
+        for (int i = 0; i < len; i++)
+            if (buf[i] == '\n') count++;
+
+        return count;
+    }
+
+    private static int lastNewline(byte[] buf, int len)
+    {
+        for (int i = len - 1; i >= 0; i--)
+            if (buf[i] == '\n') return i;
+
+        return -1;
+    }
+
+    public Lang getLang()
+    {
+        return lang;
+    }
+
+    public String getBaseURI()
+    {
+        return baseURI;
+    }
+
+    public ErrorHandler getErrorHandler()
+    {
+        return errorHandler;
+    }
+
+    public int getParallelism()
+    {
+        return parallelism;
+    }
+
+    public int getChunkSize()
+    {
+        return chunkSize;
+    }
+
+    public Executor getExecutor()
+    {
+        return executor;
+    }
+
+    /**
+     * Error handler that reports chunk-local line numbers relative to the whole stream.
+     */
+    protected static class LineOffsetErrorHandler implements ErrorHandler
+    {
+
+        private final ErrorHandler errorHandler;
+        private final long lineOffset;
+
+        public LineOffsetErrorHandler(ErrorHandler errorHandler, long lineOffset)
+        {
+            this.errorHandler = errorHandler;
+            this.lineOffset = lineOffset;
+        }
+
+        @Override
+        public void warning(String message, long line, long col)
+        {
+            errorHandler.warning(message, offset(line), col);
+        }
+
+        @Override
+        public void error(String message, long line, long col)
+        {
+            errorHandler.error(message, offset(line), col);
+        }
+
+        @Override
+        public void fatal(String message, long line, long col)
+        {
+            errorHandler.fatal(message, offset(line), col);
+        }
+
+        private long offset(long line)
+        {
+            return line > 0 ? line + lineOffset : line; // unknown positions are negative
+        }
+
+    }
+
+    /**
+     * Statements parsed from a single chunk.
+     */
+    protected static class Chunk extends StreamRDFBase
+    {
+
+        private final List<Triple> triples = new ArrayList<>();
+        private final List<Quad> quads = new ArrayList<>();
+
+        @Override
+        public void triple(Triple triple)
+        {
+            triples.add(triple);
+        }
+
+        @Override
+        public void quad(Quad quad)
+        {
+            quads.add(quad);
+        }
+
+        /**
+         * Sends the parsed statements to the destination stream.
+         *
+         * @param dest destination stream
+         * @return number of statements
+         */
+        public long sendTo(StreamRDF dest)
+        {
+            triples.forEach(dest::triple);
+            quads.forEach(dest::quad);
+
+            return triples.size() + quads.size();
+        }
+
+    }
+
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright 2026 Martynas Jusevičius <martynas@atomgraph.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.atomgraph.core.riot.lang;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.util.Arrays;
+
+/**
+ * Incremental decoder of <code>application/x-www-form-urlencoded</code> keys and values.
+ * Characters are decoded in place into reusable buffers as they are appended, so that decoding a value allocates only its string.
+ * Decodes the same way as {@link java.net.URLDecoder}: <code>+</code> is a space and runs of <code>%XX</code> escapes are decoded
+ * using the charset, with malformed byte sequences replaced.
+ * Not thread-safe.
+ *
+ * @author Martynas Jusevičius {@literal <martynas@atomgraph.com>}
+ */
+public class PercentDecoder
+{
+
+    private final CharsetDecoder decoder;
+    private char[] chars = new char[256];
+    private CharBuffer charBuffer = CharBuffer.wrap(chars);
+    private int length = 0;
+    private byte[] bytes = new byte[64];
+    private ByteBuffer byteBuffer = ByteBuffer.wrap(bytes);
+    private int byteCount = 0;
+    private boolean ascii = true;
+    private int hexDigits = -1; // -1 outside of an escape, otherwise the number of hex digits read after '%'
+    private int hi;
+
+    /**
+     * Constructs decoder of escapes in the given charset.
+     *
+     * @param charset charset of the escaped bytes
+     */
+    public PercentDecoder(Charset charset)
+    {
+        if (charset == null) throw new IllegalArgumentException("Charset cannot be null");
+
+        this.decoder = charset.newDecoder().
+            onMalformedInput(CodingErrorAction.REPLACE).
+            onUnmappableCharacter(CodingErrorAction.REPLACE);
+    }
+
+    /**
+     * Discards the decoded characters so that the next key or value can be decoded.
+     */
+    public void reset()
+    {
+        length = 0;
+        byteCount = 0;
+        ascii = true;
+        hexDigits = -1;
+    }
+
+    /**
+     * Appends an encoded character.
+     *
+     * @param ch encoded character
+     * @throws IllegalArgumentException if an escape contains a non-hex character
+     */
+    public void append(int ch)
+    {
+        if (hexDigits >= 0)
+        {
+            int digit = Character.digit(ch, 16);
+            if (digit < 0) throw new IllegalArgumentException("Illegal hex characters in escape (%) pattern");
+
+            if (hexDigits == 0)
+            {
+                hi = digit;
+                hexDigits = 1;
+            }
+            else
+            {
+                appendByte((byte)((hi << 4) | digit));
+                hexDigits = -1;
+            }
+            return;
+        }
+
+        if (ch == '%')
+        {
+            hexDigits = 0;
+            return;
+        }
+
+        flushBytes();
+        ensureCapacity(length + 1);
+        chars[length++] = ch == '+' ? ' ' : (char)ch;
+    }
+
+    /**
+     * Completes decoding and returns the decoded string.
+     *
+     * @return decoded string
+     * @throws IllegalArgumentException if the last escape is incomplete
+     */
+    public String decode()
+    {
+        end();
+        return new String(chars, 0, length);
+    }
+
+    /**
+     * Completes decoding and returns the candidate that equals the decoded string, without allocating it.
+     *
+     * @param candidates expected strings, e.g. keys
+     * @return matching candidate, or the decoded string if none matches
+     * @throws IllegalArgumentException if the last escape is incomplete
+     */
+    public String decode(String... candidates)
+    {
+        end();
+        for (String candidate : candidates)
+            if (matches(candidate)) return candidate;
+
+        return new String(chars, 0, length);
+    }
+
+    private void end()
+    {
+        if (hexDigits >= 0) throw new IllegalArgumentException("Incomplete trailing escape (%) pattern");
+        flushBytes();
+    }
+
+    private boolean matches(String candidate)
+    {
+        if (candidate.length() != length) return false;
+
+        for (int i = 0; i < length; i++)
+            if (candidate.charAt(i) != chars[i]) return false;
+
+        return true;
+    }
+
+    private void appendByte(byte b)
+    {
+        if (byteCount == bytes.length)
+        {
+            bytes = Arrays.copyOf(bytes, byteCount * 2);
+            byteBuffer = ByteBuffer.wrap(bytes);
+        }
+        bytes[byteCount++] = b;
+        ascii &= b >= 0;
+    }
+
+    /**
+     * Decodes the run of escaped bytes.
+     */
+    private void flushBytes()
+    {
+        if (byteCount == 0) return;
+
+        ensureCapacity(length + byteCount); // bytes never decode to more chars than there are bytes
+        if (ascii)
+            for (int i = 0; i < byteCount; i++) chars[length++] = (char)bytes[i];
+        else
+        {
+            byteBuffer.clear().limit(byteCount);
+            charBuffer.clear().position(length);
+            decoder.reset();
+            decoder.decode(byteBuffer, charBuffer, true);
+            decoder.flush(charBuffer);
+            length = charBuffer.position();
+        }
+
+        byteCount = 0;
+        ascii = true;
+    }
+
+    private void ensureCapacity(int capacity)
+    {
+        if (capacity <= chars.length) return;
+
+        chars = Arrays.copyOf(chars, Math.max(capacity, chars.length * 2));
+        charBuffer = CharBuffer.wrap(chars);
+    }
+
+}
@@ -17,22 +17,22 @@
 package com.atomgraph.core.riot.lang;
 
 import org.apache.jena.graph.Node;
+import org.apache.jena.graph.NodeFactory;
 import org.apache.jena.graph.Triple;
-import org.apache.jena.rdf.model.AnonId;
 import org.apache.jena.rdf.model.Model;
 import org.apache.jena.rdf.model.ModelFactory;
-import org.apache.jena.rdf.model.Property;
-import org.apache.jena.rdf.model.RDFNode;
-import org.apache.jena.rdf.model.Resource;
 import org.apache.jena.sparql.util.Context;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
-import java.io.UnsupportedEncodingException;
-import java.net.URI;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
 import java.net.URISyntaxException;
-import java.net.URLDecoder;
-import java.util.ArrayList;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import org.apache.jena.atlas.AtlasException;
 import org.apache.jena.atlas.io.PeekReader;
 import org.apache.jena.atlas.iterator.PeekIterator;
@@ -46,6 +46,7 @@ import org.apache.jena.riot.system.ErrorHandlerFactory;
 import org.apache.jena.riot.system.ParserProfile;
 import org.apache.jena.riot.system.RiotLib;
 import org.apache.jena.riot.system.StreamRDF;
+import org.apache.jena.riot.system.StreamRDFLib;
 import org.apache.jena.riot.tokens.Token;
 import org.apache.jena.riot.tokens.TokenType;
 import static org.apache.jena.riot.tokens.TokenType.*;
@@ -70,158 +71,327 @@ public class RDFPostReader extends ReaderRIOTBase
     private ErrorHandler errorHandler = ErrorHandlerFactory.getDefaultErrorHandler();
     private ParserProfile parserProfile = null;
         
+    /**
+     * Parses RDF/POST-encoded string into a model.
+     * 
+     * @param body RDF/POST-encoded string
+     * @param charsetName charset of the percent-encoded values
+     * @return parsed model
+     * @throws URISyntaxException if a subject, predicate or object URI is invalid
+     * @see #parse(java.io.Reader, java.lang.String, org.apache.jena.riot.system.StreamRDF)
+     */
     public static Model parse(String body, String charsetName) throws URISyntaxException
     {
-        List<String> keys = new ArrayList<>(), values = new ArrayList<>();
+        Model model = ModelFactory.createDefaultModel();
+
+        try
+        {
+            parse(new StringReader(body), charsetName, StreamRDFLib.graph(model.getGraph()));
+        }
+        catch (IOException ex)
+        {
+            throw new UncheckedIOException(ex); // not thrown by StringReader
+        }
 
-        String[] params = body.split("&");
+        return model;
+    }
 
-        for (String param : params)
+    /**
+     * Parses RDF/POST-encoded character stream into the destination in a single pass.
+     * Triples and namespace prefixes are sent to the destination as soon as they are read, and only one key/value pair
+     * is kept as lookahead, so the size of the body is not limited by memory.
+     * Parameters without a value (e.g. <code>rdf</code>) are skipped.
+     * 
+     * @param in RDF/POST-encoded character stream
+     * @param charsetName charset of the percent-encoded values
+     * @param dest destination stream
+     * @throws IOException if the stream cannot be read
+     * @throws URISyntaxException if a subject, predicate or object URI is invalid
+     */
+    public static void parse(Reader in, String charsetName, StreamRDF dest) throws IOException, URISyntaxException
+    {
+        if (in == null) throw new IllegalArgumentException("Reader cannot be null");
+        if (charsetName == null) throw new IllegalArgumentException("Charset name cannot be null");
+        if (dest == null) throw new IllegalArgumentException("StreamRDF cannot be null");
+
+        PairParser parser = new PairParser(Charset.forName(charsetName), dest);
+        char[] buf = new char[8192];
+        int len;
+
+        dest.start();
+        try
         {
-            if (log.isTraceEnabled()) log.trace("Parameter: {}", param);
-            
-            String[] array = param.split("=");
-            String key = null;
-            String value = null;
+            while ((len = in.read(buf)) != -1)
+                for (int i = 0; i < len; i++) parser.append(buf[i]);
 
-            try
-            {
-                key = URLDecoder.decode(array[0], charsetName);
-                if (array.length > 1) value = URLDecoder.decode(array[1], charsetName);
-            } catch (UnsupportedEncodingException ex)
+            parser.finish();
+        }
+        finally
+        {
+            dest.finish();
+        }
+    }
+
+    /**
+     * Parses decoded RDF/POST keys and values into a model.
+     * 
+     * @param k keys
+     * @param v values, in the same order as keys
+     * @return parsed model
+     * @throws URISyntaxException if a subject, predicate or object URI is invalid
+     */
+    public static Model parse(List<String> k, List<String> v) throws URISyntaxException
+    {
+        Model model = ModelFactory.createDefaultModel();
+        PairParser parser = new PairParser(StandardCharsets.UTF_8, StreamRDFLib.graph(model.getGraph()));
+
+        for (int i = 0; i < k.size(); i++)
+            parser.pair(k.get(i), v.get(i));
+        parser.finish();
+
+        return model;
+    }
+
+    /**
+     * Checks that the string only contains characters allowed in an IRI reference.
+     * A cheap substitute for constructing {@link java.net.URI}, which does full RFC 3986 parsing.
+     * 
+     * @param iri IRI string
+     * @throws URISyntaxException if an illegal character is found
+     */
+    protected static void checkIRI(String iri) throws URISyntaxException
+    {
+        for (int i = 0; i < iri.length(); i++)
+        {
+            char ch = iri.charAt(i);
+            if (ch <= ' ' || Character.isISOControl(ch) ||
+                    ch == '<' || ch == '>' || ch == '"' || ch == '{' || ch == '}' || ch == '|' || ch == '\\' || ch == '^' || ch == '`')
+                throw new URISyntaxException(iri, "Illegal character in IRI", i);
+        }
+    }
+
+    /**
+     * Single-pass RDF/POST parser used by the static <code>parse()</code> methods.
+     * Splits the characters into key/value pairs, percent-decodes them, and turns the pairs into triples.
+     * Pairs that take a following pair (e.g. <code>ol</code> followed by <code>lt</code> or <code>ll</code>) are kept pending until the next pair is read.
+     * Not thread-safe.
+     */
+    protected static class PairParser
+    {
+
+        private final PercentDecoder decoder;
+        private final StreamRDF dest;
+        private final Map<String, String> namespaces = new HashMap<>();
+        private String key = null; // key of the pair being read
+        private String pendingKey = null, pendingValue = null;
+        private Node subject = null, property = null;
+
+        public PairParser(Charset charset, StreamRDF dest)
+        {
+            this.decoder = new PercentDecoder(charset);
+            this.dest = dest;
+        }
+
+        /**
+         * Appends a character of the encoded body.
+         * 
+         * @param ch encoded character
+         * @throws URISyntaxException if the completed pair contains an invalid URI
+         */
+        public void append(char ch) throws URISyntaxException
+        {
+            switch (ch)
             {
-                if (log.isWarnEnabled()) log.warn("Unsupported encoding", ex);
+                case CH_AMPERSAND -> endPair();
+                case CH_EQUALS -> {
+                    if (key == null)
+                    {
+                        key = decoder.decode(KEYS);
+                        decoder.reset();
+                    }
+                    else decoder.append(ch); // unencoded '=' in a value
+                }
+                default -> decoder.append(ch);
             }
+        }
 
-            if (value != null) // && key != null
+        private void endPair() throws URISyntaxException
+        {
+            if (key != null)
             {
-                keys.add(key);
-                values.add(value);
+                String value = decoder.decode();
+                if (!value.isEmpty()) pair(key, value);
             }
+
+            key = null;
+            decoder.reset();
         }
 
-        return parse(keys, values);
-    }
+        /**
+         * Processes a decoded key/value pair.
+         * 
+         * @param key decoded key
+         * @param value decoded value
+         * @throws URISyntaxException if a subject, predicate or object URI is invalid
+         */
+        public void pair(String key, String value) throws URISyntaxException
+        {
+            if (pendingKey != null && process(pendingKey, pendingValue, key, value)) // the pair was consumed by the pending one
+            {
+                pendingKey = pendingValue = null;
+                return;
+            }
 
-    public static Model parse(List<String> k, List<String> v) throws URISyntaxException
-    {
-        Model model = ModelFactory.createDefaultModel();
+            pendingKey = key;
+            pendingValue = value;
+        }
 
-        Resource subject = null;
-        Property property = null;
-        RDFNode object = null;
+        /**
+         * Processes the remaining pairs.
+         * 
+         * @throws URISyntaxException if a subject, predicate or object URI is invalid
+         */
+        public void finish() throws URISyntaxException
+        {
+            endPair();
+            if (pendingKey != null) process(pendingKey, pendingValue, null, null);
+            pendingKey = pendingValue = null;
+        }
 
-        for (int i = 0; i < k.size(); i++)
+        /**
+         * Processes a pair and sends the triple it completes, if any.
+         * 
+         * @param key key
+         * @param value value
+         * @param nextKey key of the following pair or null
+         * @param nextValue value of the following pair or null
+         * @return true if the following pair was consumed
+         * @throws URISyntaxException if a subject, predicate or object URI is invalid
+         */
+        protected boolean process(String key, String value, String nextKey, String nextValue) throws URISyntaxException
         {
-            switch (k.get(i))
+            Node object = null;
+            boolean consumed = false;
+
+            switch (key)
             {
-                case DEF_NS_DECL -> model.setNsPrefix("", v.get(i)); // default namespace
+                case DEF_NS_DECL -> prefix("", value); // default namespace
                 case NS_DECL -> {
-                    if (i + 1 < k.size() && k.get(i + 1).equals(DEF_NS_DECL)) // if followed by "v" (if not out of bounds)
+                    if (DEF_NS_DECL.equals(nextKey)) // if followed by "v"
                     {
-                        model.setNsPrefix(v.get(i), v.get(i + 1)); // namespace with prefix
-                        i++; // skip the following "v"
+                        prefix(value, nextValue); // namespace with prefix
+                        consumed = true;
                     }
                 }
-                    
-                case BLANK_SUBJ -> {
-                    subject = model.createResource(new AnonId(v.get(i))); // blank node
-                    property = null;
-                    object = null;
-                }
-                case URI_SUBJ -> {
-                    URI subjectURI = new URI(v.get(i));
-                    //if (!subjectURI.isAbsolute()) subjectURI = baseURI.resolve(subjectURI);
-                    subject = model.createResource(subjectURI.toString()); // full URI
-                    property = null;
-                    object = null;
-                }
-                case DEF_NS_SUBJ -> {
-                    subject = model.createResource(model.getNsPrefixURI("") + v.get(i)); // default namespace
-                    property = null;
-                    object = null;
-                }
+
+                case BLANK_SUBJ -> subject(NodeFactory.createBlankNode(value)); // blank node
+                case URI_SUBJ -> subject(uri(value)); // full URI
+                case DEF_NS_SUBJ -> subject(uri("", value)); // default namespace
                 case NS_SUBJ -> {
-                    if (i + 1 < k.size() && k.get(i + 1).equals(DEF_NS_SUBJ)) // if followed by "sv" (if not out of bounds)
+                    if (DEF_NS_SUBJ.equals(nextKey)) // if followed by "sv"
                     {
-                        subject = model.createResource(model.getNsPrefixURI(v.get(i)) + v.get(i + 1)); // ns prefix + local name
-                        property = null;
-                        object = null;
-                        i++; // skip the following "sv"
+                        subject(uri(value, nextValue)); // ns prefix + local name
+                        consumed = true;
                     }
                 }
 
-                case URI_PRED -> {
-                    URI propertyURI = new URI(v.get(i));
-                    //if (!propertyURI.isAbsolute()) propertyURI = baseURI.resolve(propertyURI);
-                    property = model.createProperty(propertyURI.toString());
-                    object = null;
-                }
-                case DEF_NS_PRED -> {
-                    property = model.createProperty(model.getNsPrefixURI(""), v.get(i));
-                    object = null;
-                }
+                case URI_PRED -> property = uri(value);
+                case DEF_NS_PRED -> property = uri("", value);
                 case NS_PRED -> {
-                    if (i + 1 < k.size() && k.get(i + 1).equals(DEF_NS_PRED)) // followed by "pv" (if not out of bounds)
+                    if (DEF_NS_PRED.equals(nextKey)) // if followed by "pv"
                     {
-                        property = model.createProperty(model.getNsPrefixURI(v.get(i)) + v.get(i + 1)); // ns prefix + local name
-                        object = null;
-                        i++; // skip the following "pv"
+                        property = uri(value, nextValue); // ns prefix + local name
+                        consumed = true;
                     }
                 }
 
-                case BLANK_OBJ -> object = model.createResource(new AnonId(v.get(i))); // blank node
-                case URI_OBJ -> {
-                    URI objectURI = new URI(v.get(i));
-                    //if (!objectURI.isAbsolute()) objectURI = baseURI.resolve(objectURI);
-                    object = model.createResource(objectURI.toString()); // full URI
-                }
-                case DEF_NS_OBJ -> object = model.createResource(model.getNsPrefixURI("") + v.get(i)); // default namespace
+                case BLANK_OBJ -> object = NodeFactory.createBlankNode(value); // blank node
+                case URI_OBJ -> object = uri(value); // full URI
+                case DEF_NS_OBJ -> object = uri("", value); // default namespace
                 case NS_OBJ -> {
-                    if (i + 1 < k.size() && k.get(i + 1).equals(DEF_NS_OBJ)) // followed by "ov" (if not out of bounds)
+                    if (DEF_NS_OBJ.equals(nextKey)) // if followed by "ov"
                     {
-                        object = model.createResource(model.getNsPrefixURI(v.get(i)) + v.get(i + 1)); // ns prefix + local name
-                        i++; // skip the following "ov"
+                        object = uri(value, nextValue); // ns prefix + local name
+                        consumed = true;
                     }
                 }
                 case LITERAL_OBJ -> {
-                    if (i + 1 < k.size()) // check if not out of bounds
-                        switch (k.get(i + 1))
-                        {
-                            case TYPE -> {
-                                object = model.createTypedLiteral(v.get(i), TypeMapper.getInstance().getSafeTypeByName(v.get(i + 1))); // typed literal (value+datatype)
-                                i++; // skip the following "lt"
-                            }
-                            case LANG -> {
-                                object = model.createLiteral(v.get(i), v.get(i + 1)); // literal with language (value+lang)
-                                i++; // skip the following "ll"
-                            }
-                            default -> object = model.createLiteral(v.get(i)); // plain literal (if not followed by lang or datatype)
-                        }
-                    else
-                        object = model.createLiteral(v.get(i)); // plain literal
+                    if (TYPE.equals(nextKey))
+                    {
+                        object = typedLiteral(value, nextValue); // typed literal (value+datatype)
+                        consumed = true;
+                    }
+                    else if (LANG.equals(nextKey))
+                    {
+                        object = langLiteral(value, nextValue); // literal with language (value+lang)
+                        consumed = true;
+                    }
+                    else object = NodeFactory.createLiteralString(value); // plain literal
                 }
                 case TYPE -> {
-                    if (i + 1 < k.size() && k.get(i + 1).equals(LITERAL_OBJ)) // followed by "ol" (if not out of bounds)
+                    if (LITERAL_OBJ.equals(nextKey)) // if followed by "ol"
                     {
-                        object = model.createTypedLiteral(v.get(i + 1), TypeMapper.getInstance().getSafeTypeByName(v.get(i))); // typed literal (datatype+value)
-                        i++; // skip the following "ol"
+                        object = typedLiteral(nextValue, value); // typed literal (datatype+value)
+                        consumed = true;
                     }
                 }
                 case LANG -> {
-                    if (i + 1 < k.size() && k.get(i + 1).equals(LITERAL_OBJ)) // followed by "ol" (if not out of bounds)
+                    if (LITERAL_OBJ.equals(nextKey)) // if followed by "ol"
                     {
-                        model.createLiteral(v.get(i + 1), v.get(i)); // literal with language (lang+value)
-                        i++; // skip the following "ol"
+                        object = langLiteral(nextValue, value); // literal with language (lang+value)
+                        consumed = true;
                     }
                 }
+                default -> {} // unknown key
             }
 
             if (subject != null && property != null && object != null)
-                model.add(model.createStatement(subject, property, object));
+                dest.triple(Triple.create(subject, property, object));
+
+            return consumed;
+        }
+
+        private void subject(Node subject)
+        {
+            this.subject = subject;
+            this.property = null;
+        }
+
+        private void prefix(String prefix, String uri)
+        {
+            namespaces.put(prefix, uri);
+            dest.prefix(prefix, uri);
+        }
+
+        private static Node uri(String uri) throws URISyntaxException
+        {
+            checkIRI(uri);
+            return NodeFactory.createURI(uri);
+        }
+
+        /**
+         * Returns URI node from a namespace prefix and a local name, or null if the prefix is not declared.
+         */
+        private Node uri(String prefix, String localName)
+        {
+            String namespace = namespaces.get(prefix);
+            if (namespace == null) return null;
+
+            return NodeFactory.createURI(namespace + localName);
+        }
+
+        private static Node typedLiteral(String lexicalForm, String datatypeURI)
+        {
+            return NodeFactory.createLiteralDT(lexicalForm, TypeMapper.getInstance().getSafeTypeByName(datatypeURI));
+        }
+
+        private static Node langLiteral(String lexicalForm, String lang)
+        {
+            if (lang.isEmpty()) return NodeFactory.createLiteralString(lexicalForm);
+
+            return NodeFactory.createLiteralLang(lexicalForm, lang);
         }
 
-        return model;
     }
 
     public RDFPostReader(Lang lang, ParserProfile profile, ErrorHandler errorHandler)
@@ -16,8 +16,7 @@
 
 package com.atomgraph.core.riot.lang;
 
-import java.io.UnsupportedEncodingException;
-import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
 import org.apache.jena.atlas.io.PeekReader;
 import org.apache.jena.atlas.lib.Chars;
 import org.apache.jena.riot.RiotParseException;
@@ -28,6 +27,8 @@ import static com.atomgraph.core.riot.lang.TokenizerText.Checking;
 
 /**
  * RDF/POST tokenizer.
+ * Keys and values are percent-decoded by a reusable {@link PercentDecoder}, so that a value allocates only its string
+ * and the keys resolve to the constants below without allocating.
  * 
  * @author Martynas Jusevičius {@literal <martynas@atomgraph.com>}
  */
@@ -58,8 +59,14 @@ public class TokenizerRDFPost extends TokenizerText implements Tokenizer
 
     public static final String TYPE =           "lt";
     public static final String LANG =           "ll";
-        
-    private final StringBuilder stringBuilder = new StringBuilder(200);
+    
+    static final String[] KEYS = { RDF, DEF_NS_DECL, NS_DECL,
+        BLANK_SUBJ, URI_SUBJ, DEF_NS_SUBJ, NS_SUBJ,
+        URI_PRED, DEF_NS_PRED, NS_PRED,
+        BLANK_OBJ, URI_OBJ, DEF_NS_OBJ, NS_OBJ, LITERAL_OBJ,
+        TYPE, LANG };
+    
+    private final PercentDecoder decoder = new PercentDecoder(StandardCharsets.UTF_8);
     private Token token = null;
     private String key, prevKey = null;
     
@@ -74,148 +81,176 @@ public class TokenizerRDFPost extends TokenizerText implements Tokenizer
         token = new Token(getLine(), getColumn());
         String suffixOrIri = null;
         
-        try
-        {
-            int ch = getReader().peekChar();
-            if (ch == CH_EQUALS || ch == CH_AMPERSAND) getReader().readChar();
+        int ch = getReader().peekChar();
+        if (ch == CH_EQUALS || ch == CH_AMPERSAND) getReader().readChar();
 
-            if (key != null)
-                switch (key)
-                {
-                    case DEF_NS_DECL: // v
-                    case URI_SUBJ: // su
-                    case URI_PRED: // pu
-                    case URI_OBJ: // ou
-                        token.setType(TokenType.IRI);
-                        token.setImage(readUntilDelimiter()); // namespace URI
-                        if ( Checking ) checkURI(token.getImage());
-                        prevKey = key;
-                        key = null;
-                        return token;
-                    case NS_DECL: // n
-                        token.setType(TokenType.PREFIXED_NAME) ;
-                        token.setImage(readUntilDelimiter()); // namespace prefix
-                        prevKey = key;
-                        key = null;
-                        return token;
-                    case NS_SUBJ: // sn
-                    case NS_PRED: // pn
-                    case NS_OBJ: // on
-                        token.setType(TokenType.PREFIXED_NAME) ;
-                        token.setImage(readUntilDelimiter()); // prefix
-                        prevKey = key;
-                        key = null;
-                        return token;
-                    case DEF_NS_SUBJ: // sv
-                        if (prevKey != null && prevKey.equals(NS_SUBJ))
-                            token.setType(TokenType.PREFIXED_NAME) ;
-                        else
-                            token.setType(TokenType.IRI) ;
-                        suffixOrIri = readUntilDelimiter();
-                        token.setImage(suffixOrIri);  // relative URI
-                        token.setImage2(suffixOrIri); // suffix
-                        prevKey = key;
-                        key = null;
-                        return token;
-                    case DEF_NS_PRED: // pv
-                        if (prevKey != null && prevKey.equals(NS_PRED))
-                            token.setType(TokenType.PREFIXED_NAME) ;
-                        else
-                            token.setType(TokenType.IRI) ;
-                        suffixOrIri = readUntilDelimiter();
-                        token.setImage(suffixOrIri);  // relative URI
-                        token.setImage2(suffixOrIri); // suffix
-                        prevKey = key;
-                        key = null;
-                        return token;
-                    case DEF_NS_OBJ: // ov
-                        if (prevKey != null && prevKey.equals(NS_OBJ))
-                            token.setType(TokenType.PREFIXED_NAME) ;
-                        else
-                            token.setType(TokenType.IRI) ;
-                        suffixOrIri = readUntilDelimiter();
-                        token.setImage(suffixOrIri);  // relative URI?
-                        token.setImage2(suffixOrIri); // suffix
-                        prevKey = key;
-                        key = null;
-                        return token;
-                    case BLANK_SUBJ: // sb
-                    case BLANK_OBJ: // ob
-                        token.setType(TokenType.BNODE);
-                        token.setImage(readUntilDelimiter());
-                        if ( Checking ) checkBlankNode(token.getImage());
-                        prevKey = key;
-                        key = null;
-                        return token;
-                    case LITERAL_OBJ: // ol
-                        token.setType(TokenType.STRING);
-                        token.setImage(readUntilDelimiter());
-                        prevKey = key;
-                        key = null;
-                        return token;
-                    case TYPE: // lt
-                        token.setType(TokenType.IRI); // token.setType(TokenType.LITERAL_DT);
-                        token.setImage(readUntilDelimiter());
-                        prevKey = key;
-                        key = null;
-                        return token;
-                    case LANG: // ll
-                        token.setType(TokenType.LITERAL_LANG);
-                        token.setImage2(readUntilDelimiter());
-                        prevKey = key;
-                        key = null;
-                        return token;
-                }
-            
-            key = readUntilDelimiter();
-            token.setImage(key);
-            switch (key) // key switch
+        if (key != null)
+            switch (key)
             {
-                case RDF:
-                    getReader().readChar(); //  read '=' preceding the empty value
                 case DEF_NS_DECL: // v
-                case NS_DECL: // n
-                case BLANK_SUBJ: // sb
                 case URI_SUBJ: // su
-                case DEF_NS_SUBJ: // sv
-                case NS_SUBJ: // sn
                 case URI_PRED: // pu
-                case DEF_NS_PRED: // pv
-                case NS_PRED: // pn
-                case BLANK_OBJ: // ob
                 case URI_OBJ: // ou
-                case DEF_NS_OBJ: // ov
+                    token.setType(TokenType.IRI);
+                    token.setImage(readUntilDelimiter()); // namespace URI
+                    if ( Checking ) checkURI(token.getImage());
+                    prevKey = key;
+                    key = null;
+                    return token;
+                case NS_DECL: // n
+                    token.setType(TokenType.PREFIXED_NAME) ;
+                    token.setImage(readUntilDelimiter()); // namespace prefix
+                    prevKey = key;
+                    key = null;
+                    return token;
+                case NS_SUBJ: // sn
+                case NS_PRED: // pn
                 case NS_OBJ: // on
+                    token.setType(TokenType.PREFIXED_NAME) ;
+                    token.setImage(readUntilDelimiter()); // prefix
+                    prevKey = key;
+                    key = null;
+                    return token;
+                case DEF_NS_SUBJ: // sv
+                    if (prevKey != null && prevKey.equals(NS_SUBJ))
+                        token.setType(TokenType.PREFIXED_NAME) ;
+                    else
+                        token.setType(TokenType.IRI) ;
+                    suffixOrIri = readUntilDelimiter();
+                    token.setImage(suffixOrIri);  // relative URI
+                    token.setImage2(suffixOrIri); // suffix
+                    prevKey = key;
+                    key = null;
+                    return token;
+                case DEF_NS_PRED: // pv
+                    if (prevKey != null && prevKey.equals(NS_PRED))
+                        token.setType(TokenType.PREFIXED_NAME) ;
+                    else
+                        token.setType(TokenType.IRI) ;
+                    suffixOrIri = readUntilDelimiter();
+                    token.setImage(suffixOrIri);  // relative URI
+                    token.setImage2(suffixOrIri); // suffix
+                    prevKey = key;
+                    key = null;
+                    return token;
+                case DEF_NS_OBJ: // ov
+                    if (prevKey != null && prevKey.equals(NS_OBJ))
+                        token.setType(TokenType.PREFIXED_NAME) ;
+                    else
+                        token.setType(TokenType.IRI) ;
+                    suffixOrIri = readUntilDelimiter();
+                    token.setImage(suffixOrIri);  // relative URI?
+                    token.setImage2(suffixOrIri); // suffix
+                    prevKey = key;
+                    key = null;
+                    return token;
+                case BLANK_SUBJ: // sb
+                case BLANK_OBJ: // ob
+                    token.setType(TokenType.BNODE);
+                    token.setImage(readUntilDelimiter());
+                    if ( Checking ) checkBlankNode(token.getImage());
+                    prevKey = key;
+                    key = null;
+                    return token;
                 case LITERAL_OBJ: // ol
+                    token.setType(TokenType.STRING);
+                    token.setImage(readUntilDelimiter());
+                    prevKey = key;
+                    key = null;
+                    return token;
                 case TYPE: // lt
+                    token.setType(TokenType.IRI); // token.setType(TokenType.LITERAL_DT);
+                    token.setImage(readUntilDelimiter());
+                    prevKey = key;
+                    key = null;
+                    return token;
                 case LANG: // ll
-                    token.setType(TokenType.DIRECTIVE);
+                    token.setType(TokenType.LITERAL_LANG);
+                    token.setImage2(readUntilDelimiter());
+                    prevKey = key;
+                    key = null;
                     return token;
             }
-
-            //exception("Failed to find an RDF/POST directive: %c(%d;0x%04X)", ch, ch, ch) ;
-        }
-        catch (UnsupportedEncodingException ex)
+        
+        key = readKey();
+        token.setImage(key);
+        switch (key) // key switch
         {
-            //exception("");
+            case RDF:
+                getReader().readChar(); //  read '=' preceding the empty value
+            case DEF_NS_DECL: // v
+            case NS_DECL: // n
+            case BLANK_SUBJ: // sb
+            case URI_SUBJ: // su
+            case DEF_NS_SUBJ: // sv
+            case NS_SUBJ: // sn
+            case URI_PRED: // pu
+            case DEF_NS_PRED: // pv
+            case NS_PRED: // pn
+            case BLANK_OBJ: // ob
+            case URI_OBJ: // ou
+            case DEF_NS_OBJ: // ov
+            case NS_OBJ: // on
+            case LITERAL_OBJ: // ol
+            case TYPE: // lt
+            case LANG: // ll
+                token.setType(TokenType.DIRECTIVE);
+                return token;
         }
+
+        //exception("Failed to find an RDF/POST directive: %c(%d;0x%04X)", ch, ch, ch) ;
         
         return token;
     }
 
-    protected String readUntilDelimiter() throws UnsupportedEncodingException
+    /**
+     * Reads and percent-decodes a value until the next <code>=</code> or <code>&amp;</code> delimiter.
+     * 
+     * @return decoded value
+     */
+    protected String readUntilDelimiter()
     {
-        stringBuilder.setLength(0);
-
+        try
+        {
+            read();
+            return decoder.decode();
+        }
+        catch (IllegalArgumentException ex)
+        {
+            exception("%s", ex.getMessage());
+            return null;
+        }
+    }
+    
+    /**
+     * Reads and percent-decodes a key until the next <code>=</code> or <code>&amp;</code> delimiter.
+     * 
+     * @return one of the key constants, or a new string if the key is unknown
+     */
+    protected String readKey()
+    {
+        try
+        {
+            read();
+            return decoder.decode(KEYS);
+        }
+        catch (IllegalArgumentException ex)
+        {
+            exception("%s", ex.getMessage());
+            return null;
+        }
+    }
+    
+    private void read()
+    {
+        decoder.reset();
+        
         for (;;)
         {
             int ch = getReader().peekChar();
-            if (ch  == Chars.EOF || ch == CH_EQUALS || ch == CH_AMPERSAND) break;
-            
-            stringBuilder.append((char)getReader().readChar());
+            if (ch == Chars.EOF || ch == CH_EQUALS || ch == CH_AMPERSAND) return;
+            decoder.append(getReader().readChar());
         }
-       
-        return URLDecoder.decode(stringBuilder.toString(), "UTF-8");
     }
 
     private void exception(String message, Object... args) {
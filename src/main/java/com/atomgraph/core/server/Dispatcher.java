@@ -18,6 +18,10 @@ package com.atomgraph.core.server;
 import com.atomgraph.core.model.impl.DirectGraphStoreImpl;
 import com.atomgraph.core.model.impl.GraphStoreImpl;
 import com.atomgraph.core.model.impl.SPARQLEndpointImpl;
+import com.atomgraph.core.model.impl.async.AsyncDirectGraphStoreImpl;
+import com.atomgraph.core.model.impl.async.AsyncGraphStoreImpl;
+import com.atomgraph.core.model.impl.async.AsyncSPARQLEndpointImpl;
+import jakarta.inject.Inject;
 import jakarta.ws.rs.Path;
 
 /**
@@ -28,22 +32,62 @@ import jakarta.ws.rs.Path;
 public class Dispatcher
 {
     
+    private final com.atomgraph.core.Application system;
+    
+    public Dispatcher()
+    {
+        this(null);
+    }
+    
+    /**
+     * Constructs dispatcher from application configuration.
+     * Asynchronous resource classes are dispatched if the application is asynchronous.
+     * 
+     * @param system JAX-RS application
+     */
+    @Inject
+    public Dispatcher(com.atomgraph.core.Application system)
+    {
+        this.system = system;
+    }
+    
     @Path("sparql")
     public Class getSPARQLEndpoint()
     {
+        if (isAsync()) return AsyncSPARQLEndpointImpl.class;
+        
         return SPARQLEndpointImpl.class;
     }
     
     @Path("service")
     public Class getGraphStore()
     {
+        if (isAsync()) return AsyncGraphStoreImpl.class;
+        
         return GraphStoreImpl.class;
     }
     
     @Path("{path: .*}")
     public Class getDirectGraphStore()
     {
+        if (isAsync()) return AsyncDirectGraphStoreImpl.class;
+        
         return DirectGraphStoreImpl.class;
     }
     
+    /**
+     * Returns true if requests are processed asynchronously.
+     * 
+     * @return true if asynchronous
+     */
+    public boolean isAsync()
+    {
+        return getSystem() != null && getSystem().isAsync();
+    }
+    
+    public com.atomgraph.core.Application getSystem()
+    {
+        return system;
+    }
+    
 }
@@ -0,0 +1,186 @@
+/*
+ * Copyright 2026 Martynas Jusevičius <martynas@atomgraph.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.atomgraph.core.server;
+
+import com.atomgraph.core.io.CompressingOutputStream;
+import jakarta.annotation.Priority;
+import jakarta.ws.rs.HttpMethod;
+import jakarta.ws.rs.Priorities;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.container.ContainerResponseFilter;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.ext.WriterInterceptor;
+import jakarta.ws.rs.ext.WriterInterceptorContext;
+import java.io.IOException;
+import java.util.Locale;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compresses response entities larger than a threshold using the content coding negotiated from the <code>Accept-Encoding</code> request header.
+ * <code>gzip</code> is preferred over <code>deflate</code>.
+ * The <code>Content-Encoding</code> header is only set once the entity exceeds the threshold, therefore small responses are sent uncompressed.
+ * Compressed responses get a weak <code>ETag</code>; all responses with an entity get <code>Vary: Accept-Encoding</code>.
+ *
+ * @author Martynas Jusevičius {@literal <martynas@atomgraph.com>}
+ * @see CompressingOutputStream
+ */
+@Priority(Priorities.ENTITY_CODER)
+public class ResponseCompressionInterceptor implements ContainerResponseFilter, WriterInterceptor
+{
+
+    private static final Logger log = LoggerFactory.getLogger(ResponseCompressionInterceptor.class);
+
+    /** Request property that holds the negotiated content coding */
+    public static final String ENCODING_PROPERTY = ResponseCompressionInterceptor.class.getName() + ".encoding";
+
+    private final int threshold;
+
+    /**
+     * Constructs interceptor.
+     *
+     * @param threshold min response entity size in bytes that is compressed
+     */
+    public ResponseCompressionInterceptor(int threshold)
+    {
+        if (threshold < 0) throw new IllegalArgumentException("Threshold cannot be negative");
+        this.threshold = threshold;
+    }
+
+    @Override
+    public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext) throws IOException
+    {
+        if (!responseContext.hasEntity()) return;
+        if (responseContext.getHeaders().containsKey(HttpHeaders.CONTENT_ENCODING)) return; // already encoded
+
+        // caches have to key on Accept-Encoding, also for uncompressed and HEAD responses
+        if (!isVaryingOn(responseContext.getHeaderString(HttpHeaders.VARY), HttpHeaders.ACCEPT_ENCODING))
+            responseContext.getHeaders().add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (requestContext.getMethod().equals(HttpMethod.HEAD)) return;
+        
+        String encoding = getEncoding(requestContext.getHeaderString(HttpHeaders.ACCEPT_ENCODING));
+        if (encoding != null) requestContext.setProperty(ENCODING_PROPERTY, encoding);
+    }
+
+    @Override
+    public void aroundWriteTo(WriterInterceptorContext context) throws IOException
+    {
+        String encoding = (String)context.getProperty(ENCODING_PROPERTY);
+        if (encoding == null)
+        {
+            context.proceed();
+            return;
+        }
+
+        MultivaluedMap<String, Object> headers = context.getHeaders();
+        CompressingOutputStream cos = new CompressingOutputStream(context.getOutputStream(), getThreshold(), encoding, () ->
+        {
+            if (log.isDebugEnabled()) log.debug("Response entity is larger than {} bytes, compressing it using '{}'", getThreshold(), encoding);
+            headers.putSingle(HttpHeaders.CONTENT_ENCODING, encoding);
+            headers.remove(HttpHeaders.CONTENT_LENGTH);
+            weakenEntityTag(headers);
+        });
+        context.setOutputStream(cos);
+        context.proceed();
+        cos.finish();
+    }
+
+    /**
+     * Makes strong <code>ETag</code> weak, since the compressed entity is not byte-for-byte identical to the uncompressed one.
+     * Conditional <code>GET</code> requests still match it, because <code>If-None-Match</code> uses the weak comparison.
+     *
+     * @param headers response headers
+     */
+    public static void weakenEntityTag(MultivaluedMap<String, Object> headers)
+    {
+        Object value = headers.getFirst(HttpHeaders.ETAG);
+        if (value == null) return;
+
+        EntityTag entityTag = value instanceof EntityTag tag ? tag : EntityTag.valueOf(value.toString());
+        if (!entityTag.isWeak()) headers.putSingle(HttpHeaders.ETAG, new EntityTag(entityTag.getValue(), true));
+    }
+
+    /**
+     * Checks whether the <code>Vary</code> header value already includes the given header name.
+     *
+     * @param vary header value or null
+     * @param headerName header name
+     * @return true if included
+     */
+    public static boolean isVaryingOn(String vary, String headerName)
+    {
+        if (vary == null) return false;
+
+        for (String value : vary.split(","))
+            if (value.trim().equalsIgnoreCase(headerName) || value.trim().equals("*")) return true;
+
+        return false;
+    }
+
+    /**
+     * Negotiates content coding from the <code>Accept-Encoding</code> header value.
+     *
+     * @param acceptEncoding header value or null
+     * @return <code>gzip</code>, <code>deflate</code>, or null if none of them is acceptable
+     */
+    public static String getEncoding(String acceptEncoding)
+    {
+        if (acceptEncoding == null) return null;
+
+        boolean gzip = false, deflate = false, wildcard = false;
+        boolean gzipExcluded = false, deflateExcluded = false;
+        for (String value : acceptEncoding.split(","))
+        {
+            String[] params = value.split(";");
+            String coding = params[0].trim().toLowerCase(Locale.ROOT);
+            boolean acceptable = true;
+            for (int i = 1; i < params.length; i++)
+            {
+                String param = params[i].trim();
+                if (param.startsWith("q=") || param.startsWith("Q="))
+                    try
+                    {
+                        acceptable = Double.parseDouble(param.substring(2)) > 0;
+                    }
+                    catch (NumberFormatException ex)
+                    {
+                        acceptable = false;
+                    }
+            }
+
+            switch (coding)
+            {
+                case CompressingOutputStream.GZIP, "x-gzip" -> { gzip |= acceptable; gzipExcluded |= !acceptable; }
+                case CompressingOutputStream.DEFLATE -> { deflate |= acceptable; deflateExcluded |= !acceptable; }
+                case "*" -> wildcard = acceptable;
+                default -> {}
+            }
+        }
+
+        if (gzip || (wildcard && !gzipExcluded)) return CompressingOutputStream.GZIP;
+        if (deflate || (wildcard && !deflateExcluded)) return CompressingOutputStream.DEFLATE;
+        return null;
+    }
+
+    public int getThreshold()
+    {
+        return threshold;
+    }
+
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2026 Martynas Jusevičius <martynas@atomgraph.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.atomgraph.core.util;
+
+import jakarta.ws.rs.core.CacheControl;
+import jakarta.ws.rs.ext.RuntimeDelegate;
+import java.net.URI;
+import java.util.regex.Pattern;
+
+/**
+ * <code>Cache-Control</code> header values of the SPARQL endpoint and Graph Stores.
+ * Endpoint-specific values fall back to the default value; if none is set, no header is sent.
+ * Extension directives such as <code>stale-while-revalidate</code> are passed through as they are.
+ * Graphs with URIs matching the immutable graph pattern (e.g. versioned graphs) are additionally marked <code>immutable</code>.
+ *
+ * @author Martynas Jusevičius {@literal <martynas@atomgraph.com>}
+ * @see <a href="https://www.rfc-editor.org/rfc/rfc9111#section-5.2">RFC 9111: Cache-Control</a>
+ * @see <a href="https://www.rfc-editor.org/rfc/rfc8246">RFC 8246: HTTP Immutable Responses</a>
+ */
+public class CacheControlPolicy
+{
+
+    /** Policy that does not send any <code>Cache-Control</code> headers */
+    public static final CacheControlPolicy NONE = new CacheControlPolicy(null, null, null, null, null);
+
+    /** <code>immutable</code> directive name */
+    public static final String IMMUTABLE = "immutable";
+
+    /** <code>max-age</code> of immutable graphs that do not have one configured: one year */
+    public static final int IMMUTABLE_MAX_AGE = 31536000;
+
+    private final CacheControl cacheControl;
+    private final CacheControl endpointCacheControl;
+    private final CacheControl graphStoreCacheControl;
+    private final CacheControl directGraphStoreCacheControl;
+    private final Pattern immutableGraphs;
+
+    /**
+     * Constructs policy from header values.
+     *
+     * @param cacheControl default value or null
+     * @param endpointCacheControl SPARQL endpoint value or null
+     * @param graphStoreCacheControl Graph Store value or null
+     * @param directGraphStoreCacheControl direct Graph Store value or null
+     * @param immutableGraphs pattern of immutable graph URIs or null
+     */
+    public CacheControlPolicy(CacheControl cacheControl, CacheControl endpointCacheControl, CacheControl graphStoreCacheControl, CacheControl directGraphStoreCacheControl,
+            Pattern immutableGraphs)
+    {
+        this.cacheControl = cacheControl;
+        this.endpointCacheControl = endpointCacheControl;
+        this.graphStoreCacheControl = graphStoreCacheControl;
+        this.directGraphStoreCacheControl = directGraphStoreCacheControl;
+        this.immutableGraphs = immutableGraphs;
+    }
+
+    /**
+     * Parses <code>Cache-Control</code> header value.
+     *
+     * @param value header value or null
+     * @return cache control or null
+     */
+    public static CacheControl parse(String value)
+    {
+        if (value == null) return null;
+
+        return RuntimeDelegate.getInstance().createHeaderDelegate(CacheControl.class).fromString(value);
+    }
+
+    /**
+     * Returns <code>Cache-Control</code> value of a graph.
+     * If the graph is immutable, the given value is copied and marked <code>immutable</code>, and <code>no-cache</code> is removed.
+     *
+     * @param cacheControl endpoint value or null
+     * @param graphUri graph URI or null for the default graph
+     * @return cache control or null
+     */
+    public CacheControl getCacheControl(CacheControl cacheControl, URI graphUri)
+    {
+        if (!isImmutable(graphUri)) return cacheControl;
+
+        CacheControl immutable = cacheControl != null ? parse(cacheControl.toString()) : new CacheControl();
+        immutable.setNoCache(false);
+        immutable.getNoCacheFields().clear();
+        if (cacheControl == null) immutable.setNoTransform(false); // enabled by default in new instances
+        if (immutable.getMaxAge() < 0) immutable.setMaxAge(IMMUTABLE_MAX_AGE);
+        immutable.getCacheExtension().put(IMMUTABLE, null);
+        return immutable;
+    }
+
+    /**
+     * Returns true if the graph never changes, i.e. its URI matches the immutable graph pattern.
+     *
+     * @param graphUri graph URI or null for the default graph
+     * @return true if immutable
+     */
+    public boolean isImmutable(URI graphUri)
+    {
+        return graphUri != null && getImmutableGraphs() != null && getImmutableGraphs().matcher(graphUri.toString()).matches();
+    }
+
+    public CacheControl getCacheControl()
+    {
+        return cacheControl;
+    }
+
+    public CacheControl getEndpointCacheControl()
+    {
+        return endpointCacheControl != null ? endpointCacheControl : getCacheControl();
+    }
+
+    public CacheControl getGraphStoreCacheControl()
+    {
+        return graphStoreCacheControl != null ? graphStoreCacheControl : getCacheControl();
+    }
+
+    public CacheControl getDirectGraphStoreCacheControl()
+    {
+        return directGraphStoreCacheControl != null ? directGraphStoreCacheControl : getGraphStoreCacheControl();
+    }
+
+    public Pattern getImmutableGraphs()
+    {
+        return immutableGraphs;
+    }
+
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2026 Martynas Jusevičius <martynas@atomgraph.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.atomgraph.core.util;
+
+import java.util.Iterator;
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.NodeFactory;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.query.Dataset;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.util.iterator.ExtendedIterator;
+
+/**
+ * Strategy for calculating order-independent digests of RDF graphs and datasets.
+ * Triple hashes are combined by addition, therefore the digest of a graph can be updated incrementally
+ * by adding the hashes of inserted triples and subtracting the hashes of removed ones.
+ * 
+ * @author Martynas Jusevičius {@literal <martynas@atomgraph.com>}
+ */
+public interface GraphDigest
+{
+
+    /** Shared default digest */
+    GraphDigest DEFAULT = new Murmur3GraphDigest();
+    
+    /**
+     * Returns the hash of an RDF term.
+     * 
+     * @param node RDF term
+     * @return hash value
+     */
+    Hash128 hash(Node node);
+    
+    /**
+     * Returns the hash of a triple. Term positions are significant.
+     * 
+     * @param triple RDF triple
+     * @return hash value
+     */
+    Hash128 hash(Triple triple);
+    
+    /**
+     * Binds the digest of a named graph to its name, so that equal graphs with different names contribute differently to a dataset digest.
+     * 
+     * @param graphName graph name
+     * @param graphHash graph digest
+     * @return hash value
+     */
+    Hash128 hash(Node graphName, Hash128 graphHash);
+    
+    /**
+     * Returns the digest of an RDF graph.
+     * 
+     * @param graph RDF graph
+     * @return digest value
+     */
+    default Hash128 hash(Graph graph)
+    {
+        Hash128 digest = Hash128.ZERO;
+        
+        ExtendedIterator<Triple> it = graph.find(Node.ANY, Node.ANY, Node.ANY);
+        try
+        {
+            while (it.hasNext()) digest = digest.add(hash(it.next()));
+        }
+        finally
+        {
+            it.close();
+        }
+        
+        return digest;
+    }
+    
+    /**
+     * Returns the digest of an RDF model.
+     * 
+     * @param model RDF model
+     * @return digest value
+     */
+    default Hash128 hash(Model model)
+    {
+        return hash(model.getGraph());
+    }
+    
+    /**
+     * Returns the digest of an RDF dataset.
+     * 
+     * @param dataset RDF dataset
+     * @return digest value
+     */
+    default Hash128 hash(Dataset dataset)
+    {
+        Hash128 digest = hash(dataset.getDefaultModel());
+        
+        Iterator<String> it = dataset.listNames();
+        while (it.hasNext())
+        {
+            String graphUri = it.next();
+            digest = digest.add(hash(NodeFactory.createURI(graphUri), hash(dataset.getNamedModel(graphUri))));
+        }
+        
+        return digest;
+    }
+    
+}
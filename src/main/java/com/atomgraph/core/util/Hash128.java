@@ -0,0 +1,105 @@
+/*
+ * Copyright 2026 Martynas Jusevičius <martynas@atomgraph.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.atomgraph.core.util;
+
+/**
+ * Immutable 128-bit hash value.
+ * Supports addition and subtraction modulo 2<sup>128</sup>, which makes it usable as a commutative, updatable digest.
+ * 
+ * @author Martynas Jusevičius {@literal <martynas@atomgraph.com>}
+ */
+public final class Hash128
+{
+
+    /** Zero hash, the digest of an empty graph */
+    public static final Hash128 ZERO = new Hash128(0L, 0L);
+
+    private final long high;
+    private final long low;
+
+    public Hash128(long high, long low)
+    {
+        this.high = high;
+        this.low = low;
+    }
+
+    /**
+     * Adds another hash modulo 2<sup>128</sup>.
+     * 
+     * @param other other hash
+     * @return sum
+     */
+    public Hash128 add(Hash128 other)
+    {
+        if (other == null) throw new IllegalArgumentException("Hash128 cannot be null");
+        
+        long sumLow = low + other.low;
+        long carry = Long.compareUnsigned(sumLow, low) < 0 ? 1 : 0;
+        return new Hash128(high + other.high + carry, sumLow);
+    }
+
+    /**
+     * Subtracts another hash modulo 2<sup>128</sup>.
+     * 
+     * @param other other hash
+     * @return difference
+     */
+    public Hash128 subtract(Hash128 other)
+    {
+        if (other == null) throw new IllegalArgumentException("Hash128 cannot be null");
+        
+        long borrow = Long.compareUnsigned(low, other.low) < 0 ? 1 : 0;
+        return new Hash128(high - other.high - borrow, low - other.low);
+    }
+
+    public long getHigh()
+    {
+        return high;
+    }
+
+    public long getLow()
+    {
+        return low;
+    }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (!(obj instanceof Hash128)) return false;
+        
+        Hash128 other = (Hash128)obj;
+        return high == other.high && low == other.low;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Long.hashCode(high) * 31 + Long.hashCode(low);
+    }
+
+    /**
+     * Returns the hash as a 32 character hexadecimal string.
+     * 
+     * @return hex string
+     */
+    @Override
+    public String toString()
+    {
+        return String.format("%016x%016x", high, low);
+    }
+
+}
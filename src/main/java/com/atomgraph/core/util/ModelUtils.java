@@ -23,6 +23,15 @@ import org.apache.jena.util.iterator.ExtendedIterator;
 public class ModelUtils
 {
 
+    /**
+     * Calculates XOR hash of the model's triples.
+     * Blank nodes are ignored and colliding triple hashes cancel out, so prefer {@link GraphDigest}.
+     * 
+     * @param m RDF model
+     * @return hash value
+     * @deprecated use {@link GraphDigest#hash(Model)} instead
+     */
+    @Deprecated
     public static long hashModel(Model m)
     {
         long result = 0;
@@ -0,0 +1,208 @@
+/*
+ * Copyright 2026 Martynas Jusevičius <martynas@atomgraph.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.atomgraph.core.util;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import org.apache.jena.atlas.lib.Cache;
+import org.apache.jena.atlas.lib.CacheFactory;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.riot.out.NodeFmtLib;
+
+/**
+ * Graph digest based on the 128-bit x64 variant of MurmurHash3.
+ * RDF terms are hashed over the UTF-8 bytes of their N-Triples form, so that blank nodes, literal datatypes and language tags are significant.
+ * Blank nodes are hashed by their label, which is stable within a store, but not across parses of the same document.
+ * Term hashes are cached, since the same terms recur across many triples.
+ * 
+ * @author Martynas Jusevičius {@literal <martynas@atomgraph.com>}
+ * @see <a href="https://github.com/aappleby/smhasher/wiki/MurmurHash3">MurmurHash3</a>
+ */
+public class Murmur3GraphDigest implements GraphDigest
+{
+
+    public static final int DEFAULT_CACHE_SIZE = 100000;
+    
+    private static final long C1 = 0x87c37b91114253d5L;
+    private static final long C2 = 0x4cf5ad432745937fL;
+    
+    private final Cache<Node, Hash128> cache;
+    private final long seed;
+    
+    public Murmur3GraphDigest()
+    {
+        this(DEFAULT_CACHE_SIZE, 0L);
+    }
+    
+    /**
+     * Constructs digest.
+     * 
+     * @param cacheSize max number of cached term hashes
+     * @param seed hash seed
+     */
+    public Murmur3GraphDigest(int cacheSize, long seed)
+    {
+        this.cache = CacheFactory.createCache(cacheSize);
+        this.seed = seed;
+    }
+    
+    @Override
+    public Hash128 hash(Node node)
+    {
+        if (node == null) throw new IllegalArgumentException("Node cannot be null");
+        
+        return cache.get(node, n -> hash(NodeFmtLib.strNT(n).getBytes(StandardCharsets.UTF_8)));
+    }
+    
+    @Override
+    public Hash128 hash(Triple triple)
+    {
+        if (triple == null) throw new IllegalArgumentException("Triple cannot be null");
+        
+        Hash128 s = hash(triple.getSubject()), p = hash(triple.getPredicate()), o = hash(triple.getObject());
+        return hash(s.getHigh(), s.getLow(), p.getHigh(), p.getLow(), o.getHigh(), o.getLow());
+    }
+
+    @Override
+    public Hash128 hash(Node graphName, Hash128 graphHash)
+    {
+        if (graphName == null) throw new IllegalArgumentException("Node cannot be null");
+        if (graphHash == null) throw new IllegalArgumentException("Hash128 cannot be null");
+
+        Hash128 g = hash(graphName);
+        return hash(g.getHigh(), g.getLow(), graphHash.getHigh(), graphHash.getLow());
+    }
+    
+    /**
+     * Hashes a byte array.
+     * 
+     * @param data input bytes
+     * @return hash value
+     */
+    public Hash128 hash(byte[] data)
+    {
+        ByteBuffer buffer = ByteBuffer.wrap(data).order(ByteOrder.LITTLE_ENDIAN);
+        int blocks = data.length / 16;
+        long h1 = seed, h2 = seed;
+
+        for (int i = 0; i < blocks; i++)
+        {
+            h1 ^= mixK1(buffer.getLong(i * 16));
+            h1 = Long.rotateLeft(h1, 27) + h2;
+            h1 = h1 * 5 + 0x52dce729;
+
+            h2 ^= mixK2(buffer.getLong(i * 16 + 8));
+            h2 = Long.rotateLeft(h2, 31) + h1;
+            h2 = h2 * 5 + 0x38495ab5;
+        }
+
+        long k1 = 0, k2 = 0;
+        int tail = blocks * 16;
+        switch (data.length & 15)
+        {
+            case 15: k2 ^= (long)(data[tail + 14] & 0xff) << 48;
+            case 14: k2 ^= (long)(data[tail + 13] & 0xff) << 40;
+            case 13: k2 ^= (long)(data[tail + 12] & 0xff) << 32;
+            case 12: k2 ^= (long)(data[tail + 11] & 0xff) << 24;
+            case 11: k2 ^= (long)(data[tail + 10] & 0xff) << 16;
+            case 10: k2 ^= (long)(data[tail + 9] & 0xff) << 8;
+            case 9: k2 ^= (long)(data[tail + 8] & 0xff);
+                h2 ^= mixK2(k2);
+            case 8: k1 ^= (long)(data[tail + 7] & 0xff) << 56;
+            case 7: k1 ^= (long)(data[tail + 6] & 0xff) << 48;
+            case 6: k1 ^= (long)(data[tail + 5] & 0xff) << 40;
+            case 5: k1 ^= (long)(data[tail + 4] & 0xff) << 32;
+            case 4: k1 ^= (long)(data[tail + 3] & 0xff) << 24;
+            case 3: k1 ^= (long)(data[tail + 2] & 0xff) << 16;
+            case 2: k1 ^= (long)(data[tail + 1] & 0xff) << 8;
+            case 1: k1 ^= (long)(data[tail] & 0xff);
+                h1 ^= mixK1(k1);
+        }
+
+        return fmix128(h1, h2, data.length);
+    }
+    
+    /**
+     * Hashes a sequence of longs, as if they were little-endian bytes.
+     * The number of values has to be even.
+     * 
+     * @param values input values
+     * @return hash value
+     */
+    protected Hash128 hash(long... values)
+    {
+        long h1 = seed, h2 = seed;
+
+        for (int i = 0; i < values.length; i += 2)
+        {
+            h1 ^= mixK1(values[i]);
+            h1 = Long.rotateLeft(h1, 27) + h2;
+            h1 = h1 * 5 + 0x52dce729;
+
+            h2 ^= mixK2(values[i + 1]);
+            h2 = Long.rotateLeft(h2, 31) + h1;
+            h2 = h2 * 5 + 0x38495ab5;
+        }
+        
+        return fmix128(h1, h2, values.length * 8);
+    }
+    
+    private static Hash128 fmix128(long h1, long h2, int length)
+    {
+        h1 ^= length;
+        h2 ^= length;
+
+        h1 += h2;
+        h2 += h1;
+
+        h1 = fmix(h1);
+        h2 = fmix(h2);
+
+        h1 += h2;
+        h2 += h1;
+
+        return new Hash128(h2, h1);
+    }
+    
+    private static long mixK1(long k1)
+    {
+        k1 *= C1;
+        k1 = Long.rotateLeft(k1, 31);
+        k1 *= C2;
+        return k1;
+    }
+
+    private static long mixK2(long k2)
+    {
+        k2 *= C2;
+        k2 = Long.rotateLeft(k2, 33);
+        k2 *= C1;
+        return k2;
+    }
+    
+    private static long fmix(long k)
+    {
+        k ^= k >>> 33;
+        k *= 0xff51afd7ed558ccdL;
+        k ^= k >>> 33;
+        k *= 0xc4ceb9fe1a85ec53L;
+        k ^= k >>> 33;
+        return k;
+    }
+    
+}
@@ -0,0 +1,257 @@
+/*
+ * Copyright 2026 Martynas Jusevičius <martynas@atomgraph.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.atomgraph.core.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.GraphUtil;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.NodeFactory;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.query.Dataset;
+import org.apache.jena.util.iterator.ExtendedIterator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Graph digest that hashes large graphs and datasets in parallel.
+ * Since triple hashes are combined commutatively, the work is split across named graphs,
+ * and graphs larger than the threshold are split into subject partitions, using fork/join tasks.
+ * Term and triple hashing is delegated to another digest, therefore the results are equal to the sequential ones.
+ * <p>
+ * Graphs are read from several threads at once. Jena graphs allow concurrent readers, but not readers concurrent with a writer,
+ * therefore the caller must make sure that the graph or dataset is not modified while it is being hashed,
+ * for example by hashing a private copy such as a query result, or by holding a lock.
+ * Transactions are bound to the thread that started them and do not extend to the worker threads,
+ * therefore a dataset that is read in a transaction of the calling thread is hashed sequentially.
+ * 
+ * @author Martynas Jusevičius {@literal <martynas@atomgraph.com>}
+ */
+public class ParallelGraphDigest implements GraphDigest
+{
+
+    private static final Logger log = LoggerFactory.getLogger(ParallelGraphDigest.class);
+
+    private final GraphDigest digest;
+    private final ForkJoinPool pool;
+    private final int threshold;
+
+    /**
+     * Constructs parallel digest.
+     * 
+     * @param digest sequential digest that hashes terms and triples
+     * @param pool fork/join pool
+     * @param threshold min number of triples in a graph to split it into partitions
+     */
+    public ParallelGraphDigest(GraphDigest digest, ForkJoinPool pool, int threshold)
+    {
+        if (digest == null) throw new IllegalArgumentException("GraphDigest cannot be null");
+        if (pool == null) throw new IllegalArgumentException("ForkJoinPool cannot be null");
+        if (threshold < 1) throw new IllegalArgumentException("Threshold must be positive");
+        
+        this.digest = digest;
+        this.pool = pool;
+        this.threshold = threshold;
+    }
+
+    @Override
+    public Hash128 hash(Node node)
+    {
+        return getDigest().hash(node);
+    }
+
+    @Override
+    public Hash128 hash(Triple triple)
+    {
+        return getDigest().hash(triple);
+    }
+
+    @Override
+    public Hash128 hash(Node graphName, Hash128 graphHash)
+    {
+        return getDigest().hash(graphName, graphHash);
+    }
+
+    @Override
+    public Hash128 hash(Graph graph)
+    {
+        if (graph.size() < getThreshold()) return getDigest().hash(graph);
+        
+        return getPool().invoke(new GraphTask(graph));
+    }
+
+    @Override
+    public Hash128 hash(Dataset dataset)
+    {
+        if (dataset.isInTransaction()) return getDigest().hash(dataset); // workers cannot join the transaction of this thread
+
+        List<String> graphUris = new ArrayList<>();
+        dataset.listNames().forEachRemaining(graphUris::add);
+        if (graphUris.isEmpty()) return hash(dataset.getDefaultModel().getGraph());
+        
+        return getPool().invoke(new DatasetTask(dataset, graphUris));
+    }
+    
+    public GraphDigest getDigest()
+    {
+        return digest;
+    }
+
+    public ForkJoinPool getPool()
+    {
+        return pool;
+    }
+
+    public int getThreshold()
+    {
+        return threshold;
+    }
+    
+    /**
+     * Hashes the default graph and the named graphs of a dataset in parallel.
+     */
+    protected class DatasetTask extends RecursiveTask<Hash128>
+    {
+        
+        private final Dataset dataset;
+        private final List<String> graphUris;
+
+        protected DatasetTask(Dataset dataset, List<String> graphUris)
+        {
+            this.dataset = dataset;
+            this.graphUris = graphUris;
+        }
+
+        @Override
+        protected Hash128 compute()
+        {
+            List<RecursiveTask<Hash128>> tasks = new ArrayList<>();
+            tasks.add(new GraphTask(dataset.getDefaultModel().getGraph()));
+            graphUris.forEach(graphUri -> tasks.add(new NamedGraphTask(graphUri, dataset.getNamedModel(graphUri).getGraph())));
+
+            Hash128 result = Hash128.ZERO;
+            for (RecursiveTask<Hash128> task : invokeAll(tasks)) result = result.add(task.join());
+            return result;
+        }
+        
+    }
+
+    /**
+     * Hashes a named graph and binds the digest to the graph name.
+     */
+    protected class NamedGraphTask extends RecursiveTask<Hash128>
+    {
+        
+        private final String graphUri;
+        private final Graph graph;
+
+        protected NamedGraphTask(String graphUri, Graph graph)
+        {
+            this.graphUri = graphUri;
+            this.graph = graph;
+        }
+
+        @Override
+        protected Hash128 compute()
+        {
+            return ParallelGraphDigest.this.hash(NodeFactory.createURI(graphUri), new GraphTask(graph).compute());
+        }
+        
+    }
+    
+    /**
+     * Hashes a graph, splitting it into subject partitions if it is larger than the threshold.
+     */
+    protected class GraphTask extends RecursiveTask<Hash128>
+    {
+
+        private final Graph graph;
+
+        protected GraphTask(Graph graph)
+        {
+            this.graph = graph;
+        }
+
+        @Override
+        protected Hash128 compute()
+        {
+            int size = graph.size();
+            if (size < getThreshold()) return getDigest().hash(graph);
+
+            List<Node> subjects = new ArrayList<>();
+            GraphUtil.listSubjects(graph, Node.ANY, Node.ANY).forEachRemaining(subjects::add);
+            // estimate how many subjects make up a partition of threshold size
+            int batchSize = (int)Math.max(1, (long)subjects.size() * getThreshold() / size);
+            if (log.isDebugEnabled()) log.debug("Hashing graph of size {} in partitions of {} subjects", size, batchSize);
+            
+            return new SubjectTask(graph, subjects, 0, subjects.size(), batchSize).compute();
+        }
+
+    }
+    
+    /**
+     * Hashes the triples of a range of subjects, splitting the range in halves while it is larger than the batch size.
+     */
+    protected class SubjectTask extends RecursiveTask<Hash128>
+    {
+
+        private final Graph graph;
+        private final List<Node> subjects;
+        private final int from, to, batchSize;
+
+        protected SubjectTask(Graph graph, List<Node> subjects, int from, int to, int batchSize)
+        {
+            this.graph = graph;
+            this.subjects = subjects;
+            this.from = from;
+            this.to = to;
+            this.batchSize = batchSize;
+        }
+
+        @Override
+        protected Hash128 compute()
+        {
+            if (to - from > batchSize)
+            {
+                int middle = (from + to) >>> 1;
+                SubjectTask left = new SubjectTask(graph, subjects, from, middle, batchSize);
+                left.fork();
+                Hash128 right = new SubjectTask(graph, subjects, middle, to, batchSize).compute();
+                return right.add(left.join());
+            }
+            
+            Hash128 result = Hash128.ZERO;
+            for (int i = from; i < to; i++)
+            {
+                ExtendedIterator<Triple> it = graph.find(subjects.get(i), Node.ANY, Node.ANY);
+                try
+                {
+                    while (it.hasNext()) result = result.add(getDigest().hash(it.next()));
+                }
+                finally
+                {
+                    it.close();
+                }
+            }
+            return result;
+        }
+
+    }
+    
+}
@@ -0,0 +1,218 @@
+/*
+ * Copyright 2026 Martynas Jusevičius <martynas@atomgraph.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.atomgraph.core.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.Variant;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import org.apache.jena.query.Query;
+import org.apache.jena.sparql.algebra.Algebra;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * In-process cache of serialized SPARQL query responses.
+ * Entries are keyed by the normalized query algebra, the dataset description (<code>FROM</code>/<code>FROM NAMED</code> of the query as well as
+ * default and named graph URIs of the protocol request) and the response variant,
+ * and hold the serialized response body, so that cache hits skip both query execution and serialization.
+ * The cache is bounded by the total size of the response bodies in bytes (Caffeine's W-TinyLFU eviction) and entries expire after a TTL.
+ * It has to be invalidated on every update of the underlying dataset.
+ *
+ * @author Martynas Jusevičius {@literal <martynas@atomgraph.com>}
+ * @see <a href="https://github.com/ben-manes/caffeine/wiki/Efficiency">Caffeine efficiency</a>
+ */
+public class ResponseCache
+{
+
+    private static final Logger log = LoggerFactory.getLogger(ResponseCache.class);
+
+    /** Default time-to-live of cache entries */
+    public static final Duration DEFAULT_TTL = Duration.ofMinutes(1);
+
+    private final Cache<Key, Entry> cache;
+
+    /**
+     * Constructs response cache.
+     *
+     * @param maxSize maximum total size of cached response bodies in bytes
+     * @param ttl time-to-live of cache entries
+     */
+    public ResponseCache(long maxSize, Duration ttl)
+    {
+        if (maxSize <= 0) throw new IllegalArgumentException("Max cache size must be positive");
+        if (ttl == null) throw new IllegalArgumentException("TTL cannot be null");
+
+        cache = Caffeine.newBuilder().
+            maximumWeight(maxSize).
+            weigher((Key key, Entry entry) -> entry.getBody().length).
+            expireAfterWrite(ttl).
+            recordStats().
+            build();
+    }
+
+    /**
+     * Returns cached response entry, or loads and caches it if it is not present.
+     * Concurrent requests for the same key wait for a single load.
+     *
+     * @param key cache key
+     * @param loader function that executes the query and serializes the response
+     * @return response entry
+     */
+    public Entry get(Key key, Function<Key, Entry> loader)
+    {
+        if (key == null) throw new IllegalArgumentException("Key cannot be null");
+        if (loader == null) throw new IllegalArgumentException("Loader cannot be null");
+
+        return cache.get(key, loader);
+    }
+
+    /**
+     * Discards all cached responses.
+     * Has to be called after the underlying dataset is updated.
+     */
+    public void invalidateAll()
+    {
+        if (log.isDebugEnabled()) log.debug("Invalidating response cache");
+        cache.invalidateAll();
+    }
+
+    public CacheStats getStats()
+    {
+        return cache.stats();
+    }
+
+    /**
+     * Response cache key.
+     * Queries are normalized to their SPARQL algebra, so that syntactic differences such as prefixes, whitespace and comments do not matter.
+     */
+    public static final class Key
+    {
+
+        private final String query;
+        private final List<URI> defaultGraphUris;
+        private final List<URI> namedGraphUris;
+        private final Variant variant;
+
+        public Key(Query query, List<URI> defaultGraphUris, List<URI> namedGraphUris, Variant variant)
+        {
+            if (query == null) throw new IllegalArgumentException("Query cannot be null");
+            if (variant == null) throw new IllegalArgumentException("Variant cannot be null");
+
+            this.query = normalize(query);
+            this.defaultGraphUris = defaultGraphUris != null ? List.copyOf(defaultGraphUris) : Collections.emptyList();
+            this.namedGraphUris = namedGraphUris != null ? List.copyOf(namedGraphUris) : Collections.emptyList();
+            this.variant = variant;
+        }
+
+        /**
+         * Returns normalized string form of the query.
+         * Consists of the query form, the <code>CONSTRUCT</code> template or <code>DESCRIBE</code> resources, the query's own dataset description
+         * (<code>FROM</code> and <code>FROM NAMED</code>), and the query algebra.
+         *
+         * @param query SPARQL query
+         * @return normalized query
+         */
+        public static String normalize(Query query)
+        {
+            StringBuilder sb = new StringBuilder(query.queryType().name()).append('\n');
+            if (query.isConstructType()) sb.append(query.getConstructTemplate()).append('\n');
+            if (query.isDescribeType()) sb.append(query.getResultURIs()).append(query.getResultVars()).append('\n');
+            if (query.hasDatasetDescription()) sb.append("FROM ").append(query.getGraphURIs()).append(" FROM NAMED ").append(query.getNamedGraphURIs()).append('\n'); // not part of the algebra
+            if (query.getQueryPattern() != null) sb.append(Algebra.compile(query));
+            else sb.append(query.getLimit()).append(' ').append(query.getOffset());
+
+            return sb.toString();
+        }
+
+        public String getQuery()
+        {
+            return query;
+        }
+
+        public List<URI> getDefaultGraphUris()
+        {
+            return defaultGraphUris;
+        }
+
+        public List<URI> getNamedGraphUris()
+        {
+            return namedGraphUris;
+        }
+
+        public Variant getVariant()
+        {
+            return variant;
+        }
+
+        @Override
+        public boolean equals(Object obj)
+        {
+            if (this == obj) return true;
+            if (!(obj instanceof Key)) return false;
+
+            Key other = (Key)obj;
+            return query.equals(other.query) &&
+                defaultGraphUris.equals(other.defaultGraphUris) &&
+                namedGraphUris.equals(other.namedGraphUris) &&
+                variant.equals(other.variant);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return Objects.hash(query, defaultGraphUris, namedGraphUris, variant);
+        }
+
+    }
+
+    /**
+     * Cached response: serialized body and its (variant-independent) entity tag.
+     */
+    public static final class Entry
+    {
+
+        private final byte[] body;
+        private final EntityTag entityTag;
+
+        public Entry(byte[] body, EntityTag entityTag)
+        {
+            if (body == null) throw new IllegalArgumentException("Body cannot be null");
+
+            this.body = body;
+            this.entityTag = entityTag;
+        }
+
+        public byte[] getBody()
+        {
+            return body;
+        }
+
+        public EntityTag getEntityTag()
+        {
+            return entityTag;
+        }
+
+    }
+
+}
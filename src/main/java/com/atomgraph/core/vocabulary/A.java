@@ -63,11 +63,86 @@ public final class A
     /** <code>Cache-Control</code> property **/
     public static final Property cacheControl = m_model.createDataProperty( NS + "cacheControl" );
 
+    /** SPARQL endpoint <code>Cache-Control</code> property **/
+    public static final Property endpointCacheControl = m_model.createDataProperty( NS + "endpointCacheControl" );
+
+    /** Graph Store <code>Cache-Control</code> property **/
+    public static final Property graphStoreCacheControl = m_model.createDataProperty( NS + "graphStoreCacheControl" );
+
+    /** Direct Graph Store <code>Cache-Control</code> property **/
+    public static final Property directGraphStoreCacheControl = m_model.createDataProperty( NS + "directGraphStoreCacheControl" );
+
+    /** Immutable graph URI pattern property **/
+    public static final Property immutableGraphs = m_model.createDataProperty( NS + "immutableGraphs" );
+
     /** Result limit property */
     public static final Property resultLimit = m_model.createDataProperty( NS + "resultLimit" );
 
     /** Max <code>GET</code> request size property */
     public static final Property maxGetRequestSize = m_model.createDataProperty( NS + "maxGetRequestSize" );
+
+    /** Max backend connections property */
+    public static final Property maxConnections = m_model.createDataProperty( NS + "maxConnections" );
+
+    /** Max backend connections per host property */
+    public static final Property maxConnectionsPerRoute = m_model.createDataProperty( NS + "maxConnectionsPerRoute" );
+
+    /** Backend connect timeout property */
+    public static final Property connectTimeout = m_model.createDataProperty( NS + "connectTimeout" );
+
+    /** Backend read timeout property */
+    public static final Property readTimeout = m_model.createDataProperty( NS + "readTimeout" );
+
+    /** Backend connection idle timeout property */
+    public static final Property connectionIdleTimeout = m_model.createDataProperty( NS + "connectionIdleTimeout" );
+
+    /** Read replica SPARQL endpoints property */
+    public static final Property readEndpoint = m_model.createDataProperty( NS + "readEndpoint" );
+
+    /** Read replica load balancing strategy property */
+    public static final Property loadBalancing = m_model.createDataProperty( NS + "loadBalancing" );
+
+    /** Max backend request retries property */
+    public static final Property maxRetries = m_model.createDataProperty( NS + "maxRetries" );
+
+    /** Backend request retry delay property */
+    public static final Property retryDelay = m_model.createDataProperty( NS + "retryDelay" );
+
+    /** Backend request hedging percentile property */
+    public static final Property hedgePercentile = m_model.createDataProperty( NS + "hedgePercentile" );
+
+    /** Backend circuit breaker failure threshold property */
+    public static final Property circuitBreakerThreshold = m_model.createDataProperty( NS + "circuitBreakerThreshold" );
+
+    /** Backend circuit breaker open timeout property */
+    public static final Property circuitBreakerTimeout = m_model.createDataProperty( NS + "circuitBreakerTimeout" );
+
+    /** Compression threshold property */
+    public static final Property compressionThreshold = m_model.createDataProperty( NS + "compressionThreshold" );
+
+    /** Backend request content coding property */
+    public static final Property requestEncoding = m_model.createDataProperty( NS + "requestEncoding" );
+
+    /** Direct query POST property */
+    public static final Property directPost = m_model.createDataProperty( NS + "directPost" );
+
+    /** Binary backend transport property */
+    public static final Property binaryTransport = m_model.createDataProperty( NS + "binaryTransport" );
+
+    /** Pass-through property */
+    public static final Property passThrough = m_model.createDataProperty( NS + "passThrough" );
+
+    /** Streaming ingest property */
+    public static final Property streamingIngest = m_model.createDataProperty( NS + "streamingIngest" );
+
+    /** Parse parallelism property */
+    public static final Property parseParallelism = m_model.createDataProperty( NS + "parseParallelism" );
+    
+    /** Query initial timeout property */
+    public static final Property queryInitialTimeout = m_model.createDataProperty( NS + "queryInitialTimeout" );
+
+    /** Query timeout property */
+    public static final Property queryTimeout = m_model.createDataProperty( NS + "queryTimeout" );
     
     /** HTTP Basic auth user property */
     public static final Property authUser = m_model.createDataProperty( NS + "authUser" );
@@ -75,4 +150,19 @@ public final class A
     /** HTTP Basic auth password property */
     public static final Property authPwd = m_model.createDataProperty( NS + "authPwd" );
 
+    /** Streaming query results property */
+    public static final Property streaming = m_model.createDataProperty( NS + "streaming" );
+
+    /** Asynchronous request processing property */
+    public static final Property async = m_model.createDataProperty( NS + "async" );
+
+    /** Parallel graph digest threshold property */
+    public static final Property parallelDigestThreshold = m_model.createDataProperty( NS + "parallelDigestThreshold" );
+
+    /** Response cache size property */
+    public static final Property responseCacheSize = m_model.createDataProperty( NS + "responseCacheSize" );
+
+    /** Response cache TTL property */
+    public static final Property responseCacheTTL = m_model.createDataProperty( NS + "responseCacheTTL" );
+
 }
\ No newline at end of file
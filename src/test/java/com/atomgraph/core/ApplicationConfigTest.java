@@ -0,0 +1,81 @@
+/*
+ * Copyright 2026 Martynas Jusevičius <martynas@atomgraph.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.atomgraph.core;
+
+import com.atomgraph.core.client.Resilience;
+import com.atomgraph.core.util.CacheControlPolicy;
+import com.atomgraph.core.util.GraphDigest;
+import org.apache.jena.query.DatasetFactory;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the application configuration builder.
+ *
+ * @author Martynas Jusevičius {@literal <martynas@atomgraph.com>}
+ */
+public class ApplicationConfigTest
+{
+
+    @Test
+    public void testDefaults()
+    {
+        ApplicationConfig config = ApplicationConfig.builder().build();
+
+        assertNotNull(config.getMediaTypes());
+        assertEquals(GraphDigest.DEFAULT, config.getGraphDigest());
+        assertEquals(CacheControlPolicy.NONE, config.getCacheControlPolicy());
+        assertEquals(Resilience.NONE, config.getResilience());
+        assertNull(config.getResultLimit());
+        assertNull(config.getResponseCache());
+        assertFalse(config.isStreaming());
+        assertFalse(config.isAsync());
+    }
+
+    @Test
+    public void testOptions()
+    {
+        ApplicationConfig config = ApplicationConfig.builder().
+            dataset(DatasetFactory.create()).
+            resultLimit(10L).
+            queryTimeout(100L, 1000L).
+            streaming(true).
+            build();
+
+        assertNotNull(config.getDataset());
+        assertEquals(10L, config.getResultLimit());
+        assertEquals(100L, config.getQueryInitialTimeout());
+        assertEquals(1000L, config.getQueryTimeout());
+        assertTrue(config.isStreaming());
+    }
+
+    @Test
+    public void testNullRejected()
+    {
+        ApplicationConfig.Builder builder = ApplicationConfig.builder();
+
+        assertThrows(IllegalArgumentException.class, () -> builder.mediaTypes(null));
+        assertThrows(IllegalArgumentException.class, () -> builder.graphDigest(null));
+        assertThrows(IllegalArgumentException.class, () -> builder.cacheControlPolicy(null));
+        assertThrows(IllegalArgumentException.class, () -> builder.resilience(null));
+    }
+
+}
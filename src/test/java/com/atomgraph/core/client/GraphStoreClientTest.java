@@ -19,17 +19,30 @@ import com.atomgraph.core.MediaTypes;
 import static com.atomgraph.core.model.impl.GraphStoreImplTest.NAMED_GRAPH_URI;
 import static com.atomgraph.core.model.impl.GraphStoreImplTest.dataset;
 import jakarta.ws.rs.NotFoundException;
+import jakarta.ws.rs.client.WebTarget;
 import jakarta.ws.rs.core.Application;
 import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import org.apache.jena.query.Dataset;
 import org.apache.jena.query.DatasetFactory;
+import org.apache.jena.rdf.model.Model;
 import org.apache.jena.rdf.model.ModelFactory;
 import org.apache.jena.rdf.model.ResourceFactory;
 import org.apache.jena.sparql.vocabulary.FOAF;
 import org.glassfish.jersey.client.ClientConfig;
+import org.glassfish.jersey.logging.LoggingFeature;
 import org.glassfish.jersey.test.JerseyTest;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -89,4 +102,61 @@ public class GraphStoreClientTest extends JerseyTest
         assertThrows(NotFoundException.class, () -> gsc.deleteModel("http://host/" + UUID.randomUUID().toString()));
     }
     
+    @Test
+    public void testEndpointTargetReused()
+    {
+        WebTarget target = gsc.getEndpointTarget();
+        assertSame(target, gsc.getEndpointTarget());
+
+        gsc.register(new LoggingFeature());
+        assertNotSame(target, gsc.getEndpointTarget());
+    }
+    
+    @Test
+    public void testGetModelAsync()
+    {
+        List<CompletableFuture<Model>> models = new ArrayList<>();
+        for (int i = 0; i < 100; i++) models.add(gsc.getModelAsync(NAMED_GRAPH_URI).toCompletableFuture());
+        CompletableFuture.allOf(models.toArray(CompletableFuture[]::new)).join();
+
+        for (CompletableFuture<Model> model : models)
+            assertTrue(model.join().isIsomorphicWith(getDataset().getNamedModel(NAMED_GRAPH_URI)));
+    }
+
+    @Test
+    public void testGetNotFoundNamedModelAsync()
+    {
+        CompletionException ex = assertThrows(CompletionException.class, () -> gsc.getModelAsync("http://host/" + UUID.randomUUID().toString()).toCompletableFuture().join());
+        assertInstanceOf(NotFoundException.class, ex.getCause());
+    }
+    
+    @Test
+    public void testGetModels()
+    {
+        String notFound = "http://host/" + UUID.randomUUID().toString();
+        Dataset models = gsc.getModels(List.of(NAMED_GRAPH_URI, notFound), 2);
+
+        assertTrue(models.getNamedModel(NAMED_GRAPH_URI).isIsomorphicWith(getDataset().getNamedModel(NAMED_GRAPH_URI)));
+        assertFalse(models.containsNamedModel(notFound));
+    }
+
+    @Test
+    public void testGraphsQuery()
+    {
+        assertTrue(SPARQLClient.getGraphsQuery(List.of(NAMED_GRAPH_URI, "http://host/graph")).isConstructQuad());
+    }
+    
+    @Test
+    public void testBinaryPut()
+    {
+        assertTrue(gsc.probeBinary());
+        assertEquals(com.atomgraph.core.MediaType.APPLICATION_RDF_THRIFT_TYPE, gsc.getDefaultMediaType());
+
+        String graphUri = "http://host/" + UUID.randomUUID().toString();
+        Model model = ModelFactory.createDefaultModel().add(ResourceFactory.createResource("http://default/graph/resource"), FOAF.name, "Binary");
+        gsc.putModel(graphUri, model);
+
+        assertTrue(gsc.getModel(graphUri).isIsomorphicWith(model));
+    }
+    
 }
@@ -0,0 +1,196 @@
+/*
+ * Copyright 2026 Martynas Jusevičius <martynas@atomgraph.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.atomgraph.core.client;
+
+import jakarta.ws.rs.ProcessingException;
+import jakarta.ws.rs.client.Client;
+import jakarta.ws.rs.client.ClientBuilder;
+import jakarta.ws.rs.client.ClientRequestFilter;
+import jakarta.ws.rs.core.Response;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * @author Martynas Jusevičius {@literal <martynas@atomgraph.com>}
+ */
+public class LoadBalancerTest
+{
+
+    private Client client;
+    private SPARQLClient replica1, replica2, replica3;
+
+    @BeforeEach
+    public void init()
+    {
+        client = ClientBuilder.newClient();
+        replica1 = SPARQLClient.create(client.target("http://replica1/sparql"));
+        replica2 = SPARQLClient.create(client.target("http://replica2/sparql"));
+        replica3 = SPARQLClient.create(client.target("http://replica3/sparql"));
+    }
+
+    @AfterEach
+    public void close()
+    {
+        client.close();
+    }
+
+    @Test
+    public void testRoundRobin()
+    {
+        LoadBalancer loadBalancer = new LoadBalancer(List.of(replica1, replica2, replica3), LoadBalancer.Strategy.ROUND_ROBIN);
+
+        Map<SPARQLClient, Integer> counts = new HashMap<>();
+        for (int i = 0; i < 30; i++) counts.merge(loadBalancer.select().getClient(), 1, Integer::sum);
+
+        assertEquals(Map.of(replica1, 10, replica2, 10, replica3, 10), counts);
+    }
+
+    @Test
+    public void testLeastOutstanding()
+    {
+        LoadBalancer loadBalancer = new LoadBalancer(List.of(replica1, replica2), LoadBalancer.Strategy.LEAST_OUTSTANDING);
+
+        // while a request to one replica is in progress, the other one is selected
+        loadBalancer.execute(busy ->
+        {
+            for (int i = 0; i < 4; i++) assertNotSame(busy, loadBalancer.select().getClient());
+            return Response.ok().build();
+        });
+    }
+
+    @Test
+    public void testEjection()
+    {
+        LoadBalancer loadBalancer = new LoadBalancer(List.of(replica1, replica2), LoadBalancer.Strategy.ROUND_ROBIN, 2, Duration.ofMinutes(1));
+        LoadBalancer.Replica failing = loadBalancer.getReplicas().get(0);
+
+        for (int i = 0; i < 4; i++)
+            try
+            {
+                loadBalancer.execute(sparqlClient ->
+                {
+                    if (sparqlClient == replica1) throw new ProcessingException("Connection refused");
+                    return Response.ok().build();
+                }).close();
+            }
+            catch (ProcessingException ex)
+            {
+            }
+
+        assertTrue(failing.isEjected());
+        for (int i = 0; i < 4; i++) assertSame(replica2, loadBalancer.select().getClient());
+    }
+
+    @Test
+    public void testAllEjected()
+    {
+        LoadBalancer loadBalancer = new LoadBalancer(List.of(replica1), LoadBalancer.Strategy.ROUND_ROBIN, 1, Duration.ofMinutes(1));
+
+        assertThrows(ProcessingException.class, () -> loadBalancer.execute(sparqlClient -> { throw new ProcessingException("Connection refused"); }));
+        assertTrue(loadBalancer.getReplicas().get(0).isEjected());
+        assertSame(replica1, loadBalancer.select().getClient()); // fails open
+    }
+
+    @Test
+    public void testOutstandingUntilEntityStreamClosed() throws IOException
+    {
+        LoadBalancer loadBalancer = new LoadBalancer(List.of(replica1, replica2), LoadBalancer.Strategy.LEAST_OUTSTANDING);
+
+        Response response = loadBalancer.execute(sparqlClient -> getResponse(Response.ok(new ByteArrayInputStream("results".getBytes(StandardCharsets.UTF_8))).build()));
+        LoadBalancer.Replica busy = getReplica(loadBalancer, response);
+        assertEquals(1, busy.getOutstanding()); // the headers have arrived, but the body is still being streamed
+        for (int i = 0; i < 4; i++) assertNotSame(busy, loadBalancer.select());
+
+        InputStream is = response.readEntity(InputStream.class);
+        assertEquals(1, busy.getOutstanding());
+        is.close();
+        assertEquals(0, busy.getOutstanding());
+        response.close(); // released only once
+        assertEquals(0, busy.getOutstanding());
+    }
+
+    @Test
+    public void testOutstandingUntilClosed()
+    {
+        LoadBalancer loadBalancer = new LoadBalancer(List.of(replica1, replica2), LoadBalancer.Strategy.LEAST_OUTSTANDING);
+
+        Response response = loadBalancer.execute(sparqlClient -> getResponse(Response.ok("results").build()));
+        LoadBalancer.Replica busy = getReplica(loadBalancer, response);
+        assertEquals(1, busy.getOutstanding());
+        response.close();
+        assertEquals(0, busy.getOutstanding());
+    }
+
+    @Test
+    public void testNotOutstandingWithoutEntity()
+    {
+        LoadBalancer loadBalancer = new LoadBalancer(List.of(replica1), LoadBalancer.Strategy.LEAST_OUTSTANDING);
+
+        loadBalancer.execute(sparqlClient -> getResponse(Response.noContent().build()));
+        assertEquals(0, loadBalancer.getReplicas().get(0).getOutstanding());
+    }
+
+    @Test
+    public void testNotOutstandingAfterFailure()
+    {
+        LoadBalancer loadBalancer = new LoadBalancer(List.of(replica1), LoadBalancer.Strategy.LEAST_OUTSTANDING);
+
+        assertThrows(ProcessingException.class, () -> loadBalancer.execute(sparqlClient -> { throw new ProcessingException("Connection refused"); }));
+        assertEquals(0, loadBalancer.getReplicas().get(0).getOutstanding());
+    }
+
+    /**
+     * Returns the given response as it is received by the client.
+     *
+     * @param response outbound response
+     * @return inbound response
+     */
+    protected Response getResponse(Response response)
+    {
+        return client.target("http://replica/sparql").
+            register((ClientRequestFilter) requestContext -> requestContext.abortWith(response)).
+            request().get();
+    }
+
+    /**
+     * Returns the replica with a request in progress.
+     *
+     * @param loadBalancer load balancer
+     * @param response response of the request
+     * @return replica
+     */
+    protected LoadBalancer.Replica getReplica(LoadBalancer loadBalancer, Response response)
+    {
+        assertTrue(response instanceof ReleasingResponse);
+        return loadBalancer.getReplicas().stream().filter(replica -> replica.getOutstanding() > 0).findFirst().orElseThrow();
+    }
+
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2026 Martynas Jusevičius <martynas@atomgraph.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.atomgraph.core.client;
+
+import com.atomgraph.core.MediaTypes;
+import jakarta.ws.rs.client.Client;
+import jakarta.ws.rs.core.Application;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.hc.client5.http.impl.io.ManagedHttpClientConnectionFactory;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.jena.query.Dataset;
+import org.apache.jena.query.DatasetFactory;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.rdf.model.ResourceFactory;
+import org.apache.jena.sparql.vocabulary.FOAF;
+import org.glassfish.jersey.client.ClientConfig;
+import org.glassfish.jersey.test.JerseyTest;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Load test of the pooled backend HTTP connector.
+ *
+ * @author Martynas Jusevičius {@literal <martynas@atomgraph.com>}
+ */
+public class PooledClientTest extends JerseyTest
+{
+
+    public static final int MAX_CONNECTIONS_PER_ROUTE = 4;
+    public static final int THREADS = 16;
+    public static final int REQUESTS = 400;
+
+    private final AtomicInteger connectionCount = new AtomicInteger();
+    private Model model;
+    private PoolingHttpClientConnectionManager connectionManager;
+    private Client client;
+
+    @Override
+    protected Application configure()
+    {
+        model = ModelFactory.createDefaultModel().add(ResourceFactory.createResource("http://default/graph/resource"), FOAF.name, "Smth");
+        Dataset dataset = DatasetFactory.createTxnMem();
+        dataset.setDefaultModel(model);
+
+        com.atomgraph.core.Application system = new com.atomgraph.core.Application(dataset,
+                null, null, null, null, null,
+                new MediaTypes(), com.atomgraph.core.Application.getClient(new ClientConfig()),
+                null);
+        system.init();
+
+        return system;
+    }
+
+    @BeforeEach
+    public void initClient()
+    {
+        // counts physical connections opened by the pool
+        connectionManager = PoolingHttpClientConnectionManagerBuilder.create().
+            setMaxConnTotal(MAX_CONNECTIONS_PER_ROUTE).
+            setMaxConnPerRoute(MAX_CONNECTIONS_PER_ROUTE).
+            setConnectionFactory(socket ->
+            {
+                connectionCount.incrementAndGet();
+                return ManagedHttpClientConnectionFactory.INSTANCE.createConnection(socket);
+            }).
+            build();
+        client = com.atomgraph.core.Application.getClient(com.atomgraph.core.Application.getClientConfig(connectionManager, 5000, 5000, com.atomgraph.core.Application.DEFAULT_CONNECTION_IDLE_TIMEOUT));
+    }
+
+    @AfterEach
+    public void closeClient()
+    {
+        client.close();
+    }
+
+    @Test
+    public void testConnectionReuse() throws Exception
+    {
+        GraphStoreClient gsc = GraphStoreClient.create(client, new MediaTypes(), getBaseUri().resolve("service"));
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try
+        {
+            List<Future<Model>> results = new ArrayList<>();
+            for (int i = 0; i < REQUESTS; i++) results.add(executor.submit(() -> gsc.getModel()));
+            for (Future<Model> result : results) assertTrue(result.get().isIsomorphicWith(model));
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+
+        assertTrue(connectionCount.get() <= MAX_CONNECTIONS_PER_ROUTE, "Opened " + connectionCount.get() + " connections for " + REQUESTS + " requests");
+        assertEquals(0, connectionManager.getTotalStats().getLeased());
+        assertTrue(connectionManager.getTotalStats().getAvailable() > 0); // connections are kept alive
+    }
+
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright 2026 Martynas Jusevičius <martynas@atomgraph.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.atomgraph.core.client;
+
+import com.atomgraph.core.Application;
+import com.atomgraph.core.ApplicationConfig;
+import jakarta.ws.rs.NotFoundException;
+import jakarta.ws.rs.ProcessingException;
+import jakarta.ws.rs.ServiceUnavailableException;
+import jakarta.ws.rs.client.Client;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.jena.query.DatasetFactory;
+import org.glassfish.jersey.client.ClientConfig;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * @author Martynas Jusevičius {@literal <martynas@atomgraph.com>}
+ */
+public class ResilienceTest
+{
+
+    @Test
+    public void testRetryIdempotent()
+    {
+        Resilience resilience = new Resilience(2, Duration.ofMillis(1), null, null);
+        AtomicInteger calls = new AtomicInteger();
+
+        String result = resilience.execute(() ->
+        {
+            if (calls.incrementAndGet() < 3) throw new ProcessingException("Connection refused");
+            return "OK";
+        }, true);
+
+        assertEquals("OK", result);
+        assertEquals(3, calls.get());
+    }
+
+    @Test
+    public void testNoRetryNonIdempotent()
+    {
+        Resilience resilience = new Resilience(2, Duration.ofMillis(1), null, null);
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThrows(ProcessingException.class, () -> resilience.run(() ->
+        {
+            calls.incrementAndGet();
+            throw new ProcessingException("Connection refused");
+        }, false));
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void testNoRetryClientError()
+    {
+        Resilience resilience = new Resilience(2, Duration.ofMillis(1), null, null);
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThrows(NotFoundException.class, () -> resilience.run(() ->
+        {
+            calls.incrementAndGet();
+            throw new NotFoundException();
+        }, true));
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void testCircuitBreakerFailsFast()
+    {
+        CircuitBreaker circuitBreaker = new CircuitBreaker(2, Duration.ofMinutes(1));
+        Resilience resilience = new Resilience(0, Duration.ZERO, null, circuitBreaker);
+        AtomicInteger calls = new AtomicInteger();
+        Runnable failing = () ->
+        {
+            calls.incrementAndGet();
+            throw new ServiceUnavailableException();
+        };
+
+        assertThrows(ServiceUnavailableException.class, () -> resilience.run(failing, true));
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        assertThrows(ServiceUnavailableException.class, () -> resilience.run(failing, true));
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+
+        ServiceUnavailableException ex = assertThrows(ServiceUnavailableException.class, () -> resilience.run(failing, true));
+        assertEquals(2, calls.get()); // the backend was not called
+        assertNotNull(ex.getResponse().getHeaderString("Retry-After"));
+    }
+
+    @Test
+    public void testCircuitBreakerHalfOpen()
+    {
+        CircuitBreaker circuitBreaker = new CircuitBreaker(1, Duration.ZERO);
+
+        assertEquals(true, circuitBreaker.allowRequest());
+        circuitBreaker.recordFailure();
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+
+        assertEquals(true, circuitBreaker.allowRequest()); // trial request
+        assertEquals(CircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+        assertEquals(false, circuitBreaker.allowRequest()); // only one trial at a time
+
+        circuitBreaker.recordSuccess();
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    }
+
+    @Test
+    public void testHedgedRequest()
+    {
+        Resilience resilience = new Resilience(0, Duration.ZERO, 50d, null);
+        for (int i = 0; i < Resilience.MIN_LATENCY_SAMPLES; i++) resilience.execute(() -> "fast", true);
+        assertNotNull(resilience.getHedgeDelay());
+
+        AtomicInteger calls = new AtomicInteger();
+        String result = resilience.execute(() ->
+        {
+            if (calls.incrementAndGet() == 1)
+            {
+                try
+                {
+                    Thread.sleep(10000); // first request is stuck
+                }
+                catch (InterruptedException ex)
+                {
+                    Thread.currentThread().interrupt();
+                }
+                return "slow";
+            }
+            return "hedged";
+        }, true);
+
+        assertEquals("hedged", result);
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    public void testLatencySamplesWrapAround()
+    {
+        Resilience resilience = new Resilience(0, Duration.ZERO, 50d, null);
+        for (int i = 0; i < Resilience.LATENCY_SAMPLES * 3 + 5; i++) resilience.recordSuccess(i < Resilience.LATENCY_SAMPLES * 3 ? 1000 : 1);
+
+        // only the most recent samples are kept: 5 new ones overwrote the oldest ones
+        assertEquals(1000L, resilience.getHedgeDelay());
+        for (int i = 0; i < Resilience.LATENCY_SAMPLES; i++) resilience.recordSuccess(1);
+        assertEquals(1L, resilience.getHedgeDelay());
+    }
+
+    @Test
+    public void testClose()
+    {
+        Resilience resilience = new Resilience(0, Duration.ZERO, 50d, null);
+        for (int i = 0; i < Resilience.MIN_LATENCY_SAMPLES; i++) resilience.execute(() -> "fast", true);
+        assertNotNull(resilience.getHedgeDelay());
+
+        resilience.close();
+        assertNull(resilience.getHedgeDelay()); // no longer hedged
+        assertEquals("result", resilience.execute(() -> "result", true));
+        Resilience.NONE.close(); // no executor
+    }
+
+    @Test
+    public void testClosedWithClient()
+    {
+        Resilience resilience = new Resilience(0, Duration.ZERO, 50d, null);
+        for (int i = 0; i < Resilience.MIN_LATENCY_SAMPLES; i++) resilience.recordSuccess(1);
+        Client client = Application.getClient(new ClientConfig());
+        new Application(ApplicationConfig.builder().
+            dataset(DatasetFactory.create()).
+            client(client).
+            resilience(resilience).
+            build());
+        // nothing listens on the port, but the request initializes the client runtime
+        assertThrows(ProcessingException.class, () -> client.target("http://localhost:1/").request().get());
+
+        client.close();
+        assertNull(resilience.getHedgeDelay());
+    }
+
+}
@@ -0,0 +1,254 @@
+/*
+ * Copyright 2026 Martynas Jusevičius <martynas@atomgraph.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.atomgraph.core.client;
+
+import com.atomgraph.core.MediaTypes;
+import jakarta.ws.rs.HttpMethod;
+import jakarta.ws.rs.ProcessingException;
+import jakarta.ws.rs.client.Client;
+import jakarta.ws.rs.client.ClientRequestFilter;
+import jakarta.ws.rs.client.WebTarget;
+import jakarta.ws.rs.core.Application;
+import jakarta.ws.rs.core.MultivaluedHashMap;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.core.Response;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.apache.jena.query.Dataset;
+import org.apache.jena.query.DatasetFactory;
+import org.apache.jena.query.Query;
+import org.apache.jena.query.QueryFactory;
+import org.apache.jena.query.ResultSet;
+import org.apache.jena.query.ResultSetRewindable;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.rdf.model.ResourceFactory;
+import org.apache.jena.riot.resultset.ResultSetLang;
+import org.apache.jena.sparql.vocabulary.FOAF;
+import org.glassfish.jersey.client.ClientConfig;
+import org.glassfish.jersey.test.JerseyTest;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * @author Martynas Jusevičius {@literal <martynas@atomgraph.com>}
+ */
+public class SPARQLClientTest extends JerseyTest
+{
+
+    public static final String RESOURCE_URI = "http://default/graph/resource";
+    public static final int MAX_GET_REQUEST_SIZE = 512;
+
+    private Dataset dataset;
+    private com.atomgraph.core.Application system;
+    private List<String> methods;
+
+    @Override
+    protected Application configure()
+    {
+        dataset = DatasetFactory.createTxnMem();
+        dataset.setDefaultModel(ModelFactory.createDefaultModel().add(ResourceFactory.createResource(RESOURCE_URI), FOAF.name, "Smth"));
+
+        system = new com.atomgraph.core.Application(dataset,
+                null, null, null, null, null,
+                new MediaTypes(), com.atomgraph.core.Application.getClient(new ClientConfig()),
+                null);
+        system.init();
+
+        return system;
+    }
+
+    @BeforeEach
+    public void initMethods()
+    {
+        methods = new ArrayList<>();
+    }
+
+    protected SPARQLClient getSPARQLClient(WebTarget endpoint)
+    {
+        SPARQLClient sc = SPARQLClient.create(new MediaTypes(), endpoint, MAX_GET_REQUEST_SIZE);
+        sc.register((ClientRequestFilter) requestContext -> methods.add(requestContext.getMethod() + " " + requestContext.getMediaType()));
+        return sc;
+    }
+
+    public static Query getQuery(int padding)
+    {
+        return QueryFactory.create("SELECT * { <" + RESOURCE_URI + "> ?p ?o FILTER(?o != \"" + "x".repeat(padding) + "\") }");
+    }
+
+    @Test
+    public void testQueryURLLength()
+    {
+        SPARQLClient sc = getSPARQLClient(system.getClient().target(getBaseUri().resolve("sparql")));
+        MultivaluedMap<String, String> params = new MultivaluedHashMap();
+        params.putSingle(SPARQLClient.QUERY_PARAM_NAME, getQuery(10).toString() + " # ĄČĘ 😀");
+        params.add("default-graph-uri", "http://default/graph");
+        params.add("default-graph-uri", "http://named/graph?a=b&c");
+
+        assertEquals(sc.applyParams(params).getUri().toString().length(), sc.getQueryURLLength(params));
+    }
+
+    @Test
+    public void testShortQueryGET()
+    {
+        SPARQLClient sc = getSPARQLClient(system.getClient().target(getBaseUri().resolve("sparql")));
+
+        assertTrue(sc.select(getQuery(10)).hasNext());
+        assertEquals(List.of("GET null"), methods);
+    }
+
+    @Test
+    public void testLongQueryPOST()
+    {
+        SPARQLClient sc = getSPARQLClient(system.getClient().target(getBaseUri().resolve("sparql")));
+
+        // params without the query are short, but the query itself is over the limit
+        assertTrue(sc.select(getQuery(MAX_GET_REQUEST_SIZE)).hasNext());
+        assertEquals(List.of("POST " + jakarta.ws.rs.core.MediaType.APPLICATION_FORM_URLENCODED_TYPE), methods);
+    }
+
+    @Test
+    public void testLongQueryDirectPOST()
+    {
+        SPARQLClient sc = getSPARQLClient(system.getClient().target(getBaseUri().resolve("sparql")).property(SPARQLClient.DIRECT_POST, true));
+
+        assertTrue(sc.select(getQuery(MAX_GET_REQUEST_SIZE)).hasNext());
+        assertEquals(List.of("POST " + com.atomgraph.core.MediaType.APPLICATION_SPARQL_QUERY_TYPE), methods);
+    }
+
+    @Test
+    public void testAsk()
+    {
+        SPARQLClient sc = getSPARQLClient(system.getClient().target(getBaseUri().resolve("sparql")));
+
+        assertTrue(sc.getAskMediaTypes().length > 0);
+        for (jakarta.ws.rs.core.MediaType mediaType : sc.getAskMediaTypes())
+        {
+            // binary formats have no boolean results
+            assertNotEquals(ResultSetLang.RS_Thrift, SPARQLClient.getResultSetLang(mediaType));
+            assertNotEquals(ResultSetLang.RS_Protobuf, SPARQLClient.getResultSetLang(mediaType));
+        }
+        assertTrue(sc.ask(QueryFactory.create("ASK { <" + RESOURCE_URI + "> ?p ?o }")));
+        assertFalse(sc.askAsync(QueryFactory.create("ASK { <" + RESOURCE_URI + "> ?p \"Nothing\" }")).toCompletableFuture().join());
+    }
+
+    @Test
+    public void testRejectedGET()
+    {
+        SPARQLClient sc = getSPARQLClient(system.getClient().target(getBaseUri().resolve("sparql")));
+        // proxy that rejects URLs longer than 256 characters
+        sc.register((ClientRequestFilter) requestContext ->
+        {
+            if (requestContext.getMethod().equals(HttpMethod.GET) && requestContext.getUri().toString().length() > 256)
+                requestContext.abortWith(Response.status(Response.Status.REQUEST_URI_TOO_LONG).build());
+        });
+        Query query = getQuery(200);
+
+        assertTrue(sc.select(query).hasNext());
+        assertEquals(2, methods.size()); // rejected GET and POST
+        assertTrue(sc.getGetRequestLimit() < MAX_GET_REQUEST_SIZE);
+
+        methods.clear();
+        assertTrue(sc.selectAsync(query).toCompletableFuture().join().hasNext());
+        assertEquals(List.of("POST " + jakarta.ws.rs.core.MediaType.APPLICATION_FORM_URLENCODED_TYPE), methods); // no rejected attempt
+    }
+
+    @Test
+    public void testQueryAsync()
+    {
+        SPARQLClient sc = getSPARQLClient(system.getClient().target(getBaseUri().resolve("sparql")));
+
+        try (Response cr = sc.queryAsync(getQuery(10), ResultSet.class).toCompletableFuture().join())
+        {
+            assertEquals(Response.Status.OK.getStatusCode(), cr.getStatus());
+            assertTrue(cr.readEntity(ResultSetRewindable.class).hasNext());
+        }
+        assertEquals(List.of("GET null"), methods);
+    }
+
+    @Test
+    public void testSelectAsync()
+    {
+        SPARQLClient sc = getSPARQLClient(system.getClient().target(getBaseUri().resolve("sparql")));
+
+        ResultSetRewindable results = sc.selectAsync(getQuery(10)).toCompletableFuture().join();
+        assertEquals(1, results.size());
+        assertEquals("Smth", results.next().getLiteral("o").getString());
+    }
+
+    @Test
+    public void testLongSelectAsync()
+    {
+        SPARQLClient sc = getSPARQLClient(system.getClient().target(getBaseUri().resolve("sparql")));
+
+        assertTrue(sc.selectAsync(getQuery(MAX_GET_REQUEST_SIZE)).toCompletableFuture().join().hasNext());
+        assertEquals(List.of("POST " + jakarta.ws.rs.core.MediaType.APPLICATION_FORM_URLENCODED_TYPE), methods);
+    }
+
+    @Test
+    public void testAskAsync()
+    {
+        SPARQLClient sc = getSPARQLClient(system.getClient().target(getBaseUri().resolve("sparql")));
+
+        assertTrue(sc.askAsync(QueryFactory.create("ASK { <" + RESOURCE_URI + "> ?p ?o }")).toCompletableFuture().join());
+    }
+
+    @Test
+    public void testLoadModelAsync()
+    {
+        SPARQLClient sc = getSPARQLClient(system.getClient().target(getBaseUri().resolve("sparql")));
+
+        Model model = sc.loadModelAsync(QueryFactory.create("CONSTRUCT WHERE { <" + RESOURCE_URI + "> ?p ?o }")).toCompletableFuture().join();
+        assertTrue(model.isIsomorphicWith(dataset.getDefaultModel()));
+    }
+
+    @Test
+    public void testAsyncFailure()
+    {
+        // nothing listens on the port, therefore the connection is refused
+        SPARQLClient sc = getSPARQLClient(system.getClient().target("http://localhost:1/sparql"));
+
+        CompletionException ex = assertThrows(CompletionException.class, () -> sc.selectAsync(getQuery(10)).toCompletableFuture().join());
+        assertInstanceOf(ProcessingException.class, ex.getCause());
+        ex = assertThrows(CompletionException.class, () -> sc.askAsync(QueryFactory.create("ASK { ?s ?p ?o }")).toCompletableFuture().join());
+        assertInstanceOf(ProcessingException.class, ex.getCause());
+    }
+
+    @Test
+    public void testExecutorShutdownOnClose()
+    {
+        ExecutorService executorService = Executors.newVirtualThreadPerTaskExecutor();
+        Client client = com.atomgraph.core.Application.getClient(new ClientConfig(), executorService);
+        SPARQLClient sc = SPARQLClient.create(new MediaTypes(), client.target(getBaseUri().resolve("sparql")));
+
+        assertTrue(sc.selectAsync(getQuery(10)).toCompletableFuture().join().hasNext());
+        assertFalse(executorService.isShutdown());
+
+        client.close();
+        assertTrue(executorService.isShutdown());
+    }
+
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2026 Martynas Jusevičius <martynas@atomgraph.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.atomgraph.core.io;
+
+import com.atomgraph.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedHashMap;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import org.apache.jena.query.Dataset;
+import org.apache.jena.query.DatasetFactory;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.rdf.model.ResourceFactory;
+import org.apache.jena.sparql.util.IsoMatcher;
+import org.apache.jena.sparql.vocabulary.FOAF;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests that the Dataset provider reads and writes datasets, not models.
+ *
+ * @author Martynas Jusevičius {@literal <martynas@atomgraph.com>}
+ */
+public class DatasetProviderTest
+{
+
+    private final DatasetProvider provider = new DatasetProvider();
+
+    @Test
+    public void testReadableDataset()
+    {
+        assertTrue(provider.isReadable(Dataset.class, Dataset.class, null, MediaType.TEXT_NQUADS_TYPE));
+        assertTrue(provider.isReadable(Dataset.class, Dataset.class, null, MediaType.APPLICATION_NTRIPLES_TYPE));
+    }
+
+    @Test
+    public void testNotReadableModel()
+    {
+        assertFalse(provider.isReadable(Model.class, Model.class, null, MediaType.TEXT_NQUADS_TYPE));
+    }
+
+    @Test
+    public void testWriteableDataset()
+    {
+        assertTrue(provider.isWriteable(Dataset.class, Dataset.class, null, MediaType.TEXT_NQUADS_TYPE));
+    }
+
+    @Test
+    public void testNotWriteableModel()
+    {
+        assertFalse(provider.isWriteable(Model.class, Model.class, null, MediaType.TEXT_NQUADS_TYPE));
+    }
+
+    @Test
+    public void testRoundTrip() throws IOException
+    {
+        Dataset dataset = DatasetFactory.create();
+        dataset.setDefaultModel(ModelFactory.createDefaultModel().add(ResourceFactory.createResource("http://default/graph/resource"), FOAF.name, "Default"));
+        dataset.addNamedModel("http://named/graph", ModelFactory.createDefaultModel().add(ResourceFactory.createResource("http://named/graph/resource"), FOAF.name, "Named"));
+
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        provider.writeTo(dataset, Dataset.class, Dataset.class, null, MediaType.TEXT_NQUADS_TYPE, new MultivaluedHashMap<>(), baos);
+        Dataset read = provider.readFrom(Dataset.class, Dataset.class, null, MediaType.TEXT_NQUADS_TYPE, new MultivaluedHashMap<>(), new ByteArrayInputStream(baos.toByteArray()));
+
+        assertTrue(IsoMatcher.isomorphic(dataset.asDatasetGraph(), read.asDatasetGraph()));
+    }
+
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2026 Martynas Jusevičius <martynas@atomgraph.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.atomgraph.core.io;
+
+import com.atomgraph.core.MediaTypes;
+import com.atomgraph.core.riot.RDFLanguages;
+import jakarta.ws.rs.core.MediaType;
+import java.util.List;
+import java.util.Map;
+import org.apache.jena.query.Dataset;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.riot.Lang;
+import org.apache.jena.riot.LangBuilder;
+import org.apache.jena.riot.resultset.ResultSetLang;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * @author Martynas Jusevičius {@literal <martynas@atomgraph.com>}
+ */
+public class LangResolverTest
+{
+
+    private final LangResolver resolver = new LangResolver(new MediaTypes());
+
+    @Test
+    public void testSameAsContentTypeToLang()
+    {
+        MediaTypes mediaTypes = new MediaTypes();
+        for (Class clazz : List.of(Model.class, Dataset.class))
+            for (MediaType mediaType : mediaTypes.getWritable(clazz))
+                assertEquals(org.apache.jena.riot.RDFLanguages.contentTypeToLang(mediaType.getType() + "/" + mediaType.getSubtype()), resolver.resolve(mediaType), mediaType.toString());
+    }
+
+    @Test
+    public void testParamsIgnored()
+    {
+        assertEquals(Lang.NTRIPLES, resolver.resolve(new MediaType("application", "n-triples", Map.of(MediaType.CHARSET_PARAMETER, "UTF-8"))));
+        assertEquals(ResultSetLang.RS_JSON, resolver.resolve(new MediaType("application", "sparql-results+json", Map.of("q", "0.9"))));
+    }
+
+    @Test
+    public void testCaseInsensitive()
+    {
+        assertEquals(Lang.TURTLE, resolver.resolve("Text", "Turtle"));
+    }
+
+    @Test
+    public void testAltContentType()
+    {
+        assertEquals(org.apache.jena.riot.RDFLanguages.contentTypeToLang("application/x-turtle"), resolver.resolve("application", "x-turtle"));
+    }
+
+    @Test
+    public void testRDFPost()
+    {
+        assertEquals(RDFLanguages.RDFPOST, resolver.resolve(com.atomgraph.core.MediaType.APPLICATION_RDF_URLENCODED_TYPE));
+    }
+
+    @Test
+    public void testUnknown()
+    {
+        assertNull(resolver.resolve(MediaType.TEXT_HTML_TYPE));
+        assertNull(resolver.resolve(MediaType.WILDCARD_TYPE));
+        assertNull(resolver.resolve(null));
+    }
+
+    @Test
+    public void testProviderSelection()
+    {
+        ModelProvider modelProvider = new ModelProvider(resolver);
+        DatasetProvider datasetProvider = new DatasetProvider(resolver);
+
+        assertTrue(modelProvider.isWriteable(Model.class, Model.class, null, com.atomgraph.core.MediaType.APPLICATION_NTRIPLES_TYPE));
+        assertFalse(modelProvider.isWriteable(Model.class, Model.class, null, MediaType.TEXT_HTML_TYPE));
+        assertTrue(datasetProvider.isReadable(Dataset.class, Dataset.class, null, com.atomgraph.core.MediaType.TEXT_NQUADS_TYPE));
+        assertTrue(datasetProvider.isWriteable(Dataset.class, Dataset.class, null, com.atomgraph.core.MediaType.TEXT_NQUADS_TYPE));
+        assertFalse(datasetProvider.isReadable(Model.class, Model.class, null, com.atomgraph.core.MediaType.TEXT_NQUADS_TYPE));
+    }
+
+    @Test
+    public void testDefaultIncludesLanguageRegisteredLater()
+    {
+        ModelProvider modelProvider = new ModelProvider(); // defers to the default resolver
+        LangResolver.getDefault(); // built before the language is registered
+
+        Lang lang = LangBuilder.create("LangResolverTest", "application/x-langresolver-test").build();
+        org.apache.jena.riot.RDFLanguages.register(lang);
+        try
+        {
+            assertNull(modelProvider.getLangResolver().resolve("application", "x-langresolver-test"));
+
+            LangResolver.refreshDefault();
+            assertEquals(lang, modelProvider.getLangResolver().resolve("application", "x-langresolver-test"));
+            assertEquals(lang, new DatasetProvider().getLangResolver().resolve("application", "x-langresolver-test"));
+        }
+        finally
+        {
+            org.apache.jena.riot.RDFLanguages.unregister(lang);
+            LangResolver.refreshDefault();
+        }
+    }
+
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2026 Martynas Jusevičius <martynas@atomgraph.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.atomgraph.core.model.impl;
+
+import com.atomgraph.core.ApplicationConfig;
+import com.atomgraph.core.MediaType;
+import com.atomgraph.core.MediaTypes;
+import com.atomgraph.core.client.SPARQLClient;
+import jakarta.ws.rs.core.Application;
+import jakarta.ws.rs.core.Link;
+import jakarta.ws.rs.core.Response;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.jena.query.Dataset;
+import org.apache.jena.query.DatasetFactory;
+import org.apache.jena.query.QueryFactory;
+import org.apache.jena.query.ResultSet;
+import org.apache.jena.query.ResultSetRewindable;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.rdf.model.ResourceFactory;
+import org.apache.jena.sparql.vocabulary.FOAF;
+import org.glassfish.jersey.client.ClientConfig;
+import org.glassfish.jersey.test.JerseyTest;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests that <code>SELECT</code> results capped at the result limit can be paged through using <code>rel=next</code> links.
+ *
+ * @author Martynas Jusevičius {@literal <martynas@atomgraph.com>}
+ */
+public class SPARQLEndpointPagingTest extends JerseyTest
+{
+
+    public static final long RESULT_LIMIT = 10;
+    public static final int RESOURCE_COUNT = 25;
+    public static final String QUERY = "SELECT ?s { ?s ?p ?o } ORDER BY ?s";
+
+    public com.atomgraph.core.Application system;
+    public SPARQLClient sc;
+
+    @Override
+    protected Application configure()
+    {
+        Model model = ModelFactory.createDefaultModel();
+        for (int i = 0; i < RESOURCE_COUNT; i++)
+            model.add(ResourceFactory.createResource(String.format("http://default/graph/resource%02d", i)), FOAF.name, "Resource " + i);
+        Dataset dataset = DatasetFactory.createTxnMem();
+        dataset.setDefaultModel(model);
+
+        system = new com.atomgraph.core.Application(ApplicationConfig.builder().
+                dataset(dataset).
+                client(com.atomgraph.core.Application.getClient(new ClientConfig())).
+                resultLimit(RESULT_LIMIT).
+                build());
+        system.init();
+
+        return system;
+    }
+
+    @BeforeEach
+    public void init()
+    {
+        sc = SPARQLClient.create(new MediaTypes(), system.getClient().target(getBaseUri().resolve("sparql")));
+    }
+
+    @Test
+    public void testPagesWithoutLimit()
+    {
+        List<Integer> sizes = new ArrayList<>();
+        List<String> subjects = new ArrayList<>();
+
+        URI next = getPage(sc.query(QueryFactory.create(QUERY), ResultSet.class), sizes, subjects); // page 1
+        assertNotNull(next);
+        next = getPage(next, sizes, subjects); // page 2
+        assertNotNull(next);
+        next = getPage(next, sizes, subjects); // page 3
+        assertNotNull(next); // the result count is not known upfront, so the last page links to an empty one
+
+        assertEquals(List.of(10, 10, 5), sizes);
+        assertEquals(RESOURCE_COUNT, subjects.stream().distinct().count());
+    }
+
+    @Test
+    public void testLimitBelowCap()
+    {
+        List<Integer> sizes = new ArrayList<>();
+        List<String> subjects = new ArrayList<>();
+
+        assertNull(getPage(sc.query(QueryFactory.create(QUERY + " LIMIT 5"), ResultSet.class), sizes, subjects));
+        assertEquals(List.of(5), sizes);
+    }
+
+    @Test
+    public void testLimitAboveCap()
+    {
+        List<Integer> sizes = new ArrayList<>();
+        List<String> subjects = new ArrayList<>();
+
+        URI next = getPage(sc.query(QueryFactory.create(QUERY + " LIMIT 22"), ResultSet.class), sizes, subjects); // page 1
+        assertNotNull(next);
+        next = getPage(next, sizes, subjects); // page 2
+        assertNotNull(next);
+        assertNull(getPage(next, sizes, subjects)); // page 3 ends the original LIMIT
+
+        assertEquals(List.of(10, 10, 2), sizes);
+        assertEquals(22, subjects.stream().distinct().count());
+    }
+
+    @Test
+    public void testLimitAboveCapWithOffset()
+    {
+        List<Integer> sizes = new ArrayList<>();
+        List<String> subjects = new ArrayList<>();
+
+        URI next = getPage(sc.query(QueryFactory.create(QUERY + " LIMIT 12 OFFSET 10"), ResultSet.class), sizes, subjects);
+        assertNotNull(next);
+        assertNull(getPage(next, sizes, subjects));
+
+        assertEquals(List.of(10, 2), sizes);
+        assertEquals("http://default/graph/resource10", subjects.get(0));
+        assertEquals("http://default/graph/resource21", subjects.get(11));
+    }
+
+    /**
+     * Dereferences a page URI and reads the page.
+     *
+     * @param uri page URI
+     * @param sizes page sizes
+     * @param subjects subjects on the pages
+     * @return next page URI or null
+     */
+    protected URI getPage(URI uri, List<Integer> sizes, List<String> subjects)
+    {
+        return getPage(system.getClient().target(uri).request(MediaType.APPLICATION_SPARQL_RESULTS_XML_TYPE).get(), sizes, subjects);
+    }
+
+    /**
+     * Reads a page and returns the URI of the next one.
+     *
+     * @param cr page response
+     * @param sizes page sizes
+     * @param subjects subjects on the pages
+     * @return next page URI or null
+     */
+    protected URI getPage(Response cr, List<Integer> sizes, List<String> subjects)
+    {
+        try (cr)
+        {
+            assertEquals(Response.Status.OK.getStatusCode(), cr.getStatus());
+
+            ResultSetRewindable resultSet = cr.readEntity(ResultSetRewindable.class);
+            sizes.add(resultSet.size());
+            resultSet.forEachRemaining(qs -> subjects.add(qs.getResource("s").getURI()));
+
+            Link next = cr.getLink("next");
+            return next != null ? next.getUri() : null;
+        }
+    }
+
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2026 Martynas Jusevičius <martynas@atomgraph.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.atomgraph.core.model.impl;
+
+import com.atomgraph.core.ApplicationConfig;
+import com.atomgraph.core.MediaTypes;
+import com.atomgraph.core.client.SPARQLClient;
+import com.atomgraph.core.util.ResponseCache;
+import jakarta.ws.rs.core.Application;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MultivaluedHashMap;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.core.Response;
+import static jakarta.ws.rs.core.Response.Status.NOT_MODIFIED;
+import java.time.Duration;
+import org.apache.jena.query.Dataset;
+import org.apache.jena.query.DatasetFactory;
+import org.apache.jena.query.Query;
+import org.apache.jena.query.QueryFactory;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.rdf.model.ResourceFactory;
+import org.apache.jena.sparql.vocabulary.FOAF;
+import org.apache.jena.system.Txn;
+import org.apache.jena.update.UpdateFactory;
+import org.glassfish.jersey.client.ClientConfig;
+import org.glassfish.jersey.test.JerseyTest;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests that the SPARQL endpoint serves responses from the response cache and invalidates it on updates.
+ *
+ * @author Martynas Jusevičius {@literal <martynas@atomgraph.com>}
+ */
+public class SPARQLEndpointResponseCacheTest extends JerseyTest
+{
+
+    public static final String RESOURCE_URI = "http://default/graph/resource";
+    public static final Query QUERY = QueryFactory.create("CONSTRUCT WHERE { ?s ?p ?o }");
+
+    public Dataset dataset;
+    public ResponseCache responseCache;
+    public com.atomgraph.core.Application system;
+    public SPARQLClient sc;
+
+    @Override
+    protected Application configure()
+    {
+        dataset = DatasetFactory.createTxnMem();
+        dataset.setDefaultModel(ModelFactory.createDefaultModel().add(ResourceFactory.createResource(RESOURCE_URI), FOAF.name, "Smth"));
+        responseCache = new ResponseCache(1024 * 1024, Duration.ofMinutes(1));
+
+        system = new com.atomgraph.core.Application(ApplicationConfig.builder().
+                dataset(dataset).
+                client(com.atomgraph.core.Application.getClient(new ClientConfig())).
+                responseCache(responseCache).
+                build());
+        system.init();
+
+        return system;
+    }
+
+    @BeforeEach
+    public void init()
+    {
+        sc = SPARQLClient.create(new MediaTypes(), system.getClient().target(getBaseUri().resolve("sparql")));
+    }
+
+    @Test
+    public void testCachedUntilUpdate()
+    {
+        assertEquals(1, sc.loadModel(QUERY).size());
+
+        Txn.executeWrite(dataset, () -> dataset.getDefaultModel().add(ResourceFactory.createResource(RESOURCE_URI), FOAF.nick, "Direct")); // bypasses the resources
+        assertEquals(1, sc.loadModel(QUERY).size()); // served from the cache
+
+        sc.update(UpdateFactory.create("INSERT DATA { <" + RESOURCE_URI + "> <" + FOAF.mbox.getURI() + "> <mailto:smth@example.org> }"), new MultivaluedHashMap<>());
+        assertEquals(3, sc.loadModel(QUERY).size()); // the update invalidated the cache
+    }
+
+    @Test
+    public void testConditionalRequestOnCacheHit()
+    {
+        final String etag;
+        try (Response cr = sc.query(QUERY, Model.class))
+        {
+            assertNotNull(cr.getEntityTag());
+            etag = cr.getHeaderString(HttpHeaders.ETAG);
+        }
+
+        MultivaluedMap<String, Object> headers = new MultivaluedHashMap<>();
+        headers.putSingle(HttpHeaders.IF_NONE_MATCH, etag);
+        try (Response cr = sc.query(QUERY, Model.class, new MultivaluedHashMap<>(), headers))
+        {
+            assertEquals(NOT_MODIFIED.getStatusCode(), cr.getStatus());
+        }
+    }
+
+}
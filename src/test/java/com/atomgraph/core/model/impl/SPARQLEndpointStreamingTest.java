@@ -0,0 +1,180 @@
+/*
+ * Copyright 2026 Martynas Jusevičius <martynas@atomgraph.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.atomgraph.core.model.impl;
+
+import com.atomgraph.core.ApplicationConfig;
+import com.atomgraph.core.MediaType;
+import com.atomgraph.core.MediaTypes;
+import com.atomgraph.core.client.SPARQLClient;
+import jakarta.ws.rs.core.Application;
+import jakarta.ws.rs.core.MultivaluedHashMap;
+import jakarta.ws.rs.core.Response;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.apache.jena.query.Dataset;
+import org.apache.jena.query.DatasetFactory;
+import org.apache.jena.query.Query;
+import org.apache.jena.query.QueryExecution;
+import org.apache.jena.query.QueryFactory;
+import org.apache.jena.query.ResultSetRewindable;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.rdf.model.RDFNode;
+import org.apache.jena.rdf.model.ResourceFactory;
+import org.apache.jena.riot.Lang;
+import org.apache.jena.sparql.resultset.ResultSetCompare;
+import org.apache.jena.sparql.vocabulary.FOAF;
+import org.glassfish.jersey.client.ClientConfig;
+import org.glassfish.jersey.test.JerseyTest;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests that query results streamed to the response (<code>a:streaming</code>) are the same as the buffered ones.
+ * <code>CONSTRUCT</code> and <code>DESCRIBE</code> results in syntaxes without a streaming writer are buffered.
+ *
+ * @author Martynas Jusevičius {@literal <martynas@atomgraph.com>}
+ */
+public class SPARQLEndpointStreamingTest extends JerseyTest
+{
+
+    public static final int RESOURCE_COUNT = 100;
+
+    public Dataset dataset;
+    public com.atomgraph.core.Application system;
+    public SPARQLClient sc;
+
+    @Override
+    protected Application configure()
+    {
+        Model model = ModelFactory.createDefaultModel();
+        for (int i = 0; i < RESOURCE_COUNT; i++)
+            model.add(ResourceFactory.createResource("http://default/graph/resource" + i), FOAF.name, "Resource " + i);
+        dataset = DatasetFactory.createTxnMem();
+        dataset.setDefaultModel(model);
+
+        system = new com.atomgraph.core.Application(ApplicationConfig.builder().
+                dataset(dataset).
+                client(com.atomgraph.core.Application.getClient(new ClientConfig())).
+                streaming(true).
+                build());
+        system.init();
+
+        return system;
+    }
+
+    @BeforeEach
+    public void init()
+    {
+        sc = SPARQLClient.create(new MediaTypes(), system.getClient().target(getBaseUri().resolve("sparql")));
+    }
+
+    @Test
+    public void testSelect()
+    {
+        Query query = QueryFactory.create("SELECT ?s ?name { ?s <" + FOAF.name.getURI() + "> ?name } ORDER BY ?s");
+
+        ResultSetRewindable results = sc.select(query);
+
+        assertEquals(RESOURCE_COUNT, results.size());
+        try (QueryExecution qex = QueryExecution.create(query, dataset))
+        {
+            assertTrue(ResultSetCompare.equalsByTermAndOrder(qex.execSelect(), results));
+        }
+    }
+
+    @Test
+    public void testSelectFormats()
+    {
+        Query query = QueryFactory.create("SELECT ?s { ?s ?p ?o }");
+
+        for (jakarta.ws.rs.core.MediaType mediaType : List.of(MediaType.APPLICATION_SPARQL_RESULTS_XML_TYPE, MediaType.APPLICATION_SPARQL_RESULTS_JSON_TYPE))
+            try (Response cr = getQueryResponse(query, mediaType))
+            {
+                assertEquals(Response.Status.OK.getStatusCode(), cr.getStatus());
+                assertTrue(cr.getMediaType().isCompatible(mediaType), cr.getMediaType().toString());
+                assertNull(cr.getEntityTag()); // results are not buffered, so there is no digest
+
+                Set<String> subjects = new HashSet<>();
+                cr.readEntity(ResultSetRewindable.class).forEachRemaining(qs -> subjects.add(qs.getResource("s").getURI()));
+                assertEquals(RESOURCE_COUNT, subjects.size());
+            }
+    }
+
+    @Test
+    public void testEmptySelect()
+    {
+        ResultSetRewindable results = sc.select(QueryFactory.create("SELECT * { ?s <http://nothing> ?o }"));
+
+        assertEquals(0, results.size());
+        assertEquals(2, results.getResultVars().size());
+    }
+
+    @Test
+    public void testConstruct()
+    {
+        Query query = QueryFactory.create("CONSTRUCT WHERE { ?s ?p ?o }");
+
+        for (Lang lang : List.of(Lang.NTRIPLES, Lang.TURTLE, Lang.RDFXML)) // RDF/XML has no streaming writer and is buffered
+            try (Response cr = getQueryResponse(query, jakarta.ws.rs.core.MediaType.valueOf(lang.getHeaderString())))
+            {
+                assertEquals(Response.Status.OK.getStatusCode(), cr.getStatus());
+                assertTrue(cr.readEntity(Model.class).isIsomorphicWith(dataset.getDefaultModel()), lang.toString());
+            }
+    }
+
+    @Test
+    public void testConstructNoEntityTag()
+    {
+        try (Response cr = getQueryResponse(QueryFactory.create("CONSTRUCT WHERE { ?s ?p ?o }"), MediaType.APPLICATION_NTRIPLES_TYPE))
+        {
+            assertNull(cr.getEntityTag()); // triples are not buffered, so there is no digest
+        }
+    }
+
+    @Test
+    public void testDescribe()
+    {
+        String uri = "http://default/graph/resource0";
+
+        Model model = sc.loadModel(QueryFactory.create("DESCRIBE <" + uri + ">"));
+
+        assertTrue(model.isIsomorphicWith(dataset.getDefaultModel().listStatements(ResourceFactory.createResource(uri), null, (RDFNode)null).toModel()));
+    }
+
+    @Test
+    public void testEmptyConstruct()
+    {
+        assertTrue(sc.loadModel(QueryFactory.create("CONSTRUCT WHERE { ?s <http://nothing> ?o }")).isEmpty());
+    }
+
+    /**
+     * Sends query to the endpoint and requests the results in the given media type.
+     *
+     * @param query SPARQL query
+     * @param mediaType accepted media type
+     * @return response
+     */
+    protected Response getQueryResponse(Query query, jakarta.ws.rs.core.MediaType mediaType)
+    {
+        return sc.query(query, new jakarta.ws.rs.core.MediaType[]{ mediaType }, new MultivaluedHashMap(), new MultivaluedHashMap());
+    }
+
+}
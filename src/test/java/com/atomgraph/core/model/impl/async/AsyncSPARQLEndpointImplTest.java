@@ -0,0 +1,100 @@
+/*
+ * Copyright 2026 Martynas Jusevičius <martynas@atomgraph.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.atomgraph.core.model.impl.async;
+
+import com.atomgraph.core.ApplicationConfig;
+import com.atomgraph.core.MediaTypes;
+import com.atomgraph.core.client.SPARQLClient;
+import static com.atomgraph.core.client.SPARQLClient.QUERY_PARAM_NAME;
+import static com.atomgraph.core.model.impl.SPARQLEndpointImplTest.assertIsomorphic;
+import jakarta.ws.rs.core.Application;
+import jakarta.ws.rs.core.MultivaluedHashMap;
+import jakarta.ws.rs.core.MultivaluedMap;
+import static jakarta.ws.rs.core.Response.Status.BAD_REQUEST;
+import org.apache.jena.query.Dataset;
+import org.apache.jena.query.DatasetFactory;
+import org.apache.jena.query.QueryFactory;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.rdf.model.ResourceFactory;
+import org.apache.jena.sparql.vocabulary.FOAF;
+import org.glassfish.jersey.client.ClientConfig;
+import org.glassfish.jersey.test.JerseyTest;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * @author Martynas Jusevičius {@literal <martynas@atomgraph.com>}
+ */
+public class AsyncSPARQLEndpointImplTest extends JerseyTest
+{
+
+    public static final String RESOURCE_URI = "http://default/graph/resource";
+
+    public com.atomgraph.core.Application system;
+    public SPARQLClient sc;
+    private Dataset dataset;
+
+    @BeforeEach
+    public void init()
+    {
+        sc = SPARQLClient.create(new MediaTypes(), system.getClient().target(getBaseUri().resolve("sparql")));
+    }
+
+    @Override
+    protected Application configure()
+    {
+        dataset = DatasetFactory.createTxnMem();
+        dataset.setDefaultModel(ModelFactory.createDefaultModel().add(ResourceFactory.createResource(RESOURCE_URI), FOAF.name, "Smth"));
+
+        system = new com.atomgraph.core.Application(ApplicationConfig.builder().
+                dataset(dataset).
+                client(com.atomgraph.core.Application.getClient(new ClientConfig())).
+                async(true).
+                build());
+        system.init();
+
+        return system;
+    }
+
+    @Test
+    public void testConstruct()
+    {
+        assertIsomorphic(dataset.getDefaultModel(), sc.loadModel(QueryFactory.create("CONSTRUCT WHERE { <" + RESOURCE_URI + "> ?p ?o }")));
+    }
+
+    @Test
+    public void testSelect()
+    {
+        assertTrue(sc.select(QueryFactory.create("SELECT * { <" + RESOURCE_URI + "> ?p ?o }")).hasNext());
+    }
+
+    @Test
+    public void testInvalidGetQuery()
+    {
+        MultivaluedMap<String, String> params = new MultivaluedHashMap();
+        params.add(QUERY_PARAM_NAME, "BAD QUERY");
+
+        try (jakarta.ws.rs.core.Response cr = sc.get(sc.getReadableMediaTypes(Model.class), params))
+        {
+            assertEquals(BAD_REQUEST.getStatusCode(), cr.getStatusInfo().getStatusCode());
+        }
+    }
+
+}
@@ -0,0 +1,245 @@
+/*
+ * Copyright 2026 Martynas Jusevičius <martynas@atomgraph.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.atomgraph.core.model.impl.dataset;
+
+import com.atomgraph.core.util.GraphDigest;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.apache.jena.query.Dataset;
+import org.apache.jena.query.DatasetFactory;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.rdf.model.ResourceFactory;
+import org.apache.jena.riot.Lang;
+import org.apache.jena.riot.RiotException;
+import org.apache.jena.sparql.vocabulary.FOAF;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests streaming ingest of RDF payloads into the dataset.
+ *
+ * @author Martynas Jusevičius {@literal <martynas@atomgraph.com>}
+ */
+public class DatasetAccessorImplTest
+{
+
+    public static final String NAMED_GRAPH_URI = "http://named/graph";
+
+    private Dataset dataset;
+    private DatasetAccessorImpl accessor;
+
+    @BeforeEach
+    public void init()
+    {
+        dataset = DatasetFactory.createTxnMem();
+        dataset.addNamedModel(NAMED_GRAPH_URI, ModelFactory.createDefaultModel().add(ResourceFactory.createResource("http://s/existing"), FOAF.name, "Existing"));
+        accessor = new DatasetAccessorImpl(dataset);
+    }
+
+    @Test
+    public void testAddStream()
+    {
+        accessor.getDatasetDigest().get(NAMED_GRAPH_URI); // cache the digest so that it has to be maintained
+
+        long count = accessor.add(NAMED_GRAPH_URI, getNTriples(0, 3), Lang.NTRIPLES, null);
+
+        assertEquals(3, count);
+        assertEquals(4, dataset.getNamedModel(NAMED_GRAPH_URI).size());
+        assertEquals(GraphDigest.DEFAULT.hash(dataset.getNamedModel(NAMED_GRAPH_URI)), accessor.getDatasetDigest().get(NAMED_GRAPH_URI));
+    }
+
+    @Test
+    public void testAddStreamBatches()
+    {
+        accessor.getDatasetDigest().get(); // cache the digest so that it has to be maintained
+        int size = DatasetAccessorImpl.INGEST_BATCH_SIZE * 2 + 1;
+
+        long count = accessor.add(null, getNTriples(0, size), Lang.NTRIPLES, null);
+
+        assertEquals(size, count);
+        assertEquals(size, dataset.getDefaultModel().size());
+        assertEquals(GraphDigest.DEFAULT.hash(dataset.getDefaultModel()), accessor.getDatasetDigest().get());
+    }
+
+    @Test
+    public void testAddStreamExistingTriples()
+    {
+        accessor.add(NAMED_GRAPH_URI, getNTriples(0, 2), Lang.NTRIPLES, null);
+        accessor.getDatasetDigest().get(NAMED_GRAPH_URI);
+
+        accessor.add(NAMED_GRAPH_URI, getNTriples(1, 3), Lang.NTRIPLES, null);
+
+        assertEquals(4, dataset.getNamedModel(NAMED_GRAPH_URI).size());
+        assertEquals(GraphDigest.DEFAULT.hash(dataset.getNamedModel(NAMED_GRAPH_URI)), accessor.getDatasetDigest().get(NAMED_GRAPH_URI));
+    }
+
+    @Test
+    public void testPutStream()
+    {
+        accessor.getDatasetDigest().get(NAMED_GRAPH_URI);
+
+        long count = accessor.putModel(NAMED_GRAPH_URI, getNTriples(0, 2), Lang.NTRIPLES, null);
+
+        assertEquals(2, count);
+        assertTrue(dataset.getNamedModel(NAMED_GRAPH_URI).isIsomorphicWith(read(0, 2)));
+        assertEquals(GraphDigest.DEFAULT.hash(dataset.getNamedModel(NAMED_GRAPH_URI)), accessor.getDatasetDigest().get(NAMED_GRAPH_URI));
+    }
+
+    @Test
+    public void testPutNewGraphStream()
+    {
+        String graphUri = "http://new/graph";
+
+        accessor.putModel(graphUri, getNTriples(0, 2), Lang.NTRIPLES, null);
+
+        assertTrue(accessor.containsModel(graphUri));
+        assertTrue(dataset.getNamedModel(graphUri).isIsomorphicWith(read(0, 2)));
+    }
+
+    @Test
+    public void testInvalidStreamRolledBack()
+    {
+        Model before = ModelFactory.createDefaultModel().add(dataset.getNamedModel(NAMED_GRAPH_URI));
+        accessor.getDatasetDigest().get(NAMED_GRAPH_URI);
+        String payload = "<http://s/1> <http://p> \"1\" .\nnot N-Triples\n";
+
+        assertThrows(RiotException.class, () -> accessor.putModel(NAMED_GRAPH_URI, new ByteArrayInputStream(payload.getBytes(StandardCharsets.UTF_8)), Lang.NTRIPLES, null));
+
+        assertTrue(dataset.getNamedModel(NAMED_GRAPH_URI).isIsomorphicWith(before));
+        assertEquals(GraphDigest.DEFAULT.hash(before), accessor.getDatasetDigest().get(NAMED_GRAPH_URI));
+    }
+
+    @Test
+    public void testParallelAddStream()
+    {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try
+        {
+            DatasetAccessorImpl parallelAccessor = new DatasetAccessorImpl(dataset, accessor.getDatasetDigest(), 2, executor);
+            parallelAccessor.getDatasetDigest().get();
+            int size = 200000; // larger than a single chunk
+
+            long count = parallelAccessor.add(null, getNTriples(0, size), Lang.NTRIPLES, null);
+
+            assertEquals(size, count);
+            assertEquals(size, dataset.getDefaultModel().size());
+            assertEquals(GraphDigest.DEFAULT.hash(dataset.getDefaultModel()), parallelAccessor.getDatasetDigest().get());
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testReadDuringStalledIngest() throws Exception
+    {
+        String otherGraphUri = "http://other/graph";
+        dataset.addNamedModel(otherGraphUri, read(0, 1));
+        Model before = ModelFactory.createDefaultModel().add(dataset.getNamedModel(NAMED_GRAPH_URI));
+        accessor.getDatasetDigest().get(NAMED_GRAPH_URI);
+        CountDownLatch reading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        InputStream stalled = new SequenceInputStream(getNTriples(1, 3), new InputStream()
+        {
+            @Override
+            public int read() throws IOException
+            {
+                reading.countDown();
+                try
+                {
+                    release.await(); // client stops sending the payload
+                }
+                catch (InterruptedException ex)
+                {
+                    throw new IOException(ex);
+                }
+                return -1;
+            }
+        });
+        
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try
+        {
+            Future<Long> ingest = executor.submit(() -> accessor.add(NAMED_GRAPH_URI, stalled, Lang.NTRIPLES, null));
+            assertTrue(reading.await(10, TimeUnit.SECONDS));
+
+            assertTimeoutPreemptively(Duration.ofSeconds(10), () ->
+            {
+                assertTrue(accessor.getModel(otherGraphUri).isIsomorphicWith(read(0, 1)));
+                assertEquals(GraphDigest.DEFAULT.hash(read(0, 1)).toString(), accessor.getDigest(otherGraphUri));
+                assertEquals(GraphDigest.DEFAULT.hash(before).toString(), accessor.getDigest(NAMED_GRAPH_URI)); // uncommitted triples are not counted yet
+            });
+            assertFalse(ingest.isDone());
+
+            release.countDown();
+            assertEquals(2L, ingest.get(10, TimeUnit.SECONDS));
+            assertEquals(GraphDigest.DEFAULT.hash(dataset.getNamedModel(NAMED_GRAPH_URI)), accessor.getDatasetDigest().get(NAMED_GRAPH_URI));
+        }
+        finally
+        {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testBaseURI()
+    {
+        String payload = "<relative> <http://p> \"1\" .\n";
+
+        accessor.add(null, new ByteArrayInputStream(payload.getBytes(StandardCharsets.UTF_8)), Lang.TURTLE, "http://base/");
+
+        assertTrue(dataset.getDefaultModel().containsResource(dataset.getDefaultModel().createResource("http://base/relative")));
+    }
+
+    /**
+     * Returns N-Triples stream with triples in the given range.
+     *
+     * @param from first triple index (inclusive)
+     * @param to last triple index (exclusive)
+     * @return N-Triples stream
+     */
+    protected static InputStream getNTriples(int from, int to)
+    {
+        StringBuilder sb = new StringBuilder();
+        for (int i = from; i < to; i++)
+            sb.append("<http://s/").append(i).append("> <http://p> \"").append(i).append("\" .\n");
+
+        return new ByteArrayInputStream(sb.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    protected static Model read(int from, int to)
+    {
+        return new com.atomgraph.core.io.ModelProvider().read(ModelFactory.createDefaultModel(), getNTriples(from, to), Lang.NTRIPLES, null);
+    }
+
+}
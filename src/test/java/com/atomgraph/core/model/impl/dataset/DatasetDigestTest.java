@@ -0,0 +1,190 @@
+/*
+ * Copyright 2026 Martynas Jusevičius <martynas@atomgraph.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.atomgraph.core.model.impl.dataset;
+
+import com.atomgraph.core.util.GraphDigest;
+import com.atomgraph.core.util.Hash128;
+import org.apache.jena.query.Dataset;
+import org.apache.jena.query.DatasetFactory;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.rdf.model.ResourceFactory;
+import org.apache.jena.sparql.vocabulary.FOAF;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests that the incrementally maintained graph digests stay equal to the digests calculated from scratch.
+ *
+ * @author Martynas Jusevičius {@literal <martynas@atomgraph.com>}
+ */
+public class DatasetDigestTest
+{
+
+    public static final String NAMED_GRAPH_URI = "http://named/graph";
+    public static final String OTHER_GRAPH_URI = "http://other/graph";
+
+    private Dataset dataset;
+    private DatasetAccessorImpl accessor;
+
+    @BeforeEach
+    public void init()
+    {
+        dataset = DatasetFactory.createTxnMem();
+        dataset.setDefaultModel(createModel("default", 3));
+        dataset.addNamedModel(NAMED_GRAPH_URI, createModel("named", 3));
+        accessor = new DatasetAccessorImpl(dataset);
+        accessor.getDatasetDigest().getTotal(); // cache all graph digests so that they have to be maintained
+    }
+
+    @Test
+    public void testInitial()
+    {
+        assertConsistent();
+    }
+
+    @Test
+    public void testAddDefault()
+    {
+        accessor.add(createModel("added", 2));
+
+        assertConsistent();
+    }
+
+    @Test
+    public void testAddNamed()
+    {
+        accessor.add(NAMED_GRAPH_URI, createModel("added", 2));
+
+        assertConsistent();
+    }
+
+    @Test
+    public void testAddExisting()
+    {
+        Hash128 total = accessor.getDatasetDigest().getTotal();
+
+        accessor.add(NAMED_GRAPH_URI, createModel("named", 2)); // triples already in the graph
+
+        assertEquals(total, accessor.getDatasetDigest().getTotal());
+        assertConsistent();
+    }
+
+    @Test
+    public void testAddNewGraph()
+    {
+        accessor.add(OTHER_GRAPH_URI, createModel("other", 2));
+
+        assertConsistent();
+    }
+
+    @Test
+    public void testPutNamed()
+    {
+        Hash128 total = accessor.getDatasetDigest().getTotal();
+
+        accessor.putModel(NAMED_GRAPH_URI, createModel("replaced", 1));
+
+        assertNotEquals(total, accessor.getDatasetDigest().getTotal());
+        assertConsistent();
+    }
+
+    @Test
+    public void testPutDefault()
+    {
+        accessor.putModel(createModel("replaced", 1));
+
+        assertConsistent();
+    }
+
+    @Test
+    public void testPutNewGraph()
+    {
+        accessor.putModel(OTHER_GRAPH_URI, createModel("other", 2));
+
+        assertConsistent();
+    }
+
+    @Test
+    public void testDeleteNamed()
+    {
+        accessor.deleteModel(NAMED_GRAPH_URI);
+
+        assertConsistent();
+    }
+
+    @Test
+    public void testDeleteDefault()
+    {
+        accessor.deleteDefault();
+
+        assertConsistent();
+    }
+
+    @Test
+    public void testSequence()
+    {
+        accessor.add(createModel("added", 2));
+        accessor.add(OTHER_GRAPH_URI, createModel("other", 2));
+        accessor.putModel(NAMED_GRAPH_URI, createModel("replaced", 2));
+        accessor.add(NAMED_GRAPH_URI, createModel("replaced", 4)); // half of the triples already exist
+        accessor.deleteModel(OTHER_GRAPH_URI);
+        accessor.deleteDefault();
+        accessor.add(createModel("default", 1));
+
+        assertConsistent();
+    }
+
+    @Test
+    public void testInvalidate()
+    {
+        dataset.getNamedModel(NAMED_GRAPH_URI).add(createModel("direct", 1)); // bypasses the digest
+
+        accessor.getDatasetDigest().invalidate();
+
+        assertConsistent();
+    }
+
+    /**
+     * Asserts that the maintained graph and dataset digests equal the ones calculated from the dataset content.
+     */
+    protected void assertConsistent()
+    {
+        DatasetDigest digest = accessor.getDatasetDigest();
+
+        assertEquals(GraphDigest.DEFAULT.hash(dataset.getDefaultModel()), digest.get());
+        dataset.listNames().forEachRemaining(graphUri -> assertEquals(GraphDigest.DEFAULT.hash(dataset.getNamedModel(graphUri)), digest.get(graphUri), graphUri));
+        assertEquals(GraphDigest.DEFAULT.hash(dataset), digest.getTotal());
+    }
+
+    /**
+     * Creates a model with the given number of resources.
+     *
+     * @param prefix resource URI prefix
+     * @param count resource count
+     * @return RDF model
+     */
+    protected static Model createModel(String prefix, int count)
+    {
+        Model model = ModelFactory.createDefaultModel();
+        for (int i = 0; i < count; i++)
+            model.add(ResourceFactory.createResource("http://" + prefix + "/resource" + i), FOAF.name, prefix + " " + i);
+        return model;
+    }
+
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2026 Martynas Jusevičius <martynas@atomgraph.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.atomgraph.core.model.impl.dataset;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.jena.query.Dataset;
+import org.apache.jena.query.DatasetFactory;
+import org.apache.jena.query.Query;
+import org.apache.jena.query.QueryCancelledException;
+import org.apache.jena.query.QueryExecException;
+import org.apache.jena.query.QueryFactory;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.rdf.model.ResourceFactory;
+import org.apache.jena.riot.Lang;
+import org.apache.jena.riot.RDFDataMgr;
+import org.apache.jena.sparql.vocabulary.FOAF;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests timeouts and aborts of local query executions.
+ *
+ * @author Martynas Jusevičius {@literal <martynas@atomgraph.com>}
+ */
+public class EndpointAccessorImplTest
+{
+
+    /** Counts a 4-way cross product of the triples, which takes far longer than the timeouts */
+    public static final Query SLOW_QUERY = QueryFactory.create("SELECT (COUNT(*) AS ?count) { ?a ?b ?c . ?d ?e ?f . ?g ?h ?i . ?j ?k ?l }");
+    public static final Query FAST_QUERY = QueryFactory.create("SELECT * { ?s ?p ?o }");
+
+    public static Dataset dataset;
+
+    @BeforeAll
+    public static void initClass()
+    {
+        Model model = ModelFactory.createDefaultModel();
+        for (int i = 0; i < 200; i++)
+            model.add(ResourceFactory.createResource("http://default/graph/resource" + i), FOAF.name, "Resource " + i);
+        dataset = DatasetFactory.create(model);
+    }
+
+    @Test
+    public void testInitialTimeout()
+    {
+        EndpointAccessorImpl accessor = new EndpointAccessorImpl(dataset, 100L, null);
+
+        long start = System.currentTimeMillis();
+        assertThrows(QueryCancelledException.class, () -> accessor.select(SLOW_QUERY, Collections.emptyList(), Collections.emptyList()));
+        assertTrue(System.currentTimeMillis() - start < 10000);
+    }
+
+    @Test
+    public void testOverallTimeout()
+    {
+        EndpointAccessorImpl accessor = new EndpointAccessorImpl(dataset, null, 100L);
+
+        long start = System.currentTimeMillis();
+        assertThrows(QueryCancelledException.class, () -> accessor.select(SLOW_QUERY, Collections.emptyList(), Collections.emptyList()));
+        assertTrue(System.currentTimeMillis() - start < 10000);
+    }
+
+    @Test
+    public void testWithinTimeout()
+    {
+        EndpointAccessorImpl accessor = new EndpointAccessorImpl(dataset, 10000L, 10000L);
+
+        assertEquals(200, accessor.select(FAST_QUERY, Collections.emptyList(), Collections.emptyList()).size());
+    }
+
+    @Test
+    public void testSelectConsumer()
+    {
+        EndpointAccessorImpl accessor = new EndpointAccessorImpl(dataset);
+        AtomicInteger rows = new AtomicInteger();
+
+        accessor.select(FAST_QUERY, Collections.emptyList(), Collections.emptyList(), resultSet -> resultSet.forEachRemaining(qs -> rows.incrementAndGet()));
+
+        assertEquals(200, rows.get());
+    }
+
+    @Test
+    public void testSelectConsumerNotSelect()
+    {
+        EndpointAccessorImpl accessor = new EndpointAccessorImpl(dataset);
+
+        assertThrows(QueryExecException.class, () -> accessor.select(QueryFactory.create("ASK { ?s ?p ?o }"), Collections.emptyList(), Collections.emptyList(), resultSet -> {}));
+    }
+
+    @Test
+    public void testStreamConstruct()
+    {
+        EndpointAccessorImpl accessor = new EndpointAccessorImpl(dataset);
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+
+        accessor.loadModel(QueryFactory.create("CONSTRUCT WHERE { ?s ?p ?o }"), Collections.emptyList(), Collections.emptyList(), Lang.NTRIPLES, baos);
+
+        Model model = ModelFactory.createDefaultModel();
+        RDFDataMgr.read(model, new ByteArrayInputStream(baos.toByteArray()), Lang.NTRIPLES);
+        assertTrue(model.isIsomorphicWith(dataset.getDefaultModel()));
+    }
+
+    @Test
+    public void testAbortedBeforeExecution()
+    {
+        EndpointAccessorImpl accessor = new EndpointAccessorImpl(dataset);
+        accessor.abort();
+
+        assertThrows(QueryCancelledException.class, () -> accessor.select(FAST_QUERY, Collections.emptyList(), Collections.emptyList()));
+    }
+
+}
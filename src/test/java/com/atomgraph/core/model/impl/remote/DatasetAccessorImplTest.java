@@ -0,0 +1,213 @@
+/*
+ * Copyright 2026 Martynas Jusevičius <martynas@atomgraph.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.atomgraph.core.model.impl.remote;
+
+import com.atomgraph.core.MediaType;
+import com.atomgraph.core.MediaTypes;
+import com.atomgraph.core.client.GraphStoreClient;
+import com.atomgraph.core.model.impl.GraphStoreBase;
+import static com.atomgraph.core.model.impl.GraphStoreImplTest.NAMED_GRAPH_URI;
+import static com.atomgraph.core.model.impl.GraphStoreImplTest.dataset;
+import com.atomgraph.core.util.CacheControlPolicy;
+import com.atomgraph.core.util.GraphDigest;
+import jakarta.ws.rs.NotFoundException;
+import jakarta.ws.rs.core.Application;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.Request;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.Variant;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import org.apache.jena.query.DatasetFactory;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.rdf.model.ResourceFactory;
+import org.apache.jena.riot.Lang;
+import org.apache.jena.riot.RDFDataMgr;
+import org.apache.jena.sparql.vocabulary.FOAF;
+import org.glassfish.jersey.client.ClientConfig;
+import org.glassfish.jersey.test.JerseyTest;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests pass-through of unparsed graphs from a remote Graph Store.
+ *
+ * @author Martynas Jusevičius {@literal <martynas@atomgraph.com>}
+ */
+public class DatasetAccessorImplTest extends JerseyTest
+{
+
+    public com.atomgraph.core.Application system;
+    public DatasetAccessorImpl accessor;
+
+    @BeforeAll
+    public static void initClass()
+    {
+        dataset = DatasetFactory.createTxnMem();
+        dataset.addNamedModel(NAMED_GRAPH_URI, ModelFactory.createDefaultModel().add(ResourceFactory.createResource("http://named/graph/resource"), FOAF.name, "Relayed"));
+    }
+
+    @BeforeEach
+    public void init()
+    {
+        accessor = new DatasetAccessorImpl(GraphStoreClient.create(system.getClient(), new MediaTypes(), getBaseUri().resolve("service")));
+    }
+
+    @Override
+    protected Application configure()
+    {
+        system = new com.atomgraph.core.Application(dataset,
+                null, null, null, null, null,
+                new MediaTypes(), com.atomgraph.core.Application.getClient(new ClientConfig()),
+                null);
+        system.init();
+
+        return system;
+    }
+
+    @Test
+    public void testRelayModel()
+    {
+        try (Response origin = accessor.relayModel(NAMED_GRAPH_URI, MediaType.APPLICATION_NTRIPLES_TYPE))
+        {
+            assertEquals(Response.Status.OK.getStatusCode(), origin.getStatus());
+            assertTrue(origin.getMediaType().isCompatible(MediaType.APPLICATION_NTRIPLES_TYPE));
+            assertNotNull(origin.getEntityTag());
+        }
+    }
+
+    @Test
+    public void testRelayNotFoundModel()
+    {
+        try (Response origin = accessor.relayModel("http://host/" + UUID.randomUUID().toString(), MediaType.APPLICATION_NTRIPLES_TYPE))
+        {
+            assertEquals(Response.Status.NOT_FOUND.getStatusCode(), origin.getStatus());
+        }
+    }
+
+    @Test
+    public void testPassThroughGet() throws IOException
+    {
+        Response response = getGraphStore(null).get(false, URI.create(NAMED_GRAPH_URI));
+
+        assertEquals(Response.Status.OK.getStatusCode(), response.getStatus());
+        assertTrue(response.getMediaType().isCompatible(MediaType.APPLICATION_NTRIPLES_TYPE));
+        assertNotNull(response.getEntityTag());
+        assertInstanceOf(InputStream.class, response.getEntity()); // not parsed into a Model
+
+        try (InputStream is = (InputStream)response.getEntity())
+        {
+            Model model = ModelFactory.createDefaultModel();
+            RDFDataMgr.read(model, is, Lang.NTRIPLES);
+            assertTrue(model.isIsomorphicWith(dataset.getNamedModel(NAMED_GRAPH_URI)));
+        }
+    }
+
+    @Test
+    public void testPassThroughNotModified() throws IOException
+    {
+        Response response = getGraphStore(null).get(false, URI.create(NAMED_GRAPH_URI));
+        ((InputStream)response.getEntity()).close();
+
+        Response notModified = getGraphStore(response.getEntityTag()).get(false, URI.create(NAMED_GRAPH_URI));
+        assertEquals(Response.Status.NOT_MODIFIED.getStatusCode(), notModified.getStatus());
+    }
+
+    @Test
+    public void testPassThroughNotFound()
+    {
+        assertThrows(NotFoundException.class, () -> getGraphStore(null).get(false, URI.create("http://host/" + UUID.randomUUID().toString())));
+    }
+
+    /**
+     * Returns pass-through Graph Store for a request that accepts N-Triples.
+     *
+     * @param ifNoneMatch <code>If-None-Match</code> entity tag or null
+     * @return graph store
+     */
+    protected GraphStoreBase getGraphStore(EntityTag ifNoneMatch)
+    {
+        return new GraphStoreBase(new NTriplesRequest(ifNoneMatch), accessor, new MediaTypes(), GraphDigest.DEFAULT, null, CacheControlPolicy.NONE, true) {};
+    }
+
+    /**
+     * Request that accepts N-Triples and evaluates the <code>If-None-Match</code> precondition only.
+     */
+    public static class NTriplesRequest implements Request
+    {
+
+        private final EntityTag ifNoneMatch;
+
+        public NTriplesRequest(EntityTag ifNoneMatch)
+        {
+            this.ifNoneMatch = ifNoneMatch;
+        }
+
+        @Override
+        public String getMethod()
+        {
+            return "GET";
+        }
+
+        @Override
+        public Variant selectVariant(List<Variant> variants)
+        {
+            return variants.stream().
+                filter(variant -> variant.getMediaType().isCompatible(MediaType.APPLICATION_NTRIPLES_TYPE)).
+                findFirst().
+                orElse(null);
+        }
+
+        @Override
+        public Response.ResponseBuilder evaluatePreconditions(EntityTag eTag)
+        {
+            if (ifNoneMatch != null && ifNoneMatch.getValue().equals(eTag.getValue())) return Response.notModified(eTag);
+
+            return null;
+        }
+
+        @Override
+        public Response.ResponseBuilder evaluatePreconditions(Date lastModified)
+        {
+            return null;
+        }
+
+        @Override
+        public Response.ResponseBuilder evaluatePreconditions(Date lastModified, EntityTag eTag)
+        {
+            return evaluatePreconditions(eTag);
+        }
+
+        @Override
+        public Response.ResponseBuilder evaluatePreconditions()
+        {
+            return null;
+        }
+
+    }
+
+}
@@ -0,0 +1,306 @@
+/*
+ * Copyright 2026 Martynas Jusevičius <martynas@atomgraph.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.atomgraph.core.model.impl.remote;
+
+import com.atomgraph.core.MediaType;
+import com.atomgraph.core.MediaTypes;
+import com.atomgraph.core.client.Resilience;
+import com.atomgraph.core.client.SPARQLClient;
+import com.atomgraph.core.exception.BadGatewayException;
+import com.atomgraph.core.model.EndpointAccessor;
+import com.atomgraph.core.model.impl.SPARQLEndpointImpl;
+import com.atomgraph.core.util.CacheControlPolicy;
+import com.atomgraph.core.util.GraphDigest;
+import jakarta.ws.rs.client.ClientRequestFilter;
+import jakarta.ws.rs.client.WebTarget;
+import jakarta.ws.rs.core.Application;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.Request;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.Variant;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.jena.query.Dataset;
+import org.apache.jena.query.DatasetFactory;
+import org.apache.jena.query.Query;
+import org.apache.jena.query.QueryCancelledException;
+import org.apache.jena.query.QueryFactory;
+import org.apache.jena.query.ResultSetRewindable;
+import org.apache.jena.query.ResultSetFactory;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.rdf.model.ResourceFactory;
+import org.apache.jena.riot.Lang;
+import org.apache.jena.riot.RDFDataMgr;
+import org.apache.jena.riot.ResultSetMgr;
+import org.apache.jena.riot.resultset.ResultSetLang;
+import org.apache.jena.sparql.vocabulary.FOAF;
+import org.glassfish.jersey.client.ClientConfig;
+import org.glassfish.jersey.test.JerseyTest;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests pass-through of unparsed query results from a remote SPARQL endpoint.
+ *
+ * @author Martynas Jusevičius {@literal <martynas@atomgraph.com>}
+ */
+public class EndpointAccessorImplTest extends JerseyTest
+{
+
+    public static final String RESOURCE_URI = "http://default/graph/resource";
+    public static final Query CONSTRUCT = QueryFactory.create("CONSTRUCT WHERE { ?s ?p ?o }");
+    public static final Query SELECT = QueryFactory.create("SELECT * { ?s ?p ?o }");
+
+    public static Dataset dataset;
+
+    public com.atomgraph.core.Application system;
+    public EndpointAccessorImpl accessor;
+
+    @BeforeAll
+    public static void initClass()
+    {
+        dataset = DatasetFactory.createTxnMem();
+        dataset.setDefaultModel(ModelFactory.createDefaultModel().add(ResourceFactory.createResource(RESOURCE_URI), FOAF.name, "Relayed"));
+    }
+
+    @BeforeEach
+    public void init()
+    {
+        accessor = new EndpointAccessorImpl(SPARQLClient.create(new MediaTypes(), system.getClient().target(getBaseUri().resolve("sparql"))));
+    }
+
+    @Override
+    protected Application configure()
+    {
+        system = new com.atomgraph.core.Application(dataset,
+                null, null, null, null, null,
+                new MediaTypes(), com.atomgraph.core.Application.getClient(new ClientConfig()),
+                null);
+        system.init();
+
+        return system;
+    }
+
+    @Test
+    public void testRelay()
+    {
+        try (Response origin = accessor.relay(CONSTRUCT, MediaType.APPLICATION_NTRIPLES_TYPE, Collections.emptyList(), Collections.emptyList()))
+        {
+            assertEquals(Response.Status.OK.getStatusCode(), origin.getStatus());
+            assertTrue(origin.getMediaType().isCompatible(MediaType.APPLICATION_NTRIPLES_TYPE));
+        }
+    }
+
+    @Test
+    public void testRelayConstruct() throws IOException
+    {
+        Response response = getEndpoint(accessor, MediaType.APPLICATION_NTRIPLES_TYPE, null, true).
+            getRelayResponseBuilder(CONSTRUCT, Collections.emptyList(), Collections.emptyList()).
+            build();
+
+        assertEquals(Response.Status.OK.getStatusCode(), response.getStatus());
+        assertTrue(response.getMediaType().isCompatible(MediaType.APPLICATION_NTRIPLES_TYPE));
+        assertNotNull(response.getEntityTag());
+        assertInstanceOf(InputStream.class, response.getEntity()); // not parsed into a Model
+
+        try (InputStream is = (InputStream)response.getEntity())
+        {
+            Model model = ModelFactory.createDefaultModel();
+            RDFDataMgr.read(model, is, Lang.NTRIPLES);
+            assertTrue(model.isIsomorphicWith(dataset.getDefaultModel()));
+        }
+    }
+
+    @Test
+    public void testRelaySelect() throws IOException
+    {
+        Response response = getEndpoint(accessor, MediaType.APPLICATION_SPARQL_RESULTS_XML_TYPE, null, true).
+            getRelayResponseBuilder(SELECT, Collections.emptyList(), Collections.emptyList()).
+            build();
+
+        assertTrue(response.getMediaType().isCompatible(MediaType.APPLICATION_SPARQL_RESULTS_XML_TYPE));
+        try (InputStream is = (InputStream)response.getEntity())
+        {
+            ResultSetRewindable resultSet = ResultSetFactory.copyResults(ResultSetMgr.read(is, ResultSetLang.RS_XML));
+            assertEquals(1, resultSet.size());
+        }
+    }
+
+    @Test
+    public void testRelayNotModified() throws IOException
+    {
+        Response response = getEndpoint(accessor, MediaType.APPLICATION_NTRIPLES_TYPE, null, true).
+            getRelayResponseBuilder(CONSTRUCT, Collections.emptyList(), Collections.emptyList()).
+            build();
+        ((InputStream)response.getEntity()).close();
+
+        Response notModified = getEndpoint(accessor, MediaType.APPLICATION_NTRIPLES_TYPE, response.getEntityTag(), true).
+            getRelayResponseBuilder(CONSTRUCT, Collections.emptyList(), Collections.emptyList()).
+            build();
+        assertEquals(Response.Status.NOT_MODIFIED.getStatusCode(), notModified.getStatus());
+    }
+
+    @Test
+    public void testRelayErrorNotRequeried()
+    {
+        AtomicInteger requests = new AtomicInteger();
+        WebTarget missing = system.getClient().target(getBaseUri().resolve("missing")).
+            register((ClientRequestFilter)requestContext -> requests.incrementAndGet());
+        EndpointAccessorImpl missingAccessor = new EndpointAccessorImpl(SPARQLClient.create(new MediaTypes(), missing));
+
+        assertThrows(BadGatewayException.class, () -> getEndpoint(missingAccessor, MediaType.APPLICATION_NTRIPLES_TYPE, null, true).
+            get(CONSTRUCT, Collections.emptyList(), Collections.emptyList()));
+        assertEquals(1, requests.get()); // not sent again on the parsing path
+    }
+
+    @Test
+    public void testRelayDeadlineCancelledOnClose() throws InterruptedException
+    {
+        EndpointAccessorImpl timedAccessor = new EndpointAccessorImpl(accessor.getSPARQLClient(), null, Resilience.NONE, 200L);
+
+        timedAccessor.relay(CONSTRUCT, MediaType.APPLICATION_NTRIPLES_TYPE, Collections.emptyList(), Collections.emptyList()).close(); // e.g. falling back to parsing
+        Thread.sleep(500);
+
+        assertTrue(timedAccessor.loadModel(CONSTRUCT, Collections.emptyList(), Collections.emptyList()).isIsomorphicWith(dataset.getDefaultModel()));
+    }
+
+    @Test
+    public void testRelayTimedOut() throws IOException, InterruptedException
+    {
+        EndpointAccessorImpl timedAccessor = new EndpointAccessorImpl(accessor.getSPARQLClient(), null, Resilience.NONE, 200L);
+
+        try (Response origin = timedAccessor.relay(CONSTRUCT, MediaType.APPLICATION_NTRIPLES_TYPE, Collections.emptyList(), Collections.emptyList());
+            InputStream is = origin.readEntity(InputStream.class))
+        {
+            Thread.sleep(500); // deadline elapses while the entity is being relayed
+
+            assertThrows(QueryCancelledException.class, is::readAllBytes);
+        }
+    }
+
+    @Test
+    public void testPassThroughGet()
+    {
+        Response response = getEndpoint(accessor, MediaType.APPLICATION_NTRIPLES_TYPE, null, true).
+            get(CONSTRUCT, Collections.emptyList(), Collections.emptyList());
+
+        assertInstanceOf(InputStream.class, response.getEntity()); // relayed
+        response.close();
+    }
+
+    @Test
+    public void testPassThroughDisabled()
+    {
+        Response response = getEndpoint(accessor, MediaType.APPLICATION_NTRIPLES_TYPE, null, false).
+            get(CONSTRUCT, Collections.emptyList(), Collections.emptyList());
+
+        assertInstanceOf(Model.class, response.getEntity()); // parsed and written
+    }
+
+    @Test
+    public void testLocalAccessorNotRelayed()
+    {
+        EndpointAccessor local = system.getService().getEndpointAccessor();
+
+        assertNull(getEndpoint(local, MediaType.APPLICATION_NTRIPLES_TYPE, null, true).
+            getRelayResponseBuilder(CONSTRUCT, Collections.emptyList(), Collections.emptyList()));
+    }
+
+    /**
+     * Returns SPARQL endpoint for a request that accepts the given media type.
+     *
+     * @param accessor endpoint accessor
+     * @param accept accepted media type
+     * @param ifNoneMatch <code>If-None-Match</code> entity tag or null
+     * @param passThrough pass-through mode
+     * @return SPARQL endpoint
+     */
+    protected SPARQLEndpointImpl getEndpoint(EndpointAccessor accessor, jakarta.ws.rs.core.MediaType accept, EntityTag ifNoneMatch, boolean passThrough)
+    {
+        return new SPARQLEndpointImpl(new AcceptRequest(accept, ifNoneMatch), accessor, new MediaTypes(), false, GraphDigest.DEFAULT, null, CacheControlPolicy.NONE, null, null, passThrough);
+    }
+
+    /**
+     * Request that accepts a single media type and evaluates the <code>If-None-Match</code> precondition only.
+     */
+    public static class AcceptRequest implements Request
+    {
+
+        private final jakarta.ws.rs.core.MediaType accept;
+        private final EntityTag ifNoneMatch;
+
+        public AcceptRequest(jakarta.ws.rs.core.MediaType accept, EntityTag ifNoneMatch)
+        {
+            this.accept = accept;
+            this.ifNoneMatch = ifNoneMatch;
+        }
+
+        @Override
+        public String getMethod()
+        {
+            return "GET";
+        }
+
+        @Override
+        public Variant selectVariant(List<Variant> variants)
+        {
+            return variants.stream().
+                filter(variant -> variant.getMediaType().isCompatible(accept)).
+                findFirst().
+                orElse(null);
+        }
+
+        @Override
+        public Response.ResponseBuilder evaluatePreconditions(EntityTag eTag)
+        {
+            if (ifNoneMatch != null && eTag != null && ifNoneMatch.getValue().equals(eTag.getValue())) return Response.notModified(eTag);
+
+            return null;
+        }
+
+        @Override
+        public Response.ResponseBuilder evaluatePreconditions(Date lastModified)
+        {
+            return null;
+        }
+
+        @Override
+        public Response.ResponseBuilder evaluatePreconditions(Date lastModified, EntityTag eTag)
+        {
+            return evaluatePreconditions(eTag);
+        }
+
+        @Override
+        public Response.ResponseBuilder evaluatePreconditions()
+        {
+            return null;
+        }
+
+    }
+
+}
@@ -0,0 +1,205 @@
+/*
+ * Copyright 2026 Martynas Jusevičius <martynas@atomgraph.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.atomgraph.core.model.impl.remote;
+
+import com.atomgraph.core.MediaType;
+import com.atomgraph.core.MediaTypes;
+import com.atomgraph.core.model.EndpointAccessor;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.client.Client;
+import jakarta.ws.rs.core.Application;
+import jakarta.ws.rs.core.StreamingOutput;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import org.apache.jena.query.Query;
+import org.apache.jena.query.QueryCancelledException;
+import org.apache.jena.query.QueryFactory;
+import org.apache.jena.rdf.model.ResourceFactory;
+import org.glassfish.jersey.client.ClientConfig;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.test.JerseyTest;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the initial and overall timeouts of remote SPARQL endpoint queries.
+ *
+ * @author Martynas Jusevičius {@literal <martynas@atomgraph.com>}
+ */
+public class EndpointAccessorTimeoutTest extends JerseyTest
+{
+
+    public static final Query QUERY = QueryFactory.create("SELECT * { ?s ?p ?o }");
+    /** Delay between result rows of the trickling endpoint */
+    public static final long ROW_DELAY = 100;
+    /** Number of result rows of the trickling endpoint */
+    public static final int ROW_COUNT = 50;
+    /** Delay before the stalling endpoint responds */
+    public static final long STALL_DELAY = 5000;
+
+    public Client client;
+
+    @Override
+    protected Application configure()
+    {
+        return new ResourceConfig(TricklingEndpoint.class, StallingEndpoint.class, FastEndpoint.class);
+    }
+
+    @BeforeEach
+    public void init()
+    {
+        client = com.atomgraph.core.Application.getClient(new ClientConfig());
+    }
+
+    @AfterEach
+    public void close()
+    {
+        client.close();
+    }
+
+    @Test
+    public void testOverallTimeoutWhileReading()
+    {
+        // the response is never idle for longer than the read timeout, but takes longer than the overall timeout
+        EndpointAccessor accessor = getService("trickle", null, 1000L).getEndpointAccessor();
+
+        long start = System.currentTimeMillis();
+        assertThrows(QueryCancelledException.class, () -> accessor.select(QUERY, Collections.emptyList(), Collections.emptyList()));
+        assertTrue(System.currentTimeMillis() - start < ROW_DELAY * ROW_COUNT);
+    }
+
+    @Test
+    public void testInitialTimeout()
+    {
+        EndpointAccessor accessor = getService("stall", 500L, null).getEndpointAccessor();
+
+        long start = System.currentTimeMillis();
+        assertThrows(QueryCancelledException.class, () -> accessor.select(QUERY, Collections.emptyList(), Collections.emptyList()));
+        assertTrue(System.currentTimeMillis() - start < STALL_DELAY);
+    }
+
+    @Test
+    public void testOverallTimeoutWhileWaiting()
+    {
+        EndpointAccessor accessor = getService("stall", null, 500L).getEndpointAccessor();
+
+        long start = System.currentTimeMillis();
+        assertThrows(QueryCancelledException.class, () -> accessor.select(QUERY, Collections.emptyList(), Collections.emptyList()));
+        assertTrue(System.currentTimeMillis() - start < STALL_DELAY);
+    }
+
+    @Test
+    public void testWithinTimeouts()
+    {
+        EndpointAccessor accessor = getService("fast", 1000L, 1000L).getEndpointAccessor();
+
+        assertEquals(1, accessor.select(QUERY, Collections.emptyList(), Collections.emptyList()).size());
+    }
+
+    /**
+     * Returns remote service backed by one of the test endpoints.
+     *
+     * @param path endpoint path
+     * @param queryInitialTimeout initial query timeout or null
+     * @param queryTimeout overall query timeout or null
+     * @return remote service
+     */
+    protected ServiceImpl getService(String path, Long queryInitialTimeout, Long queryTimeout)
+    {
+        return new ServiceImpl(client, new MediaTypes(),
+            ResourceFactory.createResource(getBaseUri().resolve(path).toString()),
+            ResourceFactory.createResource(getBaseUri().resolve("service").toString()),
+            null, null, null, null, queryInitialTimeout, queryTimeout);
+    }
+
+    /**
+     * Writes SPARQL XML results with the given number of rows and a delay before each one.
+     *
+     * @param rows number of rows
+     * @param delay delay in milliseconds
+     * @return streaming output
+     */
+    public static StreamingOutput getResults(int rows, long delay)
+    {
+        return (OutputStream os) ->
+        {
+            os.write("<?xml version=\"1.0\"?><sparql xmlns=\"http://www.w3.org/2005/sparql-results#\"><head><variable name=\"i\"/></head><results>".getBytes(StandardCharsets.UTF_8));
+            os.flush();
+            try
+            {
+                for (int i = 0; i < rows; i++)
+                {
+                    Thread.sleep(delay);
+                    os.write(("<result><binding name=\"i\"><literal>" + i + "</literal></binding></result>").getBytes(StandardCharsets.UTF_8));
+                    os.flush();
+                }
+            }
+            catch (InterruptedException ex)
+            {
+                Thread.currentThread().interrupt();
+            }
+            os.write("</results></sparql>".getBytes(StandardCharsets.UTF_8));
+        };
+    }
+
+    @Path("trickle")
+    public static class TricklingEndpoint
+    {
+
+        @GET
+        @Produces(MediaType.APPLICATION_SPARQL_RESULTS_XML)
+        public StreamingOutput get()
+        {
+            return getResults(ROW_COUNT, ROW_DELAY);
+        }
+
+    }
+
+    @Path("stall")
+    public static class StallingEndpoint
+    {
+
+        @GET
+        @Produces(MediaType.APPLICATION_SPARQL_RESULTS_XML)
+        public StreamingOutput get() throws InterruptedException
+        {
+            Thread.sleep(STALL_DELAY);
+            return getResults(1, 0);
+        }
+
+    }
+
+    @Path("fast")
+    public static class FastEndpoint
+    {
+
+        @GET
+        @Produces(MediaType.APPLICATION_SPARQL_RESULTS_XML)
+        public StreamingOutput get()
+        {
+            return getResults(1, 0);
+        }
+
+    }
+
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2026 Martynas Jusevičius <martynas@atomgraph.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.atomgraph.core.model.impl.remote;
+
+import com.atomgraph.core.Application;
+import com.atomgraph.core.MediaTypes;
+import com.atomgraph.core.model.RemoteService;
+import jakarta.ws.rs.client.Client;
+import org.apache.jena.rdf.model.ResourceFactory;
+import org.glassfish.jersey.client.ClientConfig;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * @author Martynas Jusevičius {@literal <martynas@atomgraph.com>}
+ */
+public class ServiceImplTest
+{
+
+    private Client client;
+    private ServiceImpl service;
+
+    @BeforeEach
+    public void init()
+    {
+        client = Application.getClient(new ClientConfig());
+        service = new ServiceImpl(client, new MediaTypes(),
+            ResourceFactory.createResource("http://localhost/sparql"),
+            ResourceFactory.createResource("http://localhost/service"),
+            null, "user", "pwd", null);
+    }
+
+    @AfterEach
+    public void close()
+    {
+        client.close();
+    }
+
+    @Test
+    public void testClientsShared()
+    {
+        assertSame(service.getSPARQLClient(), service.getSPARQLClient());
+        assertSame(service.getGraphStoreClient(), service.getGraphStoreClient());
+        assertNull(service.getQuadStoreClient());
+    }
+
+    @Test
+    public void testEndpointAccessorsNotShared()
+    {
+        // accessors track the in-flight request, therefore each request gets its own one
+        assertNotSame(service.getEndpointAccessor(), service.getEndpointAccessor());
+    }
+
+    @Test
+    public void testWithBlankQuadStore()
+    {
+        ServiceImpl blankQuadStore = new ServiceImpl(client, new MediaTypes(),
+            ResourceFactory.createResource("http://localhost/sparql"),
+            ResourceFactory.createResource("http://localhost/service"),
+            ResourceFactory.createResource()); // what Application passes when the quad store URI is not set
+
+        assertNotNull(blankQuadStore.getSPARQLClient());
+        assertNotNull(blankQuadStore.getGraphStoreClient());
+        assertNull(blankQuadStore.getQuadStoreClient());
+    }
+
+    @Test
+    public void testApplicationWithoutQuadStore()
+    {
+        Application system = new Application(null,
+            "http://localhost/sparql", "http://localhost/service", null, null, null,
+            new MediaTypes(), client, null);
+
+        RemoteService remote = assertInstanceOf(RemoteService.class, system.getService());
+        assertNull(remote.getQuadStoreClient());
+    }
+
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright 2026 Martynas Jusevičius <martynas@atomgraph.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.atomgraph.core.riot.lang;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.jena.query.Dataset;
+import org.apache.jena.query.DatasetFactory;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.riot.Lang;
+import org.apache.jena.riot.RDFDataMgr;
+import org.apache.jena.riot.RiotException;
+import org.apache.jena.riot.system.ErrorHandlerFactory;
+import org.apache.jena.riot.system.StreamRDFLib;
+import org.apache.jena.sparql.util.IsoMatcher;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * @author Martynas Jusevičius {@literal <martynas@atomgraph.com>}
+ */
+public class ParallelLineParserTest
+{
+
+    private static ExecutorService executor;
+
+    @BeforeAll
+    public static void setUpClass()
+    {
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterAll
+    public static void tearDownClass()
+    {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testNTriples()
+    {
+        String nt = getNTriples(1000);
+        Model expected = ModelFactory.createDefaultModel();
+        RDFDataMgr.read(expected, getStream(nt), Lang.NTRIPLES);
+
+        Model model = ModelFactory.createDefaultModel();
+        long count = getParser(Lang.NTRIPLES, 256).parse(getStream(nt), StreamRDFLib.graph(model.getGraph()));
+
+        assertEquals(1000 * 2, count);
+        assertTrue(model.isIsomorphicWith(expected)); // blank nodes with the same label are the same across chunks
+    }
+
+    @Test
+    public void testNQuads()
+    {
+        StringBuilder nq = new StringBuilder();
+        for (int i = 0; i < 1000; i++)
+        {
+            nq.append("<http://s/").append(i).append("> <http://p> \"").append(i).append("\" <http://g/").append(i % 3).append("> .\n");
+            nq.append("_:b").append(i % 10).append(" <http://p> \"").append(i).append("\" .\n"); // default graph
+        }
+        Dataset expected = DatasetFactory.create();
+        RDFDataMgr.read(expected, getStream(nq.toString()), Lang.NQUADS);
+
+        Dataset dataset = DatasetFactory.create();
+        getParser(Lang.NQUADS, 256).parse(getStream(nq.toString()), StreamRDFLib.dataset(dataset.asDatasetGraph()));
+
+        assertTrue(IsoMatcher.isomorphic(expected.asDatasetGraph(), dataset.asDatasetGraph()));
+    }
+
+    @Test
+    public void testSingleChunk()
+    {
+        String nt = getNTriples(10);
+        Model expected = ModelFactory.createDefaultModel();
+        RDFDataMgr.read(expected, getStream(nt), Lang.NTRIPLES);
+
+        Model model = ModelFactory.createDefaultModel();
+        getParser(Lang.NTRIPLES, ParallelLineParser.DEFAULT_CHUNK_SIZE).parse(getStream(nt), StreamRDFLib.graph(model.getGraph()));
+
+        assertTrue(model.isIsomorphicWith(expected));
+    }
+
+    @Test
+    public void testLineLongerThanChunk()
+    {
+        String nt = "<http://s> <http://p> \"" + "x".repeat(1000) + "\" .\n" + getNTriples(100);
+        Model expected = ModelFactory.createDefaultModel();
+        RDFDataMgr.read(expected, getStream(nt), Lang.NTRIPLES);
+
+        Model model = ModelFactory.createDefaultModel();
+        getParser(Lang.NTRIPLES, 64).parse(getStream(nt), StreamRDFLib.graph(model.getGraph()));
+
+        assertTrue(model.isIsomorphicWith(expected));
+    }
+
+    @Test
+    public void testNoTrailingNewline()
+    {
+        String nt = getNTriples(100) + "<http://s/last> <http://p> \"last\" .";
+
+        Model model = ModelFactory.createDefaultModel();
+        long count = getParser(Lang.NTRIPLES, 128).parse(getStream(nt), StreamRDFLib.graph(model.getGraph()));
+
+        assertEquals(100 * 2 + 1, count);
+        assertEquals(count, model.size());
+    }
+
+    @Test
+    public void testInvalid()
+    {
+        String nt = getNTriples(100) + "not N-Triples\n" + getNTriples(100);
+
+        assertThrows(RiotException.class, () -> getParser(Lang.NTRIPLES, 128).parse(getStream(nt), StreamRDFLib.graph(ModelFactory.createDefaultModel().getGraph())));
+    }
+
+    @Test
+    public void testInvalidLineNumber()
+    {
+        String nt = getNTriples(100) + "not N-Triples\n" + getNTriples(100);
+        long line = getNTriples(100).lines().count() + 1;
+
+        RiotException ex = assertThrows(RiotException.class, () -> getParser(Lang.NTRIPLES, 128).parse(getStream(nt), StreamRDFLib.graph(ModelFactory.createDefaultModel().getGraph())));
+        assertTrue(ex.getMessage().contains("line: " + line + ","), ex.getMessage()); // relative to the whole stream, not to the chunk
+    }
+
+    @Test
+    public void testStopsOnFirstFailure()
+    {
+        byte[] nt = ("not N-Triples\n" + getNTriples(10000)).getBytes(StandardCharsets.UTF_8);
+        AtomicLong read = new AtomicLong();
+        InputStream in = new FilterInputStream(new ByteArrayInputStream(nt))
+        {
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException
+            {
+                int n = super.read(b, off, len);
+                if (n > 0) read.addAndGet(n);
+                return n;
+            }
+        };
+
+        assertThrows(RiotException.class, () -> getParser(Lang.NTRIPLES, 128).parse(in, StreamRDFLib.graph(ModelFactory.createDefaultModel().getGraph())));
+        assertTrue(read.get() < nt.length / 2, "Read " + read.get() + " of " + nt.length + " bytes"); // the rest of the stream is not read
+    }
+
+    @Test
+    public void testUnsupportedLang()
+    {
+        assertThrows(IllegalArgumentException.class, () -> new ParallelLineParser(Lang.TURTLE, null, ErrorHandlerFactory.errorHandlerStrict, 4, executor));
+    }
+
+    protected ParallelLineParser getParser(Lang lang, int chunkSize)
+    {
+        return new ParallelLineParser(lang, null, ErrorHandlerFactory.errorHandlerStrict, 4, chunkSize, executor);
+    }
+
+    /**
+     * Returns N-Triples with two triples per subject, half of them about shared blank nodes.
+     *
+     * @param size number of subjects
+     * @return N-Triples
+     */
+    protected static String getNTriples(int size)
+    {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < size; i++)
+        {
+            sb.append("<http://s/").append(i).append("> <http://p> _:b").append(i % 10).append(" .\n");
+            sb.append("_:b").append(i % 10).append(" <http://p> \"").append(i).append("\" .\n");
+        }
+
+        return sb.toString();
+    }
+
+    protected static InputStream getStream(String string)
+    {
+        return new ByteArrayInputStream(string.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
@@ -28,8 +28,10 @@ import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import org.apache.jena.datatypes.RDFDatatype;
 import org.apache.jena.datatypes.TypeMapper;
+import org.apache.jena.graph.Triple;
 import org.apache.jena.riot.RDFDataMgr;
 import org.apache.jena.riot.RDFParserRegistry;
+import org.apache.jena.riot.system.StreamRDFBase;
 import org.junit.jupiter.api.*;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -296,6 +298,57 @@ public class RDFPostReaderTest
         assertIsomorphic(expected, parsed);
     }
     
+    @Test
+    public void testLangBeforeLiteralSimpleParse() throws UnsupportedEncodingException, URISyntaxException
+    {
+        String rdfPost = "&rdf=&su=" + URLEncoder.encode("http://subject1", ENC) + "&pu=" + URLEncoder.encode("http://dc.org/#title", ENC) + "&ll=da" + "&ol=" + URLEncoder.encode("title", ENC);
+        Model expected = ModelFactory.createDefaultModel();
+        expected.add(expected.createResource("http://subject1"), expected.createProperty("http://dc.org/#title"), expected.createLiteral("title", "da"));
+
+        assertIsomorphic(expected, RDFPostReader.parse(rdfPost, ENC));
+    }
+
+    @Test
+    public void testNamespacesSimpleParse() throws UnsupportedEncodingException, URISyntaxException
+    {
+        String rdfPost = "&rdf=&v=" + URLEncoder.encode("http://ns/", ENC) + "&n=ex&v=" + URLEncoder.encode("http://ex/", ENC) +
+            "&sv=subject" + "&pn=ex&pv=predicate" + "&ov=object" +
+            "&sn=undeclared&sv=subject" + "&pv=predicate" + "&ol=literal";
+        Model expected = ModelFactory.createDefaultModel();
+        expected.add(expected.createResource("http://ns/subject"), expected.createProperty("http://ex/predicate"), expected.createResource("http://ns/object"));
+
+        Model parsed = RDFPostReader.parse(rdfPost, ENC);
+        assertIsomorphic(expected, parsed);
+        assertEquals("http://ex/", parsed.getNsPrefixURI("ex"));
+    }
+
+    @Test
+    public void testInvalidURISimpleParse()
+    {
+        assertThrows(URISyntaxException.class, () -> RDFPostReader.parse("&rdf=&su=" + URLEncoder.encode("http://subject 1", ENC), ENC));
+    }
+
+    @Test
+    public void testSimpleParseIntoStream() throws IOException, URISyntaxException
+    {
+        Model expected = RDFPostReader.parse(validRDFPost, ENC);
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < 1000; i++) body.append(validRDFPost); // longer than the read buffer
+        long[] count = { 0 };
+
+        RDFPostReader.parse(new StringReader(body.toString()), ENC, new StreamRDFBase()
+        {
+            @Override
+            public void triple(Triple triple)
+            {
+                assertTrue(expected.getGraph().contains(triple));
+                count[0]++;
+            }
+        });
+
+        assertEquals(1000 * expected.size(), count[0]);
+    }
+
     public static void assertIsomorphic(Model wanted, Model got)
     {
         if (!wanted.isIsomorphicWith(got))
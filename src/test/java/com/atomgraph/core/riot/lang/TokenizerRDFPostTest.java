@@ -0,0 +1,120 @@
+/*
+ * Copyright 2026 Martynas Jusevičius <martynas@atomgraph.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.atomgraph.core.riot.lang;
+
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import org.apache.jena.atlas.io.PeekReader;
+import org.apache.jena.riot.RiotParseException;
+import org.apache.jena.riot.tokens.Token;
+import org.apache.jena.riot.tokens.TokenType;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * @author Martynas Jusevičius {@literal <martynas@atomgraph.com>}
+ */
+public class TokenizerRDFPostTest
+{
+
+    @Test
+    public void testKeysInterned()
+    {
+        TokenizerRDFPost tokenizer = new TokenizerRDFPost(PeekReader.readString("rdf=&su=http%3A%2F%2Fsubject&pu=http%3A%2F%2Fpredicate&ol=literal&ll=da"));
+
+        assertSame(TokenizerRDFPost.RDF, tokenizer.next().getImage());
+        assertSame(TokenizerRDFPost.URI_SUBJ, tokenizer.next().getImage());
+        assertEquals("http://subject", tokenizer.next().getImage());
+        assertSame(TokenizerRDFPost.URI_PRED, tokenizer.next().getImage());
+        assertEquals("http://predicate", tokenizer.next().getImage());
+        assertSame(TokenizerRDFPost.LITERAL_OBJ, tokenizer.next().getImage());
+        assertEquals("literal", tokenizer.next().getImage());
+        assertSame(TokenizerRDFPost.LANG, tokenizer.next().getImage());
+        assertEquals("da", tokenizer.next().getImage2());
+    }
+
+    @Test
+    public void testDecodedLikeURLDecoder()
+    {
+        String[] values = { "plain", "with space", "a+b=c&d", "café", "€ 100", "😀 emoji", "%25 literal percent", "" };
+
+        for (String value : values)
+            assertEquals(value, readLiteral(URLEncoder.encode(value, StandardCharsets.UTF_8)), value);
+    }
+
+    @Test
+    public void testRandomValues()
+    {
+        Random random = new Random(42);
+
+        for (int i = 0; i < 200; i++)
+        {
+            StringBuilder sb = new StringBuilder();
+            int length = random.nextInt(1000); // longer than the initial buffers
+            while (sb.length() < length)
+            {
+                int codePoint = random.nextInt(0x1F600);
+                if (Character.isValidCodePoint(codePoint) && !Character.isSurrogate((char)codePoint)) sb.appendCodePoint(codePoint);
+            }
+
+            String encoded = URLEncoder.encode(sb.toString(), StandardCharsets.UTF_8);
+            assertEquals(URLDecoder.decode(encoded, StandardCharsets.UTF_8), readLiteral(encoded));
+        }
+    }
+
+    @Test
+    public void testUnencodedNonASCII()
+    {
+        assertEquals("café é", readLiteral("café+%C3%A9"));
+    }
+
+    @Test
+    public void testMalformedUTF8Replaced()
+    {
+        assertEquals(URLDecoder.decode("a%C3b", StandardCharsets.UTF_8), readLiteral("a%C3b"));
+    }
+
+    @Test
+    public void testIllegalEscape()
+    {
+        assertThrows(RiotParseException.class, () -> readLiteral("100%zz"));
+        assertThrows(RiotParseException.class, () -> readLiteral("100%"));
+    }
+
+    /**
+     * Returns the decoded value of an <code>ol</code> literal.
+     *
+     * @param encoded URL-encoded literal value
+     * @return decoded value
+     */
+    protected static String readLiteral(String encoded)
+    {
+        TokenizerRDFPost tokenizer = new TokenizerRDFPost(PeekReader.readString("rdf=&ol=" + encoded));
+        tokenizer.next(); // rdf
+        tokenizer.next(); // ol
+
+        if (!tokenizer.hasNext()) return ""; // empty value at the end of the stream
+        Token literal = tokenizer.next();
+        assertEquals(TokenType.STRING, literal.getType());
+        return literal.getImage();
+    }
+
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright 2026 Martynas Jusevičius <martynas@atomgraph.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.atomgraph.core.server;
+
+import com.atomgraph.core.ApplicationConfig;
+import com.atomgraph.core.MediaTypes;
+import com.atomgraph.core.client.GraphStoreClient;
+import com.atomgraph.core.client.RequestCompressionFilter;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.core.Application;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MultivaluedHashMap;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.core.Response;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import org.apache.jena.query.Dataset;
+import org.apache.jena.query.DatasetFactory;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.rdf.model.ResourceFactory;
+import org.apache.jena.riot.Lang;
+import org.apache.jena.riot.RDFDataMgr;
+import org.apache.jena.sparql.vocabulary.FOAF;
+import org.glassfish.jersey.client.ClientConfig;
+import org.glassfish.jersey.test.JerseyTest;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * @author Martynas Jusevičius {@literal <martynas@atomgraph.com>}
+ */
+public class ResponseCompressionInterceptorTest extends JerseyTest
+{
+
+    public static final int THRESHOLD = 1024;
+
+    private Dataset dataset;
+    private final List<String> requestEncodings = Collections.synchronizedList(new ArrayList<>());
+
+    @Override
+    protected Application configure()
+    {
+        dataset = DatasetFactory.createTxnMem();
+        dataset.setDefaultModel(getModel(100));
+
+        com.atomgraph.core.Application system = new com.atomgraph.core.Application(ApplicationConfig.builder().
+                dataset(dataset).
+                client(com.atomgraph.core.Application.getClient(new ClientConfig())).
+                compressionThreshold(THRESHOLD).
+                build());
+        system.init();
+        // records the content coding of request entities as they arrive on the wire
+        system.register((ContainerRequestFilter) requestContext ->
+        {
+            if (requestContext.hasEntity()) requestEncodings.add(requestContext.getHeaderString(HttpHeaders.CONTENT_ENCODING));
+        });
+
+        return system;
+    }
+
+    public static Model getModel(int size)
+    {
+        Model model = ModelFactory.createDefaultModel();
+        for (int i = 0; i < size; i++) model.add(ResourceFactory.createResource("http://default/graph/resource/" + i), FOAF.name, "Name " + i);
+        return model;
+    }
+
+    @Test
+    public void testCompressedResponse() throws Exception
+    {
+        try (Response cr = target("service").request(Lang.NTRIPLES.getHeaderString()).header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate").get())
+        {
+            assertEquals("gzip", cr.getHeaderString(HttpHeaders.CONTENT_ENCODING));
+            assertTrue(cr.getHeaderString(HttpHeaders.VARY).contains(HttpHeaders.ACCEPT_ENCODING));
+            assertTrue(cr.getEntityTag().isWeak()); // the compressed bytes differ from the uncompressed ones
+
+            Model model = ModelFactory.createDefaultModel();
+            try (InputStream is = new GZIPInputStream(cr.readEntity(InputStream.class)))
+            {
+                RDFDataMgr.read(model, is, Lang.NTRIPLES);
+            }
+            assertTrue(model.isIsomorphicWith(dataset.getDefaultModel()));
+        }
+    }
+
+    @Test
+    public void testUncompressedResponse()
+    {
+        try (Response cr = target("service").request(Lang.NTRIPLES.getHeaderString()).get())
+        {
+            assertNull(cr.getHeaderString(HttpHeaders.CONTENT_ENCODING));
+            assertTrue(cr.getHeaderString(HttpHeaders.VARY).contains(HttpHeaders.ACCEPT_ENCODING));
+            assertFalse(cr.getEntityTag().isWeak());
+        }
+    }
+
+    @Test
+    public void testHeadResponse()
+    {
+        try (Response cr = target("service").request(Lang.NTRIPLES.getHeaderString()).header(HttpHeaders.ACCEPT_ENCODING, "gzip").head())
+        {
+            assertNull(cr.getHeaderString(HttpHeaders.CONTENT_ENCODING));
+            assertTrue(cr.getHeaderString(HttpHeaders.VARY).contains(HttpHeaders.ACCEPT_ENCODING));
+        }
+    }
+
+    @Test
+    public void testConditionalCompressedResponse()
+    {
+        EntityTag entityTag;
+        try (Response cr = target("service").request(Lang.NTRIPLES.getHeaderString()).header(HttpHeaders.ACCEPT_ENCODING, "gzip").get())
+        {
+            entityTag = cr.getEntityTag();
+        }
+
+        // the weak ETag of the compressed response still validates it
+        try (Response cr = target("service").request(Lang.NTRIPLES.getHeaderString()).header(HttpHeaders.ACCEPT_ENCODING, "gzip").
+                header(HttpHeaders.IF_NONE_MATCH, entityTag).get())
+        {
+            assertEquals(Response.Status.NOT_MODIFIED.getStatusCode(), cr.getStatus());
+        }
+    }
+
+    @Test
+    public void testSmallResponse()
+    {
+        dataset.setDefaultModel(getModel(1));
+
+        try (Response cr = target("service").request(Lang.NTRIPLES.getHeaderString()).header(HttpHeaders.ACCEPT_ENCODING, "gzip").get())
+        {
+            assertNull(cr.getHeaderString(HttpHeaders.CONTENT_ENCODING)); // below threshold
+            assertTrue(cr.readEntity(Model.class).isIsomorphicWith(dataset.getDefaultModel()));
+        }
+    }
+
+    @Test
+    public void testCompressedRequestRoundTrip()
+    {
+        ClientConfig clientConfig = new ClientConfig().
+            property(RequestCompressionFilter.ENCODING, "gzip").
+            property(RequestCompressionFilter.THRESHOLD, 0);
+        GraphStoreClient gsc = GraphStoreClient.create(com.atomgraph.core.Application.getClient(clientConfig), new MediaTypes(), getBaseUri().resolve("service"));
+        Model model = getModel(500);
+
+        gsc.putModel(model);
+
+        assertEquals(List.of("gzip"), requestEncodings);
+        assertTrue(gsc.getModel().isIsomorphicWith(model));
+    }
+
+    @Test
+    public void testWeakenEntityTag()
+    {
+        MultivaluedMap<String, Object> headers = new MultivaluedHashMap<>();
+        headers.putSingle(HttpHeaders.ETAG, new EntityTag("abc"));
+        ResponseCompressionInterceptor.weakenEntityTag(headers);
+        assertEquals(new EntityTag("abc", true), headers.getFirst(HttpHeaders.ETAG));
+
+        headers.putSingle(HttpHeaders.ETAG, "\"def\"");
+        ResponseCompressionInterceptor.weakenEntityTag(headers);
+        assertEquals(new EntityTag("def", true), headers.getFirst(HttpHeaders.ETAG));
+    }
+
+    @Test
+    public void testNegotiation()
+    {
+        assertEquals("gzip", ResponseCompressionInterceptor.getEncoding("deflate, gzip;q=0.5"));
+        assertEquals("deflate", ResponseCompressionInterceptor.getEncoding("gzip;q=0, deflate"));
+        assertEquals("gzip", ResponseCompressionInterceptor.getEncoding("*"));
+        assertEquals("deflate", ResponseCompressionInterceptor.getEncoding("gzip;q=0, *"));
+        assertNull(ResponseCompressionInterceptor.getEncoding("br"));
+        assertNull(ResponseCompressionInterceptor.getEncoding("identity"));
+        assertNull(ResponseCompressionInterceptor.getEncoding(null));
+    }
+
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2026 Martynas Jusevičius <martynas@atomgraph.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.atomgraph.core.util;
+
+import jakarta.ws.rs.core.CacheControl;
+import java.net.URI;
+import java.util.regex.Pattern;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * @author Martynas Jusevičius {@literal <martynas@atomgraph.com>}
+ */
+public class CacheControlPolicyTest
+{
+
+    @Test
+    public void testFallback()
+    {
+        CacheControl defaultValue = CacheControlPolicy.parse("no-cache");
+        CacheControl endpoint = CacheControlPolicy.parse("max-age=60, s-maxage=600, stale-while-revalidate=30");
+        CacheControlPolicy policy = new CacheControlPolicy(defaultValue, endpoint, null, null, null);
+
+        assertSame(endpoint, policy.getEndpointCacheControl());
+        assertSame(defaultValue, policy.getGraphStoreCacheControl());
+        assertSame(defaultValue, policy.getDirectGraphStoreCacheControl());
+        assertEquals(600, endpoint.getSMaxAge());
+        assertEquals("30", endpoint.getCacheExtension().get("stale-while-revalidate"));
+        assertNull(CacheControlPolicy.NONE.getEndpointCacheControl());
+    }
+
+    @Test
+    public void testImmutableGraph()
+    {
+        CacheControl cacheControl = CacheControlPolicy.parse("no-cache");
+        CacheControlPolicy policy = new CacheControlPolicy(cacheControl, null, null, null, Pattern.compile(".*/v[0-9]+/.*"));
+
+        assertSame(cacheControl, policy.getCacheControl(cacheControl, URI.create("http://localhost/graphs/latest/")));
+        assertSame(cacheControl, policy.getCacheControl(cacheControl, null));
+
+        CacheControl immutable = policy.getCacheControl(cacheControl, URI.create("http://localhost/graphs/v2/"));
+        assertTrue(immutable.getCacheExtension().containsKey(CacheControlPolicy.IMMUTABLE));
+        assertFalse(immutable.isNoCache());
+        assertEquals(CacheControlPolicy.IMMUTABLE_MAX_AGE, immutable.getMaxAge());
+        assertTrue(cacheControl.isNoCache()); // configured value is not modified
+    }
+
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2026 Martynas Jusevičius <martynas@atomgraph.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.atomgraph.core.util;
+
+import java.nio.charset.StandardCharsets;
+import org.apache.jena.query.Dataset;
+import org.apache.jena.query.DatasetFactory;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.rdf.model.Resource;
+import org.apache.jena.sparql.vocabulary.FOAF;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * @author Martynas Jusevičius {@literal <martynas@atomgraph.com>}
+ */
+public class GraphDigestTest
+{
+
+    private final GraphDigest digest = new Murmur3GraphDigest();
+
+    @Test
+    public void testMurmur3Vector()
+    {
+        Hash128 hash = new Murmur3GraphDigest().hash("The quick brown fox jumps over the lazy dog".getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(0xe34bbc7bbc071b6cL, hash.getLow());
+        assertEquals(0x7a433ca9c49a9347L, hash.getHigh());
+    }
+
+    @Test
+    public void testOrderIndependent()
+    {
+        Model model1 = ModelFactory.createDefaultModel();
+        model1.createResource("http://s1").addProperty(FOAF.name, "One");
+        model1.createResource("http://s2").addProperty(FOAF.name, "Two");
+
+        Model model2 = ModelFactory.createDefaultModel();
+        model2.createResource("http://s2").addProperty(FOAF.name, "Two");
+        model2.createResource("http://s1").addProperty(FOAF.name, "One");
+
+        assertEquals(digest.hash(model1), digest.hash(model2));
+    }
+
+    @Test
+    public void testBlankNodesSignificant()
+    {
+        Model model1 = ModelFactory.createDefaultModel();
+        model1.createResource("http://s").addProperty(FOAF.knows, model1.createResource());
+
+        Model model2 = ModelFactory.createDefaultModel();
+        model2.createResource("http://s").addProperty(FOAF.knows, model2.createResource());
+
+        assertNotEquals(digest.hash(model1), digest.hash(model2));
+    }
+
+    @Test
+    public void testTermPositionsSignificant()
+    {
+        Model model1 = ModelFactory.createDefaultModel();
+        model1.createResource("http://a").addProperty(FOAF.knows, model1.createResource("http://b"));
+
+        Model model2 = ModelFactory.createDefaultModel();
+        model2.createResource("http://b").addProperty(FOAF.knows, model2.createResource("http://a"));
+
+        assertNotEquals(digest.hash(model1), digest.hash(model2));
+    }
+
+    @Test
+    public void testLiteralDatatypeAndLanguageSignificant()
+    {
+        Resource subject = ModelFactory.createDefaultModel().createResource("http://s");
+
+        Model plain = ModelFactory.createDefaultModel().add(subject, FOAF.name, "Name");
+        Model lang = ModelFactory.createDefaultModel().add(subject, FOAF.name, "Name", "en");
+        Model typed = ModelFactory.createDefaultModel().addLiteral(subject, FOAF.age, 42);
+        Model string = ModelFactory.createDefaultModel().add(subject, FOAF.age, "42");
+
+        assertNotEquals(digest.hash(plain), digest.hash(lang));
+        assertNotEquals(digest.hash(typed), digest.hash(string));
+    }
+
+    @Test
+    public void testIncrementalUpdate()
+    {
+        Model model = ModelFactory.createDefaultModel();
+        model.createResource("http://s1").addProperty(FOAF.name, "One");
+        Hash128 before = digest.hash(model);
+
+        Model addition = ModelFactory.createDefaultModel();
+        addition.createResource("http://s2").addProperty(FOAF.name, "Two");
+        model.add(addition);
+
+        assertEquals(digest.hash(model), before.add(digest.hash(addition)));
+        assertEquals(before, digest.hash(model).subtract(digest.hash(addition)));
+    }
+
+    @Test
+    public void testGraphNamesSignificant()
+    {
+        Model model = ModelFactory.createDefaultModel();
+        model.createResource("http://s").addProperty(FOAF.name, "Name");
+
+        Dataset dataset1 = DatasetFactory.create();
+        dataset1.addNamedModel("http://g1", model);
+
+        Dataset dataset2 = DatasetFactory.create();
+        dataset2.addNamedModel("http://g2", model);
+
+        assertNotEquals(digest.hash(dataset1), digest.hash(dataset2));
+    }
+
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2026 Martynas Jusevičius <martynas@atomgraph.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.atomgraph.core.util;
+
+import java.util.concurrent.ForkJoinPool;
+import org.apache.jena.query.Dataset;
+import org.apache.jena.query.DatasetFactory;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.rdf.model.Resource;
+import org.apache.jena.sparql.vocabulary.FOAF;
+import org.apache.jena.system.Txn;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests that the parallel digest is equal to the sequential one, below and above the partitioning threshold.
+ *
+ * @author Martynas Jusevičius {@literal <martynas@atomgraph.com>}
+ */
+public class ParallelGraphDigestTest
+{
+
+    public static final int THRESHOLD = 100;
+
+    private static ForkJoinPool pool;
+    private static ParallelGraphDigest digest;
+
+    @BeforeAll
+    public static void initClass()
+    {
+        pool = new ForkJoinPool(4);
+        digest = new ParallelGraphDigest(GraphDigest.DEFAULT, pool, THRESHOLD);
+    }
+
+    @AfterAll
+    public static void closeClass()
+    {
+        pool.shutdown();
+    }
+
+    /**
+     * Creates model with the given number of subjects, each with two properties, one of them a blank node.
+     *
+     * @param uriPrefix subject URI prefix
+     * @param subjects number of subjects
+     * @return model
+     */
+    public static Model createModel(String uriPrefix, int subjects)
+    {
+        Model model = ModelFactory.createDefaultModel();
+        for (int i = 0; i < subjects; i++)
+        {
+            Resource subject = model.createResource(uriPrefix + i);
+            subject.addProperty(FOAF.name, "Name " + i);
+            subject.addProperty(FOAF.knows, model.createResource().addLiteral(FOAF.age, i));
+        }
+        return model;
+    }
+
+    @Test
+    public void testGraphBelowThreshold()
+    {
+        Model model = createModel("http://default/graph/resource", 10);
+        assertEquals(GraphDigest.DEFAULT.hash(model.getGraph()), digest.hash(model.getGraph()));
+    }
+
+    @Test
+    public void testGraphAboveThreshold()
+    {
+        Model model = createModel("http://default/graph/resource", 1000);
+        assertEquals(GraphDigest.DEFAULT.hash(model.getGraph()), digest.hash(model.getGraph()));
+    }
+
+    @Test
+    public void testGraphWithSingleSubject()
+    {
+        Model model = ModelFactory.createDefaultModel();
+        Resource subject = model.createResource("http://default/graph/resource");
+        for (int i = 0; i < THRESHOLD * 3; i++) subject.addLiteral(FOAF.age, i);
+
+        assertEquals(GraphDigest.DEFAULT.hash(model.getGraph()), digest.hash(model.getGraph()));
+    }
+
+    @Test
+    public void testEmptyDataset()
+    {
+        Dataset dataset = DatasetFactory.create();
+        assertEquals(GraphDigest.DEFAULT.hash(dataset), digest.hash(dataset));
+    }
+
+    @Test
+    public void testDatasetBelowThreshold()
+    {
+        Dataset dataset = DatasetFactory.create(createModel("http://default/graph/resource", 5));
+        dataset.addNamedModel("http://named/graph1", createModel("http://named/graph1/resource", 5));
+        dataset.addNamedModel("http://named/graph2", createModel("http://named/graph2/resource", 5));
+
+        assertEquals(GraphDigest.DEFAULT.hash(dataset), digest.hash(dataset));
+    }
+
+    @Test
+    public void testDatasetAboveThreshold()
+    {
+        Dataset dataset = DatasetFactory.create(createModel("http://default/graph/resource", 500));
+        dataset.addNamedModel("http://named/graph1", createModel("http://named/graph1/resource", 500));
+        dataset.addNamedModel("http://named/graph2", createModel("http://named/graph2/resource", 10));
+
+        assertEquals(GraphDigest.DEFAULT.hash(dataset), digest.hash(dataset));
+    }
+
+    @Test
+    public void testDatasetInTransaction()
+    {
+        Dataset dataset = DatasetFactory.createTxnMem();
+        Txn.executeWrite(dataset, () ->
+        {
+            dataset.setDefaultModel(createModel("http://default/graph/resource", 500));
+            dataset.addNamedModel("http://named/graph", createModel("http://named/graph/resource", 500));
+        });
+
+        Txn.executeRead(dataset, () -> assertEquals(GraphDigest.DEFAULT.hash(dataset), digest.hash(dataset)));
+    }
+
+}
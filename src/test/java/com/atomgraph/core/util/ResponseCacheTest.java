@@ -0,0 +1,112 @@
+/*
+ * Copyright 2026 Martynas Jusevičius <martynas@atomgraph.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.atomgraph.core.util;
+
+import com.atomgraph.core.MediaType;
+import jakarta.ws.rs.core.Variant;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.jena.query.Query;
+import org.apache.jena.query.QueryFactory;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * @author Martynas Jusevičius {@literal <martynas@atomgraph.com>}
+ */
+public class ResponseCacheTest
+{
+
+    private final Variant variant = new Variant(MediaType.APPLICATION_SPARQL_RESULTS_JSON_TYPE, (String)null, null);
+
+    @Test
+    public void testSyntacticDifferencesIgnored()
+    {
+        Query query1 = QueryFactory.create("SELECT * { ?s <http://xmlns.com/foaf/0.1/name> ?name }");
+        Query query2 = QueryFactory.create("PREFIX foaf: <http://xmlns.com/foaf/0.1/>\n# comment\nSELECT *\nWHERE\n{\n  ?s foaf:name ?name\n}");
+
+        assertEquals(new ResponseCache.Key(query1, null, null, variant), new ResponseCache.Key(query2, Collections.emptyList(), null, variant));
+    }
+
+    @Test
+    public void testDatasetDescriptionSignificant()
+    {
+        Query query = QueryFactory.create("SELECT * { ?s ?p ?o }");
+
+        assertNotEquals(new ResponseCache.Key(query, null, null, variant),
+            new ResponseCache.Key(query, List.of(URI.create("http://g")), null, variant));
+        assertNotEquals(new ResponseCache.Key(query, List.of(URI.create("http://g")), null, variant),
+            new ResponseCache.Key(query, null, List.of(URI.create("http://g")), variant));
+    }
+
+    @Test
+    public void testQueryDatasetDescriptionSignificant()
+    {
+        Query query = QueryFactory.create("SELECT * { ?s ?p ?o }");
+        Query from1 = QueryFactory.create("SELECT * FROM <http://g1> { ?s ?p ?o }");
+        Query from2 = QueryFactory.create("SELECT * FROM <http://g2> { ?s ?p ?o }");
+        Query fromNamed = QueryFactory.create("SELECT * FROM NAMED <http://g1> { ?s ?p ?o }");
+
+        assertNotEquals(new ResponseCache.Key(query, null, null, variant), new ResponseCache.Key(from1, null, null, variant));
+        assertNotEquals(new ResponseCache.Key(from1, null, null, variant), new ResponseCache.Key(from2, null, null, variant));
+        assertNotEquals(new ResponseCache.Key(from1, null, null, variant), new ResponseCache.Key(fromNamed, null, null, variant));
+        assertEquals(new ResponseCache.Key(from1, null, null, variant),
+            new ResponseCache.Key(QueryFactory.create("SELECT *\nFROM <http://g1>\nWHERE { ?s ?p ?o }"), null, null, variant));
+    }
+
+    @Test
+    public void testQueryDatasetDescriptionNotShared()
+    {
+        ResponseCache cache = new ResponseCache(1024, Duration.ofMinutes(1));
+        ResponseCache.Key key1 = new ResponseCache.Key(QueryFactory.create("SELECT * FROM <http://g1> { ?s ?p ?o }"), null, null, variant);
+        ResponseCache.Key key2 = new ResponseCache.Key(QueryFactory.create("SELECT * FROM <http://g2> { ?s ?p ?o }"), null, null, variant);
+
+        cache.get(key1, k -> new ResponseCache.Entry(new byte[] { 1 }, null));
+
+        assertEquals(2, cache.get(key2, k -> new ResponseCache.Entry(new byte[] { 2 }, null)).getBody()[0]);
+    }
+
+    @Test
+    public void testVariantSignificant()
+    {
+        Query query = QueryFactory.create("SELECT * { ?s ?p ?o }");
+        Variant xml = new Variant(MediaType.APPLICATION_SPARQL_RESULTS_XML_TYPE, (String)null, null);
+
+        assertNotEquals(new ResponseCache.Key(query, null, null, variant), new ResponseCache.Key(query, null, null, xml));
+    }
+
+    @Test
+    public void testInvalidateAll()
+    {
+        ResponseCache cache = new ResponseCache(1024, Duration.ofMinutes(1));
+        ResponseCache.Key key = new ResponseCache.Key(QueryFactory.create("ASK { ?s ?p ?o }"), null, null, variant);
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(key, k -> new ResponseCache.Entry(new byte[] { (byte)loads.incrementAndGet() }, null));
+        cache.get(key, k -> new ResponseCache.Entry(new byte[] { (byte)loads.incrementAndGet() }, null));
+        assertEquals(1, loads.get());
+
+        cache.invalidateAll();
+        cache.get(key, k -> new ResponseCache.Entry(new byte[] { (byte)loads.incrementAndGet() }, null));
+        assertEquals(2, loads.get());
+    }
+
+}